@@ -0,0 +1,215 @@
+package com.zinidata.common.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 2단 캐시 (노드별 Caffeine + Redis)
+ *
+ * <p>변경이 드문 기준정보(행정구역 코드 조회, 업종 목록, 광역시도 목록 등)를 노드 메모리에 두어
+ * 반복 조회 시 네트워크 왕복과 JSON 역직렬화 없이 Map 조회 비용으로 응답합니다.</p>
+ *
+ * <h3>동작 방식</h3>
+ * <ul>
+ *   <li><strong>조회:</strong> L1(Caffeine) → L2(Redis) 순, L2 히트 시 L1에 적재</li>
+ *   <li><strong>저장:</strong> 조회 미스 후 원본에서 만든 값을 L2·L1에 적재 (같은 키는 모든 노드에서 같은 값이므로 메시지 발행 없음)</li>
+ *   <li><strong>무효화:</strong> 실제 변경·삭제({@link #evict(String)}) 시에만 Redis Pub/Sub 채널로 키 단위 메시지를 전파하여 모든 노드의 L1을 함께 삭제</li>
+ *   <li>자기 노드가 발행한 메시지는 무시 (노드 ID 비교)</li>
+ *   <li>전용 코덱을 쓰는 항목은 L2에 이진 값으로 저장하고 L1에는 복원된 객체를 보관</li>
+ * </ul>
+ *
+ * <p>L1에 보관된 객체는 여러 요청이 공유하므로 호출 측에서 수정하지 않아야 합니다.
+ * 메시지가 유실되더라도 L1 만료 시간(expireAfterWrite) 이후에는 L2 값으로 수렴합니다.</p>
+ *
+ * <h3>설정</h3>
+ * <pre>
+ * custom:
+ *   cache:
+ *     two-tier:
+ *       spec: "maximumSize=20000,expireAfterWrite=1h"
+ *       channel: "${spring.application.name}:cache:invalidate"
+ * </pre>
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class TwoTierCache {
+
+    private static final String TYPE_KEY = "K";
+    private static final String SEPARATOR = "\n";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisTemplate<String, byte[]> byteArrayRedisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisConnectionFactory connectionFactory;
+    private final Cache<String, Object> local;
+    private final String channel;
+
+    /** 노드 식별자 (자기 메시지 무시용) */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private RedisMessageListenerContainer listenerContainer;
+
+    public TwoTierCache(
+            RedisTemplate<String, Object> redisTemplate,
+            RedisTemplate<String, byte[]> byteArrayRedisTemplate,
+            StringRedisTemplate stringRedisTemplate,
+            RedisConnectionFactory connectionFactory,
+            @Value("${custom.cache.two-tier.spec:maximumSize=20000,expireAfterWrite=1h}") String spec,
+            @Value("${custom.cache.two-tier.channel:cache:invalidate}") String channel) {
+        this.redisTemplate = redisTemplate;
+        this.byteArrayRedisTemplate = byteArrayRedisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.connectionFactory = connectionFactory;
+        this.local = Caffeine.from(spec).build();
+        this.channel = channel;
+    }
+
+    /**
+     * 무효화 채널 구독 시작
+     *
+     * <p>Spring Session이 등록하는 리스너 컨테이너와 분리하기 위해 전용 컨테이너를 사용합니다.</p>
+     */
+    @PostConstruct
+    public void subscribe() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(this::onMessage, new ChannelTopic(channel));
+        container.afterPropertiesSet();
+        container.start();
+        this.listenerContainer = container;
+        log.info("[CACHE] 2단 캐시 무효화 채널 구독 - 채널: {}, 노드: {}", channel, nodeId);
+    }
+
+    @PreDestroy
+    public void unsubscribe() throws Exception {
+        if (listenerContainer != null) {
+            listenerContainer.destroy();
+        }
+    }
+
+    /**
+     * 캐시 조회 (L1 → L2)
+     *
+     * @param key Redis 키
+     * @return 캐시 값 (없으면 null)
+     */
+    public Object get(String key) {
+        Object value = local.getIfPresent(key);
+        if (value != null) {
+            return value;
+        }
+
+        value = redisTemplate.opsForValue().get(key);
+        if (value != null) {
+            local.put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * 캐시 저장 (조회 미스 후 적재: L2 저장 → L1 갱신, 무효화 메시지 없음)
+     *
+     * @param key Redis 키
+     * @param value 저장할 값
+     * @param ttl L2 보관 기간
+     * @param unit 기간 단위
+     */
+    public void put(String key, Object value, long ttl, TimeUnit unit) {
+        redisTemplate.opsForValue().set(key, value, ttl, unit);
+        local.put(key, value);
+    }
+
+    /**
+     * 캐시 조회 - 이진 코덱 항목 (L1 → L2)
+     *
+     * @param key Redis 키
+     * @param decoder L2 이진 값 복원 함수 (형식이 다르면 null 반환 → 미스 처리)
+     * @return 캐시 값 (없으면 null)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Function<byte[], T> decoder) {
+        Object value = local.getIfPresent(key);
+        if (value != null) {
+            return (T) value;
+        }
+
+        byte[] bytes = byteArrayRedisTemplate.opsForValue().get(key);
+        T decoded = bytes == null ? null : decoder.apply(bytes);
+        if (decoded != null) {
+            local.put(key, decoded);
+        }
+        return decoded;
+    }
+
+    /**
+     * 캐시 저장 - 이진 코덱 항목 (조회 미스 후 적재: L2 이진 값 저장 → L1 갱신, 무효화 메시지 없음)
+     *
+     * @param key Redis 키
+     * @param value L1에 보관할 값
+     * @param encoded L2에 저장할 이진 값
+     * @param ttl L2 보관 기간
+     * @param unit 기간 단위
+     */
+    public void put(String key, Object value, byte[] encoded, long ttl, TimeUnit unit) {
+        byteArrayRedisTemplate.opsForValue().set(key, encoded, ttl, unit);
+        local.put(key, value);
+    }
+
+    /**
+     * 키 단위 삭제 (모든 노드)
+     *
+     * <p>원본이 바뀐 항목은 이 메서드로 지운 뒤 다음 조회에서 다시 적재합니다.</p>
+     *
+     * @param key Redis 키
+     */
+    public void evict(String key) {
+        redisTemplate.delete(key);
+        local.invalidate(key);
+        publish(TYPE_KEY, key);
+    }
+
+    // ==================== 내부 메서드 ====================
+
+    private void publish(String type, String target) {
+        try {
+            stringRedisTemplate.convertAndSend(channel, nodeId + SEPARATOR + type + SEPARATOR + target);
+        } catch (Exception e) {
+            // 발행 실패 시 다른 노드는 L1 만료 시점에 갱신됨
+            log.warn("[CACHE] 2단 캐시 무효화 메시지 발행 실패 - 대상: {}, 오류: {}", target, e.getMessage());
+        }
+    }
+
+    /**
+     * 무효화 메시지 수신 (다른 노드가 발행한 키만 L1에서 삭제)
+     */
+    void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 3);
+        if (parts.length != 3 || nodeId.equals(parts[0]) || !TYPE_KEY.equals(parts[1])) {
+            return;
+        }
+
+        local.invalidate(parts[2]);
+        log.debug("[CACHE] 2단 캐시 무효화 수신 - 대상: {}", parts[2]);
+    }
+}
@@ -18,6 +18,7 @@ import java.util.List;
  *   <li>성공: success=true, code, message, data, timestamp</li>
  *   <li>실패: success=false, code, message, error, timestamp</li>
  * </ul>
+ * <p>data 안의 {@link RawJson} 값(경계 GeoJSON 등)은 문자열로 이스케이프되지 않고 JSON 값 그대로 기록됩니다.</p>
  * 
  * @param <T> 응답 데이터 타입
  * @author NICE ZiniData 개발팀
@@ -0,0 +1,84 @@
+package com.zinidata.common.dto;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+/**
+ * 직렬화 완료된 JSON 값 (응답에 그대로 삽입)
+ *
+ * <p>DB가 이미 JSON 문자열로 만들어 준 값(feature, ST_AsGeoJSON 결과 등)을 {@link ApiResponse}에
+ * 문자열로 넣으면 따옴표·역슬래시가 이스케이프된 "JSON 안의 JSON 문자열"이 되어
+ * 응답 크기가 늘고 클라이언트가 한 번 더 파싱해야 합니다.
+ * 이 타입으로 감싸면 응답 직렬화 시 원문이 객체 값으로 그대로 기록됩니다.</p>
+ *
+ * <h3>사용 방법</h3>
+ * <ul>
+ *   <li><strong>매퍼:</strong> resultMap에서 {@code typeHandler="com.zinidata.common.mybatis.RawJsonTypeHandler"} 지정</li>
+ *   <li><strong>코드:</strong> {@link #of(String)}으로 감싸서 응답 Map/VO에 설정</li>
+ *   <li>{@link #toString()}은 원문을 반환하므로 문자열로 쓰던 기존 코드는 그대로 동작</li>
+ * </ul>
+ *
+ * <p>⚠️ 검증 없이 원문을 기록하므로 신뢰할 수 있는(DB 생성) JSON에만 사용합니다.</p>
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+public final class RawJson implements JsonSerializable {
+
+    private final String json;
+
+    private RawJson(String json) {
+        this.json = json;
+    }
+
+    /**
+     * JSON 문자열 감싸기
+     *
+     * @param json 직렬화 완료된 JSON 문자열
+     * @return RawJson (null이면 null)
+     */
+    public static RawJson of(String json) {
+        return json == null ? null : new RawJson(json);
+    }
+
+    /**
+     * 원문 길이 (문자 수)
+     */
+    public int length() {
+        return json.length();
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeRawValue(json);
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+            throws IOException {
+        // 타입 정보 없이 원문 그대로 기록 (역직렬화 시 일반 객체로 복원)
+        gen.writeRawValue(json);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return this == obj || (obj instanceof RawJson other && json.equals(other.json));
+    }
+
+    @Override
+    public int hashCode() {
+        return json.hashCode();
+    }
+
+    /**
+     * 원문 JSON 문자열
+     */
+    @Override
+    public String toString() {
+        return json;
+    }
+}
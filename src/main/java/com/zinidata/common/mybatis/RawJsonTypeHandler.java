@@ -0,0 +1,53 @@
+package com.zinidata.common.mybatis;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.MappedTypes;
+
+import com.zinidata.common.dto.RawJson;
+
+/**
+ * JSON 텍스트 컬럼 → {@link RawJson} 타입 핸들러
+ *
+ * <p>json/jsonb/text 컬럼(feature, ST_AsGeoJSON 결과 등)을 문자열 그대로 읽어 RawJson으로 감쌉니다.
+ * 파싱이나 재직렬화 없이 JDBC 결과 문자열이 응답 스트림에 그대로 기록됩니다.</p>
+ *
+ * <pre>
+ * &lt;resultMap id="..." type="map" autoMapping="true"&gt;
+ *     &lt;result column="geoJson" property="geoJson" javaType="com.zinidata.common.dto.RawJson"
+ *             typeHandler="com.zinidata.common.mybatis.RawJsonTypeHandler"/&gt;
+ * &lt;/resultMap&gt;
+ * </pre>
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@MappedTypes(RawJson.class)
+public class RawJsonTypeHandler extends BaseTypeHandler<RawJson> {
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, RawJson parameter, JdbcType jdbcType)
+            throws SQLException {
+        ps.setString(i, parameter.toString());
+    }
+
+    @Override
+    public RawJson getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        return RawJson.of(rs.getString(columnName));
+    }
+
+    @Override
+    public RawJson getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        return RawJson.of(rs.getString(columnIndex));
+    }
+
+    @Override
+    public RawJson getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        return RawJson.of(cs.getString(columnIndex));
+    }
+}
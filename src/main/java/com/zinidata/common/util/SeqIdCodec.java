@@ -0,0 +1,196 @@
+package com.zinidata.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청 번호(seq) 외부 노출용 불투명 ID 코덱
+ *
+ * <p>64비트 seq를 키 기반 Feistel 순열(8라운드)로 섞은 뒤 고정 11자리 base62 문자열로 변환합니다.
+ * 행마다 {@code Cipher}를 생성하던 {@link AesCryptoUtil} 방식과 달리 라운드 키는 한 번만 계산하고,
+ * 인코딩 버퍼는 스레드별로 재사용하므로 출력 문자열 외에는 객체를 생성하지 않습니다.</p>
+ *
+ * <ul>
+ *   <li>라운드 키: {@code key.aes256Key}에서 SHA-256으로 파생 (별도 키 설정 불필요)</li>
+ *   <li>암호학적 인증 수단이 아님 - seq 순번 노출만 막는 용도이며 권한 검증은 기존대로 서버에서 수행</li>
+ *   <li>전환 기간: 11자리 base62가 아닌 토큰은 기존 AES 토큰으로 간주하여 복호화 ({@code key.seqIdLegacyAes})</li>
+ * </ul>
+ *
+ * @author ZiniData 개발팀
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class SeqIdCodec {
+
+    private static final int ROUNDS = 8;
+    private static final int TOKEN_LENGTH = 11;
+    private static final char[] ALPHABET =
+            "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray();
+    private static final byte[] DIGITS = new byte[128];
+    private static final long MAX_BEFORE_MULTIPLY = Long.divideUnsigned(-1L, 62);
+
+    static {
+        Arrays.fill(DIGITS, (byte) -1);
+        for (int i = 0; i < ALPHABET.length; i++) {
+            DIGITS[ALPHABET[i]] = (byte) i;
+        }
+    }
+
+    /** 스레드별 인코딩 버퍼 */
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[TOKEN_LENGTH]);
+
+    private static volatile int[] roundKeys;
+    private static volatile boolean legacyAes = true;
+
+    @Value("${key.aes256Key}")
+    public void setKey(String key) {
+        SeqIdCodec.roundKeys = deriveRoundKeys(key);
+    }
+
+    @Value("${key.seqIdLegacyAes:true}")
+    public void setLegacyAes(boolean legacyAes) {
+        SeqIdCodec.legacyAes = legacyAes;
+    }
+
+    /**
+     * seq 인코딩
+     *
+     * @param seq 요청 번호
+     * @return 11자리 base62 토큰
+     */
+    public static String encode(long seq) {
+        long value = permute(seq, keys());
+        char[] buf = BUFFER.get();
+        for (int i = TOKEN_LENGTH - 1; i >= 0; i--) {
+            buf[i] = ALPHABET[(int) Long.remainderUnsigned(value, 62)];
+            value = Long.divideUnsigned(value, 62);
+        }
+        return new String(buf);
+    }
+
+    /**
+     * seq 인코딩 (null 허용)
+     *
+     * @param seq 요청 번호
+     * @return 토큰 (seq가 null이면 null)
+     */
+    public static String encode(Long seq) {
+        return seq == null ? null : encode(seq.longValue());
+    }
+
+    /**
+     * 토큰 디코딩
+     *
+     * <p>전환 기간에는 기존 AES 토큰도 받아들입니다.</p>
+     *
+     * @param token 인코딩된 seq
+     * @return 요청 번호
+     * @throws IllegalArgumentException 유효하지 않은 토큰
+     */
+    public static long decode(String token) {
+        if (token == null || token.isEmpty()) {
+            throw new IllegalArgumentException("요청 번호 토큰이 없습니다.");
+        }
+        if (token.length() != TOKEN_LENGTH) {
+            return decodeLegacy(token);
+        }
+
+        long value = 0;
+        for (int i = 0; i < TOKEN_LENGTH; i++) {
+            char c = token.charAt(i);
+            int digit = c < 128 ? DIGITS[c] : -1;
+            if (digit < 0 || Long.compareUnsigned(value, MAX_BEFORE_MULTIPLY) > 0) {
+                throw new IllegalArgumentException("유효하지 않은 요청 번호 토큰입니다.");
+            }
+            long next = value * 62 + digit;
+            if (Long.compareUnsigned(next, value * 62) < 0) {
+                throw new IllegalArgumentException("유효하지 않은 요청 번호 토큰입니다.");
+            }
+            value = next;
+        }
+
+        long seq = unpermute(value, keys());
+        if (seq < 0) {
+            throw new IllegalArgumentException("유효하지 않은 요청 번호 토큰입니다.");
+        }
+        return seq;
+    }
+
+    // ==================== 내부 메서드 ====================
+
+    private static long decodeLegacy(String token) {
+        if (!legacyAes) {
+            throw new IllegalArgumentException("유효하지 않은 요청 번호 토큰입니다.");
+        }
+        // AesCryptoUtil.decrypt는 실패 시 예외 문자열을 반환하므로 숫자 변환 실패(NumberFormatException)로 걸러짐
+        long seq = Long.parseLong(AesCryptoUtil.decrypt(token));
+        log.debug("[SEQ_ID] 기존 AES 토큰 복호화 - seq: {}", seq);
+        return seq;
+    }
+
+    private static long permute(long value, int[] keys) {
+        int left = (int) (value >>> 32);
+        int right = (int) value;
+        for (int r = 0; r < ROUNDS; r++) {
+            int next = left ^ round(right, keys[r]);
+            left = right;
+            right = next;
+        }
+        return ((long) left << 32) | (right & 0xFFFFFFFFL);
+    }
+
+    private static long unpermute(long value, int[] keys) {
+        int left = (int) (value >>> 32);
+        int right = (int) value;
+        for (int r = ROUNDS - 1; r >= 0; r--) {
+            int prev = right ^ round(left, keys[r]);
+            right = left;
+            left = prev;
+        }
+        return ((long) left << 32) | (right & 0xFFFFFFFFL);
+    }
+
+    /** 라운드 함수 (murmur3 fmix32) */
+    private static int round(int half, int key) {
+        int h = half ^ key;
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private static int[] keys() {
+        int[] keys = roundKeys;
+        if (keys == null) {
+            // 스프링 컨텍스트 밖(배치, 단독 실행)에서는 AesCryptoUtil 기본 키 사용
+            keys = deriveRoundKeys(AesCryptoUtil.getAes256Key());
+            roundKeys = keys;
+        }
+        return keys;
+    }
+
+    private static int[] deriveRoundKeys(String key) {
+        try {
+            MessageDigest sha = MessageDigest.getInstance("SHA-256");
+            byte[] digest = sha.digest(("seq-id:" + key).getBytes(StandardCharsets.UTF_8));
+            int[] keys = new int[ROUNDS];
+            for (int i = 0; i < ROUNDS; i++) {
+                keys[i] = ((digest[i * 4] & 0xFF) << 24) | ((digest[i * 4 + 1] & 0xFF) << 16)
+                        | ((digest[i * 4 + 2] & 0xFF) << 8) | (digest[i * 4 + 3] & 0xFF);
+            }
+            return keys;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.session.data.redis.config.ConfigureRedisAction;
 
@@ -33,6 +34,19 @@ public class RedisConfig {
         return redisTemplate;
     }
     
+    /**
+     * 이진 값용 Redis Template 설정
+     * 전용 코덱으로 직렬화한 캐시 항목(행정구역 경계 등)을 그대로 저장
+     */
+    @Bean
+    public RedisTemplate<String, byte[]> byteArrayRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, byte[]> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(RedisSerializer.byteArray());
+        return redisTemplate;
+    }
+    
     /**
      * Redis 세션 설정을 위한 ConfigureRedisAction 비활성화
      * 클라우드 환경에서 Redis CONFIG 명령어 사용 불가 시 필요
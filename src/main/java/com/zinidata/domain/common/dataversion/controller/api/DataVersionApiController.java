@@ -0,0 +1,97 @@
+package com.zinidata.domain.common.dataversion.controller.api;
+
+import com.zinidata.audit.annotation.AuditLog;
+import com.zinidata.audit.enums.AuditActionType;
+import com.zinidata.common.dto.ApiResponse;
+import com.zinidata.domain.common.dataversion.enums.DataGroup;
+import com.zinidata.domain.common.dataversion.service.DataVersionService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 데이터 버전 API 컨트롤러 (관리자·적재 프로그램용)
+ *
+ * <p>적재 프로그램이 DB에 직접 기록하지 않는 경우 적재 시작/완료를 이 API로 기록합니다.
+ * 각 노드는 데이터 버전 확인 주기에 바뀐 버전을 읽어 인메모리 스냅샷을 다시 만듭니다.</p>
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Slf4j
+@RestController
+@RequestMapping("/admin/data-version/api")
+@RequiredArgsConstructor
+public class DataVersionApiController {
+
+    private final DataVersionService dataVersionService;
+
+    /**
+     * 데이터 버전 목록 조회 API
+     */
+    @AuditLog(actionType = AuditActionType.API_CALL, targetResource = "api:/admin/data-version/list")
+    @GetMapping("/list")
+    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> list() {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(dataVersionService.list()));
+        } catch (Exception e) {
+            log.error("데이터 버전 목록 조회 실패", e);
+            return ResponseEntity.internalServerError()
+                .body(ApiResponse.error("데이터 버전 목록 조회에 실패했습니다."));
+        }
+    }
+
+    /**
+     * 적재 시작 기록 API
+     */
+    @AuditLog(actionType = AuditActionType.API_CALL, targetResource = "api:/admin/data-version/loading")
+    @PostMapping("/{group}/loading")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> markLoading(@PathVariable String group) {
+        DataGroup dataGroup = DataGroup.fromKey(group);
+        if (dataGroup == null) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.badRequest("지원하지 않는 데이터 묶음입니다: " + group));
+        }
+
+        try {
+            dataVersionService.markLoading(dataGroup);
+            return ResponseEntity.ok(ApiResponse.success(Map.of("dataGroup", dataGroup.getKey(), "loadStatus", "LOADING")));
+        } catch (Exception e) {
+            log.error("적재 시작 기록 실패 - 묶음: {}", group, e);
+            return ResponseEntity.internalServerError()
+                .body(ApiResponse.error("적재 시작 기록에 실패했습니다."));
+        }
+    }
+
+    /**
+     * 적재 완료 기록 API (버전 + 1)
+     */
+    @AuditLog(actionType = AuditActionType.API_CALL, targetResource = "api:/admin/data-version/loaded")
+    @PostMapping("/{group}/loaded")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> markLoaded(@PathVariable String group) {
+        DataGroup dataGroup = DataGroup.fromKey(group);
+        if (dataGroup == null) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.badRequest("지원하지 않는 데이터 묶음입니다: " + group));
+        }
+
+        try {
+            dataVersionService.markLoaded(dataGroup);
+            return ResponseEntity.ok(ApiResponse.success(
+                    Map.of("dataGroup", dataGroup.getKey(), "version", dataVersionService.fetchCompleted(dataGroup))));
+        } catch (Exception e) {
+            log.error("적재 완료 기록 실패 - 묶음: {}", group, e);
+            return ResponseEntity.internalServerError()
+                .body(ApiResponse.error("적재 완료 기록에 실패했습니다."));
+        }
+    }
+}
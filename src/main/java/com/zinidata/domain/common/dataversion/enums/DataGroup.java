@@ -0,0 +1,46 @@
+package com.zinidata.domain.common.dataversion.enums;
+
+import lombok.Getter;
+
+/**
+ * 데이터 버전 관리 단위 (TB_DATA_VERSION.DATA_GROUP)
+ *
+ * <p>함께 적재되는 테이블 묶음입니다. 적재 프로그램은 묶음 단위로 적재 상태와 버전을 기록합니다.</p>
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Getter
+public enum DataGroup {
+
+    REGION("region", "경계·행정구역 (tbshp_*_features, TB_ADMI_TOUCH, vwadm_admi)"),
+    UPJONG("upjong", "업종 (tb_upjong1/2/3)"),
+    STORE("store", "가맹점 (tb_store)"),
+    STORE_SUM("store-sum", "배치월 점포 수 집계 (TB_BATCH_LOG, TBSS_SUM_ADMI_HIS_V3)");
+
+    /** TB_DATA_VERSION.DATA_GROUP 값 */
+    private final String key;
+
+    /** 로그용 설명 */
+    private final String desc;
+
+    DataGroup(String key, String desc) {
+        this.key = key;
+        this.desc = desc;
+    }
+
+    /**
+     * 키로 데이터 묶음 조회
+     *
+     * @param key 묶음 키 (region, upjong, store, store-sum)
+     * @return 데이터 묶음 (없으면 null)
+     */
+    public static DataGroup fromKey(String key) {
+        for (DataGroup group : values()) {
+            if (group.key.equalsIgnoreCase(key)) {
+                return group;
+            }
+        }
+        return null;
+    }
+}
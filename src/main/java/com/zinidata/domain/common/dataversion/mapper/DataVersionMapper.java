@@ -0,0 +1,56 @@
+package com.zinidata.domain.common.dataversion.mapper;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * 데이터 버전 매퍼 인터페이스
+ *
+ * <p>적재 프로그램이 기록하는 TB_DATA_VERSION 조회·생성·기록을 담당합니다.</p>
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Mapper
+public interface DataVersionMapper {
+
+    /**
+     * 데이터 묶음별 버전 조회
+     *
+     * @param groups 데이터 묶음 키 목록
+     * @return 버전 목록 (dataGroup, dataVersion, loadStatus, updatedAt / 기록이 없는 묶음은 제외)
+     */
+    List<Map<String, Object>> selectDataVersions(@Param("groups") List<String> groups);
+
+    /**
+     * 데이터 버전 테이블 생성 (없을 때만)
+     */
+    void createDataVersionTable();
+
+    /**
+     * 데이터 묶음 행 등록 (없을 때만, 버전 0 / DONE)
+     *
+     * @param dataGroup 데이터 묶음 키
+     * @return 등록 건수
+     */
+    int insertDataVersionIfAbsent(@Param("dataGroup") String dataGroup);
+
+    /**
+     * 적재 시작 기록 (LOADING)
+     *
+     * @param dataGroup 데이터 묶음 키
+     * @return 변경 건수
+     */
+    int updateDataVersionLoading(@Param("dataGroup") String dataGroup);
+
+    /**
+     * 적재 완료 기록 (버전 + 1, DONE)
+     *
+     * @param dataGroup 데이터 묶음 키
+     * @return 변경 건수
+     */
+    int updateDataVersionLoaded(@Param("dataGroup") String dataGroup);
+}
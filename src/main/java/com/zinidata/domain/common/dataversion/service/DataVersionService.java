@@ -0,0 +1,162 @@
+package com.zinidata.domain.common.dataversion.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.zinidata.domain.common.dataversion.enums.DataGroup;
+import com.zinidata.domain.common.dataversion.mapper.DataVersionMapper;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 데이터 버전 조회·기록 서비스
+ *
+ * <p>인메모리 스냅샷이 공통으로 사용하는 데이터 버전입니다. 적재 프로그램이 TB_DATA_VERSION에 기록한
+ * 묶음별 버전을 읽으므로 통계 카운터와 달리 트랜잭션에 따라 보이고, 노드·복제본·DB 재시작과 무관하게 같은 값입니다.</p>
+ *
+ * <h3>테이블 및 적재 프로그램 규약</h3>
+ * <ul>
+ *   <li>기동 시 테이블이 없으면 만들고 묶음별 기본 행(버전 0, DONE)을 등록 ({@code data-version.initialize})</li>
+ *   <li>적재 프로그램은 적재 시작 시 {@link #markLoading}, 완료 시 {@link #markLoaded}를 호출하거나
+ *       관리자 API(/admin/data-version/api/{group}/loading, /loaded)로 같은 기록을 남김</li>
+ *   <li>적재 중(LOADING)인 묶음이 있으면 버전을 반환하지 않음 → 호출 측은 재구성을 미루어 적재 중간 상태를 스냅샷으로 만들지 않음</li>
+ *   <li>기록이 없는 묶음은 버전 0으로 취급</li>
+ * </ul>
+ *
+ * <h3>설정</h3>
+ * <pre>
+ * data-version:
+ *   initialize: true   # 기동 시 TB_DATA_VERSION 생성 및 기본 행 등록
+ * </pre>
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class DataVersionService {
+
+    private static final String STATUS_LOADING = "LOADING";
+
+    private final DataVersionMapper dataVersionMapper;
+    private final boolean initialize;
+
+    public DataVersionService(DataVersionMapper dataVersionMapper,
+            @Value("${data-version.initialize:true}") boolean initialize) {
+        this.dataVersionMapper = dataVersionMapper;
+        this.initialize = initialize;
+    }
+
+    /**
+     * 데이터 버전 테이블 생성 및 기본 행 등록
+     *
+     * <p>실패해도 기동은 계속하며, 버전을 조회하지 못하는 동안 스냅샷은 버전 없이 적재됩니다.</p>
+     */
+    @PostConstruct
+    public void initialize() {
+        if (!initialize) {
+            return;
+        }
+        try {
+            dataVersionMapper.createDataVersionTable();
+            int created = 0;
+            for (DataGroup group : DataGroup.values()) {
+                created += dataVersionMapper.insertDataVersionIfAbsent(group.getKey());
+            }
+            log.info("[DATA-VERSION] 데이터 버전 테이블 준비 완료 - 새로 등록한 묶음: {}", created);
+        } catch (Exception e) {
+            log.warn("[DATA-VERSION] 데이터 버전 테이블 준비 실패 - 버전 없이 동작합니다. 오류: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 적재 완료 버전 조회
+     *
+     * @param groups 데이터 묶음
+     * @return 묶음 순서대로 이은 버전 (예: region:12,upjong:3 / 적재 중인 묶음이 있으면 null)
+     */
+    public String fetch(DataGroup... groups) {
+        return fetch(groups, true);
+    }
+
+    /**
+     * 마지막 적재 완료 버전 조회 (적재 중이어도 반환)
+     *
+     * <p>스냅샷이 하나도 없어 대체 경로가 없는 경우의 최초 적재에만 사용합니다.</p>
+     *
+     * @param groups 데이터 묶음
+     * @return 묶음 순서대로 이은 버전
+     */
+    public String fetchCompleted(DataGroup... groups) {
+        return fetch(groups, false);
+    }
+
+    /**
+     * 전체 묶음 버전 목록 (관리자용)
+     *
+     * @return 버전 목록 (dataGroup, dataVersion, loadStatus, updatedAt)
+     */
+    public List<Map<String, Object>> list() {
+        return dataVersionMapper.selectDataVersions(keys(DataGroup.values()));
+    }
+
+    /**
+     * 적재 시작 기록 (적재 프로그램용)
+     *
+     * @param group 데이터 묶음
+     */
+    public void markLoading(DataGroup group) {
+        dataVersionMapper.insertDataVersionIfAbsent(group.getKey());
+        dataVersionMapper.updateDataVersionLoading(group.getKey());
+        log.info("[DATA-VERSION] 적재 시작 기록 - 묶음: {}", group.getKey());
+    }
+
+    /**
+     * 적재 완료 기록 (버전 + 1, 적재 프로그램용)
+     *
+     * <p>각 노드는 다음 확인 주기에 새 버전을 읽어 스냅샷을 다시 만듭니다.</p>
+     *
+     * @param group 데이터 묶음
+     */
+    public void markLoaded(DataGroup group) {
+        dataVersionMapper.insertDataVersionIfAbsent(group.getKey());
+        dataVersionMapper.updateDataVersionLoaded(group.getKey());
+        log.info("[DATA-VERSION] 적재 완료 기록 - 묶음: {}", group.getKey());
+    }
+
+    // ==================== 내부 메서드 ====================
+
+    private String fetch(DataGroup[] groups, boolean requireDone) {
+        Map<String, Map<String, Object>> rows = new HashMap<>();
+        for (Map<String, Object> row : dataVersionMapper.selectDataVersions(keys(groups))) {
+            rows.put(String.valueOf(row.get("dataGroup")), row);
+        }
+
+        StringBuilder version = new StringBuilder();
+        for (DataGroup group : groups) {
+            Map<String, Object> row = rows.get(group.getKey());
+            if (row != null && requireDone && STATUS_LOADING.equals(row.get("loadStatus"))) {
+                return null;
+            }
+            if (version.length() > 0) {
+                version.append(',');
+            }
+            version.append(group.getKey()).append(':').append(row != null ? row.get("dataVersion") : 0);
+        }
+        return version.toString();
+    }
+
+    private static List<String> keys(DataGroup[] groups) {
+        List<String> keys = new ArrayList<>(groups.length);
+        for (DataGroup group : groups) {
+            keys.add(group.getKey());
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,205 @@
+package com.zinidata.domain.common.dataversion.snapshot;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.zinidata.domain.common.dataversion.enums.DataGroup;
+import com.zinidata.domain.common.dataversion.service.DataVersionService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 데이터 버전 기반 스냅샷 재적재기
+ *
+ * <p>인메모리 스냅샷 컴포넌트가 공통으로 쓰는 버전 확인·백그라운드 재구성·교체 절차입니다.
+ * 컴포넌트는 새 스냅샷을 만들어 교체 작업을 돌려주는 {@link Loader}만 구현하고,
+ * 기동 이벤트·스케줄·종료 메서드에서 이 객체를 호출합니다.</p>
+ *
+ * <h3>동작 방식</h3>
+ * <ul>
+ *   <li><strong>버전 확인:</strong> {@link DataVersionService}의 버전이 적재된 버전과 다르면 전용 스레드에 재구성을 맡기고 바로 반환</li>
+ *   <li><strong>적재 중:</strong> 대상 데이터가 적재 중이면 재구성하지 않고 다음 확인 주기를 기다림</li>
+ *   <li><strong>교체:</strong> 스냅샷을 만든 뒤 버전을 다시 확인하여 같을 때만 교체, 그 사이 적재가 시작·완료되었으면
+ *       결과를 버리고 새 버전으로 다시 만듦 → 두 버전의 데이터가 섞인 스냅샷을 제공하지 않음</li>
+ *   <li>재구성은 한 번에 하나만 수행, 실패 시 기존 스냅샷을 유지하고 다음 주기에 재시도</li>
+ *   <li><strong>버전 조회 실패:</strong> 즉시 적재는 버전 없이({@link #UNVERSIONED}) 적재하고,
+ *       버전 조회가 복구되면 다음 확인 주기에 다시 만듦 (요청 경로로 예외를 전파하지 않음)</li>
+ * </ul>
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Slf4j
+public class SnapshotReloader {
+
+    /** 만드는 도중 버전이 바뀌었을 때 다시 만드는 최대 횟수 */
+    private static final int MAX_ATTEMPTS = 3;
+
+    /** 버전을 조회하지 못한 채 적재한 스냅샷의 버전 */
+    public static final String UNVERSIONED = "unversioned";
+
+    /**
+     * 새 버전 스냅샷 생성
+     */
+    @FunctionalInterface
+    public interface Loader {
+
+        /**
+         * @param version 데이터 버전
+         * @return 새 스냅샷으로 교체하는 작업 (참조 교체 등 짧은 작업)
+         * @throws Exception 생성 실패 시 (기존 스냅샷 유지)
+         */
+        Runnable prepare(String version) throws Exception;
+    }
+
+    private final String name;
+    private final DataVersionService dataVersionService;
+    private final DataGroup[] groups;
+    private final Loader loader;
+
+    /** 재구성 전용 스레드 (적재 쿼리가 스케줄러 스레드를 오래 점유하지 않도록 분리) */
+    private final ExecutorService rebuildExecutor;
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    private volatile String version;
+
+    /**
+     * @param threadName 재구성 스레드 이름
+     * @param name 로그용 스냅샷 이름
+     * @param dataVersionService 데이터 버전 조회 서비스
+     * @param loader 스냅샷 생성 작업
+     * @param groups 스냅샷이 읽는 데이터 묶음
+     */
+    public SnapshotReloader(String threadName, String name, DataVersionService dataVersionService,
+            Loader loader, DataGroup... groups) {
+        this.name = name;
+        this.dataVersionService = dataVersionService;
+        this.groups = groups;
+        this.loader = loader;
+        this.rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 데이터 버전 확인 (버전이 바뀌었으면 백그라운드 재구성 후 바로 반환)
+     */
+    public void checkVersion() {
+        try {
+            String latest = dataVersionService.fetch(groups);
+            if (latest == null) {
+                log.info("[DATA-VERSION] {} 데이터 적재 중 - 적재 완료 후 재구성합니다. (현재 버전: {})", name, version);
+                return;
+            }
+            if (latest.equals(version) || !rebuilding.compareAndSet(false, true)) {
+                return;
+            }
+
+            log.info("[DATA-VERSION] {} 데이터 버전 변경 감지 - {} → {}", name, version, latest);
+            rebuildExecutor.execute(() -> {
+                try {
+                    reload(latest, false);
+                } catch (Exception e) {
+                    log.error("[DATA-VERSION] {} 재구성 실패 - 기존 스냅샷을 유지하고 다음 주기에 재시도합니다.", name, e);
+                } finally {
+                    rebuilding.set(false);
+                }
+            });
+        } catch (Exception e) {
+            log.warn("[DATA-VERSION] {} 데이터 버전 확인 실패 - 오류: {}", name, e.getMessage());
+        }
+    }
+
+    /**
+     * 호출 스레드에서 즉시 적재 (기동 적재, 관리자 재적재, 적재 전 첫 조회용)
+     *
+     * <p>버전이 같아도 다시 만듭니다. 데이터가 적재 중이면 기존 스냅샷을 유지하며, 아직 스냅샷이 하나도 없으면
+     * 마지막 적재 완료 버전으로 적재하고, 적재가 끝나면 다음 확인 주기에 다시 만듭니다.</p>
+     *
+     * @throws Exception 생성 실패 시
+     */
+    public void reloadNow() throws Exception {
+        String latest;
+        try {
+            latest = dataVersionService.fetch(groups);
+            if (latest == null && version == null) {
+                latest = dataVersionService.fetchCompleted(groups) + ":loading";
+                log.warn("[DATA-VERSION] {} 데이터 적재 중 최초 적재 - 적재 완료 후 다시 만듭니다.", name);
+                load(latest);
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("[DATA-VERSION] {} 데이터 버전 조회 실패 - 버전 없이 적재합니다. 오류: {}", name, e.getMessage());
+            load(UNVERSIONED);
+            return;
+        }
+
+        if (latest != null) {
+            reload(latest, true);
+        } else {
+            log.info("[DATA-VERSION] {} 데이터 적재 중 - 기존 스냅샷을 유지합니다. (현재 버전: {})", name, version);
+        }
+    }
+
+    /**
+     * 현재 적재된 버전
+     *
+     * @return 데이터 버전 (적재 전이면 null)
+     */
+    public String version() {
+        return version;
+    }
+
+    /**
+     * 재구성 스레드 종료
+     */
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    // ==================== 내부 메서드 ====================
+
+    /**
+     * 스냅샷 생성 후 버전이 그대로일 때만 교체
+     */
+    private synchronized void reload(String latest, boolean force) throws Exception {
+        if (!force && latest.equals(version)) {
+            return;
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            Runnable swap = loader.prepare(latest);
+            String after;
+            try {
+                after = dataVersionService.fetch(groups);
+            } catch (Exception e) {
+                // 확인할 수 없으면 교체하되 버전 없이 표시하여 조회가 복구되면 다시 만듦
+                log.warn("[DATA-VERSION] {} 생성 후 버전 확인 실패 - 버전 없이 교체합니다. 오류: {}", name, e.getMessage());
+                swap.run();
+                version = UNVERSIONED;
+                return;
+            }
+            if (latest.equals(after)) {
+                swap.run();
+                version = latest;
+                log.info("[DATA-VERSION] {} 스냅샷 교체 완료 - 버전: {}", name, latest);
+                return;
+            }
+
+            log.warn("[DATA-VERSION] {} 생성 중 데이터 변경 - 결과를 버립니다. (생성 버전: {}, 현재: {})",
+                    name, latest, after != null ? after : "적재 중");
+            if (after == null || attempt == MAX_ATTEMPTS) {
+                return;
+            }
+            latest = after;
+        }
+    }
+
+    private synchronized void load(String latest) throws Exception {
+        loader.prepare(latest).run();
+        version = latest;
+    }
+}
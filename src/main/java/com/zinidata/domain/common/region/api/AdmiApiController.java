@@ -3,9 +3,12 @@ package com.zinidata.domain.common.region.api;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -13,11 +16,15 @@ import org.springframework.web.bind.annotation.RestController;
 import com.zinidata.audit.annotation.AuditLog;
 import com.zinidata.audit.enums.AuditActionType;
 import com.zinidata.common.dto.ApiResponse;
+import com.zinidata.domain.common.region.enums.RegionLevel;
 import com.zinidata.domain.common.region.service.RegionService;
+import com.zinidata.domain.common.region.vo.RegionPointVO;
+import com.zinidata.domain.common.region.vo.RegionPolygonVO;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -46,6 +53,7 @@ public class AdmiApiController {
      * <p>행정동명, 좌표, 폴리곤 경계 정보 등을 제공합니다.</p>
      * 
      * @param admiCd 행정동 코드 (8자리)
+     * @param zoom 지도 줌 레벨 (선택, 저배율일수록 단순화된 경계)
      * @return 행정동 정보 응답
      */
     @Operation(summary = "🔴 행정동 코드 조회 [미사용]", description = "🔴 **미사용 API** - 행정동 코드(8자리)로 행정동 정보 및 폴리곤 경계를 조회합니다")
@@ -53,12 +61,14 @@ public class AdmiApiController {
     @GetMapping("/{admiCd}")
     public ResponseEntity<ApiResponse<Map<String, Object>>> getAdmiByCode(
             @Parameter(description = "행정동 코드 (8자리)", example = "11680545", required = true)
-            @PathVariable String admiCd) throws Exception {
+            @PathVariable String admiCd,
+            @Parameter(description = "지도 줌 레벨 (0~22, 지정 시 줌에 맞게 단순화된 경계 반환)", example = "9")
+            @RequestParam(required = false) Integer zoom) throws Exception {
         
-        log.info("[REGION-V1] 행정동 코드 조회 요청 - 행정동코드: {}", admiCd);
+        log.info("[REGION-V1] 행정동 코드 조회 요청 - 행정동코드: {}, 줌: {}", admiCd, zoom);
         
         // 비즈니스 로직 처리 (검증과 조회는 서비스에서 담당)
-        Map<String, Object> admiData = regionService.getAdmiByCode(admiCd);
+        Map<String, Object> admiData = regionService.getRegionByCode(RegionLevel.ADMI, admiCd, zoom);
         
         log.info("[REGION-V1] 행정동 코드 조회 성공 - 행정동코드: {}", admiCd);
         return ResponseEntity.ok(ApiResponse.success(admiData, "행정동 정보를 성공적으로 조회했습니다."));
@@ -94,13 +104,38 @@ public class AdmiApiController {
         return ResponseEntity.ok(ApiResponse.success(admiData, "좌표 기반 행정동 조회가 완료되었습니다."));
     }
 
+    /**
+     * 다건 좌표로 행정동 조회
+     * 
+     * <p>좌표 목록을 한 번에 받아 각 좌표의 행정동 정보를 입력 순서대로 반환합니다.</p>
+     * <p>배치 작업이나 요청 지도처럼 다수 좌표를 행정동 코드로 변환할 때 사용됩니다.</p>
+     * 
+     * @param points 좌표 목록 (최대 1,000건)
+     * @return 입력 순서와 동일한 행정동 정보 목록 응답
+     */
+    @Operation(summary = "✅ 다건 좌표 기반 행정동 조회", description = "🟢 좌표 목록(최대 1,000건)을 한 번의 공간 조인으로 행정동 코드로 변환합니다\n\n" +
+            "**응답:** 입력 순서와 동일한 목록 (lat, lng, megaCd, megaNm, ctyCd, ctyNm, admiCd, admiNm)\n\n" +
+            "**비고:** 행정동이 없는 좌표는 lat, lng만 내려갑니다")
+    @AuditLog(actionType = AuditActionType.API_CALL, targetResource = "api:/common/region/admi/points")
+    @PostMapping("/by-points")
+    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getAdmisByPoints(
+            @RequestBody List<RegionPointVO> points) throws Exception {
+        log.info("[REGION-V1] 다건 좌표 기반 행정동 조회 요청 - 좌표 수: {}", points == null ? 0 : points.size());
+        
+        // 비즈니스 로직 처리 (검증과 조회는 서비스에서 담당)
+        List<Map<String, Object>> admis = regionService.getAdmisByPoints(points);
+        
+        log.info("[REGION-V1] 다건 좌표 기반 행정동 조회 성공 - 조회건수: {}", admis.size());
+        return ResponseEntity.ok(ApiResponse.success(admis, "다건 좌표 기반 행정동 조회가 완료되었습니다."));
+    }
+
     /**
      * 폴리곤 영역 내 행정동 조회
      * 
      * <p>지정된 GeoJSON 폴리곤 영역 내에 포함되는 모든 행정동 목록을 조회합니다.</p>
      * <p>지도상에서 사용자가 그린 영역 내의 행정동들을 확인할 때 사용됩니다.</p>
      * 
-     * @param polygon GeoJSON 폴리곤 문자열
+     * @param polygon GeoJSON 또는 WKT 폴리곤 문자열
      * @return 폴리곤 영역에 포함되는 행정동 목록 응답
      */
     @Operation(summary = "🔴 폴리곤 영역 행정동 조회 [미사용]", description = "🔴 **미사용 API** - 지정된 폴리곤 영역 내에 포함되는 모든 행정동 목록을 조회합니다\n\n" +
@@ -109,38 +144,66 @@ public class AdmiApiController {
     @AuditLog(actionType = AuditActionType.API_CALL, targetResource = "api:/common/region/admi/polygon")
     @GetMapping("/by-polygon")
     public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getAdmisByPolygon(
-            @Parameter(description = "GeoJSON 폴리곤 문자열", required = true)
+            @Parameter(description = "GeoJSON 또는 WKT 폴리곤 문자열", required = true)
             @RequestParam String polygon) throws Exception {
         log.info("[REGION-V1] 폴리곤 영역 행정동 조회 - 폴리곤 크기: {}", polygon.length());
         
-        // 비즈니스 로직 처리 (검증과 조회는 서비스에서 담당)
-        List<Map<String, Object>> admis = regionService.getAdmisByPolygon(polygon);
+        // 폴리곤 파싱·전처리 후 조회 (검증과 조회는 서비스에서 담당)
+        List<Map<String, Object>> admis = regionService.getAdmisByPolygon(RegionPolygonVO.fromText(polygon));
         
         log.info("[REGION-V1] 폴리곤 영역 행정동 조회 성공 - 조회건수: {}", admis.size());
         return ResponseEntity.ok(ApiResponse.success(admis, "폴리곤 영역 행정동 조회가 완료되었습니다."));
     }
 
+    /**
+     * 폴리곤 영역 내 행정동 조회 (요청 본문)
+     * 
+     * <p>쿼리 파라미터 길이 제한을 넘는 큰 폴리곤을 요청 본문(GeoJSON)으로 받습니다.
+     * 본문은 문자열로 모으지 않고 스트리밍으로 읽어 바로 좌표 배열로 변환합니다.</p>
+     * 
+     * @param request HTTP 요청 (본문: GeoJSON Polygon, MultiPolygon, Feature)
+     * @return 폴리곤 영역에 포함되는 행정동 목록 응답
+     */
+    @Operation(summary = "폴리곤 영역 행정동 조회 (요청 본문)", description = "요청 본문의 GeoJSON 폴리곤 영역 내에 포함되는 모든 행정동 목록을 조회합니다\n\n" +
+            "**비고:** 꼭짓점이 " + RegionPolygonVO.MAX_VERTICES + "개를 넘는 폴리곤은 단순화하여 조회합니다")
+    @AuditLog(actionType = AuditActionType.API_CALL, targetResource = "api:/common/region/admi/polygon")
+    @PostMapping(value = "/by-polygon", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getAdmisByPolygonBody(
+            HttpServletRequest request) throws Exception {
+        log.info("[REGION-V1] 폴리곤 영역 행정동 조회 (요청 본문) - 본문 크기: {}", request.getContentLengthLong());
+        
+        // 폴리곤 스트리밍 파싱·전처리 후 조회 (검증과 조회는 서비스에서 담당)
+        List<Map<String, Object>> admis = regionService.getAdmisByPolygon(RegionPolygonVO.fromStream(request.getInputStream()));
+        
+        log.info("[REGION-V1] 폴리곤 영역 행정동 조회 (요청 본문) 성공 - 조회건수: {}", admis.size());
+        return ResponseEntity.ok(ApiResponse.success(admis, "폴리곤 영역 행정동 조회가 완료되었습니다."));
+    }
+
     /**
      * 인접 행정동 조회
      * 
      * <p>기준 행정동과 경계를 공유하는 인접 행정동 목록을 조회합니다.</p>
-     * <p>기준 행정동을 포함하여 인접한 모든 행정동의 정보를 제공합니다.</p>
+     * <p>hops를 지정하면 인접 행정동의 인접 행정동까지 단계별로 확장합니다.</p>
      * 
      * @param admiCd 기준 행정동 코드 (8자리)
+     * @param hops 확장 단계 (기본 1, 최대 5)
      * @return 기준 행정동과 인접한 행정동 목록 응답 (기준 행정동 포함)
      */
-    @Operation(summary = "🔴 인접 행정동 조회 [미사용]", description = "🔴 **미사용 API** - 기준 행정동과 경계를 공유하는 인접 행정동 목록을 조회합니다 (기준 행정동 포함)")
+    @Operation(summary = "🔴 인접 행정동 조회 [미사용]", description = "🔴 **미사용 API** - 기준 행정동과 경계를 공유하는 인접 행정동 목록을 조회합니다 (기준 행정동 포함)\n\n" +
+            "- hops=2 이상이면 단계별로 확장하며 각 행정동의 hop(기준으로부터의 단계)을 함께 반환")
     @AuditLog(actionType = AuditActionType.API_CALL, targetResource = "api:/common/region/admi/neighbors")
     @GetMapping("/{admiCd}/neighbors")
     public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getAdjacentAdmis(
             @Parameter(description = "기준 행정동 코드 (8자리)", example = "11680545", required = true)
-            @PathVariable String admiCd) throws Exception {
-        log.info("[REGION-V1] 인접 행정동 조회 - 기준 행정동: {}", admiCd);
+            @PathVariable String admiCd,
+            @Parameter(description = "확장 단계 (1~5)", example = "1")
+            @RequestParam(defaultValue = "1") int hops) throws Exception {
+        log.info("[REGION-V1] 인접 행정동 조회 - 기준 행정동: {}, 단계: {}", admiCd, hops);
         
         // 비즈니스 로직 처리 (검증과 조회는 서비스에서 담당)
-        List<Map<String, Object>> neighbors = regionService.getAdjacentAdmis(admiCd);
+        List<Map<String, Object>> neighbors = regionService.getAdmiNeighborhood(admiCd, hops);
         
         log.info("[REGION-V1] 인접 행정동 조회 성공 - 기준 행정동: {}, 조회건수: {}", admiCd, neighbors.size());
         return ResponseEntity.ok(ApiResponse.success(neighbors, "인접 행정동 조회가 완료되었습니다."));
     }
-} 
\ No newline at end of file
+}
@@ -3,9 +3,11 @@ package com.zinidata.domain.common.region.api;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -14,10 +16,12 @@ import com.zinidata.audit.annotation.AuditLog;
 import com.zinidata.audit.enums.AuditActionType;
 import com.zinidata.common.dto.ApiResponse;
 import com.zinidata.domain.common.region.service.RegionService;
+import com.zinidata.domain.common.region.vo.RegionPolygonVO;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -98,36 +102,62 @@ public class BlockApiController {
      * <p>지정된 GeoJSON 폴리곤 영역 내에 포함되는 모든 블록 목록을 조회합니다.</p>
      * <p>지도상에서 사용자가 그린 영역 내의 블록들을 확인할 때 사용됩니다.</p>
      * 
-     * @param polygon GeoJSON 폴리곤 문자열
+     * @param polygon GeoJSON 또는 WKT 폴리곤 문자열
      * @return 폴리곤 영역에 포함되는 블록 목록 응답
      */
     @Operation(summary = "폴리곤 영역 블록 조회", description = "지정된 폴리곤 영역 내에 포함되는 모든 블록 목록을 조회합니다")
     @AuditLog(actionType = AuditActionType.API_CALL, targetResource = "api:/common/region/block/polygon")
     @GetMapping("/by-polygon")
     public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getBlocksByPolygon(
-            @Parameter(description = "GeoJSON 폴리곤 문자열", required = true)
+            @Parameter(description = "GeoJSON 또는 WKT 폴리곤 문자열", required = true)
             @RequestParam String polygon) throws Exception {
         log.info("[REGION-V1] 폴리곤 영역 블록 조회 - 폴리곤 크기: {}", polygon.length());
         
-        // 비즈니스 로직 처리 (검증과 조회는 서비스에서 담당)
-        List<Map<String, Object>> blocks = regionService.getBlocksByPolygon(polygon);
+        // 폴리곤 파싱·전처리 후 조회 (검증과 조회는 서비스에서 담당)
+        List<Map<String, Object>> blocks = regionService.getBlocksByPolygon(RegionPolygonVO.fromText(polygon));
         
         log.info("[REGION-V1] 폴리곤 영역 블록 조회 성공 - 조회건수: {}", blocks.size());
         return ResponseEntity.ok(ApiResponse.success(blocks, "폴리곤 영역 블록 조회가 완료되었습니다."));
     }
 
+    /**
+     * 폴리곤 영역 내 블록 조회 (요청 본문)
+     * 
+     * <p>쿼리 파라미터 길이 제한을 넘는 큰 폴리곤을 요청 본문(GeoJSON)으로 받습니다.
+     * 본문은 문자열로 모으지 않고 스트리밍으로 읽어 바로 좌표 배열로 변환합니다.</p>
+     * 
+     * @param request HTTP 요청 (본문: GeoJSON Polygon, MultiPolygon, Feature)
+     * @return 폴리곤 영역에 포함되는 블록 목록 응답
+     */
+    @Operation(summary = "폴리곤 영역 블록 조회 (요청 본문)", description = "요청 본문의 GeoJSON 폴리곤 영역 내에 포함되는 모든 블록 목록을 조회합니다\n\n" +
+            "**비고:** 꼭짓점이 " + RegionPolygonVO.MAX_VERTICES + "개를 넘는 폴리곤은 단순화하여 조회합니다")
+    @AuditLog(actionType = AuditActionType.API_CALL, targetResource = "api:/common/region/block/polygon")
+    @PostMapping(value = "/by-polygon", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getBlocksByPolygonBody(
+            HttpServletRequest request) throws Exception {
+        log.info("[REGION-V1] 폴리곤 영역 블록 조회 (요청 본문) - 본문 크기: {}", request.getContentLengthLong());
+        
+        // 폴리곤 스트리밍 파싱·전처리 후 조회 (검증과 조회는 서비스에서 담당)
+        List<Map<String, Object>> blocks = regionService.getBlocksByPolygon(RegionPolygonVO.fromStream(request.getInputStream()));
+        
+        log.info("[REGION-V1] 폴리곤 영역 블록 조회 (요청 본문) 성공 - 조회건수: {}", blocks.size());
+        return ResponseEntity.ok(ApiResponse.success(blocks, "폴리곤 영역 블록 조회가 완료되었습니다."));
+    }
+
     /**
      * 반경 내 블록 조회
      * 
      * <p>지정된 좌표에서 반경 내에 있는 블록 목록을 조회합니다.</p>
      * <p>최대 1km 반경 내의 블록들을 확인할 때 사용됩니다.</p>
+     * <p>기본은 블록 중심점까지의 거리 기준이며, exact=true이면 블록 경계까지의 거리 기준으로 조회합니다.</p>
      * 
      * @param lat 중심점 위도
      * @param lng 중심점 경도
      * @param radius 반경 (미터, 최대 1000m)
+     * @param exact 경계 거리 기준 여부
      * @return 반경 내 블록 목록 응답
      */
-    @Operation(summary = "반경 내 블록 조회", description = "지정된 좌표에서 반경 내에 있는 블록 목록을 조회합니다 (최대 1km)")
+    @Operation(summary = "반경 내 블록 조회", description = "지정된 좌표에서 반경 내에 있는 블록 목록을 조회합니다 (최대 1km, 기본 중심점 거리 기준)")
     @AuditLog(actionType = AuditActionType.API_CALL, targetResource = "api:/common/region/block/radius")
     @GetMapping("/by-radius")
     public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getBlocksByRadius(
@@ -136,14 +166,49 @@ public class BlockApiController {
             @Parameter(description = "중심점 경도 (WGS84)", example = "126.9780", required = true)
             @RequestParam double lng,
             @Parameter(description = "반경 (미터, 최대 1000m)", example = "500")
-            @RequestParam(defaultValue = "500") int radius) throws Exception {
+            @RequestParam(defaultValue = "500") int radius,
+            @Parameter(description = "경계 거리 기준 여부 (false: 중심점 거리)", example = "false")
+            @RequestParam(defaultValue = "false") boolean exact) throws Exception {
         
-        log.info("[REGION-V1] 반경 내 블록 조회 - 위도: {}, 경도: {}, 반경: {}m", lat, lng, radius);
+        log.info("[REGION-V1] 반경 내 블록 조회 - 위도: {}, 경도: {}, 반경: {}m, 경계기준: {}", lat, lng, radius, exact);
         
         // 비즈니스 로직 처리 (검증과 조회는 서비스에서 담당)
-        List<Map<String, Object>> blocks = regionService.getBlocksByRadius(lat, lng, radius);
+        List<Map<String, Object>> blocks = regionService.getBlocksByRadius(lat, lng, radius, exact);
         
         log.info("[REGION-V1] 반경 내 블록 조회 성공 - 위도: {}, 경도: {}, 반경: {}m, 조회건수: {}", lat, lng, radius, blocks.size());
         return ResponseEntity.ok(ApiResponse.success(blocks, "반경 내 블록 조회가 완료되었습니다."));
     }
+
+    /**
+     * 최근접 블록 조회
+     * 
+     * <p>지정된 좌표에서 중심점이 가장 가까운 블록 k개를 조회합니다.</p>
+     * 
+     * @param lat 중심점 위도
+     * @param lng 중심점 경도
+     * @param k 조회 건수 (최대 100)
+     * @param maxRadius 최대 반경 (미터, 최대 1000m)
+     * @return 최근접 블록 목록 응답
+     */
+    @Operation(summary = "최근접 블록 조회", description = "지정된 좌표에서 중심점이 가장 가까운 블록 k개를 조회합니다 (최대 100건, 1km)")
+    @AuditLog(actionType = AuditActionType.API_CALL, targetResource = "api:/common/region/block/nearest")
+    @GetMapping("/nearest")
+    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getNearestBlocks(
+            @Parameter(description = "중심점 위도 (WGS84)", example = "37.5665", required = true)
+            @RequestParam double lat,
+            @Parameter(description = "중심점 경도 (WGS84)", example = "126.9780", required = true)
+            @RequestParam double lng,
+            @Parameter(description = "조회 건수 (최대 100)", example = "10")
+            @RequestParam(defaultValue = "10") int k,
+            @Parameter(description = "최대 반경 (미터, 최대 1000m)", example = "1000")
+            @RequestParam(defaultValue = "1000") int maxRadius) throws Exception {
+        
+        log.info("[REGION-V1] 최근접 블록 조회 - 위도: {}, 경도: {}, 건수: {}, 최대반경: {}m", lat, lng, k, maxRadius);
+        
+        // 비즈니스 로직 처리 (검증과 조회는 서비스에서 담당)
+        List<Map<String, Object>> blocks = regionService.getNearestBlocks(lat, lng, k, maxRadius);
+        
+        log.info("[REGION-V1] 최근접 블록 조회 성공 - 위도: {}, 경도: {}, 조회건수: {}", lat, lng, blocks.size());
+        return ResponseEntity.ok(ApiResponse.success(blocks, "최근접 블록 조회가 완료되었습니다."));
+    }
 }
\ No newline at end of file
@@ -3,9 +3,11 @@ package com.zinidata.domain.common.region.api;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -13,11 +15,14 @@ import org.springframework.web.bind.annotation.RestController;
 import com.zinidata.audit.annotation.AuditLog;
 import com.zinidata.audit.enums.AuditActionType;
 import com.zinidata.common.dto.ApiResponse;
+import com.zinidata.domain.common.region.enums.RegionLevel;
 import com.zinidata.domain.common.region.service.RegionService;
+import com.zinidata.domain.common.region.vo.RegionPolygonVO;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -46,6 +51,7 @@ public class CtyApiController {
      * <p>시도명, 좌표, 폴리곤 경계 정보 등을 제공합니다.</p>
      * 
      * @param ctyCd 시도 코드 (2자리)
+     * @param zoom 지도 줌 레벨 (선택, 저배율일수록 단순화된 경계)
      * @return 시도 정보 응답
      */
     @Operation(summary = "시도 코드 조회", description = "시도 코드(2자리)로 시도 정보 및 폴리곤 경계를 조회합니다")
@@ -53,12 +59,14 @@ public class CtyApiController {
     @GetMapping("/{ctyCd}")
     public ResponseEntity<ApiResponse<Map<String, Object>>> getCtyByCode(
             @Parameter(description = "시도 코드 (2자리)", example = "11", required = true)
-            @PathVariable String ctyCd) throws Exception {
+            @PathVariable String ctyCd,
+            @Parameter(description = "지도 줌 레벨 (0~22, 지정 시 줌에 맞게 단순화된 경계 반환)", example = "9")
+            @RequestParam(required = false) Integer zoom) throws Exception {
         
-        log.info("[REGION-V1] 시도 코드 조회 요청 - 시도코드: {}", ctyCd);
+        log.info("[REGION-V1] 시도 코드 조회 요청 - 시도코드: {}, 줌: {}", ctyCd, zoom);
         
         // 비즈니스 로직 처리 (검증과 조회는 서비스에서 담당)
-        Map<String, Object> ctyData = regionService.getCtyByCode(ctyCd);
+        Map<String, Object> ctyData = regionService.getRegionByCode(RegionLevel.CTY, ctyCd, zoom);
         
         log.info("[REGION-V1] 시도 코드 조회 성공 - 시도코드: {}", ctyCd);
         return ResponseEntity.ok(ApiResponse.success(ctyData, "시도 정보를 성공적으로 조회했습니다."));
@@ -98,21 +106,45 @@ public class CtyApiController {
      * <p>지정된 GeoJSON 폴리곤 영역 내에 포함되는 모든 시도 목록을 조회합니다.</p>
      * <p>지도상에서 사용자가 그린 영역 내의 시도들을 확인할 때 사용됩니다.</p>
      * 
-     * @param polygon GeoJSON 폴리곤 문자열
+     * @param polygon GeoJSON 또는 WKT 폴리곤 문자열
      * @return 폴리곤 영역에 포함되는 시도 목록 응답
      */
     @Operation(summary = "폴리곤 영역 시도 조회", description = "지정된 폴리곤 영역 내에 포함되는 모든 시도 목록을 조회합니다")
     @AuditLog(actionType = AuditActionType.API_CALL, targetResource = "api:/common/region/cty/polygon")
     @GetMapping("/by-polygon")
     public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getCtysByPolygon(
-            @Parameter(description = "GeoJSON 폴리곤 문자열", required = true)
+            @Parameter(description = "GeoJSON 또는 WKT 폴리곤 문자열", required = true)
             @RequestParam String polygon) throws Exception {
         log.info("[REGION-V1] 폴리곤 영역 시도 조회 - 폴리곤 크기: {}", polygon.length());
         
-        // 비즈니스 로직 처리 (검증과 조회는 서비스에서 담당)
-        List<Map<String, Object>> ctys = regionService.getCtysByPolygon(polygon);
+        // 폴리곤 파싱·전처리 후 조회 (검증과 조회는 서비스에서 담당)
+        List<Map<String, Object>> ctys = regionService.getCtysByPolygon(RegionPolygonVO.fromText(polygon));
         
         log.info("[REGION-V1] 폴리곤 영역 시도 조회 성공 - 조회건수: {}", ctys.size());
         return ResponseEntity.ok(ApiResponse.success(ctys, "폴리곤 영역 시도 조회가 완료되었습니다."));
     }
+
+    /**
+     * 폴리곤 영역 내 시도 조회 (요청 본문)
+     * 
+     * <p>쿼리 파라미터 길이 제한을 넘는 큰 폴리곤을 요청 본문(GeoJSON)으로 받습니다.
+     * 본문은 문자열로 모으지 않고 스트리밍으로 읽어 바로 좌표 배열로 변환합니다.</p>
+     * 
+     * @param request HTTP 요청 (본문: GeoJSON Polygon, MultiPolygon, Feature)
+     * @return 폴리곤 영역에 포함되는 시도 목록 응답
+     */
+    @Operation(summary = "폴리곤 영역 시도 조회 (요청 본문)", description = "요청 본문의 GeoJSON 폴리곤 영역 내에 포함되는 모든 시도 목록을 조회합니다\n\n" +
+            "**비고:** 꼭짓점이 " + RegionPolygonVO.MAX_VERTICES + "개를 넘는 폴리곤은 단순화하여 조회합니다")
+    @AuditLog(actionType = AuditActionType.API_CALL, targetResource = "api:/common/region/cty/polygon")
+    @PostMapping(value = "/by-polygon", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getCtysByPolygonBody(
+            HttpServletRequest request) throws Exception {
+        log.info("[REGION-V1] 폴리곤 영역 시도 조회 (요청 본문) - 본문 크기: {}", request.getContentLengthLong());
+        
+        // 폴리곤 스트리밍 파싱·전처리 후 조회 (검증과 조회는 서비스에서 담당)
+        List<Map<String, Object>> ctys = regionService.getCtysByPolygon(RegionPolygonVO.fromStream(request.getInputStream()));
+        
+        log.info("[REGION-V1] 폴리곤 영역 시도 조회 (요청 본문) 성공 - 조회건수: {}", ctys.size());
+        return ResponseEntity.ok(ApiResponse.success(ctys, "폴리곤 영역 시도 조회가 완료되었습니다."));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,69 @@
+package com.zinidata.domain.common.region.api;
+
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.zinidata.audit.annotation.AuditLog;
+import com.zinidata.audit.enums.AuditActionType;
+import com.zinidata.common.dto.ApiResponse;
+import com.zinidata.domain.common.region.service.RegionService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 행정구역 통합 API 컨트롤러
+ *
+ * <p>블록/행정동/시군구/광역시도를 한 번에 다루는 API를 처리합니다.</p>
+ * <p>레벨별 by-point API를 각각 호출하던 지도 클릭 처리를 한 번의 요청으로 대체합니다.</p>
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Tag(name = "[region] 행정구역 통합", description = "행정구역 통합 조회 API - 좌표 기반 블록/행정동/시군구/광역시도 계층 조회")
+@Slf4j
+@RestController
+@RequestMapping("/api/common/region")
+@RequiredArgsConstructor
+public class RegionApiController {
+
+    private final RegionService regionService;
+
+    /**
+     * 좌표로 행정구역 계층 조회
+     *
+     * <p>지도상 특정 좌표(위도, 경도)의 블록 → 행정동 → 시군구 → 광역시도를 한 번에 조회합니다.</p>
+     * <p>블록을 먼저 찾고 상위 행정구역은 코드로 도출하므로 공간 연산은 1회만 수행됩니다.</p>
+     *
+     * @param lat 위도 (WGS84 좌표계)
+     * @param lng 경도 (WGS84 좌표계)
+     * @return 해당 좌표의 행정구역 계층 정보 응답
+     */
+    @Operation(summary = "✅ 좌표 기반 행정구역 계층 조회", description = "🟢 지도상 좌표(위도, 경도)로 블록/행정동/시군구/광역시도 코드와 명칭을 한 번에 조회합니다\n\n" +
+            "**응답:** blkCd, blkNm, admiCd, admiNm, ctyCd, ctyNm, megaCd, megaNm, centerX, centerY, feature(행정동 경계)\n\n" +
+            "**비고:** 블록 경계가 없는 좌표는 행정동 기준으로 조회되며 blkCd, blkNm은 내려가지 않습니다")
+    @AuditLog(actionType = AuditActionType.API_CALL, targetResource = "api:/common/region/hierarchy/point")
+    @GetMapping("/hierarchy/by-point")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getRegionHierarchyByPoint(
+            @Parameter(description = "위도 (WGS84)", example = "37.5665", required = true)
+            @RequestParam double lat,
+            @Parameter(description = "경도 (WGS84)", example = "126.9780", required = true)
+            @RequestParam double lng) throws Exception {
+
+        log.info("[REGION-V1] 좌표 기반 행정구역 계층 조회 요청 - 위도: {}, 경도: {}", lat, lng);
+
+        // 비즈니스 로직 처리 (검증과 조회는 서비스에서 담당)
+        Map<String, Object> hierarchy = regionService.getRegionHierarchyByPoint(lat, lng);
+
+        log.info("[REGION-V1] 좌표 기반 행정구역 계층 조회 성공 - 위도: {}, 경도: {}", lat, lng);
+        return ResponseEntity.ok(ApiResponse.success(hierarchy, "좌표 기반 행정구역 계층 조회가 완료되었습니다."));
+    }
+}
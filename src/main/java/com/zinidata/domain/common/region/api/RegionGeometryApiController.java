@@ -0,0 +1,78 @@
+package com.zinidata.domain.common.region.api;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.zinidata.domain.common.region.service.RegionGeometryService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 행정구역 경계 GeoJSON API 컨트롤러
+ *
+ * <p>코드별 경계 GeoJSON geometry를 ApiResponse로 감싸지 않고 원문 그대로 내려줍니다.</p>
+ * <p>매핑 파일의 바이트를 응답 스트림에 바로 쓰므로 대용량 경계도 힙 복사/직렬화 없이 전달됩니다.</p>
+ *
+ * <p>지도 화면에서 반복 호출되므로 감사 로그(@AuditLog)는 남기지 않습니다.</p>
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Tag(name = "[region] 경계 GeoJSON", description = "행정구역 경계 GeoJSON 원문 API")
+@Slf4j
+@RestController
+@RequestMapping("/api/common/region/geometry")
+@RequiredArgsConstructor
+public class RegionGeometryApiController {
+
+    private static final String GEO_JSON_CONTENT_TYPE = "application/geo+json";
+
+    private final RegionGeometryService regionGeometryService;
+
+    /**
+     * 코드별 경계 GeoJSON 조회
+     *
+     * @param layer 레이어 (block, admi, cty, mega)
+     * @param code 행정구역 코드
+     * @param response 응답 (GeoJSON geometry 원문)
+     */
+    @Operation(summary = "✅ 코드별 경계 GeoJSON 조회", description = "🟢 블록/행정동/시군구/광역시도 경계를 GeoJSON geometry 원문으로 조회합니다\n\n" +
+            "**응답:** application/geo+json (코드 조회 API의 geoJson 값과 동일)\n\n" +
+            "**비고:** 오류 시에는 다른 API와 동일한 JSON 오류 응답을 반환합니다")
+    @GetMapping("/{layer}/{code}")
+    public void getGeometry(
+            @Parameter(description = "레이어 (block, admi, cty, mega)", example = "admi", required = true)
+            @PathVariable String layer,
+            @Parameter(description = "행정구역 코드", example = "11680545", required = true)
+            @PathVariable String code,
+            HttpServletResponse response) throws Exception {
+
+        // 비즈니스 로직 처리 (검증과 조회는 서비스에서 담당)
+        ByteBuffer geometry = regionGeometryService.getGeometry(layer, code);
+
+        response.setContentType(GEO_JSON_CONTENT_TYPE);
+        response.setCharacterEncoding("UTF-8");
+        response.setContentLength(geometry.remaining());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.maxAge(1, TimeUnit.DAYS).getHeaderValue());
+
+        WritableByteChannel channel = Channels.newChannel(response.getOutputStream());
+        while (geometry.hasRemaining()) {
+            channel.write(geometry);
+        }
+        response.flushBuffer();
+    }
+}
@@ -0,0 +1,80 @@
+package com.zinidata.domain.common.region.api;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.zinidata.domain.common.region.service.RegionTileService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 행정구역 벡터 타일 API 컨트롤러
+ *
+ * <p>블록/행정동/시군구/광역시도 경계를 Mapbox Vector Tile(MVT)로 제공합니다.</p>
+ * <p>화면에 보이는 영역의 경계를 타일 단위로 내려주므로 지역별 GeoJSON을 개별 조회할 필요가 없습니다.</p>
+ *
+ * <p>지도 이동 시 타일 요청이 대량으로 발생하므로 감사 로그(@AuditLog)는 남기지 않습니다.</p>
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Tag(name = "[region] 벡터 타일", description = "행정구역 경계 벡터 타일(MVT) API")
+@Slf4j
+@RestController
+@RequestMapping("/api/common/region/tiles")
+@RequiredArgsConstructor
+public class RegionTileApiController {
+
+    private static final MediaType MVT_MEDIA_TYPE = MediaType.parseMediaType("application/vnd.mapbox-vector-tile");
+
+    private final RegionTileService regionTileService;
+
+    /**
+     * 행정구역 경계 벡터 타일 조회
+     *
+     * @param layer 레이어 (block, admi, cty, mega)
+     * @param z 줌 레벨
+     * @param x 타일 X
+     * @param y 타일 Y
+     * @return MVT 바이너리 (경계가 없는 타일은 204 No Content)
+     */
+    @Operation(summary = "✅ 행정구역 벡터 타일 조회", description = "🟢 블록/행정동/시군구/광역시도 경계를 MVT(EPSG:3857 타일 좌표)로 조회합니다\n\n" +
+            "**레이어명:** 요청한 layer 값과 동일 (block, admi, cty, mega)\n\n" +
+            "**최소 줌:** mega 0, cty 7, admi 10, block 14 (미만이면 204)")
+    @GetMapping("/{layer}/{z}/{x}/{y}.mvt")
+    public ResponseEntity<byte[]> getTile(
+            @Parameter(description = "레이어 (block, admi, cty, mega)", example = "admi", required = true)
+            @PathVariable String layer,
+            @Parameter(description = "줌 레벨", example = "12", required = true)
+            @PathVariable int z,
+            @Parameter(description = "타일 X", example = "3492", required = true)
+            @PathVariable int x,
+            @Parameter(description = "타일 Y", example = "1587", required = true)
+            @PathVariable int y) throws Exception {
+
+        // 비즈니스 로직 처리 (검증과 조회는 서비스에서 담당)
+        byte[] tile = regionTileService.getTile(layer, z, x, y);
+
+        if (tile.length == 0) {
+            return ResponseEntity.noContent()
+                    .cacheControl(CacheControl.maxAge(1, TimeUnit.DAYS))
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MVT_MEDIA_TYPE)
+                .cacheControl(CacheControl.maxAge(1, TimeUnit.DAYS))
+                .body(tile);
+    }
+}
@@ -0,0 +1,302 @@
+package com.zinidata.domain.common.region.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * 압축 보관 GeoJSON 값 (geoJson, feature 컬럼용)
+ *
+ * <p>Redis에 보관되는 대용량 GeoJSON 문자열의 이진 형태입니다.
+ * {@link RegionCacheCodec}이 L2 값을 읽을 때 한 번 원문으로 복원하여 {@link com.zinidata.common.dto.RawJson}으로 넘기므로
+ * 노드 메모리 캐시 히트마다 다시 복원하지 않습니다.</p>
+ *
+ * <h3>인코딩 방식</h3>
+ * <ul>
+ *   <li><strong>Geometry:</strong> 좌표를 소수점 9자리 정수(ST_AsGeoJSON 기본 자릿수)로 변환 후
+ *       직전 좌표와의 차이를 ZigZag varint로 저장 (복원 시 원문과 동일한 숫자 표기)</li>
+ *   <li>인코딩 결과가 1KB를 넘으면 Deflate 추가 압축 (크기가 줄어드는 경우만)</li>
+ *   <li><strong>그 외 JSON(Feature 등):</strong> 원문 UTF-8을 Deflate 압축</li>
+ * </ul>
+ *
+ * <p>불변 객체이며 여러 요청이 공유해도 안전합니다.</p>
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+public final class CompactGeoJson {
+
+    static final byte GEOMETRY = 1;
+    static final byte GEOMETRY_DEFLATED = 2;
+    static final byte TEXT_DEFLATED = 3;
+
+    /** ST_AsGeoJSON 기본 maxdecimaldigits */
+    private static final int SCALE = 9;
+    private static final int DEFLATE_THRESHOLD = 1024;
+    private static final int MAX_DIMENSIONS = 4;
+
+    // 노드 헤더: 0 = 배열 끝, 1 = 배열 시작, 2 + n = n차원 좌표
+    private static final int END = 0;
+    private static final int ARRAY = 1;
+    private static final int POSITION = 2;
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final byte kind;
+    private final byte[] data;
+
+    CompactGeoJson(byte kind, byte[] data) {
+        this.kind = kind;
+        this.data = data;
+    }
+
+    /**
+     * GeoJSON 문자열 인코딩
+     *
+     * @param text GeoJSON 문자열
+     * @return 압축 값 (Geometry 형식이 아니면 텍스트 압축)
+     */
+    public static CompactGeoJson of(String text) {
+        byte[] geometry = encodeGeometry(text);
+        if (geometry == null) {
+            return new CompactGeoJson(TEXT_DEFLATED, deflate(text.getBytes(StandardCharsets.UTF_8)));
+        }
+        if (geometry.length > DEFLATE_THRESHOLD) {
+            byte[] deflated = deflate(geometry);
+            if (deflated.length < geometry.length) {
+                return new CompactGeoJson(GEOMETRY_DEFLATED, deflated);
+            }
+        }
+        return new CompactGeoJson(GEOMETRY, geometry);
+    }
+
+    byte kind() {
+        return kind;
+    }
+
+    byte[] data() {
+        return data;
+    }
+
+    /**
+     * 원문 GeoJSON 복원
+     */
+    @Override
+    public String toString() {
+        return switch (kind) {
+            case GEOMETRY -> decodeGeometry(data);
+            case GEOMETRY_DEFLATED -> decodeGeometry(inflate(data));
+            default -> new String(inflate(data), StandardCharsets.UTF_8);
+        };
+    }
+
+    // ==================== Geometry 인코딩 ====================
+
+    /**
+     * {"type": ..., "coordinates": ...} 형태만 인코딩, 그 외 형태면 null
+     */
+    private static byte[] encodeGeometry(String text) {
+        try (JsonParser parser = JSON_FACTORY.createParser(text)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+
+            String type = null;
+            Buffer body = new Buffer(text.length() / 4);
+            boolean hasCoordinates = false;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if ("type".equals(field) && value == JsonToken.VALUE_STRING) {
+                    type = parser.getText();
+                } else if ("coordinates".equals(field) && value == JsonToken.START_ARRAY && !hasCoordinates) {
+                    if (!writeArray(parser, body, new long[MAX_DIMENSIONS])) {
+                        return null;
+                    }
+                    hasCoordinates = true;
+                } else {
+                    // bbox, crs, geometries 등은 원문 보관
+                    return null;
+                }
+            }
+
+            if (type == null || !hasCoordinates || !type.chars().allMatch(Character::isLetter)
+                    || parser.nextToken() != null) {
+                return null;
+            }
+
+            Buffer out = new Buffer(body.size() + type.length() + 1);
+            byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+            out.writeVarint(typeBytes.length);
+            out.write(typeBytes);
+            out.write(body.toByteArray());
+            return out.toByteArray();
+        } catch (IOException | ArithmeticException e) {
+            return null;
+        }
+    }
+
+    private static boolean writeArray(JsonParser parser, Buffer out, long[] previous) throws IOException {
+        JsonToken token = parser.nextToken();
+
+        if (isNumber(token)) {
+            long[] values = new long[MAX_DIMENSIONS];
+            int dimensions = 0;
+            while (token != JsonToken.END_ARRAY) {
+                if (!isNumber(token) || dimensions == MAX_DIMENSIONS) {
+                    return false;
+                }
+                BigDecimal value = parser.getDecimalValue();
+                if (value.scale() > SCALE) {
+                    return false;
+                }
+                values[dimensions++] = value.setScale(SCALE).unscaledValue().longValueExact();
+                token = parser.nextToken();
+            }
+
+            out.writeVarint(POSITION + dimensions);
+            for (int i = 0; i < dimensions; i++) {
+                out.writeZigZag(values[i] - previous[i]);
+                previous[i] = values[i];
+            }
+            return true;
+        }
+
+        out.writeVarint(ARRAY);
+        while (token != JsonToken.END_ARRAY) {
+            if (token != JsonToken.START_ARRAY || !writeArray(parser, out, previous)) {
+                return false;
+            }
+            token = parser.nextToken();
+        }
+        out.writeVarint(END);
+        return true;
+    }
+
+    private static boolean isNumber(JsonToken token) {
+        return token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT;
+    }
+
+    // ==================== Geometry 복원 ====================
+
+    private static String decodeGeometry(byte[] bytes) {
+        Cursor in = new Cursor(bytes);
+        int typeLength = (int) in.readVarint();
+        String type = new String(bytes, in.position, typeLength, StandardCharsets.US_ASCII);
+        in.position += typeLength;
+
+        StringBuilder sb = new StringBuilder(bytes.length * 3 + 32);
+        sb.append("{\"type\":\"").append(type).append("\",\"coordinates\":");
+        readNode(in, sb, (int) in.readVarint(), new long[MAX_DIMENSIONS]);
+        sb.append('}');
+        return sb.toString();
+    }
+
+    private static void readNode(Cursor in, StringBuilder sb, int header, long[] previous) {
+        sb.append('[');
+        if (header >= POSITION) {
+            int dimensions = header - POSITION;
+            for (int i = 0; i < dimensions; i++) {
+                if (i > 0) {
+                    sb.append(',');
+                }
+                previous[i] += in.readZigZag();
+                sb.append(BigDecimal.valueOf(previous[i], SCALE).stripTrailingZeros().toPlainString());
+            }
+        } else {
+            int child;
+            boolean first = true;
+            while ((child = (int) in.readVarint()) != END) {
+                if (!first) {
+                    sb.append(',');
+                }
+                first = false;
+                readNode(in, sb, child, previous);
+            }
+        }
+        sb.append(']');
+    }
+
+    // ==================== 압축 ====================
+
+    private static byte[] deflate(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2 + 16);
+        try (DeflaterOutputStream deflater = new DeflaterOutputStream(out)) {
+            deflater.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] inflate(byte[] bytes) {
+        try (InflaterInputStream inflater = new InflaterInputStream(new ByteArrayInputStream(bytes))) {
+            return inflater.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // ==================== varint 입출력 ====================
+
+    private static final class Buffer extends ByteArrayOutputStream {
+
+        Buffer(int size) {
+            super(Math.max(size, 32));
+        }
+
+        void writeVarint(long value) {
+            while ((value & ~0x7FL) != 0) {
+                write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            write((int) value);
+        }
+
+        void writeZigZag(long value) {
+            writeVarint((value << 1) ^ (value >> 63));
+        }
+
+        @Override
+        public void write(byte[] bytes) {
+            write(bytes, 0, bytes.length);
+        }
+    }
+
+    private static final class Cursor {
+
+        private final byte[] bytes;
+        private int position;
+
+        Cursor(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        long readVarint() {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[position++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+
+        long readZigZag() {
+            long value = readVarint();
+            return (value >>> 1) ^ -(value & 1);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.zinidata.domain.common.region.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zinidata.common.dto.RawJson;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 행정구역 캐시 항목 이진 코덱
+ *
+ * <p>코드/좌표 조회 결과(Map)를 Redis에 저장할 이진 형태로 변환합니다.
+ * 타입 정보가 포함된 JSON 대신 필드별 태그를 사용하고, 대용량 GeoJSON({@link RawJson})은 {@link CompactGeoJson}으로 보관합니다.</p>
+ *
+ * <h3>형식</h3>
+ * <ul>
+ *   <li>헤더: 매직 바이트 + 버전 (다르면 캐시 미스로 처리하여 이전 형식 값은 자연 교체)</li>
+ *   <li>필드: 키(UTF) + 태그 + 값 (NULL / STRING / COMPACT / JSON / RAW)</li>
+ *   <li>복원 시 COMPACT 값은 {@link RawJson}으로 한 번만 풀어 두므로, 복원된 Map을 노드 메모리 캐시에 보관하면 이후 히트는 원문을 그대로 기록함</li>
+ * </ul>
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RegionCacheCodec {
+
+    private static final byte MAGIC = 'R';
+    private static final byte VERSION = 2;
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_STRING = 1;
+    private static final byte TAG_COMPACT = 2;
+    private static final byte TAG_JSON = 3;
+    private static final byte TAG_RAW = 4;
+
+    /** 이 길이 이상인 RawJson은 CompactGeoJson으로 보관 */
+    private static final int COMPACT_MIN_LENGTH = 256;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 조회 결과 인코딩
+     *
+     * @param row 조회 결과
+     * @return 이진 값
+     */
+    public byte[] encode(Map<String, Object> row) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(MAGIC);
+            out.writeByte(VERSION);
+            out.writeShort(row.size());
+
+            for (Map.Entry<String, Object> entry : row.entrySet()) {
+                out.writeUTF(entry.getKey());
+                writeValue(out, entry.getValue());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * 조회 결과 복원
+     *
+     * @param bytes 이진 값
+     * @return 조회 결과 (형식/버전이 다르거나 손상된 값이면 null)
+     */
+    public Map<String, Object> decode(byte[] bytes) {
+        if (bytes == null || bytes.length < 4 || bytes[0] != MAGIC || bytes[1] != VERSION) {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 2, bytes.length - 2))) {
+            int size = in.readUnsignedShort();
+            Map<String, Object> row = new LinkedHashMap<>(size * 2);
+            for (int i = 0; i < size; i++) {
+                String key = in.readUTF();
+                row.put(key, readValue(in));
+            }
+            return row;
+        } catch (IOException | RuntimeException e) {
+            log.warn("[REGION-CACHE] 캐시 항목 복원 실패 - 캐시 미스로 처리합니다. 오류: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // ==================== 내부 메서드 ====================
+
+    private void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(TAG_NULL);
+        } else if (value instanceof RawJson raw && raw.length() >= COMPACT_MIN_LENGTH) {
+            writeCompact(out, CompactGeoJson.of(raw.toString()));
+        } else if (value instanceof RawJson raw) {
+            out.writeByte(TAG_RAW);
+            out.writeUTF(raw.toString());
+        } else if (value instanceof String text && text.length() < COMPACT_MIN_LENGTH) {
+            out.writeByte(TAG_STRING);
+            out.writeUTF(text);
+        } else {
+            byte[] json = objectMapper.writeValueAsBytes(value);
+            out.writeByte(TAG_JSON);
+            out.writeInt(json.length);
+            out.write(json);
+        }
+    }
+
+    private static void writeCompact(DataOutputStream out, CompactGeoJson compact) throws IOException {
+        out.writeByte(TAG_COMPACT);
+        out.writeByte(compact.kind());
+        out.writeInt(compact.data().length);
+        out.write(compact.data());
+    }
+
+    private Object readValue(DataInputStream in) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case TAG_NULL:
+                return null;
+            case TAG_STRING:
+                return in.readUTF();
+            case TAG_COMPACT: {
+                byte kind = in.readByte();
+                byte[] data = new byte[in.readInt()];
+                in.readFully(data);
+                return RawJson.of(new CompactGeoJson(kind, data).toString());
+            }
+            case TAG_JSON: {
+                byte[] json = new byte[in.readInt()];
+                in.readFully(json);
+                return objectMapper.readValue(json, Object.class);
+            }
+            case TAG_RAW:
+                return RawJson.of(in.readUTF());
+            default:
+                throw new IOException("알 수 없는 태그: " + tag);
+        }
+    }
+}
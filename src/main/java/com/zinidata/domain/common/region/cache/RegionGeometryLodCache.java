@@ -0,0 +1,129 @@
+package com.zinidata.domain.common.region.cache;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.zinidata.domain.common.region.enums.GeometryLod;
+import com.zinidata.domain.common.region.enums.RegionLevel;
+import com.zinidata.domain.common.region.mapper.RegionMapper;
+import com.zinidata.domain.common.region.snapshot.RegionSnapshotParticipant;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 줌 레벨별 단순화 경계 캐시
+ *
+ * <p>행정동/시군구/광역시도 경계를 LOD 구간별로 한 번씩 단순화하여 메모리에 보관합니다.
+ * 저배율 지도의 코드 조회는 DB 조회 없이 이 캐시에서 응답합니다.</p>
+ *
+ * <h3>동작 방식</h3>
+ * <ul>
+ *   <li>(레벨, LOD) 조합을 처음 요청할 때 레이어 전체를 한 번의 쿼리로 생성</li>
+ *   <li>생성된 레이어는 읽기 전용 Map으로 보관 (코드 → 조회 결과)</li>
+ *   <li>블록은 원본 경계가 작아 단순화 효과가 없으므로 대상에서 제외</li>
+ *   <li>경계 데이터 버전 변경 시 생성되어 있던 레이어를 백그라운드에서 다시 만든 뒤 교체</li>
+ * </ul>
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RegionGeometryLodCache implements RegionSnapshotParticipant {
+
+    private final RegionMapper regionMapper;
+
+    /** (레벨, LOD) → 코드별 조회 결과 (경계 데이터 버전 변경 시 통째로 교체) */
+    private volatile Map<String, Map<String, Map<String, Object>>> layers = new ConcurrentHashMap<>();
+
+    @Override
+    public String snapshotName() {
+        return "단순화 경계 캐시";
+    }
+
+    /**
+     * 이미 생성된 (레벨, LOD) 레이어를 새 버전으로 다시 생성
+     *
+     * <p>요청된 적 없는 조합은 교체 후 첫 요청 시 생성합니다.</p>
+     *
+     * @param version 경계 데이터 버전
+     * @return 새 레이어로 교체하는 작업
+     */
+    @Override
+    public Runnable prepare(String version) {
+        Map<String, Map<String, Map<String, Object>>> rebuilt = new ConcurrentHashMap<>();
+        for (RegionLevel level : RegionLevel.values()) {
+            for (GeometryLod lod : GeometryLod.values()) {
+                String key = layerKey(level, lod);
+                if (layers.containsKey(key)) {
+                    rebuilt.put(key, load(level, lod));
+                }
+            }
+        }
+        return () -> this.layers = rebuilt;
+    }
+
+    /**
+     * 단순화 경계 적용 대상 여부
+     *
+     * @param level 행정구역 레벨
+     * @param lod 상세 수준
+     * @return 단순화 경계로 응답해야 하면 true
+     */
+    public boolean supports(RegionLevel level, GeometryLod lod) {
+        return level != RegionLevel.BLOCK && lod != GeometryLod.FULL;
+    }
+
+    /**
+     * 코드로 단순화 경계 포함 행정구역 조회
+     *
+     * @param level 행정구역 레벨 (행정동/시군구/광역시도)
+     * @param lod 상세 수준 (FULL 제외)
+     * @param code 행정구역 코드
+     * @return 코드 조회 결과와 동일한 키 구성 (feature 제외, 없으면 null)
+     */
+    public Map<String, Object> get(RegionLevel level, GeometryLod lod, String code) {
+        Map<String, Object> found = layers.computeIfAbsent(layerKey(level, lod), key -> load(level, lod)).get(code);
+        return found == null ? null : new LinkedHashMap<>(found);
+    }
+
+    /**
+     * 캐시 전체 삭제 (경계 데이터 갱신 시)
+     */
+    public void clear() {
+        layers.clear();
+        log.info("[REGION-LOD] 단순화 경계 캐시 삭제 완료");
+    }
+
+    private static String layerKey(RegionLevel level, GeometryLod lod) {
+        return level.getKey() + ":" + lod.name();
+    }
+
+    private Map<String, Map<String, Object>> load(RegionLevel level, GeometryLod lod) {
+        long startTime = System.currentTimeMillis();
+
+        List<Map<String, Object>> rows = switch (level) {
+            case ADMI -> regionMapper.selectSimplifiedAdmiFeatures(lod.getTolerance());
+            case CTY -> regionMapper.selectSimplifiedCtyFeatures(lod.getTolerance());
+            case MEGA -> regionMapper.selectSimplifiedMegaFeatures(lod.getTolerance());
+            default -> throw new IllegalArgumentException("단순화 경계를 지원하지 않는 레벨입니다: " + level);
+        };
+
+        Map<String, Map<String, Object>> byCode = new HashMap<>(rows.size() * 2);
+        for (Map<String, Object> row : rows) {
+            byCode.put(String.valueOf(row.get(level.getCodeKey())), Collections.unmodifiableMap(row));
+        }
+
+        log.info("[REGION-LOD] {} 단순화 경계 생성 완료 - LOD: {}, 허용오차: {}, 건수: {}, 소요시간: {}ms",
+                level.getDesc(), lod, lod.getTolerance(), byCode.size(), System.currentTimeMillis() - startTime);
+        return Collections.unmodifiableMap(byCode);
+    }
+}
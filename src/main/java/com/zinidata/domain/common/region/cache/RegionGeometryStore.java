@@ -0,0 +1,386 @@
+package com.zinidata.domain.common.region.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.zinidata.common.dto.RawJson;
+import com.zinidata.domain.common.dataversion.snapshot.SnapshotReloader;
+import com.zinidata.domain.common.region.enums.RegionLevel;
+import com.zinidata.domain.common.region.mapper.RegionMapper;
+import com.zinidata.domain.common.region.snapshot.RegionSnapshotManager;
+import com.zinidata.domain.common.region.snapshot.RegionSnapshotParticipant;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 행정구역 경계 파일 저장소 (GeoJSON, 메모리 매핑)
+ *
+ * <p>전체 레벨의 ST_AsGeoJSON 결과를 하나의 색인 파일로 내보내고, 파일을 mmap하여
+ * 코드별 GeoJSON 바이트를 힙 복사 없이 응답 스트림으로 전달합니다.
+ * 코드 조회 API도 {@link #selectByCode}로 geoJson을 이 파일에서 채워 요청마다 ST_AsGeoJSON을 실행하지 않습니다.</p>
+ *
+ * <h3>파일 구조</h3>
+ * <ul>
+ *   <li>헤더: 매직(8) + 색인 위치(long) + 데이터 버전</li>
+ *   <li>데이터: GeoJSON UTF-8 바이트 연속 저장</li>
+ *   <li>색인: 건수 + (레벨, 코드, 위치(long), 길이) 목록 → 적재 시 코드별 Map으로 구성</li>
+ * </ul>
+ *
+ * <p>한 번에 매핑할 수 있는 크기가 2GB 미만이므로 파일을 1GB 간격으로 겹쳐 매핑합니다.
+ * 각 매핑은 시작 위치부터 최대 2GB까지 덮으므로 1GB 미만인 항목은 항상 한 매핑 안에 들어가며,
+ * 이보다 큰 항목이 있으면 파일 생성을 중단합니다.</p>
+ *
+ * <h3>갱신</h3>
+ * <ul>
+ *   <li>경계 데이터 버전이 파일 버전과 다를 때만 재생성 ({@link RegionSnapshotManager}가 기동 시 + 버전 변경 시 호출)</li>
+ *   <li>임시 파일에 쓴 뒤 교체하고 새 파일을 매핑, 진행 중인 응답은 이전 매핑으로 완료</li>
+ *   <li>노드별 로컬 파일이므로 노드 간 공유 스토리지가 필요 없음</li>
+ * </ul>
+ *
+ * <h3>설정</h3>
+ * <pre>
+ * region:
+ *   geometry-store:
+ *     enabled: false                    # 기본값: false (사용 시 노드별 디스크에 경계 파일 생성)
+ *     path: /data/region-geometry.dat   # 기본값: ${java.io.tmpdir}/region-geometry.dat
+ * </pre>
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class RegionGeometryStore implements RegionSnapshotParticipant {
+
+    private static final byte[] MAGIC = "RGNGEO02".getBytes(StandardCharsets.US_ASCII);
+    private static final int INDEX_OFFSET_POSITION = MAGIC.length;
+
+    /** 매핑 시작 간격 (항목 최대 크기이기도 함) */
+    private static final long SEGMENT_SIZE = 1L << 30;
+
+    private final RegionMapper regionMapper;
+    private final Path file;
+    private final boolean enabled;
+
+    private volatile Snapshot snapshot;
+
+    public RegionGeometryStore(
+            RegionMapper regionMapper,
+            @Value("${region.geometry-store.path:${java.io.tmpdir}/region-geometry.dat}") String path,
+            @Value("${region.geometry-store.enabled:false}") boolean enabled) {
+        this.regionMapper = regionMapper;
+        this.file = Paths.get(path);
+        this.enabled = enabled;
+    }
+
+    @Override
+    public String snapshotName() {
+        return "경계 파일 저장소";
+    }
+
+    /**
+     * 새 버전 경계 파일 생성 및 매핑
+     *
+     * <p>현재 매핑과 버전이 같으면 그대로 두고, 기동 직후에는 기존 파일이 최신이면 재사용합니다.
+     * 버전 없이 적재하는 경우에는 항상 새로 만듭니다.</p>
+     *
+     * @param version 경계 데이터 버전
+     * @return 새 매핑으로 교체하는 작업
+     * @throws IOException 파일 생성 실패 시
+     */
+    @Override
+    public synchronized Runnable prepare(String version) throws IOException {
+        Snapshot current = snapshot;
+        boolean versioned = !SnapshotReloader.UNVERSIONED.equals(version);
+        if (!enabled || (versioned && current != null && current.version.equals(version))) {
+            return () -> { };
+        }
+
+        // 기동 직후에는 기존 파일이 최신이면 그대로 사용
+        if (versioned && current == null && Files.isRegularFile(file)) {
+            Snapshot existing = open(file);
+            if (existing != null && existing.version.equals(version)) {
+                log.info("[REGION-STORE] 경계 파일 매핑 완료 - 버전: {}, 건수: {}, 크기: {}KB",
+                        version, existing.size(), existing.fileSize / 1024);
+                return () -> snapshot = existing;
+            }
+        }
+
+        long startTime = System.currentTimeMillis();
+        export(version);
+        Snapshot loaded = open(file);
+        if (loaded == null) {
+            throw new IOException("생성한 경계 파일을 열 수 없습니다: " + file);
+        }
+        log.info("[REGION-STORE] 경계 파일 생성 완료 - 버전: {}, 건수: {}, 크기: {}KB, 소요시간: {}ms",
+                version, loaded.size(), loaded.fileSize / 1024, System.currentTimeMillis() - startTime);
+        return () -> snapshot = loaded;
+    }
+
+    /**
+     * 저장소 사용 가능 여부
+     */
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * 코드별 GeoJSON 조회
+     *
+     * @param level 행정구역 레벨
+     * @param code 행정구역 코드
+     * @return 읽기 전용 GeoJSON 바이트 (매핑 영역 슬라이스, 없으면 null)
+     */
+    public ByteBuffer get(RegionLevel level, String code) {
+        Snapshot current = snapshot;
+        if (current == null || code == null) {
+            return null;
+        }
+
+        Location location = current.index.get(level).get(code);
+        if (location == null) {
+            return null;
+        }
+        int segment = (int) (location.offset / SEGMENT_SIZE);
+        int offset = (int) (location.offset - segment * SEGMENT_SIZE);
+        return current.segments[segment].slice(offset, location.length);
+    }
+
+    /**
+     * 코드 조회 (geoJson은 저장소 우선)
+     *
+     * <p>저장소에 경계가 있으면 ST_AsGeoJSON 없이 속성만 조회하고 geoJson을 파일 값으로 채우며,
+     * 저장소가 꺼져 있거나 준비 전이거나 파일에 없는 코드는 기존과 같이 DB에서 geoJson까지 조회합니다.</p>
+     *
+     * @param level 행정구역 레벨
+     * @param code 행정구역 코드
+     * @return 코드 조회 결과 (없으면 null)
+     */
+    public Map<String, Object> selectByCode(RegionLevel level, String code) {
+        ByteBuffer geometry = get(level, code);
+        boolean withGeoJson = geometry == null;
+        Map<String, Object> row = switch (level) {
+            case BLOCK -> regionMapper.selectBlockByCode(code, withGeoJson);
+            case ADMI -> regionMapper.selectAdmiByCode(code, withGeoJson);
+            case CTY -> regionMapper.selectCtyByCode(code, withGeoJson);
+            case MEGA -> regionMapper.selectMegaByCode(code, withGeoJson);
+        };
+        if (row != null && !withGeoJson) {
+            row.put("geoJson", RawJson.of(StandardCharsets.UTF_8.decode(geometry).toString()));
+        }
+        return row;
+    }
+
+    // ==================== 파일 생성 ====================
+
+    private void export(String version) throws IOException {
+        Path dir = file.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        Path temp = Files.createTempFile(dir, "region-geometry", ".tmp");
+
+        List<IndexEntry> entries = new ArrayList<>();
+        long indexOffset;
+
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+                out.write(MAGIC);
+                out.writeLong(0L);
+                writeString(out, version);
+
+                // DataOutputStream.size()는 2GB에서 넘치므로 위치를 long으로 직접 계산
+                long[] written = {out.size()};
+                IOException[] failure = new IOException[1];
+                regionMapper.selectGeoJsonForStore(context -> {
+                    if (failure[0] != null) {
+                        return;
+                    }
+                    Map<String, Object> row = context.getResultObject();
+                    RegionLevel level = RegionLevel.fromKey((String) row.get("level"));
+                    Object geoJson = row.get("geoJson");
+                    if (level == null || geoJson == null) {
+                        return;
+                    }
+
+                    try {
+                        byte[] bytes = geoJson.toString().getBytes(StandardCharsets.UTF_8);
+                        String code = String.valueOf(row.get("code"));
+                        if (bytes.length >= SEGMENT_SIZE) {
+                            throw new IOException("경계 GeoJSON이 1GB 이상입니다: " + level.getKey() + " " + code);
+                        }
+                        entries.add(new IndexEntry(level, code, written[0], bytes.length));
+                        out.write(bytes);
+                        written[0] += bytes.length;
+                    } catch (IOException e) {
+                        failure[0] = e;
+                    }
+                });
+                if (failure[0] != null) {
+                    throw failure[0];
+                }
+
+                indexOffset = written[0];
+                out.writeInt(entries.size());
+                for (IndexEntry entry : entries) {
+                    out.writeByte(entry.level.ordinal());
+                    writeString(out, entry.code);
+                    out.writeLong(entry.offset);
+                    out.writeInt(entry.length);
+                }
+            }
+
+            try (RandomAccessFile raf = new RandomAccessFile(temp.toFile(), "rw")) {
+                raf.seek(INDEX_OFFSET_POSITION);
+                raf.writeLong(indexOffset);
+            }
+
+            // 기존 매핑은 교체 후에도 유효 (열린 파일은 삭제되어도 읽기 가능)
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    // ==================== 파일 적재 ====================
+
+    private static Snapshot open(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < MAGIC.length + Long.BYTES) {
+                return null;
+            }
+
+            DataInputStream header = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel.position(0))));
+            byte[] magic = new byte[MAGIC.length];
+            header.readFully(magic);
+            if (!Arrays.equals(magic, MAGIC)) {
+                return null;
+            }
+
+            long indexOffset = header.readLong();
+            if (indexOffset <= 0 || indexOffset >= size) {
+                return null;
+            }
+            String version = readString(header);
+
+            Map<RegionLevel, Map<String, Location>> index = new EnumMap<>(RegionLevel.class);
+            for (RegionLevel level : RegionLevel.values()) {
+                index.put(level, new HashMap<>());
+            }
+
+            DataInputStream in = new DataInputStream(new BufferedInputStream(
+                    Channels.newInputStream(channel.position(indexOffset)), 1 << 16));
+            int count = in.readInt();
+            RegionLevel[] levels = RegionLevel.values();
+            for (int i = 0; i < count; i++) {
+                RegionLevel level = levels[in.readByte()];
+                String code = readString(in);
+                long offset = in.readLong();
+                int length = in.readInt();
+                index.get(level).put(code, new Location(offset, length));
+            }
+
+            // 1GB 간격으로 시작해 최대 2GB까지 겹쳐 매핑 (1GB 미만 항목은 시작 위치가 속한 매핑 안에 들어감)
+            int segmentCount = (int) ((indexOffset + SEGMENT_SIZE - 1) / SEGMENT_SIZE);
+            MappedByteBuffer[] segments = new MappedByteBuffer[segmentCount];
+            for (int i = 0; i < segmentCount; i++) {
+                long start = i * SEGMENT_SIZE;
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(size - start, Integer.MAX_VALUE));
+            }
+
+            return new Snapshot(version, size, segments, index);
+        } catch (Exception e) {
+            log.warn("[REGION-STORE] 경계 파일 열기 실패 - 파일: {}, 오류: {}", path, e.getMessage());
+            return null;
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readUnsignedShort()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // ==================== 내부 클래스 ====================
+
+    private static final class IndexEntry {
+
+        private final RegionLevel level;
+        private final String code;
+        private final long offset;
+        private final int length;
+
+        private IndexEntry(RegionLevel level, String code, long offset, int length) {
+            this.level = level;
+            this.code = code;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+    /**
+     * 파일 내 GeoJSON 위치
+     */
+    private static final class Location {
+
+        private final long offset;
+        private final int length;
+
+        private Location(long offset, int length) {
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+    /**
+     * 매핑된 파일 스냅샷 (버전 + 매핑 구간 + 코드 색인)
+     */
+    private static final class Snapshot {
+
+        private final String version;
+        private final long fileSize;
+        private final MappedByteBuffer[] segments;
+        private final Map<RegionLevel, Map<String, Location>> index;
+
+        private Snapshot(String version, long fileSize, MappedByteBuffer[] segments,
+                Map<RegionLevel, Map<String, Location>> index) {
+            this.version = version;
+            this.fileSize = fileSize;
+            this.segments = segments;
+            this.index = index;
+        }
+
+        private int size() {
+            return index.values().stream().mapToInt(Map::size).sum();
+        }
+    }
+}
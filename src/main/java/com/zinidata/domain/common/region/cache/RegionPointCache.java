@@ -0,0 +1,276 @@
+package com.zinidata.domain.common.region.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.zinidata.domain.common.region.enums.RegionLevel;
+import com.zinidata.domain.common.region.mapper.RegionMapper;
+import com.zinidata.domain.common.region.snapshot.RegionSnapshotManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 좌표 조회 격자 캐시 (Geohash 셀 단위)
+ *
+ * <p>좌표 기반 조회 결과를 Geohash 셀 키로 보관하여 같은 지역의 반복 클릭이 DB까지 가지 않도록 합니다.
+ * 블록/행정동/시군구/광역시도 및 계층 조회가 같은 키 체계를 공유합니다.</p>
+ *
+ * <h3>키 구성</h3>
+ * <ul>
+ *   <li><strong>셀 키</strong> (Geohash 7자리, 약 150m): 셀 전체가 하나의 경계 안에 있거나, 어떤 경계와도 겹치지 않을 때 저장</li>
+ *   <li><strong>좌표 키</strong> (Geohash 9자리, 약 5m): 경계선이 지나는 셀의 좌표 결과 저장</li>
+ *   <li>조회는 두 키를 한 번의 MGET으로 확인 (셀 키 우선)</li>
+ *   <li><strong>셀 포함 관계 키</strong>: 셀의 경계 포함 관계를 레벨·셀 단위로 한 번만 계산해 보관하여
+ *       경계선이 지나는 셀의 좌표 미스마다 포함 관계 쿼리를 다시 실행하지 않음</li>
+ *   <li>값은 {@link RegionCacheCodec} 이진 형식으로 저장</li>
+ *   <li>키에 경계 데이터 버전 토큰을 포함하여 데이터 재적재 후에는 새 키로 조회</li>
+ * </ul>
+ *
+ * <h3>음성 캐시</h3>
+ * <ul>
+ *   <li>바다·국외 등 결과가 없는 좌표도 {@link #NO_RESULT}로 저장하여 PostGIS 재조회를 방지</li>
+ *   <li>경계 데이터 보정 가능성을 고려해 짧은 TTL 적용 (region.point-cache.negative-ttl-seconds)</li>
+ * </ul>
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class RegionPointCache {
+
+    /** 결과 없음 표시 값 (행정구역 코드와 겹치지 않음) */
+    public static final String NO_RESULT = "-";
+
+    private static final String KEY_PREFIX = "region:";
+    private static final int CELL_PRECISION = 7;
+    private static final int POINT_PRECISION = 9;
+    private static final byte[] NO_RESULT_BYTES = NO_RESULT.getBytes(StandardCharsets.UTF_8);
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final RegionMapper regionMapper;
+    private final RegionCacheCodec regionCacheCodec;
+    private final RegionSnapshotManager snapshotManager;
+    private final long positiveTtlHours;
+    private final long negativeTtlSeconds;
+
+    public RegionPointCache(
+            RedisTemplate<String, byte[]> redisTemplate,
+            RegionMapper regionMapper,
+            RegionCacheCodec regionCacheCodec,
+            RegionSnapshotManager snapshotManager,
+            @Value("${region.point-cache.ttl-hours:24}") long positiveTtlHours,
+            @Value("${region.point-cache.negative-ttl-seconds:600}") long negativeTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.regionMapper = regionMapper;
+        this.regionCacheCodec = regionCacheCodec;
+        this.snapshotManager = snapshotManager;
+        this.positiveTtlHours = positiveTtlHours;
+        this.negativeTtlSeconds = negativeTtlSeconds;
+    }
+
+    /**
+     * 좌표 캐시 조회
+     *
+     * @param namespace 조회 구분 (레벨 키 또는 hierarchy)
+     * @param lat 위도
+     * @param lng 경도
+     * @return 조회 결과 Map 또는 {@link #NO_RESULT} (캐시에 없으면 null)
+     */
+    public Object get(String namespace, double lat, double lng) {
+        String hash = encode(lat, lng, POINT_PRECISION);
+        String prefix = keyPrefix(snapshotManager.versionToken(), namespace);
+        List<byte[]> values = redisTemplate.opsForValue().multiGet(Arrays.asList(
+                cellKey(prefix, hash), pointKey(prefix, hash)));
+        if (values == null) {
+            return null;
+        }
+
+        byte[] bytes = values.get(0) != null ? values.get(0) : values.get(1);
+        if (bytes == null) {
+            return null;
+        }
+        return Arrays.equals(bytes, NO_RESULT_BYTES) ? NO_RESULT : regionCacheCodec.decode(bytes);
+    }
+
+    /**
+     * 결과 없음 여부
+     *
+     * @param cached {@link #get} 반환 값
+     * @return 결과 없음으로 캐시된 좌표이면 true
+     */
+    public boolean isNoResult(Object cached) {
+        return NO_RESULT.equals(cached);
+    }
+
+    /**
+     * 좌표 조회 결과 저장
+     *
+     * <p>셀 포함 관계를 확인하여 셀 키 또는 좌표 키에 저장합니다. 저장 실패는 조회 결과에 영향을 주지 않습니다.</p>
+     *
+     * @param namespace 조회 구분 (레벨 키 또는 hierarchy)
+     * @param coverLevel 셀 포함 관계를 판단할 레벨 (null이면 좌표 키에만 저장)
+     * @param lat 위도
+     * @param lng 경도
+     * @param value 조회 결과 (결과 없음이면 null)
+     */
+    public void put(String namespace, RegionLevel coverLevel, double lat, double lng, Map<String, Object> value) {
+        String hash = encode(lat, lng, POINT_PRECISION);
+        try {
+            String version = snapshotManager.versionToken();
+            String prefix = keyPrefix(version, namespace);
+            CellCover cover = coverLevel == null ? CellCover.PARTIAL : cover(version, coverLevel, hash.substring(0, CELL_PRECISION));
+
+            if (value == null) {
+                String key = cover == CellCover.EMPTY ? cellKey(prefix, hash) : pointKey(prefix, hash);
+                redisTemplate.opsForValue().set(key, NO_RESULT_BYTES, negativeTtlSeconds, TimeUnit.SECONDS);
+            } else {
+                String key = cover == CellCover.SINGLE ? cellKey(prefix, hash) : pointKey(prefix, hash);
+                redisTemplate.opsForValue().set(key, regionCacheCodec.encode(value), positiveTtlHours, TimeUnit.HOURS);
+            }
+        } catch (Exception e) {
+            log.warn("[REGION-CACHE] 좌표 캐시 저장 실패 - 구분: {}, 셀: {}, 오류: {}", namespace, hash, e.getMessage());
+        }
+    }
+
+    // ==================== 내부 메서드 ====================
+
+    private enum CellCover {
+        /** 겹치는 경계 없음 */
+        EMPTY,
+        /** 하나의 경계가 셀 전체를 덮음 */
+        SINGLE,
+        /** 경계선이 셀을 지남 */
+        PARTIAL
+    }
+
+    /**
+     * 셀 포함 관계 (보관된 값 우선, 없을 때만 DB 계산 후 보관)
+     */
+    private CellCover cover(String version, RegionLevel level, String cellHash) {
+        String key = KEY_PREFIX + version + ":cover:" + level.getKey() + ":" + cellHash;
+        byte[] cached = redisTemplate.opsForValue().get(key);
+        if (cached != null && cached.length == 1 && cached[0] < CellCover.values().length) {
+            return CellCover.values()[cached[0]];
+        }
+
+        CellCover cover = selectCover(level, cellHash);
+        redisTemplate.opsForValue().set(key, new byte[] {(byte) cover.ordinal()}, positiveTtlHours, TimeUnit.HOURS);
+        return cover;
+    }
+
+    private CellCover selectCover(RegionLevel level, String cellHash) {
+        double[] box = decode(cellHash);
+        Map<String, Object> row = regionMapper.selectCellCover(level.getKey(), box[2], box[0], box[3], box[1]);
+        long hitCount = row != null && row.get("hitCount") instanceof Number n ? n.longValue() : -1;
+
+        if (hitCount == 0) {
+            return CellCover.EMPTY;
+        }
+        if (hitCount == 1 && row.get("coveredCd") != null) {
+            return CellCover.SINGLE;
+        }
+        return CellCover.PARTIAL;
+    }
+
+    /**
+     * 버전별 키 접두사 (한 요청의 셀/좌표/포함 관계 키가 같은 버전을 보도록 호출 측에서 버전을 한 번만 조회)
+     */
+    private static String keyPrefix(String version, String namespace) {
+        return KEY_PREFIX + version + ":" + namespace;
+    }
+
+    private static String cellKey(String prefix, String hash) {
+        return prefix + ":cell:" + hash.substring(0, CELL_PRECISION);
+    }
+
+    private static String pointKey(String prefix, String hash) {
+        return prefix + ":pt:" + hash;
+    }
+
+    /**
+     * Geohash 인코딩
+     */
+    static String encode(double lat, double lng, int precision) {
+        double minLat = -90, maxLat = 90;
+        double minLng = -180, maxLng = 180;
+        char[] hash = new char[precision];
+        boolean even = true;
+        int bit = 0;
+        int ch = 0;
+        int length = 0;
+
+        while (length < precision) {
+            if (even) {
+                double mid = (minLng + maxLng) / 2;
+                if (lng >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLng = mid;
+                } else {
+                    ch <<= 1;
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (lat >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch <<= 1;
+                    maxLat = mid;
+                }
+            }
+            even = !even;
+
+            if (++bit == 5) {
+                hash[length++] = BASE32[ch];
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return new String(hash);
+    }
+
+    /**
+     * Geohash 셀 범위 디코딩
+     *
+     * @return [minLat, maxLat, minLng, maxLng]
+     */
+    static double[] decode(String hash) {
+        double minLat = -90, maxLat = 90;
+        double minLng = -180, maxLng = 180;
+        boolean even = true;
+
+        for (int i = 0; i < hash.length(); i++) {
+            int value = Arrays.binarySearch(BASE32, hash.charAt(i));
+            for (int mask = 16; mask > 0; mask >>= 1) {
+                boolean set = (value & mask) != 0;
+                if (even) {
+                    double mid = (minLng + maxLng) / 2;
+                    if (set) {
+                        minLng = mid;
+                    } else {
+                        maxLng = mid;
+                    }
+                } else {
+                    double mid = (minLat + maxLat) / 2;
+                    if (set) {
+                        minLat = mid;
+                    } else {
+                        maxLat = mid;
+                    }
+                }
+                even = !even;
+            }
+        }
+        return new double[] { minLat, maxLat, minLng, maxLng };
+    }
+}
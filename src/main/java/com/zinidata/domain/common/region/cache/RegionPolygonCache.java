@@ -0,0 +1,250 @@
+package com.zinidata.domain.common.region.cache;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.locationtech.jts.operation.overlayng.OverlayNG;
+import org.locationtech.jts.operation.overlayng.OverlayNGRobust;
+import org.locationtech.jts.operation.union.UnaryUnionOp;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zinidata.domain.common.region.enums.RegionLevel;
+import com.zinidata.domain.common.region.mapper.RegionMapper;
+import com.zinidata.domain.common.region.snapshot.RegionSnapshotManager;
+import com.zinidata.domain.common.region.vo.RegionPolygonVO;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 폴리곤 영역 조회 격자 캐시 (고정 격자 타일 분해)
+ *
+ * <p>폴리곤 입력을 레벨별 고정 격자 타일로 나누어, 폴리곤 안에 완전히 들어가는 타일은
+ * 타일별로 캐시된 교차 행정구역 목록으로 응답하고 경계선이 지나는 부분만 PostGIS로 정밀 조회합니다.
+ * 지도를 이동하거나 폴리곤을 조금 수정한 반복 조회는 대부분 캐시에서 처리됩니다.</p>
+ *
+ * <h3>동작 방식</h3>
+ * <ul>
+ *   <li><strong>내부 타일:</strong> 폴리곤이 타일 전체를 포함 → 타일과 교차하는 행정구역 = 폴리곤과 교차 (타일 캐시 사용)</li>
+ *   <li><strong>경계 부분:</strong> 폴리곤에서 내부 타일을 뺀 나머지 영역만 기존 ST_Intersects 쿼리로 조회</li>
+ *   <li>캐시 미스 타일은 한 번의 쿼리로 일괄 조회 후 저장 (교차 결과가 없는 타일도 빈 목록으로 저장)</li>
+ *   <li>키에 경계 데이터 버전 토큰 포함 ({@link RegionSnapshotManager})</li>
+ *   <li>격자 수가 상한을 넘는 큰 폴리곤이나 자기 교차 등 유효하지 않은 폴리곤은 null을 반환하여 호출 측이 전체 정밀 조회 수행</li>
+ * </ul>
+ *
+ * <h3>설정</h3>
+ * <pre>
+ * region:
+ *   polygon-cache:
+ *     enabled: true
+ *     ttl-hours: 24
+ *     max-tiles: 1024   # 폴리곤 외접 사각형 기준 최대 격자 수
+ * </pre>
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class RegionPolygonCache {
+
+    private static final String KEY_PREFIX = "region:";
+
+    /** 레벨별 격자 크기 (도 단위, 변경 시 키 체계가 달라지므로 버전 토큰과 함께 관리) */
+    private static final Map<RegionLevel, Double> TILE_SIZE = new EnumMap<>(Map.of(
+            RegionLevel.BLOCK, 0.005,
+            RegionLevel.ADMI, 0.02,
+            RegionLevel.CTY, 0.1,
+            RegionLevel.MEGA, 0.5));
+
+    private static final TypeReference<List<Map<String, Object>>> ROWS_TYPE = new TypeReference<>() { };
+
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final RegionMapper regionMapper;
+    private final RegionSnapshotManager snapshotManager;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final long ttlHours;
+    private final int maxTiles;
+
+    public RegionPolygonCache(
+            RedisTemplate<String, byte[]> redisTemplate,
+            RegionMapper regionMapper,
+            RegionSnapshotManager snapshotManager,
+            ObjectMapper objectMapper,
+            @Value("${region.polygon-cache.enabled:true}") boolean enabled,
+            @Value("${region.polygon-cache.ttl-hours:24}") long ttlHours,
+            @Value("${region.polygon-cache.max-tiles:1024}") int maxTiles) {
+        this.redisTemplate = redisTemplate;
+        this.regionMapper = regionMapper;
+        this.snapshotManager = snapshotManager;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.ttlHours = ttlHours;
+        this.maxTiles = maxTiles;
+    }
+
+    /**
+     * 폴리곤 영역 조회
+     *
+     * @param level 행정구역 레벨
+     * @param polygon 조회 폴리곤 (SRID 4326 좌표)
+     * @param exactQuery 정밀 조회 함수 (경계 부분 폴리곤 → selectXxxByPolygon 결과)
+     * @return 교차 행정구역 목록 (코드 순, 캐시를 사용할 수 없으면 null)
+     */
+    public List<Map<String, Object>> query(RegionLevel level, Geometry polygon,
+            Function<RegionPolygonVO, List<Map<String, Object>>> exactQuery) {
+        if (!enabled || polygon.isEmpty() || !polygon.isValid()) {
+            return null;
+        }
+
+        double size = TILE_SIZE.get(level);
+        Envelope bounds = polygon.getEnvelopeInternal();
+        long minIx = (long) Math.floor(bounds.getMinX() / size);
+        long maxIx = (long) Math.floor(bounds.getMaxX() / size);
+        long minIy = (long) Math.floor(bounds.getMinY() / size);
+        long maxIy = (long) Math.floor(bounds.getMaxY() / size);
+        if ((maxIx - minIx + 1) * (maxIy - minIy + 1) > maxTiles) {
+            return null;
+        }
+
+        // 폴리곤이 완전히 포함하는 내부 타일 분류
+        GeometryFactory factory = polygon.getFactory();
+        PreparedGeometry prepared = PreparedGeometryFactory.prepare(polygon);
+        List<Tile> interior = new ArrayList<>();
+        for (long ix = minIx; ix <= maxIx; ix++) {
+            for (long iy = minIy; iy <= maxIy; iy++) {
+                Tile tile = new Tile(ix, iy, size);
+                if (prepared.contains(factory.toGeometry(tile.envelope))) {
+                    interior.add(tile);
+                }
+            }
+        }
+
+        String prefix = KEY_PREFIX + snapshotManager.versionToken() + ":ptile:" + level.getKey() + ":";
+        Map<String, Map<String, Object>> merged = new TreeMap<>();
+        int hits = loadInteriorTiles(level, prefix, interior, merged);
+
+        // 내부 타일을 제외한 경계 부분만 정밀 조회
+        Geometry residual = polygon;
+        if (!interior.isEmpty()) {
+            List<Geometry> cells = new ArrayList<>(interior.size());
+            interior.forEach(tile -> cells.add(factory.toGeometry(tile.envelope)));
+            residual = OverlayNGRobust.overlay(polygon, UnaryUnionOp.union(cells), OverlayNG.DIFFERENCE);
+        }
+        if (!residual.isEmpty()) {
+            for (Map<String, Object> row : exactQuery.apply(RegionPolygonVO.of(residual))) {
+                merged.putIfAbsent(String.valueOf(row.get(level.getCodeKey())), row);
+            }
+        }
+
+        log.debug("[REGION-CACHE] 폴리곤 격자 조회 - 레벨: {}, 내부 타일: {} (캐시 히트 {}), 결과: {}건",
+                level.getKey(), interior.size(), hits, merged.size());
+        return new ArrayList<>(merged.values());
+    }
+
+    // ==================== 내부 메서드 ====================
+
+    /**
+     * 내부 타일 결과 병합 (캐시 → 미스 타일 일괄 조회 후 저장)
+     *
+     * @return 캐시 히트 타일 수
+     */
+    private int loadInteriorTiles(RegionLevel level, String prefix, List<Tile> tiles,
+            Map<String, Map<String, Object>> merged) {
+        if (tiles.isEmpty()) {
+            return 0;
+        }
+
+        List<String> keys = new ArrayList<>(tiles.size());
+        tiles.forEach(tile -> keys.add(prefix + tile.id()));
+        List<byte[]> values = redisTemplate.opsForValue().multiGet(keys);
+
+        List<Map<String, Object>> missing = new ArrayList<>();
+        int hits = 0;
+        for (int i = 0; i < tiles.size(); i++) {
+            List<Map<String, Object>> rows = values == null ? null : decode(values.get(i));
+            if (rows == null) {
+                missing.add(tiles.get(i).toParam());
+                continue;
+            }
+            hits++;
+            rows.forEach(row -> merged.putIfAbsent(String.valueOf(row.get(level.getCodeKey())), row));
+        }
+
+        if (!missing.isEmpty()) {
+            Map<String, List<Map<String, Object>>> byTile = new LinkedHashMap<>();
+            missing.forEach(cell -> byTile.put((String) cell.get("key"), new ArrayList<>()));
+            for (Map<String, Object> row : regionMapper.selectRegionsByCells(level.getKey(), missing)) {
+                String tileId = (String) row.remove("cellKey");
+                byTile.get(tileId).add(row);
+                merged.putIfAbsent(String.valueOf(row.get(level.getCodeKey())), row);
+            }
+            byTile.forEach((tileId, rows) -> store(prefix + tileId, rows));
+        }
+        return hits;
+    }
+
+    private List<Map<String, Object>> decode(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(bytes, ROWS_TYPE);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private void store(String key, List<Map<String, Object>> rows) {
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsBytes(rows), ttlHours, TimeUnit.HOURS);
+        } catch (Exception e) {
+            log.warn("[REGION-CACHE] 폴리곤 격자 캐시 저장 실패 - 키: {}, 오류: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 고정 격자 타일 (ix, iy = floor(좌표 / 격자 크기))
+     */
+    private static final class Tile {
+
+        private final long ix;
+        private final long iy;
+        private final Envelope envelope;
+
+        private Tile(long ix, long iy, double size) {
+            this.ix = ix;
+            this.iy = iy;
+            this.envelope = new Envelope(ix * size, (ix + 1) * size, iy * size, (iy + 1) * size);
+        }
+
+        String id() {
+            return ix + ":" + iy;
+        }
+
+        Map<String, Object> toParam() {
+            Map<String, Object> param = new LinkedHashMap<>();
+            param.put("key", id());
+            param.put("minX", envelope.getMinX());
+            param.put("minY", envelope.getMinY());
+            param.put("maxX", envelope.getMaxX());
+            param.put("maxY", envelope.getMaxY());
+            return param;
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.zinidata.domain.common.region.cache;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 벡터 타일 2단 캐시 (메모리 + 디스크)
+ *
+ * <p>PostGIS에서 생성한 MVT 바이트를 그대로 보관하여 반복 요청 시 DB를 거치지 않고 응답합니다.</p>
+ *
+ * <h3>캐시 구조</h3>
+ * <ul>
+ *   <li><strong>메모리:</strong> 접근 순서 기반 LRU, 전체 바이트 수 상한 초과 시 오래된 타일부터 제거</li>
+ *   <li><strong>디스크:</strong> {version}/{layer}/{z}/{x}/{y}.mvt 파일, 주기적으로 용량 상한 초과분을 오래된 순으로 삭제</li>
+ *   <li>키에 경계 데이터 버전이 포함되므로 이전 버전 타일은 조회되지 않고 LRU/용량 정리로 먼저 제거됨</li>
+ *   <li>빈 타일(0 byte)도 캐시하여 데이터가 없는 영역의 반복 쿼리를 방지</li>
+ * </ul>
+ *
+ * <h3>설정</h3>
+ * <pre>
+ * region:
+ *   tile:
+ *     cache:
+ *       dir: /data/region-tiles   # 기본값: ${java.io.tmpdir}/region-tiles
+ *       memory-max-mb: 64
+ *       disk-max-mb: 1024
+ * </pre>
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class RegionTileCache {
+
+    private static final long MB = 1024L * 1024L;
+
+    /** 메모리 사용량 계산 시 타일당 추가 비용 (키/엔트리 객체, 빈 타일 포함) */
+    private static final long ENTRY_OVERHEAD = 128;
+
+    private final Path cacheDir;
+    private final long memoryMaxBytes;
+    private final long diskMaxBytes;
+
+    /** 메모리 LRU (접근 순서) */
+    private final LinkedHashMap<String, byte[]> memory = new LinkedHashMap<>(1024, 0.75f, true);
+    private long memoryBytes = 0;
+
+    public RegionTileCache(
+            @Value("${region.tile.cache.dir:${java.io.tmpdir}/region-tiles}") String cacheDir,
+            @Value("${region.tile.cache.memory-max-mb:64}") long memoryMaxMb,
+            @Value("${region.tile.cache.disk-max-mb:1024}") long diskMaxMb) {
+        this.cacheDir = Paths.get(cacheDir);
+        this.memoryMaxBytes = memoryMaxMb * MB;
+        this.diskMaxBytes = diskMaxMb * MB;
+    }
+
+    /**
+     * 타일 조회 (메모리 → 디스크 순)
+     *
+     * @param key 타일 키 ({version}/{layer}/{z}/{x}/{y})
+     * @return MVT 바이트 (캐시에 없으면 null)
+     */
+    public byte[] get(String key) {
+        synchronized (memory) {
+            byte[] tile = memory.get(key);
+            if (tile != null) {
+                return tile;
+            }
+        }
+
+        Path file = resolve(key);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+
+        try {
+            byte[] tile = Files.readAllBytes(file);
+            // 디스크 LRU 근사: 읽을 때마다 수정 시각 갱신
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            putMemory(key, tile);
+            return tile;
+        } catch (IOException e) {
+            log.warn("[REGION-TILE] 디스크 타일 읽기 실패 - 키: {}, 오류: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 타일 저장 (메모리 + 디스크)
+     *
+     * @param key 타일 키 ({version}/{layer}/{z}/{x}/{y})
+     * @param tile MVT 바이트
+     */
+    public void put(String key, byte[] tile) {
+        putMemory(key, tile);
+
+        Path file = resolve(key);
+        try {
+            Files.createDirectories(file.getParent());
+            // 다른 스레드가 쓰다 만 파일을 읽지 않도록 임시 파일에 쓴 뒤 교체
+            Path temp = Files.createTempFile(file.getParent(), "tile", ".tmp");
+            Files.write(temp, tile);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("[REGION-TILE] 디스크 타일 저장 실패 - 키: {}, 오류: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 캐시 전체 삭제 (경계 데이터 갱신 시)
+     */
+    public void clear() {
+        synchronized (memory) {
+            memory.clear();
+            memoryBytes = 0;
+        }
+
+        if (Files.isDirectory(cacheDir)) {
+            try (Stream<Path> paths = Files.walk(cacheDir)) {
+                paths.sorted(Comparator.reverseOrder())
+                        .filter(path -> !path.equals(cacheDir))
+                        .forEach(path -> path.toFile().delete());
+            } catch (IOException e) {
+                log.warn("[REGION-TILE] 디스크 타일 캐시 삭제 실패 - 오류: {}", e.getMessage());
+            }
+        }
+        log.info("[REGION-TILE] 타일 캐시 삭제 완료");
+    }
+
+    /**
+     * 디스크 캐시 용량 정리 (10분 주기)
+     *
+     * <p>용량 상한을 넘으면 수정 시각이 오래된 파일부터 삭제합니다.</p>
+     */
+    @Scheduled(fixedDelay = 600_000, initialDelay = 600_000)
+    public void evictDisk() {
+        if (!Files.isDirectory(cacheDir)) {
+            return;
+        }
+
+        List<Path> files = new ArrayList<>();
+        List<FileTime> times = new ArrayList<>();
+        long totalBytes = 0;
+
+        try (Stream<Path> paths = Files.walk(cacheDir)) {
+            for (Iterator<Path> it = paths.iterator(); it.hasNext();) {
+                Path path = it.next();
+                BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+                if (attrs.isRegularFile()) {
+                    files.add(path);
+                    times.add(attrs.lastModifiedTime());
+                    totalBytes += attrs.size();
+                }
+            }
+        } catch (IOException e) {
+            log.warn("[REGION-TILE] 디스크 타일 캐시 조회 실패 - 오류: {}", e.getMessage());
+            return;
+        }
+
+        if (totalBytes <= diskMaxBytes) {
+            return;
+        }
+
+        Integer[] order = new Integer[files.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparing(times::get));
+
+        long before = totalBytes;
+        int deleted = 0;
+        for (Integer i : order) {
+            if (totalBytes <= diskMaxBytes) {
+                break;
+            }
+            try {
+                long size = Files.size(files.get(i));
+                Files.deleteIfExists(files.get(i));
+                totalBytes -= size;
+                deleted++;
+            } catch (IOException e) {
+                log.debug("[REGION-TILE] 디스크 타일 삭제 실패 - 파일: {}", files.get(i));
+            }
+        }
+
+        log.info("[REGION-TILE] 디스크 타일 캐시 정리 완료 - 삭제: {}건, 용량: {}MB → {}MB",
+                deleted, before / MB, totalBytes / MB);
+    }
+
+    // ==================== 내부 메서드 ====================
+
+    private void putMemory(String key, byte[] tile) {
+        synchronized (memory) {
+            byte[] previous = memory.put(key, tile);
+            memoryBytes += tile.length + ENTRY_OVERHEAD;
+            if (previous != null) {
+                memoryBytes -= previous.length + ENTRY_OVERHEAD;
+            }
+
+            Iterator<Map.Entry<String, byte[]>> it = memory.entrySet().iterator();
+            while (memoryBytes > memoryMaxBytes && it.hasNext()) {
+                Map.Entry<String, byte[]> eldest = it.next();
+                memoryBytes -= eldest.getValue().length + ENTRY_OVERHEAD;
+                it.remove();
+            }
+        }
+    }
+
+    private Path resolve(String key) {
+        return cacheDir.resolve(key + ".mvt");
+    }
+}
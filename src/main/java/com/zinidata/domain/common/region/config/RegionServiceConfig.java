@@ -0,0 +1,36 @@
+package com.zinidata.domain.common.region.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.zinidata.domain.common.region.cache.RegionGeometryLodCache;
+import com.zinidata.domain.common.region.cache.RegionGeometryStore;
+import com.zinidata.domain.common.region.index.AdmiAdjacencyGraph;
+import com.zinidata.domain.common.region.index.BlockCentroidIndex;
+import com.zinidata.domain.common.region.mapper.RegionMapper;
+import com.zinidata.domain.common.region.service.impl.RegionServiceImpl;
+
+/**
+ * 지역 정보 서비스 설정
+ *
+ * <p>인메모리 구현체(region.datasource: memory)가 위임할 데이터베이스 구현체를 별도 빈으로 등록합니다.
+ * 이 빈은 기본 주입 대상이 아니므로 {@code RegionService} 주입은 활성 구현체 하나로만 해석되고,
+ * 위임 대상은 {@link #DATABASE_SERVICE} 한정자로만 주입됩니다.</p>
+ */
+@Configuration
+public class RegionServiceConfig {
+
+    /** 위임용 데이터베이스 구현체 빈 이름 */
+    public static final String DATABASE_SERVICE = "regionDatabaseService";
+
+    /**
+     * 위임용 데이터베이스 구현체 빈
+     */
+    @Bean(name = DATABASE_SERVICE, defaultCandidate = false)
+    @ConditionalOnProperty(name = "region.datasource", havingValue = "memory")
+    public RegionServiceImpl regionDatabaseService(RegionMapper regionMapper, RegionGeometryLodCache geometryLodCache,
+            RegionGeometryStore geometryStore, AdmiAdjacencyGraph adjacencyGraph, BlockCentroidIndex blockCentroidIndex) {
+        return new RegionServiceImpl(regionMapper, geometryLodCache, geometryStore, adjacencyGraph, blockCentroidIndex);
+    }
+}
@@ -0,0 +1,50 @@
+package com.zinidata.domain.common.region.enums;
+
+import lombok.Getter;
+
+/**
+ * 경계 Geometry 상세 수준 (LOD)
+ *
+ * <p>지도 줌 레벨을 단순화 허용 오차(도 단위) 구간으로 변환합니다.
+ * 각 구간의 허용 오차는 구간 최대 줌에서 약 0.5픽셀 크기(256px 타일 기준)입니다.</p>
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Getter
+public enum GeometryLod {
+
+    LOW(7, 0.005),
+    MEDIUM(10, 0.0007),
+    HIGH(13, 0.00008),
+    FULL(Integer.MAX_VALUE, 0);
+
+    /** 해당 구간이 적용되는 최대 줌 레벨 */
+    private final int maxZoom;
+
+    /** ST_SimplifyPreserveTopology 허용 오차 (도) */
+    private final double tolerance;
+
+    GeometryLod(int maxZoom, double tolerance) {
+        this.maxZoom = maxZoom;
+        this.tolerance = tolerance;
+    }
+
+    /**
+     * 줌 레벨에 해당하는 LOD 조회
+     *
+     * @param zoom 지도 줌 레벨 (null이면 원본)
+     * @return LOD 구간
+     */
+    public static GeometryLod fromZoom(Integer zoom) {
+        if (zoom == null) {
+            return FULL;
+        }
+        for (GeometryLod lod : values()) {
+            if (zoom <= lod.maxZoom) {
+                return lod;
+            }
+        }
+        return FULL;
+    }
+}
@@ -0,0 +1,50 @@
+package com.zinidata.domain.common.region.enums;
+
+import lombok.Getter;
+
+/**
+ * 행정구역 레벨
+ *
+ * <p>블록 → 행정동 → 시군구 → 광역시도 순으로 상위 행정구역을 포함합니다.</p>
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Getter
+public enum RegionLevel {
+
+    BLOCK("block", "blkCd", "블록"),
+    ADMI("admi", "admiCd", "행정동"),
+    CTY("cty", "ctyCd", "시군구"),
+    MEGA("mega", "megaCd", "광역시도");
+
+    /** API 경로 및 캐시 키에 사용하는 이름 */
+    private final String key;
+
+    /** 조회 결과 Map에서 코드 값을 담는 키 */
+    private final String codeKey;
+
+    /** 로그용 한글명 */
+    private final String desc;
+
+    RegionLevel(String key, String codeKey, String desc) {
+        this.key = key;
+        this.codeKey = codeKey;
+        this.desc = desc;
+    }
+
+    /**
+     * 키 이름으로 레벨 조회
+     *
+     * @param key 레벨 키 (block, admi, cty, mega)
+     * @return 행정구역 레벨 (없으면 null)
+     */
+    public static RegionLevel fromKey(String key) {
+        for (RegionLevel level : values()) {
+            if (level.key.equalsIgnoreCase(key)) {
+                return level;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,301 @@
+package com.zinidata.domain.common.region.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.zinidata.domain.common.region.mapper.RegionMapper;
+import com.zinidata.domain.common.region.snapshot.RegionSnapshotManager;
+import com.zinidata.domain.common.region.snapshot.RegionSnapshotParticipant;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 행정동 인접 그래프 (불변, CSR 배열)
+ *
+ * <p>TB_ADMI_TOUCH의 인접 관계를 기동 시 한 번 읽어 압축 배열(offsets/targets)로 보관하고,
+ * 인접 행정동 및 k-단계 이웃 조회를 DB 조회 없이 O(차수)로 처리합니다.</p>
+ *
+ * <h3>구조</h3>
+ * <ul>
+ *   <li>노드: 행정동 코드 정렬 순 인덱스 (코드/명칭/시군구/중심좌표 병렬 배열)</li>
+ *   <li>간선: offsets[i] ~ offsets[i+1] 구간의 targets 값이 노드 i의 인접 노드</li>
+ *   <li>간선 방향은 TB_ADMI_TOUCH(STD_ADMI_CD → TCH_ADMI_CD) 그대로 사용 (확장 분석과 동일 기준)</li>
+ * </ul>
+ *
+ * <p>기동 시와 경계 데이터 버전 변경 시 {@link RegionSnapshotManager}가 백그라운드에서 새로 만들어 교체합니다.
+ * 적재 전에는 {@link #isReady()}가 false이며 호출 측은 DB 조회로 대체합니다 (요청 스레드에서 적재하지 않음).</p>
+ *
+ * <p>k-단계 탐색은 방문한 노드만 기록하므로(희소 방문 집합) 조회 비용이 전체 노드 수가 아닌 이웃 수에 비례합니다.</p>
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdmiAdjacencyGraph implements RegionSnapshotParticipant {
+
+    private final RegionMapper regionMapper;
+
+    private volatile Graph graph;
+
+    @Override
+    public String snapshotName() {
+        return "행정동 인접 그래프";
+    }
+
+    /**
+     * 새 그래프 생성 (조회 중인 기존 그래프에는 영향 없음)
+     */
+    @Override
+    public Runnable prepare(String version) {
+        long startTime = System.currentTimeMillis();
+        Graph loaded = build(regionMapper.selectAdmiGraphNodes(), regionMapper.selectAdmiTouchEdges());
+        log.info("[REGION-GRAPH] 행정동 인접 그래프 생성 완료 - 노드: {}, 간선: {}, 소요시간: {}ms",
+                loaded.codes.length, loaded.targets.length, System.currentTimeMillis() - startTime);
+        return () -> this.graph = loaded;
+    }
+
+    /**
+     * 그래프 적재 여부
+     *
+     * @return 적재 완료 시 true
+     */
+    public boolean isReady() {
+        return graph != null;
+    }
+
+    /**
+     * 그래프 포함 여부
+     *
+     * @param admiCd 행정동 코드
+     * @return 노드로 존재하면 true
+     */
+    public boolean contains(String admiCd) {
+        return graph().indexOf(admiCd) >= 0;
+    }
+
+    /**
+     * k-단계 이웃 행정동 코드 조회
+     *
+     * @param admiCd 기준 행정동 코드
+     * @param hops 확장 단계 (1 = 직접 인접)
+     * @return 기준 행정동을 포함한 코드 목록 (단계 순, 같은 단계는 코드 순 / 기준 행정동이 없으면 빈 목록)
+     */
+    public List<String> neighborCodes(String admiCd, int hops) {
+        Graph g = graph();
+        int[] nodes = g.expand(admiCd, hops, new HashMap<>());
+        List<String> codes = new ArrayList<>(nodes.length);
+        for (int node : nodes) {
+            codes.add(g.codes[node]);
+        }
+        return codes;
+    }
+
+    /**
+     * k-단계 이웃 행정동 정보 조회
+     *
+     * @param admiCd 기준 행정동 코드
+     * @param hops 확장 단계 (1 = 직접 인접)
+     * @return 행정동 정보 목록 (admiCd, admiNm, ctyCd, centerX, centerY, isBase, hop / 기준 행정동이 없으면 빈 목록)
+     */
+    public List<Map<String, Object>> neighborhood(String admiCd, int hops) {
+        Graph g = graph();
+        Map<Integer, Integer> hopOf = new HashMap<>();
+        int[] nodes = g.expand(admiCd, hops, hopOf);
+
+        List<Map<String, Object>> result = new ArrayList<>(nodes.length);
+        for (int node : nodes) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("admiCd", g.codes[node]);
+            item.put("admiNm", g.names[node]);
+            item.put("ctyCd", g.ctyCds[node]);
+            item.put("centerX", Double.isNaN(g.centerX[node]) ? null : g.centerX[node]);
+            item.put("centerY", Double.isNaN(g.centerY[node]) ? null : g.centerY[node]);
+            int hop = hopOf.get(node);
+            item.put("isBase", hop == 0);
+            item.put("hop", hop);
+            result.add(item);
+        }
+        return result;
+    }
+
+    // ==================== 내부 메서드 ====================
+
+    private Graph graph() {
+        Graph g = graph;
+        if (g == null) {
+            throw new IllegalStateException("행정동 인접 그래프가 아직 적재되지 않았습니다.");
+        }
+        return g;
+    }
+
+    private static Graph build(List<Map<String, Object>> nodeRows, List<Map<String, Object>> edgeRows) {
+        int n = nodeRows.size();
+        String[] codes = new String[n];
+        String[] names = new String[n];
+        String[] ctyCds = new String[n];
+        double[] centerX = new double[n];
+        double[] centerY = new double[n];
+        Map<String, Integer> index = new HashMap<>(n * 2);
+
+        for (int i = 0; i < n; i++) {
+            Map<String, Object> row = nodeRows.get(i);
+            codes[i] = (String) row.get("admiCd");
+            names[i] = (String) row.get("admiNm");
+            ctyCds[i] = (String) row.get("ctyCd");
+            centerX[i] = toDouble(row.get("centerX"));
+            centerY[i] = toDouble(row.get("centerY"));
+            index.put(codes[i], i);
+        }
+
+        // 1) 노드별 차수 집계
+        int[] from = new int[edgeRows.size()];
+        int[] to = new int[edgeRows.size()];
+        int edgeCount = 0;
+        int skipped = 0;
+        for (Map<String, Object> row : edgeRows) {
+            Integer s = index.get((String) row.get("stdAdmiCd"));
+            Integer t = index.get((String) row.get("tchAdmiCd"));
+            if (s == null || t == null) {
+                skipped++;
+                continue;
+            }
+            from[edgeCount] = s;
+            to[edgeCount] = t;
+            edgeCount++;
+        }
+        if (skipped > 0) {
+            log.warn("[REGION-GRAPH] 경계 데이터에 없는 행정동이 포함된 인접 관계 제외 - {}건", skipped);
+        }
+
+        int[] offsets = new int[n + 1];
+        for (int e = 0; e < edgeCount; e++) {
+            offsets[from[e] + 1]++;
+        }
+        for (int i = 0; i < n; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+
+        // 2) 간선 배치
+        int[] targets = new int[edgeCount];
+        int[] cursor = Arrays.copyOf(offsets, n);
+        for (int e = 0; e < edgeCount; e++) {
+            targets[cursor[from[e]]++] = to[e];
+        }
+
+        // 3) 노드별 정렬 및 중복 제거 후 압축
+        int write = 0;
+        int[] compactOffsets = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            int start = offsets[i];
+            int end = offsets[i + 1];
+            Arrays.sort(targets, start, end);
+            compactOffsets[i] = write;
+            for (int k = start; k < end; k++) {
+                if (k == start || targets[k] != targets[k - 1]) {
+                    targets[write++] = targets[k];
+                }
+            }
+        }
+        compactOffsets[n] = write;
+
+        return new Graph(codes, names, ctyCds, centerX, centerY, Collections.unmodifiableMap(index),
+                compactOffsets, Arrays.copyOf(targets, write));
+    }
+
+    private static double toDouble(Object value) {
+        return value instanceof Number number ? number.doubleValue() : Double.NaN;
+    }
+
+    /**
+     * 불변 그래프 스냅샷
+     */
+    private static final class Graph {
+
+        private final String[] codes;
+        private final String[] names;
+        private final String[] ctyCds;
+        private final double[] centerX;
+        private final double[] centerY;
+        private final Map<String, Integer> index;
+        private final int[] offsets;
+        private final int[] targets;
+
+        private Graph(String[] codes, String[] names, String[] ctyCds, double[] centerX, double[] centerY,
+                Map<String, Integer> index, int[] offsets, int[] targets) {
+            this.codes = codes;
+            this.names = names;
+            this.ctyCds = ctyCds;
+            this.centerX = centerX;
+            this.centerY = centerY;
+            this.index = index;
+            this.offsets = offsets;
+            this.targets = targets;
+        }
+
+        int indexOf(String code) {
+            Integer i = code == null ? null : index.get(code);
+            return i == null ? -1 : i;
+        }
+
+        /**
+         * 너비 우선 탐색으로 k-단계 이웃 노드 수집
+         *
+         * @param hopOf 방문 노드별 단계 기록 (방문한 노드만 담기는 희소 집합)
+         * @return 기준 노드 포함 노드 인덱스 (단계 순, 같은 단계는 코드 순)
+         */
+        int[] expand(String code, int hops, Map<Integer, Integer> hopOf) {
+            int start = indexOf(code);
+            if (start < 0) {
+                return new int[0];
+            }
+
+            // 큐는 방문 노드 수만큼만 늘림 (전체 노드 수 배열을 매 조회마다 만들지 않음)
+            int[] queue = new int[16];
+            int head = 0;
+            int tail = 0;
+
+            hopOf.put(start, 0);
+            queue[tail++] = start;
+            while (head < tail) {
+                int node = queue[head++];
+                int hop = hopOf.get(node);
+                if (hop >= hops) {
+                    continue;
+                }
+                for (int k = offsets[node]; k < offsets[node + 1]; k++) {
+                    int next = targets[k];
+                    if (hopOf.putIfAbsent(next, hop + 1) == null) {
+                        if (tail == queue.length) {
+                            queue = Arrays.copyOf(queue, tail * 2);
+                        }
+                        queue[tail++] = next;
+                    }
+                }
+            }
+
+            // 같은 단계 안에서는 코드 순 (노드 인덱스가 코드 정렬 순)
+            int[] result = Arrays.copyOf(queue, tail);
+            int from = 1;
+            while (from < tail) {
+                int to = from;
+                int level = hopOf.get(result[from]);
+                while (to < tail && hopOf.get(result[to]) == level) {
+                    to++;
+                }
+                Arrays.sort(result, from, to);
+                from = to;
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,374 @@
+package com.zinidata.domain.common.region.index;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import org.springframework.stereotype.Component;
+
+import com.zinidata.domain.common.region.mapper.RegionMapper;
+import com.zinidata.domain.common.region.snapshot.RegionSnapshotManager;
+import com.zinidata.domain.common.region.snapshot.RegionSnapshotParticipant;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 블록 중심점 KD-tree 인덱스 (불변, 배열 기반)
+ *
+ * <p>tbshp_block_v3_features의 중심점(centerx, centery)을 기동 시 한 번 읽어 2차원 KD-tree로 구성하고,
+ * 반경 조회와 최근접 k개 조회를 DB 없이 처리합니다.</p>
+ *
+ * <h3>구조</h3>
+ * <ul>
+ *   <li>트리는 경위도(도) 그대로 분할하고, 별도 노드 객체 없이 정렬된 인덱스 배열로 표현 (구간 중앙 = 분할 노드)</li>
+ *   <li>가지치기는 조회마다 탐색 범위 안에서 가장 짧은 경도 1도 길이로 미터 환산 (실제 거리의 하한이므로 반경 경계 블록을 놓치지 않음)</li>
+ *   <li>반경 판정과 최근접 순위, 반환 거리는 모두 하버사인 공식으로 계산한 실제 거리(미터)</li>
+ * </ul>
+ *
+ * <p>기동 시와 경계 데이터 버전 변경 시 {@link RegionSnapshotManager}가 새로 만들어 교체하며,
+ * 적재 전 요청이 들어오면 해당 스레드에서 한 번 적재합니다.</p>
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BlockCentroidIndex implements RegionSnapshotParticipant {
+
+    private static final double EARTH_RADIUS = 6_371_008.8;
+
+    private static final double METERS_PER_DEGREE = Math.toRadians(1) * EARTH_RADIUS;
+
+    /** 평면 근사와 구면 거리 차이를 흡수하는 가지치기 여유 (후보는 하버사인으로 최종 판정) */
+    private static final double SEARCH_MARGIN = 1.001;
+
+    private final RegionMapper regionMapper;
+
+    private volatile Tree tree;
+
+    @Override
+    public String snapshotName() {
+        return "블록 중심점 인덱스";
+    }
+
+    /**
+     * 새 인덱스 생성 (조회 중인 기존 인덱스에는 영향 없음)
+     */
+    @Override
+    public Runnable prepare(String version) {
+        long startTime = System.currentTimeMillis();
+        Tree loaded = Tree.build(regionMapper.selectBlockCentroids());
+        log.info("[REGION-INDEX] 블록 중심점 인덱스 생성 완료 - 건수: {}, 소요시간: {}ms",
+                loaded.size(), System.currentTimeMillis() - startTime);
+        return () -> this.tree = loaded;
+    }
+
+    /**
+     * 인덱스 재적재 (완성 후 교체)
+     */
+    public void reload() {
+        prepare(null).run();
+    }
+
+    /**
+     * 반경 내 블록 조회
+     *
+     * @param lat 중심점 위도
+     * @param lng 중심점 경도
+     * @param radius 반경 (미터)
+     * @return 블록 목록 (blkCd, blkNm, admiCd, centerX, centerY, distance / 거리 순)
+     */
+    public List<Map<String, Object>> withinRadius(double lat, double lng, double radius) {
+        Tree t = tree();
+        List<Hit> hits = new ArrayList<>();
+        t.collect(0, t.order.length, 0, new Query(lat, lng, radius), hits);
+        hits.sort((a, b) -> Double.compare(a.distance, b.distance));
+        return t.toResult(hits);
+    }
+
+    /**
+     * 최근접 블록 k개 조회
+     *
+     * @param lat 중심점 위도
+     * @param lng 중심점 경도
+     * @param k 조회 건수
+     * @param maxRadius 최대 반경 (미터)
+     * @return 블록 목록 (blkCd, blkNm, admiCd, centerX, centerY, distance / 거리 순, 최대 k건)
+     */
+    public List<Map<String, Object>> nearest(double lat, double lng, int k, double maxRadius) {
+        Tree t = tree();
+        // 하버사인 거리 기준 최대 힙 (가장 먼 후보가 head)
+        PriorityQueue<Hit> heap = new PriorityQueue<>((a, b) -> Double.compare(b.distance, a.distance));
+        t.nearest(0, t.order.length, 0, new Query(lat, lng, maxRadius), k, heap);
+
+        List<Hit> result = new ArrayList<>(heap);
+        result.sort((a, b) -> Double.compare(a.distance, b.distance));
+        return t.toResult(result);
+    }
+
+    // ==================== 내부 메서드 ====================
+
+    private Tree tree() {
+        Tree t = tree;
+        if (t == null) {
+            synchronized (this) {
+                if (tree == null) {
+                    reload();
+                }
+                t = tree;
+            }
+        }
+        return t;
+    }
+
+    /**
+     * 하버사인 거리 (미터)
+     */
+    static double haversine(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    /**
+     * 조회 조건 (질의점 + 반경 + 미터 환산 계수)
+     *
+     * <p>경도 1도 길이는 위도가 높을수록 짧아지므로, 반경이 닿는 위도 범위에서 가장 짧은 값을 써서
+     * 환산 거리가 실제 거리보다 길어지지 않게 합니다.</p>
+     */
+    private static final class Query {
+
+        private final double lat;
+        private final double lng;
+        private final double radius;
+        /** 가지치기 반경 (미터, 여유 포함) */
+        private final double limit;
+        /** 경도 1도 길이 하한 (미터) */
+        private final double xScale;
+
+        private Query(double lat, double lng, double radius) {
+            this.lat = lat;
+            this.lng = lng;
+            this.radius = radius;
+            this.limit = radius * SEARCH_MARGIN;
+            double farthestLat = Math.min(90, Math.abs(lat) + limit / METERS_PER_DEGREE);
+            this.xScale = METERS_PER_DEGREE * Math.cos(Math.toRadians(farthestLat));
+        }
+
+        double dx(double nodeLng) {
+            return (nodeLng - lng) * xScale;
+        }
+
+        double dy(double nodeLat) {
+            return (nodeLat - lat) * METERS_PER_DEGREE;
+        }
+    }
+
+    /**
+     * 탐색 결과 (하버사인 거리 포함)
+     */
+    private static final class Hit {
+
+        private final int node;
+        private final double distance;
+
+        private Hit(int node, double distance) {
+            this.node = node;
+            this.distance = distance;
+        }
+    }
+
+    /**
+     * 불변 KD-tree 스냅샷
+     */
+    private static final class Tree {
+
+        private final String[] codes;
+        private final String[] names;
+        private final String[] admiCds;
+        private final double[] lat;
+        private final double[] lng;
+        /** 구간 [from, to)의 중앙 원소가 분할 노드인 정렬 배열 (짝수 깊이 경도, 홀수 깊이 위도) */
+        private final int[] order;
+
+        private Tree(String[] codes, String[] names, String[] admiCds, double[] lat, double[] lng, int[] order) {
+            this.codes = codes;
+            this.names = names;
+            this.admiCds = admiCds;
+            this.lat = lat;
+            this.lng = lng;
+            this.order = order;
+        }
+
+        int size() {
+            return order.length;
+        }
+
+        static Tree build(List<Map<String, Object>> rows) {
+            int n = 0;
+            for (Map<String, Object> row : rows) {
+                if (row.get("centerX") instanceof Number && row.get("centerY") instanceof Number) {
+                    n++;
+                }
+            }
+
+            String[] codes = new String[n];
+            String[] names = new String[n];
+            String[] admiCds = new String[n];
+            double[] lat = new double[n];
+            double[] lng = new double[n];
+            int[] order = new int[n];
+
+            int i = 0;
+            for (Map<String, Object> row : rows) {
+                if (!(row.get("centerX") instanceof Number cx) || !(row.get("centerY") instanceof Number cy)) {
+                    continue;
+                }
+                codes[i] = (String) row.get("blkCd");
+                names[i] = (String) row.get("blkNm");
+                admiCds[i] = (String) row.get("admiCd");
+                lng[i] = cx.doubleValue();
+                lat[i] = cy.doubleValue();
+                order[i] = i;
+                i++;
+            }
+
+            Tree tree = new Tree(codes, names, admiCds, lat, lng, order);
+            tree.split(0, n, 0);
+            return tree;
+        }
+
+        /**
+         * 구간 [from, to)를 축 기준 중앙값으로 분할 (재귀)
+         */
+        private void split(int from, int to, int depth) {
+            if (to - from <= 1) {
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            select(from, to - 1, mid, depth % 2 == 0 ? lng : lat);
+            split(from, mid, depth + 1);
+            split(mid + 1, to, depth + 1);
+        }
+
+        /**
+         * Quickselect: order[k]에 k번째 값이 오도록 [left, right] 부분 정렬
+         */
+        private void select(int left, int right, int k, double[] key) {
+            while (left < right) {
+                double pivot = key[order[(left + right) >>> 1]];
+                int i = left;
+                int j = right;
+                while (i <= j) {
+                    while (key[order[i]] < pivot) {
+                        i++;
+                    }
+                    while (key[order[j]] > pivot) {
+                        j--;
+                    }
+                    if (i <= j) {
+                        int tmp = order[i];
+                        order[i] = order[j];
+                        order[j] = tmp;
+                        i++;
+                        j--;
+                    }
+                }
+                if (k <= j) {
+                    right = j;
+                } else if (k >= i) {
+                    left = i;
+                } else {
+                    return;
+                }
+            }
+        }
+
+        void collect(int from, int to, int depth, Query q, List<Hit> hits) {
+            if (from >= to) {
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            int node = order[mid];
+            double dx = q.dx(lng[node]);
+            double dy = q.dy(lat[node]);
+            if (dx * dx + dy * dy <= q.limit * q.limit) {
+                double distance = haversine(q.lat, q.lng, lat[node], lng[node]);
+                if (distance <= q.radius) {
+                    hits.add(new Hit(node, distance));
+                }
+            }
+
+            double diff = depth % 2 == 0 ? dx : dy;
+            if (diff >= -q.limit) {
+                collect(from, mid, depth + 1, q, hits);
+            }
+            if (diff <= q.limit) {
+                collect(mid + 1, to, depth + 1, q, hits);
+            }
+        }
+
+        void nearest(int from, int to, int depth, Query q, int k, PriorityQueue<Hit> heap) {
+            if (from >= to) {
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            int node = order[mid];
+            double dx = q.dx(lng[node]);
+            double dy = q.dy(lat[node]);
+            // 환산 거리는 실제 거리의 하한이므로 현재 k번째 거리보다 멀면 하버사인 계산 생략
+            double bound = bound(q, k, heap);
+            if (dx * dx + dy * dy <= bound * bound) {
+                double distance = haversine(q.lat, q.lng, lat[node], lng[node]);
+                if (distance <= q.radius && (heap.size() < k || distance < heap.peek().distance)) {
+                    heap.add(new Hit(node, distance));
+                    if (heap.size() > k) {
+                        heap.poll();
+                    }
+                }
+            }
+
+            // 질의점이 있는 쪽을 먼저 탐색한 뒤 반대쪽은 분할면 거리로 가지치기
+            double diff = depth % 2 == 0 ? dx : dy;
+            boolean leftFirst = diff > 0;
+            int nearFrom = leftFirst ? from : mid + 1;
+            int nearTo = leftFirst ? mid : to;
+            int farFrom = leftFirst ? mid + 1 : from;
+            int farTo = leftFirst ? to : mid;
+
+            nearest(nearFrom, nearTo, depth + 1, q, k, heap);
+            if (Math.abs(diff) <= bound(q, k, heap)) {
+                nearest(farFrom, farTo, depth + 1, q, k, heap);
+            }
+        }
+
+        /**
+         * 가지치기 거리 (k건이 차기 전에는 최대 반경, 찬 후에는 k번째 거리, 여유 포함)
+         */
+        private static double bound(Query q, int k, PriorityQueue<Hit> heap) {
+            return heap.size() < k ? q.limit : heap.peek().distance * SEARCH_MARGIN;
+        }
+
+        List<Map<String, Object>> toResult(List<Hit> hits) {
+            List<Map<String, Object>> result = new ArrayList<>(hits.size());
+            for (Hit hit : hits) {
+                int node = hit.node;
+                Map<String, Object> item = new LinkedHashMap<>();
+                item.put("blkCd", codes[node]);
+                item.put("blkNm", names[node]);
+                item.put("admiCd", admiCds[node]);
+                item.put("centerX", lng[node]);
+                item.put("centerY", lat[node]);
+                item.put("distance", Math.round(hit.distance * 10) / 10.0);
+                result.add(item);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.zinidata.domain.common.region.index;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * GeoJSON 폴리곤 → JTS Geometry 변환 유틸리티 (스트리밍)
+ *
+ * <p>폴리곤 영역 조회 입력(Polygon / MultiPolygon, Feature로 감싼 형태 포함)을 Geometry로 변환합니다.
+ * JSON 트리를 만들지 않고 토큰을 순서대로 읽어 링별 좌표를 double 배열에 바로 채우므로,
+ * 좌표 수만큼의 노드·Coordinate 객체가 생기지 않습니다.</p>
+ *
+ * <ul>
+ *   <li>키 순서와 무관 (coordinates가 type보다 먼저 와도 처리)</li>
+ *   <li>properties 등 다른 필드는 읽지 않고 건너뜀</li>
+ *   <li>닫히지 않은 링은 첫 좌표를 덧붙여 닫음, 3차원 이상 좌표는 x, y만 사용</li>
+ *   <li>전체 좌표 수가 {@link #MAX_INPUT_VERTICES}를 넘으면 읽기 중단</li>
+ * </ul>
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+public final class GeoJsonReader {
+
+    /** 입력 좌표 수 상한 (단순화 전 원본 기준) */
+    public static final int MAX_INPUT_VERTICES = 200_000;
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final GeometryFactory GEOMETRY_FACTORY =
+            new GeometryFactory(new PrecisionModel(), 4326, PackedCoordinateSequenceFactory.DOUBLE_FACTORY);
+
+    private GeoJsonReader() {
+    }
+
+    /**
+     * GeoJSON 폴리곤 읽기
+     *
+     * @param geoJson GeoJSON 문자열 (Polygon, MultiPolygon, Feature)
+     * @return Polygon 또는 MultiPolygon
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    public static Geometry readPolygon(String geoJson) {
+        try (JsonParser parser = JSON_FACTORY.createParser(geoJson)) {
+            return read(parser);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("GeoJSON 파싱 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * GeoJSON 폴리곤 읽기 (요청 본문 스트림)
+     *
+     * @param geoJson GeoJSON 입력 스트림 (호출 측에서 닫음)
+     * @return Polygon 또는 MultiPolygon
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    public static Geometry readPolygon(InputStream geoJson) {
+        try (JsonParser parser = JSON_FACTORY.createParser(geoJson)) {
+            return read(parser);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("GeoJSON 파싱 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * JTS GeometryFactory (SRID 4326, packed 좌표)
+     */
+    public static GeometryFactory geometryFactory() {
+        return GEOMETRY_FACTORY;
+    }
+
+    // ==================== 내부 메서드 ====================
+
+    private static Geometry read(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalArgumentException("GeoJSON 객체가 아닙니다.");
+        }
+        Geometry geometry = readObject(parser, new int[1]);
+        if (geometry == null) {
+            throw new IllegalArgumentException("GeoJSON geometry가 없습니다.");
+        }
+        return geometry;
+    }
+
+    /**
+     * 객체 하나 읽기 (START_OBJECT 다음 위치에서 시작, END_OBJECT에서 종료)
+     *
+     * @param vertices 지금까지 읽은 좌표 수 (상한 검사용)
+     */
+    private static Geometry readObject(JsonParser parser, int[] vertices) throws IOException {
+        String type = null;
+        Object coordinates = null;
+        Geometry nested = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken token = parser.nextToken();
+            switch (name) {
+                case "type":
+                    type = parser.getValueAsString();
+                    break;
+                case "geometry":
+                    if (token == JsonToken.START_OBJECT) {
+                        nested = readObject(parser, vertices);
+                    } else {
+                        parser.skipChildren();
+                    }
+                    break;
+                case "coordinates":
+                    if (token != JsonToken.START_ARRAY) {
+                        throw new IllegalArgumentException("coordinates는 배열이어야 합니다.");
+                    }
+                    coordinates = readArray(parser, parser.nextToken(), vertices);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        if ("Feature".equals(type)) {
+            return nested;
+        }
+        if ("Polygon".equals(type)) {
+            return toPolygon(coordinates);
+        }
+        if ("MultiPolygon".equals(type)) {
+            if (!(coordinates instanceof List<?> items) || items.isEmpty() || !(items.get(0) instanceof List)) {
+                throw new IllegalArgumentException("MultiPolygon 좌표 형식이 올바르지 않습니다.");
+            }
+            Polygon[] polygons = new Polygon[items.size()];
+            for (int i = 0; i < polygons.length; i++) {
+                polygons[i] = toPolygon(items.get(i));
+            }
+            return GEOMETRY_FACTORY.createMultiPolygon(polygons);
+        }
+        throw new IllegalArgumentException("지원하지 않는 GeoJSON 유형입니다: " + type);
+    }
+
+    /**
+     * 중첩 좌표 배열 읽기
+     *
+     * <p>START_ARRAY와 그 다음 토큰(first)을 읽은 상태에서 호출합니다.
+     * 원소가 좌표 배열이면 링으로 보고 packed double[]을, 더 깊으면 하위 결과 List를 반환합니다.</p>
+     */
+    private static Object readArray(JsonParser parser, JsonToken first, int[] vertices) throws IOException {
+        if (first != JsonToken.START_ARRAY) {
+            throw new IllegalArgumentException("좌표 배열 형식이 올바르지 않습니다.");
+        }
+        JsonToken second = parser.nextToken();
+        if (second != null && second.isNumeric()) {
+            return readRing(parser, vertices);
+        }
+
+        List<Object> children = new ArrayList<>();
+        children.add(readArray(parser, second, vertices));
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.START_ARRAY) {
+            children.add(readArray(parser, parser.nextToken(), vertices));
+        }
+        if (token != JsonToken.END_ARRAY) {
+            throw new IllegalArgumentException("좌표 배열 형식이 올바르지 않습니다.");
+        }
+        return children;
+    }
+
+    /**
+     * 링 좌표 읽기 (첫 좌표의 x 토큰 위치에서 시작, 링 END_ARRAY에서 종료)
+     *
+     * @return packed 좌표 [x0, y0, x1, y1, ...] (닫힌 링)
+     */
+    private static double[] readRing(JsonParser parser, int[] vertices) throws IOException {
+        double[] coords = new double[64];
+        int size = 0;
+
+        while (true) {
+            double x = parser.getDoubleValue();
+            if (!isNumber(parser.nextToken())) {
+                throw new IllegalArgumentException("좌표는 [경도, 위도] 형식이어야 합니다.");
+            }
+            double y = parser.getDoubleValue();
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (!isNumber(token)) {
+                    throw new IllegalArgumentException("좌표는 [경도, 위도] 형식이어야 합니다.");
+                }
+            }
+
+            if (++vertices[0] > MAX_INPUT_VERTICES) {
+                throw new IllegalArgumentException("좌표 수가 너무 많습니다. (최대 " + MAX_INPUT_VERTICES + "개)");
+            }
+            if (size + 2 > coords.length) {
+                coords = Arrays.copyOf(coords, coords.length * 2);
+            }
+            coords[size++] = x;
+            coords[size++] = y;
+
+            token = parser.nextToken();
+            if (token == JsonToken.END_ARRAY) {
+                break;
+            }
+            if (token != JsonToken.START_ARRAY || !isNumber(parser.nextToken())) {
+                throw new IllegalArgumentException("좌표는 [경도, 위도] 형식이어야 합니다.");
+            }
+        }
+
+        // 닫히지 않은 링은 첫 좌표로 닫기
+        if (coords[0] != coords[size - 2] || coords[1] != coords[size - 1]) {
+            coords = Arrays.copyOf(coords, size + 2);
+            coords[size] = coords[0];
+            coords[size + 1] = coords[1];
+            size += 2;
+        }
+        if (size < 8) {
+            throw new IllegalArgumentException("폴리곤 링은 4개 이상의 좌표가 필요합니다.");
+        }
+        return size == coords.length ? coords : Arrays.copyOf(coords, size);
+    }
+
+    private static boolean isNumber(JsonToken token) {
+        return token != null && token.isNumeric();
+    }
+
+    private static Polygon toPolygon(Object rings) {
+        if (!(rings instanceof List<?> items) || items.isEmpty() || !(items.get(0) instanceof double[])) {
+            throw new IllegalArgumentException("폴리곤 좌표 형식이 올바르지 않습니다.");
+        }
+        LinearRing shell = toRing(items.get(0));
+        LinearRing[] holes = new LinearRing[items.size() - 1];
+        for (int i = 1; i < items.size(); i++) {
+            holes[i - 1] = toRing(items.get(i));
+        }
+        return GEOMETRY_FACTORY.createPolygon(shell, holes);
+    }
+
+    private static LinearRing toRing(Object ring) {
+        if (!(ring instanceof double[] coords)) {
+            throw new IllegalArgumentException("폴리곤 좌표 형식이 올바르지 않습니다.");
+        }
+        return GEOMETRY_FACTORY.createLinearRing(PackedCoordinateSequenceFactory.DOUBLE_FACTORY.create(coords, 2));
+    }
+}
@@ -0,0 +1,137 @@
+package com.zinidata.domain.common.region.index;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.MultiLineString;
+import org.locationtech.jts.geom.MultiPoint;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+
+/**
+ * JTS Geometry → GeoJSON 문자열 변환 유틸리티
+ *
+ * <p>PostGIS <code>ST_AsGeoJSON(geom)</code>과 같은 형태(좌표 소수점 최대 9자리)로 출력하여
+ * 인메모리 조회 결과가 DB 조회 결과와 동일한 geoJson 값을 갖도록 합니다.</p>
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+public final class GeoJsonWriter {
+
+    /** ST_AsGeoJSON 기본 maxdecimaldigits */
+    private static final int MAX_DECIMAL_DIGITS = 9;
+
+    private GeoJsonWriter() {
+    }
+
+    /**
+     * Geometry를 GeoJSON geometry 문자열로 변환
+     *
+     * @param geometry 변환할 Geometry
+     * @return GeoJSON 문자열 (geometry가 null이면 null)
+     */
+    public static String write(Geometry geometry) {
+        if (geometry == null) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder(geometry.getNumPoints() * 40 + 64);
+        appendGeometry(sb, geometry);
+        return sb.toString();
+    }
+
+    private static void appendGeometry(StringBuilder sb, Geometry geometry) {
+        sb.append("{\"type\":\"").append(geometry.getGeometryType()).append("\",");
+
+        if (geometry instanceof GeometryCollection
+                && !(geometry instanceof MultiPoint)
+                && !(geometry instanceof MultiLineString)
+                && !(geometry instanceof MultiPolygon)) {
+            sb.append("\"geometries\":[");
+            for (int i = 0; i < geometry.getNumGeometries(); i++) {
+                if (i > 0) {
+                    sb.append(',');
+                }
+                appendGeometry(sb, geometry.getGeometryN(i));
+            }
+            sb.append("]}");
+            return;
+        }
+
+        sb.append("\"coordinates\":");
+        appendCoordinates(sb, geometry);
+        sb.append('}');
+    }
+
+    private static void appendCoordinates(StringBuilder sb, Geometry geometry) {
+        if (geometry instanceof Point point) {
+            if (point.isEmpty()) {
+                sb.append("[]");
+            } else {
+                appendCoordinate(sb, point.getCoordinate());
+            }
+        } else if (geometry instanceof LineString line) {
+            appendSequence(sb, line.getCoordinateSequence());
+        } else if (geometry instanceof Polygon polygon) {
+            appendPolygon(sb, polygon);
+        } else {
+            // MultiPoint, MultiLineString, MultiPolygon
+            sb.append('[');
+            for (int i = 0; i < geometry.getNumGeometries(); i++) {
+                if (i > 0) {
+                    sb.append(',');
+                }
+                appendCoordinates(sb, geometry.getGeometryN(i));
+            }
+            sb.append(']');
+        }
+    }
+
+    private static void appendPolygon(StringBuilder sb, Polygon polygon) {
+        sb.append('[');
+        if (!polygon.isEmpty()) {
+            appendSequence(sb, polygon.getExteriorRing().getCoordinateSequence());
+            for (int i = 0; i < polygon.getNumInteriorRing(); i++) {
+                sb.append(',');
+                appendSequence(sb, polygon.getInteriorRingN(i).getCoordinateSequence());
+            }
+        }
+        sb.append(']');
+    }
+
+    private static void appendSequence(StringBuilder sb, CoordinateSequence seq) {
+        sb.append('[');
+        for (int i = 0; i < seq.size(); i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append('[');
+            appendNumber(sb, seq.getX(i));
+            sb.append(',');
+            appendNumber(sb, seq.getY(i));
+            sb.append(']');
+        }
+        sb.append(']');
+    }
+
+    private static void appendCoordinate(StringBuilder sb, Coordinate c) {
+        sb.append('[');
+        appendNumber(sb, c.getX());
+        sb.append(',');
+        appendNumber(sb, c.getY());
+        sb.append(']');
+    }
+
+    private static void appendNumber(StringBuilder sb, double value) {
+        sb.append(BigDecimal.valueOf(value)
+                .setScale(MAX_DECIMAL_DIGITS, RoundingMode.HALF_UP)
+                .stripTrailingZeros()
+                .toPlainString());
+    }
+}
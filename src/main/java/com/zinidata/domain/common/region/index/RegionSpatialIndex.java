@@ -0,0 +1,282 @@
+package com.zinidata.domain.common.region.index;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.session.ResultHandler;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.locationtech.jts.io.WKBReader;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zinidata.common.dto.RawJson;
+import com.zinidata.domain.common.region.enums.RegionLevel;
+import com.zinidata.domain.common.region.mapper.RegionMapper;
+import com.zinidata.domain.common.region.snapshot.RegionSnapshotManager;
+import com.zinidata.domain.common.region.snapshot.RegionSnapshotParticipant;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 행정구역 인메모리 공간 인덱스 (STR-tree)
+ *
+ * <p>블록/행정동/시군구/광역시도 경계를 기동 시 한 번 읽어 레벨별 STR-tree에 적재하고,
+ * 좌표 기반 조회(Point in Polygon)를 DB 왕복 없이 처리합니다.</p>
+ *
+ * <h3>동작 방식</h3>
+ * <ul>
+ *   <li>기동 시와 경계 데이터 버전 변경 시 {@link RegionSnapshotManager}가 적재 (적재 전에는 {@link #isReady(RegionLevel)}가 false)</li>
+ *   <li>후보 검색: STR-tree 바운딩 박스 질의 → 정밀 판정: PreparedGeometry.contains (ST_Contains와 동일 의미)</li>
+ *   <li>좌표는 PackedCoordinateSequence(double[])로 보관하여 객체 수와 메모리 사용량 최소화</li>
+ *   <li>행정동 feature(GeoJSON 문자열)는 힙에 보관하지 않고 조회 시 코드로 읽어 최근 {@value #FEATURE_CACHE_SIZE}건만 보관</li>
+ *   <li>전체 레벨을 완성한 뒤 한 번에 교체하므로 조회 스레드는 잠금 없이 읽기만 수행</li>
+ * </ul>
+ *
+ * <p><strong>활성화 방법:</strong> application.yml에 region.datasource: memory 설정</p>
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "region.datasource", havingValue = "memory")
+@RequiredArgsConstructor
+public class RegionSpatialIndex implements RegionSnapshotParticipant {
+
+    /** 조회 결과 Map에 포함하지 않는 내부 컬럼 */
+    private static final String WKB_KEY = "wkb";
+
+    /** DB 조회 결과와 동일하게 geoJson을 함께 내려주는 레벨 (행정동은 feature 컬럼 사용) */
+    private static final String GEO_JSON_KEY = "geoJson";
+
+    /** 행정동 조회 결과의 feature 컬럼 */
+    private static final String FEATURE_KEY = "feature";
+
+    /** 레벨별 최근 조회 feature 보관 건수 */
+    private static final int FEATURE_CACHE_SIZE = 1000;
+
+    private static final GeometryFactory GEOMETRY_FACTORY =
+            new GeometryFactory(new PrecisionModel(), 4326, PackedCoordinateSequenceFactory.DOUBLE_FACTORY);
+
+    private final RegionMapper regionMapper;
+
+    /** 레벨별 인덱스 (전체 레벨을 한 번에 교체, 읽기 전용) */
+    private volatile Map<RegionLevel, Layer> layers = new EnumMap<>(RegionLevel.class);
+
+    @Override
+    public String snapshotName() {
+        return "공간 인덱스";
+    }
+
+    /**
+     * 전체 레벨 인덱스 생성
+     *
+     * <p>기존 인덱스가 있는 레벨이 실패하면 전체를 실패 처리하여 이전/신규 경계가 섞이지 않도록 하고,
+     * 처음 적재하는 레벨의 실패는 해당 레벨만 DB 조회로 대체합니다.</p>
+     *
+     * @param version 경계 데이터 버전
+     * @return 새 인덱스로 교체하는 작업
+     */
+    @Override
+    public Runnable prepare(String version) {
+        Map<RegionLevel, Layer> current = layers;
+        Map<RegionLevel, Layer> loaded = new EnumMap<>(RegionLevel.class);
+
+        for (RegionLevel level : RegionLevel.values()) {
+            long startTime = System.currentTimeMillis();
+            log.info("[REGION-INDEX] {} 공간 인덱스 적재 시작", level.getDesc());
+
+            try {
+                Layer layer = buildLayer(level);
+                loaded.put(level, layer);
+                log.info("[REGION-INDEX] {} 공간 인덱스 적재 완료 - 건수: {}, 소요시간: {}ms",
+                        level.getDesc(), layer.size(), System.currentTimeMillis() - startTime);
+            } catch (RuntimeException e) {
+                if (current.containsKey(level)) {
+                    throw e;
+                }
+                log.error("[REGION-INDEX] {} 공간 인덱스 적재 실패 - DB 조회로 대체됩니다.", level.getDesc(), e);
+            }
+        }
+
+        return () -> this.layers = loaded;
+    }
+
+    /**
+     * 레벨별 인덱스 적재 완료 여부
+     *
+     * @param level 행정구역 레벨
+     * @return 적재 완료 시 true
+     */
+    public boolean isReady(RegionLevel level) {
+        return layers.get(level) != null;
+    }
+
+    /**
+     * 좌표를 포함하는 행정구역 조회
+     *
+     * @param level 행정구역 레벨
+     * @param lat 위도
+     * @param lng 경도
+     * @return 행정구역 정보 (selectXxxByPoint 결과와 동일한 키 구성, 없으면 null)
+     * @throws IllegalStateException 인덱스가 적재되지 않은 경우
+     */
+    public Map<String, Object> findByPoint(RegionLevel level, double lat, double lng) {
+        Layer layer = requireLayer(level);
+        Entry entry = layer.findContaining(lng, lat);
+        return entry == null ? null : toResult(level, layer, entry);
+    }
+
+    /**
+     * 좌표를 포함하는 행정구역의 속성만 조회 (geoJson 미포함)
+     *
+     * <p>계층 조회처럼 코드/명칭만 필요한 경우 GeoJSON 변환 비용을 생략합니다.</p>
+     *
+     * @param level 행정구역 레벨
+     * @param lat 위도
+     * @param lng 경도
+     * @return 읽기 전용 속성 Map (없으면 null)
+     * @throws IllegalStateException 인덱스가 적재되지 않은 경우
+     */
+    public Map<String, Object> findAttributesByPoint(RegionLevel level, double lat, double lng) {
+        Entry entry = requireLayer(level).findContaining(lng, lat);
+        return entry == null ? null : entry.getAttributes();
+    }
+
+    /**
+     * 코드로 행정구역 조회
+     *
+     * @param level 행정구역 레벨
+     * @param code 행정구역 코드
+     * @return 행정구역 정보 (selectXxxByPoint 결과와 동일한 키 구성, 없으면 null)
+     * @throws IllegalStateException 인덱스가 적재되지 않은 경우
+     */
+    public Map<String, Object> findByCode(RegionLevel level, String code) {
+        Layer layer = requireLayer(level);
+        Entry entry = code == null ? null : layer.byCode.get(code);
+        return entry == null ? null : toResult(level, layer, entry);
+    }
+
+    // ==================== 내부 메서드 ====================
+
+    private Layer requireLayer(RegionLevel level) {
+        Layer layer = layers.get(level);
+        if (layer == null) {
+            throw new IllegalStateException(level.getDesc() + " 공간 인덱스가 적재되지 않았습니다.");
+        }
+        return layer;
+    }
+
+    private Layer buildLayer(RegionLevel level) {
+        WKBReader wkbReader = new WKBReader(GEOMETRY_FACTORY);
+        STRtree tree = new STRtree();
+        Map<String, Entry> byCode = new HashMap<>();
+
+        streamFeatures(level, context -> {
+            Map<String, Object> row = context.getResultObject();
+            Object wkb = row.remove(WKB_KEY);
+            if (!(wkb instanceof byte[] bytes)) {
+                return;
+            }
+
+            try {
+                Geometry geometry = wkbReader.read(bytes);
+                geometry.setSRID(4326);
+                Entry entry = new Entry(Collections.unmodifiableMap(new LinkedHashMap<>(row)),
+                        geometry, PreparedGeometryFactory.prepare(geometry));
+                tree.insert(geometry.getEnvelopeInternal(), entry);
+                byCode.put(String.valueOf(row.get(level.getCodeKey())), entry);
+            } catch (Exception e) {
+                log.warn("[REGION-INDEX] {} 경계 파싱 실패 - 코드: {}", level.getDesc(), row.get(level.getCodeKey()));
+            }
+        });
+
+        // 조회 스레드에서 지연 빌드가 일어나지 않도록 공개 전에 빌드
+        tree.build();
+        return new Layer(tree, byCode);
+    }
+
+    private void streamFeatures(RegionLevel level, ResultHandler<Map<String, Object>> handler) {
+        switch (level) {
+            case BLOCK -> regionMapper.selectBlockFeaturesForIndex(handler);
+            case ADMI -> regionMapper.selectAdmiFeaturesForIndex(handler);
+            case CTY -> regionMapper.selectCtyFeaturesForIndex(handler);
+            case MEGA -> regionMapper.selectMegaFeaturesForIndex(handler);
+        }
+    }
+
+    private Map<String, Object> toResult(RegionLevel level, Layer layer, Entry entry) {
+        Map<String, Object> result = new LinkedHashMap<>(entry.getAttributes());
+        if (level == RegionLevel.ADMI) {
+            // 없는 feature(null)는 보관하지 않고 다음 조회에서 다시 확인
+            String admiCd = String.valueOf(entry.getAttributes().get(level.getCodeKey()));
+            result.put(FEATURE_KEY, layer.features.get(admiCd, this::loadAdmiFeature));
+        } else {
+            result.put(GEO_JSON_KEY, RawJson.of(GeoJsonWriter.write(entry.getGeometry())));
+        }
+        return result;
+    }
+
+    private Object loadAdmiFeature(String admiCd) {
+        Map<String, Object> row = regionMapper.selectAdmiFeature(admiCd);
+        return row == null ? null : row.get(FEATURE_KEY);
+    }
+
+    /**
+     * 인덱스 항목 (속성 + 원본/준비된 Geometry)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static final class Entry {
+        private final Map<String, Object> attributes;
+        private final Geometry geometry;
+        private final PreparedGeometry prepared;
+    }
+
+    /**
+     * 레벨 단위 불변 인덱스 (feature 보관소도 인덱스와 함께 교체)
+     */
+    private static final class Layer {
+
+        private final STRtree tree;
+        private final Map<String, Entry> byCode;
+        private final Cache<String, Object> features = Caffeine.newBuilder().maximumSize(FEATURE_CACHE_SIZE).build();
+
+        private Layer(STRtree tree, Map<String, Entry> byCode) {
+            this.tree = tree;
+            this.byCode = byCode;
+        }
+
+        int size() {
+            return byCode.size();
+        }
+
+        @SuppressWarnings("unchecked")
+        Entry findContaining(double x, double y) {
+            Point point = GEOMETRY_FACTORY.createPoint(new Coordinate(x, y));
+            List<Entry> candidates = tree.query(point.getEnvelopeInternal());
+            for (Entry entry : candidates) {
+                if (entry.getPrepared().contains(point)) {
+                    return entry;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -5,6 +5,10 @@ import java.util.Map;
 
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
+
+import com.zinidata.domain.common.region.vo.RegionPointVO;
+import com.zinidata.domain.common.region.vo.RegionPolygonVO;
 
 /**
  * 지역 정보 데이터 액세스 매퍼
@@ -23,9 +27,10 @@ public interface RegionMapper {
      * 블록 코드로 블록 정보 조회
      * 
      * @param blkCd 블록 코드 (6자리)
+     * @param withGeoJson 경계 GeoJSON(ST_AsGeoJSON) 포함 여부 (경계 파일 저장소에서 채울 때 false)
      * @return 블록 정보
      */
-    Map<String, Object> selectBlockByCode(@Param("blkCd") String blkCd);
+    Map<String, Object> selectBlockByCode(@Param("blkCd") String blkCd, @Param("withGeoJson") boolean withGeoJson);
     
     /**
      * 좌표로 블록 조회
@@ -39,10 +44,10 @@ public interface RegionMapper {
     /**
      * 폴리곤 영역 내 블록 조회
      * 
-     * @param polygon WKT 폴리곤 문자열
+     * @param polygon 전처리된 폴리곤 (WKB + 외접 사각형)
      * @return 블록 목록
      */
-    List<Map<String, Object>> selectBlocksByPolygon(@Param("polygon") String polygon);
+    List<Map<String, Object>> selectBlocksByPolygon(RegionPolygonVO polygon);
     
     /**
      * 반경 내 블록 조회
@@ -60,9 +65,10 @@ public interface RegionMapper {
      * 행정동 코드로 행정동 정보 조회
      * 
      * @param admiCd 행정동 코드 (8자리)
+     * @param withGeoJson 경계 GeoJSON(ST_AsGeoJSON) 포함 여부 (경계 파일 저장소에서 채울 때 false)
      * @return 행정동 정보
      */
-    Map<String, Object> selectAdmiByCode(@Param("admiCd") String admiCd);
+    Map<String, Object> selectAdmiByCode(@Param("admiCd") String admiCd, @Param("withGeoJson") boolean withGeoJson);
     
     /**
      * 좌표로 행정동 조회
@@ -72,32 +78,35 @@ public interface RegionMapper {
      * @return 행정동 정보
      */
     Map<String, Object> selectAdmiByPoint(@Param("lat") double lat, @Param("lng") double lng);
-    
+
     /**
-     * 폴리곤 영역 내 행정동 조회
+     * 다건 좌표로 행정동 조회
      * 
-     * @param polygon WKT 폴리곤 문자열
-     * @return 행정동 목록
+     * <p>좌표 목록을 한 번의 공간 조인으로 처리합니다. 행정동이 없는 좌표는 결과에 포함되지 않습니다.</p>
+     * 
+     * @param points 좌표 목록
+     * @return 행정동 정보 목록 (idx: 입력 순번)
      */
-    List<Map<String, Object>> selectAdmisByPolygon(@Param("polygon") String polygon);
+    List<Map<String, Object>> selectAdmisByPoints(@Param("points") List<RegionPointVO> points);
     
     /**
-     * 인접 행정동 조회
+     * 폴리곤 영역 내 행정동 조회
      * 
-     * @param admiCd 기준 행정동 코드 (8자리)
-     * @return 인접 행정동 목록 (기준 행정동 포함)
+     * @param polygon 전처리된 폴리곤 (WKB + 외접 사각형)
+     * @return 행정동 목록
      */
-    List<Map<String, Object>> selectAdjacentAdmis(@Param("admiCd") String admiCd);
-
+    List<Map<String, Object>> selectAdmisByPolygon(RegionPolygonVO polygon);
+    
     // ==================== 시군구 쿼리 ====================
     
     /**
      * 시군구 코드로 시군구 정보 조회
      * 
      * @param ctyCd 시군구 코드 (4자리)
+     * @param withGeoJson 경계 GeoJSON(ST_AsGeoJSON) 포함 여부 (경계 파일 저장소에서 채울 때 false)
      * @return 시군구 정보
      */
-    Map<String, Object> selectCtyByCode(@Param("ctyCd") String ctyCd);
+    Map<String, Object> selectCtyByCode(@Param("ctyCd") String ctyCd, @Param("withGeoJson") boolean withGeoJson);
     
     /**
      * 좌표로 시군구 조회
@@ -111,10 +120,10 @@ public interface RegionMapper {
     /**
      * 폴리곤 영역 내 시군구 조회
      * 
-     * @param polygon WKT 폴리곤 문자열
+     * @param polygon 전처리된 폴리곤 (WKB + 외접 사각형)
      * @return 시군구 목록
      */
-    List<Map<String, Object>> selectCtysByPolygon(@Param("polygon") String polygon);
+    List<Map<String, Object>> selectCtysByPolygon(RegionPolygonVO polygon);
 
     // ==================== 광역시도 쿼리 ====================
     
@@ -122,9 +131,10 @@ public interface RegionMapper {
      * 광역시도 코드로 광역시도 정보 조회
      * 
      * @param megaCd 광역시도 코드 (2자리)
+     * @param withGeoJson 경계 GeoJSON(ST_AsGeoJSON) 포함 여부 (경계 파일 저장소에서 채울 때 false)
      * @return 광역시도 정보
      */
-    Map<String, Object> selectMegaByCode(@Param("megaCd") String megaCd);
+    Map<String, Object> selectMegaByCode(@Param("megaCd") String megaCd, @Param("withGeoJson") boolean withGeoJson);
     
     /**
      * 좌표로 광역시도 조회
@@ -138,10 +148,10 @@ public interface RegionMapper {
     /**
      * 폴리곤 영역 내 광역시도 조회
      * 
-     * @param polygon WKT 폴리곤 문자열
+     * @param polygon 전처리된 폴리곤 (WKB + 외접 사각형)
      * @return 광역시도 목록
      */
-    List<Map<String, Object>> selectMegasByPolygon(@Param("polygon") String polygon);
+    List<Map<String, Object>> selectMegasByPolygon(RegionPolygonVO polygon);
 
     /**
      * 확장 분석 행정동 geometry 정보 조회
@@ -159,4 +169,199 @@ public interface RegionMapper {
      * @return 시도 목록
      */
     List<Map<String, Object>> getMegaList();
-} 
\ No newline at end of file
+
+    // ==================== 계층 조회 쿼리 ====================
+
+    /**
+     * 좌표로 블록 → 행정동 → 시군구 → 광역시도 계층 조회
+     *
+     * <p>블록만 공간 연산으로 찾고 상위 행정구역은 블록의 행정동 코드로 조인합니다.</p>
+     *
+     * @param lat 위도
+     * @param lng 경도
+     * @return 블록 코드/명 + 좌표 기반 행정동 조회 결과 (블록이 없으면 null)
+     */
+    Map<String, Object> selectRegionHierarchyByPoint(@Param("lat") double lat, @Param("lng") double lng);
+
+    // ==================== 단순화 경계 쿼리 ====================
+
+    /**
+     * 단순화된 행정동 경계 전체 조회
+     *
+     * @param tolerance 단순화 허용 오차 (도)
+     * @return 행정동 코드 조회 결과와 동일한 컬럼 (feature 제외, geoJson은 단순화 경계)
+     */
+    List<Map<String, Object>> selectSimplifiedAdmiFeatures(@Param("tolerance") double tolerance);
+
+    /**
+     * 단순화된 시군구 경계 전체 조회
+     *
+     * @param tolerance 단순화 허용 오차 (도)
+     * @return 시군구 코드 조회 결과와 동일한 컬럼 (feature 제외, geoJson은 단순화 경계)
+     */
+    List<Map<String, Object>> selectSimplifiedCtyFeatures(@Param("tolerance") double tolerance);
+
+    /**
+     * 단순화된 광역시도 경계 전체 조회
+     *
+     * @param tolerance 단순화 허용 오차 (도)
+     * @return 광역시도 코드 조회 결과와 동일한 컬럼 (feature 제외, geoJson은 단순화 경계)
+     */
+    List<Map<String, Object>> selectSimplifiedMegaFeatures(@Param("tolerance") double tolerance);
+
+    // ==================== 벡터 타일 쿼리 ====================
+
+    /**
+     * 블록 벡터 타일 생성 (MVT)
+     *
+     * @param z 줌 레벨
+     * @param x 타일 X
+     * @param y 타일 Y
+     * @return MVT 바이너리 (해당 타일에 블록이 없으면 빈 배열)
+     */
+    byte[] selectBlockTile(@Param("z") int z, @Param("x") int x, @Param("y") int y);
+
+    /**
+     * 행정동 벡터 타일 생성 (MVT)
+     *
+     * @param z 줌 레벨
+     * @param x 타일 X
+     * @param y 타일 Y
+     * @return MVT 바이너리 (해당 타일에 행정동이 없으면 빈 배열)
+     */
+    byte[] selectAdmiTile(@Param("z") int z, @Param("x") int x, @Param("y") int y);
+
+    /**
+     * 시군구 벡터 타일 생성 (MVT)
+     *
+     * @param z 줌 레벨
+     * @param x 타일 X
+     * @param y 타일 Y
+     * @return MVT 바이너리 (해당 타일에 시군구가 없으면 빈 배열)
+     */
+    byte[] selectCtyTile(@Param("z") int z, @Param("x") int x, @Param("y") int y);
+
+    /**
+     * 광역시도 벡터 타일 생성 (MVT)
+     *
+     * @param z 줌 레벨
+     * @param x 타일 X
+     * @param y 타일 Y
+     * @return MVT 바이너리 (해당 타일에 광역시도가 없으면 빈 배열)
+     */
+    byte[] selectMegaTile(@Param("z") int z, @Param("x") int x, @Param("y") int y);
+
+    // ==================== 인접 그래프 적재 쿼리 ====================
+
+    /**
+     * 인접 그래프 노드(행정동) 전체 조회
+     *
+     * @return 행정동 목록 (admiCd, admiNm, ctyCd, centerX, centerY)
+     */
+    List<Map<String, Object>> selectAdmiGraphNodes();
+
+    /**
+     * 인접 그래프 간선(TB_ADMI_TOUCH) 전체 조회
+     *
+     * @return 인접 관계 목록 (stdAdmiCd, tchAdmiCd / 자기 자신 제외)
+     */
+    List<Map<String, Object>> selectAdmiTouchEdges();
+
+    /**
+     * k-단계 이웃 행정동 조회 (인접 그래프 적재 전 대체 경로)
+     *
+     * @param admiCd 기준 행정동 코드 (8자리)
+     * @param hops 확장 단계 (1 = 직접 인접)
+     * @return 행정동 정보 목록 (admiCd, admiNm, ctyCd, centerX, centerY, isBase, hop / 단계 순, 같은 단계는 코드 순)
+     */
+    List<Map<String, Object>> selectAdmiNeighborhood(@Param("admiCd") String admiCd, @Param("hops") int hops);
+
+    // ==================== 블록 중심점 인덱스 적재 쿼리 ====================
+
+    /**
+     * 블록 중심점 전체 조회
+     *
+     * @return 블록 목록 (blkCd, blkNm, admiCd, centerX, centerY)
+     */
+    List<Map<String, Object>> selectBlockCentroids();
+
+    // ==================== 격자 셀 포함 관계 쿼리 ====================
+
+    /**
+     * 격자 셀과 겹치는 경계 수 및 셀 전체를 덮는 경계 조회
+     *
+     * <p>좌표 캐시가 셀 단위로 결과를 저장해도 되는지 판단할 때 사용합니다.</p>
+     *
+     * @param level 레벨 키 (block, admi, cty, mega)
+     * @param minX 셀 최소 경도
+     * @param minY 셀 최소 위도
+     * @param maxX 셀 최대 경도
+     * @param maxY 셀 최대 위도
+     * @return hitCount (겹치는 경계 수, 최대 2), coveredCd (셀 전체를 덮는 경계 코드, 없으면 null)
+     */
+    Map<String, Object> selectCellCover(@Param("level") String level,
+                                        @Param("minX") double minX, @Param("minY") double minY,
+                                        @Param("maxX") double maxX, @Param("maxY") double maxY);
+
+    // ==================== 폴리곤 격자 캐시 쿼리 ====================
+
+    /**
+     * 격자 타일별 교차 행정구역 일괄 조회
+     *
+     * @param level 레벨 키 (block, admi, cty, mega)
+     * @param cells 타일 목록 (key, minX, minY, maxX, maxY)
+     * @return selectXxxByPolygon과 동일한 컬럼 + cellKey (타일 키)
+     */
+    List<Map<String, Object>> selectRegionsByCells(@Param("level") String level, @Param("cells") List<Map<String, Object>> cells);
+
+    // ==================== 경계 파일 저장소 쿼리 ====================
+
+    /**
+     * 경계 파일 저장소용 전체 레벨 GeoJSON 조회
+     *
+     * <p>건수가 많아 List 대신 ResultHandler로 한 건씩 전달합니다.</p>
+     *
+     * @param handler 행 단위 처리 핸들러 (level, code, geoJson)
+     */
+    void selectGeoJsonForStore(ResultHandler<Map<String, Object>> handler);
+
+    // ==================== 공간 인덱스 적재 쿼리 ====================
+
+    /**
+     * 인메모리 공간 인덱스용 블록 경계 전체 조회
+     *
+     * <p>건수가 많아 List 대신 ResultHandler로 한 건씩 전달합니다.</p>
+     *
+     * @param handler 행 단위 처리 핸들러 (좌표 조회 결과 컬럼 + wkb)
+     */
+    void selectBlockFeaturesForIndex(ResultHandler<Map<String, Object>> handler);
+
+    /**
+     * 인메모리 공간 인덱스용 행정동 경계 전체 조회
+     *
+     * @param handler 행 단위 처리 핸들러 (좌표 조회 결과 컬럼 중 feature 제외 + wkb)
+     */
+    void selectAdmiFeaturesForIndex(ResultHandler<Map<String, Object>> handler);
+
+    /**
+     * 행정동 feature 조회 (인메모리 공간 인덱스 조회 결과 보완용)
+     *
+     * @param admiCd 행정동 코드 (8자리)
+     * @return feature (없으면 null)
+     */
+    Map<String, Object> selectAdmiFeature(@Param("admiCd") String admiCd);
+
+    /**
+     * 인메모리 공간 인덱스용 시군구 경계 전체 조회
+     *
+     * @param handler 행 단위 처리 핸들러 (좌표 조회 결과 컬럼 + wkb)
+     */
+    void selectCtyFeaturesForIndex(ResultHandler<Map<String, Object>> handler);
+
+    /**
+     * 인메모리 공간 인덱스용 광역시도 경계 전체 조회
+     *
+     * @param handler 행 단위 처리 핸들러 (좌표 조회 결과 컬럼 + wkb)
+     */
+    void selectMegaFeaturesForIndex(ResultHandler<Map<String, Object>> handler);
+}
@@ -0,0 +1,90 @@
+package com.zinidata.domain.common.region.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+
+import com.zinidata.common.enums.Status;
+import com.zinidata.common.exception.ValidationException;
+import com.zinidata.domain.common.region.cache.RegionGeometryStore;
+import com.zinidata.domain.common.region.enums.RegionLevel;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 행정구역 경계 GeoJSON 서비스
+ *
+ * <p>코드별 경계 GeoJSON을 {@link RegionGeometryStore}의 매핑 파일에서 바로 꺼내 응답합니다.
+ * 요청마다 ST_AsGeoJSON을 실행하거나 문자열을 만들지 않습니다.</p>
+ *
+ * <p>저장소가 준비되지 않았거나 파일에 없는 코드는 코드 조회 쿼리의 geoJson으로 대체합니다.</p>
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RegionGeometryService {
+
+    private final RegionGeometryStore geometryStore;
+
+    /**
+     * 코드별 경계 GeoJSON 조회
+     *
+     * @param layer 레이어 (block, admi, cty, mega)
+     * @param code 행정구역 코드
+     * @return GeoJSON geometry 바이트 (읽기 전용)
+     * @throws ValidationException 검증 실패 또는 데이터 없음
+     */
+    public ByteBuffer getGeometry(String layer, String code) throws ValidationException {
+        RegionLevel level = RegionLevel.fromKey(layer);
+
+        try {
+            // 입력값 검증
+            validateGeometry(level, layer, code);
+
+            // 매핑 파일 조회
+            ByteBuffer geometry = geometryStore.get(level, code);
+            if (geometry != null) {
+                return geometry;
+            }
+
+            // 저장소 미준비 또는 파일에 없는 코드는 DB 조회로 대체
+            log.debug("[REGION-STORE] 경계 파일 미스, DB 조회 - 레이어: {}, 코드: {}, 저장소 준비: {}",
+                    layer, code, geometryStore.isReady());
+            Map<String, Object> row = geometryStore.selectByCode(level, code);
+
+            Object geoJson = row == null ? null : row.get("geoJson");
+            if (geoJson == null) {
+                throw new ValidationException(Status.데이터없음, "해당 " + level.getDesc() + " 경계를 찾을 수 없습니다: " + code);
+            }
+            return ByteBuffer.wrap(geoJson.toString().getBytes(StandardCharsets.UTF_8)).asReadOnlyBuffer();
+
+        } catch (ValidationException e) {
+            log.warn("[REGION-STORE] 경계 조회 검증 실패: {}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("[REGION-STORE] 경계 조회 처리 오류 - 레이어: {}, 코드: {}", layer, code, e);
+            throw new ValidationException(Status.실패, "경계 조회 중 오류가 발생했습니다.");
+        }
+    }
+
+    // ==================== 검증 메서드 ====================
+
+    /**
+     * 레이어/코드 검증
+     */
+    private void validateGeometry(RegionLevel level, String layer, String code) throws ValidationException {
+        if (level == null) {
+            throw new ValidationException(Status.파라미터오류, "지원하지 않는 레이어입니다: " + layer);
+        }
+
+        if (code == null || code.trim().isEmpty()) {
+            throw new ValidationException(Status.파라미터오류, level.getDesc() + " 코드는 필수입니다.");
+        }
+    }
+}
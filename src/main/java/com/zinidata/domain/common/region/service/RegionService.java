@@ -4,6 +4,9 @@ import java.util.List;
 import java.util.Map;
 
 import com.zinidata.common.exception.ValidationException;
+import com.zinidata.domain.common.region.enums.RegionLevel;
+import com.zinidata.domain.common.region.vo.RegionPointVO;
+import com.zinidata.domain.common.region.vo.RegionPolygonVO;
 
 /**
  * 지역 정보 서비스 인터페이스
@@ -15,6 +18,7 @@ import com.zinidata.common.exception.ValidationException;
  * <ul>
  *   <li><strong>RegionServiceImpl</strong>: 기본 데이터베이스 구현체 (현재 사용 중)</li>
  *   <li><strong>RegionServiceRedisImpl</strong>: Redis 캐시 구현체 (성능 최적화용, 미사용)</li>
+ *   <li><strong>RegionServiceMemoryImpl</strong>: 인메모리 공간 인덱스 구현체 (좌표 조회 최적화용, 미사용)</li>
  * </ul>
  * 
  * <p><strong>설정 방법:</strong></p>
@@ -23,6 +27,7 @@ import com.zinidata.common.exception.ValidationException;
  * region:
  *   datasource: database  # 기본값 (설정 없어도 자동 선택)
  *   datasource: redis     # Redis 캐시 사용 시
+ *   datasource: memory    # 인메모리 공간 인덱스 사용 시
  * </pre>
  * 
  * <h3>주요 기능</h3>
@@ -70,22 +75,38 @@ public interface RegionService {
     /**
      * 폴리곤 영역 내 블록 조회
      * 
-     * @param polygon GeoJSON 폴리곤 문자열
+     * @param polygon 전처리된 폴리곤 ({@link RegionPolygonVO#fromText}, {@link RegionPolygonVO#fromStream})
      * @return 블록 목록
      * @throws ValidationException 검증 실패 시
      */
-    List<Map<String, Object>> getBlocksByPolygon(String polygon) throws ValidationException;
+    List<Map<String, Object>> getBlocksByPolygon(RegionPolygonVO polygon) throws ValidationException;
     
     /**
      * 반경 내 블록 조회
      * 
+     * <p>기본은 블록 중심점 인덱스로 중심점까지의 거리를 계산하며,
+     * exact가 true이면 PostGIS로 블록 경계까지의 거리를 계산합니다.</p>
+     * 
      * @param lat 중심점 위도
      * @param lng 중심점 경도
      * @param radius 반경 (미터)
-     * @return 블록 목록
+     * @param exact 경계 거리 기준 여부
+     * @return 블록 목록 (거리 순)
+     * @throws ValidationException 검증 실패 시
+     */
+    List<Map<String, Object>> getBlocksByRadius(double lat, double lng, int radius, boolean exact) throws ValidationException;
+
+    /**
+     * 최근접 블록 조회 (중심점 기준)
+     * 
+     * @param lat 중심점 위도
+     * @param lng 중심점 경도
+     * @param k 조회 건수
+     * @param maxRadius 최대 반경 (미터)
+     * @return 블록 목록 (거리 순, 최대 k건)
      * @throws ValidationException 검증 실패 시
      */
-    List<Map<String, Object>> getBlocksByRadius(double lat, double lng, int radius) throws ValidationException;
+    List<Map<String, Object>> getNearestBlocks(double lat, double lng, int k, int maxRadius) throws ValidationException;
 
     // ==================== 행정동 API ====================
     
@@ -111,11 +132,20 @@ public interface RegionService {
     /**
      * 폴리곤 영역 내 행정동 조회
      * 
-     * @param polygon GeoJSON 폴리곤 문자열
+     * @param polygon 전처리된 폴리곤 ({@link RegionPolygonVO#fromText}, {@link RegionPolygonVO#fromStream})
      * @return 행정동 목록
      * @throws ValidationException 검증 실패 시
      */
-    List<Map<String, Object>> getAdmisByPolygon(String polygon) throws ValidationException;
+    List<Map<String, Object>> getAdmisByPolygon(RegionPolygonVO polygon) throws ValidationException;
+
+    /**
+     * 다건 좌표로 행정동 조회
+     * 
+     * @param points 좌표 목록 (최대 1,000건)
+     * @return 입력 순서와 동일한 행정동 목록 (lat, lng, megaCd, megaNm, ctyCd, ctyNm, admiCd, admiNm / 행정동이 없는 좌표는 lat, lng만 포함)
+     * @throws ValidationException 검증 실패 시
+     */
+    List<Map<String, Object>> getAdmisByPoints(List<RegionPointVO> points) throws ValidationException;
     
     /**
      * 인접 행정동 조회
@@ -126,6 +156,18 @@ public interface RegionService {
      */
     List<Map<String, Object>> getAdjacentAdmis(String admiCd) throws ValidationException;
 
+    /**
+     * k-단계 인접 행정동 조회
+     * 
+     * <p>인접 행정동의 인접 행정동까지 단계별로 확장합니다. (hops=1이면 인접 행정동 조회와 동일)</p>
+     * 
+     * @param admiCd 기준 행정동 코드 (8자리)
+     * @param hops 확장 단계 (1~5)
+     * @return 행정동 목록 (기준 행정동 포함, hop: 기준으로부터의 단계)
+     * @throws ValidationException 검증 실패 시
+     */
+    List<Map<String, Object>> getAdmiNeighborhood(String admiCd, int hops) throws ValidationException;
+
     // ==================== 시군구 API ====================
     
     /**
@@ -150,11 +192,11 @@ public interface RegionService {
     /**
      * 폴리곤 영역 내 시도 조회
      * 
-     * @param polygon GeoJSON 폴리곤 문자열
+     * @param polygon 전처리된 폴리곤 ({@link RegionPolygonVO#fromText}, {@link RegionPolygonVO#fromStream})
      * @return 시도 목록
      * @throws ValidationException 검증 실패 시
      */
-    List<Map<String, Object>> getCtysByPolygon(String polygon) throws ValidationException;
+    List<Map<String, Object>> getCtysByPolygon(RegionPolygonVO polygon) throws ValidationException;
 
     // ==================== 광역시도 API ====================
     
@@ -180,11 +222,11 @@ public interface RegionService {
     /**
      * 폴리곤 영역 내 광역권 조회
      * 
-     * @param polygon GeoJSON 폴리곤 문자열
+     * @param polygon 전처리된 폴리곤 ({@link RegionPolygonVO#fromText}, {@link RegionPolygonVO#fromStream})
      * @return 광역권 목록
      * @throws ValidationException 검증 실패 시
      */
-    List<Map<String, Object>> getMegasByPolygon(String polygon) throws ValidationException;
+    List<Map<String, Object>> getMegasByPolygon(RegionPolygonVO polygon) throws ValidationException;
 
     /**
      * 시도 목록 조회
@@ -193,4 +235,35 @@ public interface RegionService {
      * @throws ValidationException 검증 실패 시
      */
     List<Map<String, Object>> getMegaList() throws ValidationException;
-} 
\ No newline at end of file
+
+    // ==================== 단순화 경계 API ====================
+
+    /**
+     * 줌 레벨에 맞는 단순화 경계로 행정구역 조회
+     *
+     * <p>줌이 없거나 상세 줌(14 이상)이면 레벨별 코드 조회와 동일합니다.
+     * 저배율 줌에서는 미리 단순화한 경계(geoJson)를 반환하며 feature 컬럼은 포함하지 않습니다.</p>
+     *
+     * @param level 행정구역 레벨
+     * @param code 행정구역 코드
+     * @param zoom 지도 줌 레벨 (0~22, 선택)
+     * @return 행정구역 정보
+     * @throws ValidationException 검증 실패 시
+     */
+    Map<String, Object> getRegionByCode(RegionLevel level, String code, Integer zoom) throws ValidationException;
+
+    // ==================== 계층 API ====================
+
+    /**
+     * 좌표로 블록 → 행정동 → 시군구 → 광역시도 계층 조회
+     *
+     * <p>블록을 먼저 찾고 상위 행정구역은 코드로 도출합니다.
+     * 블록 경계가 없는 좌표는 행정동 기준으로 조회합니다 (blkCd, blkNm 없음).</p>
+     *
+     * @param lat 위도
+     * @param lng 경도
+     * @return 행정구역 계층 정보 (blkCd, blkNm, admiCd, admiNm, ctyCd, ctyNm, megaCd, megaNm, centerX, centerY, feature)
+     * @throws ValidationException 검증 실패 시
+     */
+    Map<String, Object> getRegionHierarchyByPoint(double lat, double lng) throws ValidationException;
+}
@@ -0,0 +1,130 @@
+package com.zinidata.domain.common.region.service;
+
+import org.springframework.stereotype.Service;
+
+import com.zinidata.common.enums.Status;
+import com.zinidata.common.exception.ValidationException;
+import com.zinidata.domain.common.region.cache.RegionTileCache;
+import com.zinidata.domain.common.region.enums.RegionLevel;
+import com.zinidata.domain.common.region.mapper.RegionMapper;
+import com.zinidata.domain.common.region.snapshot.RegionSnapshotManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 행정구역 벡터 타일(MVT) 서비스
+ *
+ * <p>블록/행정동/시군구/광역시도 경계를 ST_AsMVT로 타일 단위 생성하고
+ * {@link RegionTileCache}를 통해 바이트 그대로 재사용합니다.</p>
+ *
+ * <h3>레이어별 최소 줌</h3>
+ * <ul>
+ *   <li><strong>광역시도:</strong> 0 이상</li>
+ *   <li><strong>시군구:</strong> 7 이상</li>
+ *   <li><strong>행정동:</strong> 10 이상</li>
+ *   <li><strong>블록:</strong> 14 이상</li>
+ * </ul>
+ * <p>최소 줌보다 낮은 요청은 한 타일에 경계가 과도하게 몰리므로 빈 타일을 반환합니다.</p>
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RegionTileService {
+
+    private static final byte[] EMPTY_TILE = new byte[0];
+    private static final int MAX_ZOOM = 22;
+
+    private final RegionMapper regionMapper;
+    private final RegionTileCache tileCache;
+    private final RegionSnapshotManager snapshotManager;
+
+    /**
+     * 벡터 타일 조회
+     *
+     * @param layer 레이어 (block, admi, cty, mega)
+     * @param z 줌 레벨
+     * @param x 타일 X
+     * @param y 타일 Y
+     * @return MVT 바이트 (경계가 없으면 빈 배열)
+     * @throws ValidationException 검증 실패 시
+     */
+    public byte[] getTile(String layer, int z, int x, int y) throws ValidationException {
+        RegionLevel level = RegionLevel.fromKey(layer);
+
+        try {
+            // 입력값 검증
+            validateTile(level, layer, z, x, y);
+
+            if (z < minZoom(level)) {
+                return EMPTY_TILE;
+            }
+
+            // 캐시 조회 (메모리 → 디스크, 경계 데이터 버전별 키)
+            String key = snapshotManager.versionToken() + "/" + level.getKey() + "/" + z + "/" + x + "/" + y;
+            byte[] tile = tileCache.get(key);
+            if (tile != null) {
+                return tile;
+            }
+
+            // 캐시 미스 시 PostGIS에서 생성
+            long startTime = System.currentTimeMillis();
+            tile = switch (level) {
+                case BLOCK -> regionMapper.selectBlockTile(z, x, y);
+                case ADMI -> regionMapper.selectAdmiTile(z, x, y);
+                case CTY -> regionMapper.selectCtyTile(z, x, y);
+                case MEGA -> regionMapper.selectMegaTile(z, x, y);
+            };
+            if (tile == null) {
+                tile = EMPTY_TILE;
+            }
+
+            tileCache.put(key, tile);
+            log.debug("[REGION-TILE] 타일 생성 - 키: {}, 크기: {}byte, 소요시간: {}ms",
+                    key, tile.length, System.currentTimeMillis() - startTime);
+            return tile;
+
+        } catch (ValidationException e) {
+            log.warn("[REGION-TILE] 타일 조회 검증 실패: {}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("[REGION-TILE] 타일 조회 처리 오류 - 레이어: {}, z: {}, x: {}, y: {}", layer, z, x, y, e);
+            throw new ValidationException(Status.실패, "벡터 타일 조회 중 오류가 발생했습니다.");
+        }
+    }
+
+    // ==================== 검증 메서드 ====================
+
+    /**
+     * 타일 좌표 검증
+     */
+    private void validateTile(RegionLevel level, String layer, int z, int x, int y) throws ValidationException {
+        if (level == null) {
+            throw new ValidationException(Status.파라미터오류, "지원하지 않는 레이어입니다: " + layer);
+        }
+
+        if (z < 0 || z > MAX_ZOOM) {
+            throw new ValidationException(Status.파라미터오류, "줌 레벨은 0 ~ " + MAX_ZOOM + " 범위여야 합니다.");
+        }
+
+        int tileCount = 1 << z;
+        if (x < 0 || x >= tileCount || y < 0 || y >= tileCount) {
+            throw new ValidationException(Status.파라미터오류, "타일 좌표가 줌 레벨 범위를 벗어났습니다.");
+        }
+    }
+
+    /**
+     * 레이어별 최소 줌
+     */
+    private int minZoom(RegionLevel level) {
+        return switch (level) {
+            case MEGA -> 0;
+            case CTY -> 7;
+            case ADMI -> 10;
+            case BLOCK -> 14;
+        };
+    }
+}
@@ -1,5 +1,7 @@
 package com.zinidata.domain.common.region.service.impl;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -8,8 +10,16 @@ import org.springframework.stereotype.Service;
 
 import com.zinidata.common.enums.Status;
 import com.zinidata.common.exception.ValidationException;
+import com.zinidata.domain.common.region.cache.RegionGeometryLodCache;
+import com.zinidata.domain.common.region.cache.RegionGeometryStore;
+import com.zinidata.domain.common.region.enums.GeometryLod;
+import com.zinidata.domain.common.region.enums.RegionLevel;
+import com.zinidata.domain.common.region.index.AdmiAdjacencyGraph;
+import com.zinidata.domain.common.region.index.BlockCentroidIndex;
 import com.zinidata.domain.common.region.mapper.RegionMapper;
 import com.zinidata.domain.common.region.service.RegionService;
+import com.zinidata.domain.common.region.vo.RegionPointVO;
+import com.zinidata.domain.common.region.vo.RegionPolygonVO;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -39,7 +49,7 @@ import lombok.extern.slf4j.Slf4j;
  *   <li><strong>Point in Polygon:</strong> 좌표 기반 행정구역 조회</li>
  *   <li><strong>Spatial Join:</strong> 폴리곤 영역 내 지역 목록 조회</li>
  *   <li><strong>Buffer Query:</strong> 반경 내 지역 검색</li>
- *   <li><strong>Geometry 변환:</strong> GeoJSON ↔ WKT 포맷 처리</li>
+ *   <li><strong>Geometry 변환:</strong> GeoJSON/WKT → WKB 전처리 ({@link RegionPolygonVO})</li>
  * </ul>
  * 
  * <p><strong>Redis 구현체로 변경하려면:</strong> application.yml에 region.datasource: redis 추가</p>
@@ -54,6 +64,19 @@ import lombok.extern.slf4j.Slf4j;
 public class RegionServiceImpl implements RegionService {
 
     private final RegionMapper regionMapper;
+    private final RegionGeometryLodCache geometryLodCache;
+    private final RegionGeometryStore geometryStore;
+    private final AdmiAdjacencyGraph adjacencyGraph;
+    private final BlockCentroidIndex blockCentroidIndex;
+
+    /** 다건 좌표 조회 최대 건수 */
+    private static final int MAX_BATCH_POINTS = 1000;
+
+    /** 인접 행정동 최대 확장 단계 */
+    private static final int MAX_HOPS = 5;
+
+    /** 최근접 블록 최대 조회 건수 */
+    private static final int MAX_NEAREST = 100;
 
     // ==================== 블록 API ====================
     
@@ -66,7 +89,7 @@ public class RegionServiceImpl implements RegionService {
             validateBlockCode(blkCd);
             
             // 데이터 조회
-            Map<String, Object> result = regionMapper.selectBlockByCode(blkCd);
+            Map<String, Object> result = geometryStore.selectByCode(RegionLevel.BLOCK, blkCd);
             
             if (result == null) {
                 log.warn("[REGION-V1] 블록 조회 결과 없음 - 블록코드: {}", blkCd);
@@ -114,18 +137,15 @@ public class RegionServiceImpl implements RegionService {
     }
     
     @Override
-    public List<Map<String, Object>> getBlocksByPolygon(String polygon) throws ValidationException {
-        log.info("[REGION-V1] 폴리곤 영역 블록 조회 서비스 - 폴리곤 크기: {}", polygon.length());
+    public List<Map<String, Object>> getBlocksByPolygon(RegionPolygonVO polygon) throws ValidationException {
+        log.info("[REGION-V1] 폴리곤 영역 블록 조회 서비스 - 꼭짓점 수: {}", polygon != null ? polygon.getVertexCount() : null);
         
         try {
             // 폴리곤 검증
             validatePolygon(polygon);
             
-            // WKT 형식 변환
-            String wktPolygon = convertToWKT(polygon);
-            
             // 데이터 조회
-            List<Map<String, Object>> result = regionMapper.selectBlocksByPolygon(wktPolygon);
+            List<Map<String, Object>> result = regionMapper.selectBlocksByPolygon(polygon);
             
             log.info("[REGION-V1] 폴리곤 영역 블록 조회 성공 - 조회건수: {}", result.size());
             return result;
@@ -140,16 +160,18 @@ public class RegionServiceImpl implements RegionService {
     }
     
     @Override
-    public List<Map<String, Object>> getBlocksByRadius(double lat, double lng, int radius) throws ValidationException {
-        log.info("[REGION-V1] 반경 내 블록 조회 서비스 - 위도: {}, 경도: {}, 반경: {}m", lat, lng, radius);
+    public List<Map<String, Object>> getBlocksByRadius(double lat, double lng, int radius, boolean exact) throws ValidationException {
+        log.info("[REGION-V1] 반경 내 블록 조회 서비스 - 위도: {}, 경도: {}, 반경: {}m, 경계기준: {}", lat, lng, radius, exact);
         
         try {
             // 좌표 및 반경 검증
             validateCoordinates(lat, lng);
             validateRadius(radius);
             
-            // 데이터 조회
-            List<Map<String, Object>> result = regionMapper.selectBlocksByRadius(lat, lng, radius);
+            // 경계 거리 기준일 때만 PostGIS 조회, 기본은 중심점 인덱스 조회
+            List<Map<String, Object>> result = exact
+                    ? regionMapper.selectBlocksByRadius(lat, lng, radius)
+                    : blockCentroidIndex.withinRadius(lat, lng, radius);
             
             log.info("[REGION-V1] 반경 내 블록 조회 성공 - 위도: {}, 경도: {}, 반경: {}m, 조회건수: {}", lat, lng, radius, result.size());
             return result;
@@ -163,6 +185,31 @@ public class RegionServiceImpl implements RegionService {
         }
     }
 
+    @Override
+    public List<Map<String, Object>> getNearestBlocks(double lat, double lng, int k, int maxRadius) throws ValidationException {
+        log.info("[REGION-V1] 최근접 블록 조회 서비스 - 위도: {}, 경도: {}, 건수: {}, 최대반경: {}m", lat, lng, k, maxRadius);
+        
+        try {
+            // 좌표, 건수 및 반경 검증
+            validateCoordinates(lat, lng);
+            validateNearestCount(k);
+            validateRadius(maxRadius);
+            
+            // 데이터 조회
+            List<Map<String, Object>> result = blockCentroidIndex.nearest(lat, lng, k, maxRadius);
+            
+            log.info("[REGION-V1] 최근접 블록 조회 성공 - 위도: {}, 경도: {}, 조회건수: {}", lat, lng, result.size());
+            return result;
+            
+        } catch (ValidationException e) {
+            log.warn("[REGION-V1] 최근접 블록 조회 검증 실패: {}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("[REGION-V1] 최근접 블록 조회 처리 오류", e);
+            throw new ValidationException(Status.실패, "최근접 블록 조회 중 오류가 발생했습니다.");
+        }
+    }
+
     // ==================== 행정동 API ====================
     
     @Override
@@ -174,7 +221,7 @@ public class RegionServiceImpl implements RegionService {
             validateAdmiCode(admiCd);
             
             // 데이터 조회
-            Map<String, Object> result = regionMapper.selectAdmiByCode(admiCd);
+            Map<String, Object> result = geometryStore.selectByCode(RegionLevel.ADMI, admiCd);
             
             if (result == null) {
                 log.warn("[REGION-V1] 행정동 조회 결과 없음 - 행정동코드: {}", admiCd);
@@ -222,18 +269,15 @@ public class RegionServiceImpl implements RegionService {
     }
     
     @Override
-    public List<Map<String, Object>> getAdmisByPolygon(String polygon) throws ValidationException {
-        log.info("[REGION-V1] 폴리곤 영역 행정동 조회 서비스 - 폴리곤 크기: {}", polygon.length());
+    public List<Map<String, Object>> getAdmisByPolygon(RegionPolygonVO polygon) throws ValidationException {
+        log.info("[REGION-V1] 폴리곤 영역 행정동 조회 서비스 - 꼭짓점 수: {}", polygon != null ? polygon.getVertexCount() : null);
         
         try {
             // 폴리곤 검증
             validatePolygon(polygon);
             
-            // WKT 형식 변환
-            String wktPolygon = convertToWKT(polygon);
-            
             // 데이터 조회
-            List<Map<String, Object>> result = regionMapper.selectAdmisByPolygon(wktPolygon);
+            List<Map<String, Object>> result = regionMapper.selectAdmisByPolygon(polygon);
             
             log.info("[REGION-V1] 폴리곤 영역 행정동 조회 성공 - 조회건수: {}", result.size());
             return result;
@@ -247,23 +291,55 @@ public class RegionServiceImpl implements RegionService {
         }
     }
     
+    @Override
+    public List<Map<String, Object>> getAdmisByPoints(List<RegionPointVO> points) throws ValidationException {
+        log.info("[REGION-V1] 다건 좌표 기반 행정동 조회 서비스 - 좌표 수: {}", points == null ? 0 : points.size());
+        
+        try {
+            // 좌표 검증
+            validatePoints(points);
+            
+            // 데이터 조회 (한 번의 공간 조인)
+            List<Map<String, Object>> rows = regionMapper.selectAdmisByPoints(points);
+            List<Map<String, Object>> result = mergeByIndex(points, rows);
+            
+            log.info("[REGION-V1] 다건 좌표 기반 행정동 조회 성공 - 좌표 수: {}, 매칭 수: {}", points.size(), rows.size());
+            return result;
+            
+        } catch (ValidationException e) {
+            log.warn("[REGION-V1] 다건 좌표 기반 행정동 조회 검증 실패: {}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("[REGION-V1] 다건 좌표 기반 행정동 조회 처리 오류", e);
+            throw new ValidationException(Status.실패, "다건 좌표 기반 행정동 조회 중 오류가 발생했습니다.");
+        }
+    }
+    
     @Override
     public List<Map<String, Object>> getAdjacentAdmis(String admiCd) throws ValidationException {
-        log.info("[REGION-V1] 인접 행정동 조회 서비스 - 기준 행정동: {}", admiCd);
+        return getAdmiNeighborhood(admiCd, 1);
+    }
+    
+    @Override
+    public List<Map<String, Object>> getAdmiNeighborhood(String admiCd, int hops) throws ValidationException {
+        log.info("[REGION-V1] 인접 행정동 조회 서비스 - 기준 행정동: {}, 단계: {}", admiCd, hops);
         
         try {
             // 입력값 검증
             validateAdmiCode(admiCd);
+            validateHops(hops);
             
-            // 데이터 조회
-            List<Map<String, Object>> result = regionMapper.selectAdjacentAdmis(admiCd);
+            // 인접 그래프 조회 (메모리 / 그래프 적재 전에는 DB 조회)
+            List<Map<String, Object>> result = adjacencyGraph.isReady()
+                    ? adjacencyGraph.neighborhood(admiCd, hops)
+                    : regionMapper.selectAdmiNeighborhood(admiCd, hops);
             
-            if (result == null || result.isEmpty()) {
+            if (result.isEmpty()) {
                 log.warn("[REGION-V1] 인접 행정동 조회 결과 없음 - 기준 행정동: {}", admiCd);
                 throw new ValidationException(Status.데이터없음, "해당 행정동을 찾을 수 없습니다: " + admiCd);
             }
             
-            log.info("[REGION-V1] 인접 행정동 조회 성공 - 기준 행정동: {}, 조회건수: {}", admiCd, result.size());
+            log.info("[REGION-V1] 인접 행정동 조회 성공 - 기준 행정동: {}, 단계: {}, 조회건수: {}", admiCd, hops, result.size());
             return result;
             
         } catch (ValidationException e) {
@@ -286,7 +362,7 @@ public class RegionServiceImpl implements RegionService {
             validateCtyCode(ctyCd);
             
             // 데이터 조회
-            Map<String, Object> result = regionMapper.selectCtyByCode(ctyCd);
+            Map<String, Object> result = geometryStore.selectByCode(RegionLevel.CTY, ctyCd);
             
             if (result == null) {
                 log.warn("[REGION-V1] 시도 조회 결과 없음 - 시도코드: {}", ctyCd);
@@ -334,18 +410,15 @@ public class RegionServiceImpl implements RegionService {
     }
     
     @Override
-    public List<Map<String, Object>> getCtysByPolygon(String polygon) throws ValidationException {
-        log.info("[REGION-V1] 폴리곤 영역 시도 조회 서비스 - 폴리곤 크기: {}", polygon.length());
+    public List<Map<String, Object>> getCtysByPolygon(RegionPolygonVO polygon) throws ValidationException {
+        log.info("[REGION-V1] 폴리곤 영역 시도 조회 서비스 - 꼭짓점 수: {}", polygon != null ? polygon.getVertexCount() : null);
         
         try {
             // 폴리곤 검증
             validatePolygon(polygon);
             
-            // WKT 형식 변환
-            String wktPolygon = convertToWKT(polygon);
-            
             // 데이터 조회
-            List<Map<String, Object>> result = regionMapper.selectCtysByPolygon(wktPolygon);
+            List<Map<String, Object>> result = regionMapper.selectCtysByPolygon(polygon);
             
             log.info("[REGION-V1] 폴리곤 영역 시도 조회 성공 - 조회건수: {}", result.size());
             return result;
@@ -370,7 +443,7 @@ public class RegionServiceImpl implements RegionService {
             validateMegaCode(megaCd);
             
             // 데이터 조회
-            Map<String, Object> result = regionMapper.selectMegaByCode(megaCd);
+            Map<String, Object> result = geometryStore.selectByCode(RegionLevel.MEGA, megaCd);
             
             if (result == null) {
                 log.warn("[REGION-V1] 광역권 조회 결과 없음 - 광역권코드: {}", megaCd);
@@ -418,18 +491,15 @@ public class RegionServiceImpl implements RegionService {
     }
     
     @Override
-    public List<Map<String, Object>> getMegasByPolygon(String polygon) throws ValidationException {
-        log.info("[REGION-V1] 폴리곤 영역 광역권 조회 서비스 - 폴리곤 크기: {}", polygon.length());
+    public List<Map<String, Object>> getMegasByPolygon(RegionPolygonVO polygon) throws ValidationException {
+        log.info("[REGION-V1] 폴리곤 영역 광역권 조회 서비스 - 꼭짓점 수: {}", polygon != null ? polygon.getVertexCount() : null);
         
         try {
             // 폴리곤 검증
             validatePolygon(polygon);
             
-            // WKT 형식 변환
-            String wktPolygon = convertToWKT(polygon);
-            
             // 데이터 조회
-            List<Map<String, Object>> result = regionMapper.selectMegasByPolygon(wktPolygon);
+            List<Map<String, Object>> result = regionMapper.selectMegasByPolygon(polygon);
             
             log.info("[REGION-V1] 폴리곤 영역 광역권 조회 성공 - 조회건수: {}", result.size());
             return result;
@@ -518,15 +588,62 @@ public class RegionServiceImpl implements RegionService {
     }
     
     /**
-     * 폴리곤 검증
+     * 레벨별 코드 검증
      */
-    private void validatePolygon(String polygon) throws ValidationException {
-        if (polygon == null || polygon.trim().isEmpty()) {
-            throw new ValidationException(Status.파라미터오류, "폴리곤 데이터를 입력해주세요.");
+    private void validateCode(RegionLevel level, String code) throws ValidationException {
+        switch (level) {
+            case BLOCK -> validateBlockCode(code);
+            case ADMI -> validateAdmiCode(code);
+            case CTY -> validateCtyCode(code);
+            case MEGA -> validateMegaCode(code);
+        }
+    }
+    
+    /**
+     * 줌 레벨 검증
+     */
+    private void validateZoom(Integer zoom) throws ValidationException {
+        if (zoom != null && (zoom < 0 || zoom > 22)) {
+            throw new ValidationException(Status.파라미터오류, "줌 레벨은 0 ~ 22 범위여야 합니다.");
+        }
+    }
+    
+    /**
+     * 인접 확장 단계 검증
+     */
+    private void validateHops(int hops) throws ValidationException {
+        if (hops < 1 || hops > MAX_HOPS) {
+            throw new ValidationException(Status.파라미터오류, "확장 단계는 1 ~ " + MAX_HOPS + " 범위여야 합니다.");
+        }
+    }
+    
+    /**
+     * 다건 좌표 검증
+     */
+    private void validatePoints(List<RegionPointVO> points) throws ValidationException {
+        if (points == null || points.isEmpty()) {
+            throw new ValidationException(Status.파라미터오류, "좌표 목록을 입력해주세요.");
         }
         
-        if (polygon.trim().length() < 10) {
-            throw new ValidationException(Status.파라미터오류, "유효하지 않은 폴리곤 데이터입니다.");
+        if (points.size() > MAX_BATCH_POINTS) {
+            throw new ValidationException(Status.파라미터오류, "좌표는 최대 " + MAX_BATCH_POINTS + "건까지 조회할 수 있습니다.");
+        }
+        
+        for (int i = 0; i < points.size(); i++) {
+            RegionPointVO point = points.get(i);
+            if (point == null || point.getLat() == null || point.getLng() == null) {
+                throw new ValidationException(Status.파라미터오류, "좌표 값이 없습니다. (순번: " + i + ")");
+            }
+            validateCoordinates(point.getLat(), point.getLng());
+        }
+    }
+    
+    /**
+     * 폴리곤 검증
+     */
+    private void validatePolygon(RegionPolygonVO polygon) throws ValidationException {
+        if (polygon == null) {
+            throw new ValidationException(Status.파라미터오류, "폴리곤 데이터를 입력해주세요.");
         }
     }
     
@@ -543,27 +660,34 @@ public class RegionServiceImpl implements RegionService {
         }
     }
     
-    // ==================== 유틸리티 메서드 ====================
+    /**
+     * 최근접 조회 건수 검증
+     */
+    private void validateNearestCount(int k) throws ValidationException {
+        if (k <= 0 || k > MAX_NEAREST) {
+            throw new ValidationException(Status.파라미터오류, "조회 건수는 1~" + MAX_NEAREST + " 사이여야 합니다.");
+        }
+    }
     
+    // ==================== 유틸리티 메서드 ====================
+
     /**
-     * GeoJSON을 WKT 형식으로 변환
-     * 
-     * @param polygon GeoJSON 또는 WKT 폴리곤 문자열
-     * @return WKT 형식 폴리곤
+     * 입력 순서대로 다건 좌표 조회 결과 병합
      */
-    private String convertToWKT(String polygon) throws ValidationException {
-        // 이미 WKT 형식인 경우
-        if (polygon.trim().toUpperCase().startsWith("POLYGON")) {
-            return polygon;
+    private List<Map<String, Object>> mergeByIndex(List<RegionPointVO> points, List<Map<String, Object>> rows) {
+        List<Map<String, Object>> result = new ArrayList<>(points.size());
+        for (RegionPointVO point : points) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("lat", point.getLat());
+            item.put("lng", point.getLng());
+            result.add(item);
         }
         
-        // GeoJSON 형식인 경우 (간단한 변환 - 실제로는 라이브러리 사용 권장)
-        if (polygon.trim().startsWith("{") && polygon.contains("coordinates")) {
-            log.warn("[REGION-V1] GeoJSON 형식 감지됨. WKT 변환 로직이 필요합니다.");
-            throw new ValidationException(Status.파라미터오류, "현재 WKT 형식만 지원합니다. 예: POLYGON((lng lat, lng lat, ...))");
+        for (Map<String, Object> row : rows) {
+            int idx = ((Number) row.remove("idx")).intValue();
+            result.get(idx).putAll(row);
         }
-        
-        return polygon;
+        return result;
     }
 
     // ==================== 시도 목록 API ====================
@@ -592,4 +716,90 @@ public class RegionServiceImpl implements RegionService {
             throw new ValidationException(Status.실패, "시도 목록 조회 중 오류가 발생했습니다.");
         }
     }
-}
\ No newline at end of file
+
+    // ==================== 단순화 경계 API ====================
+
+    @Override
+    public Map<String, Object> getRegionByCode(RegionLevel level, String code, Integer zoom) throws ValidationException {
+        GeometryLod lod = GeometryLod.fromZoom(zoom);
+        if (!geometryLodCache.supports(level, lod)) {
+            validateZoom(zoom);
+            return getByCode(level, code);
+        }
+
+        log.info("[REGION-V1] 단순화 경계 {} 조회 서비스 - 코드: {}, 줌: {}, LOD: {}", level.getDesc(), code, zoom, lod);
+
+        try {
+            // 입력값 검증
+            validateZoom(zoom);
+            validateCode(level, code);
+
+            // 단순화 경계 캐시 조회 (레이어 단위 최초 1회 생성)
+            Map<String, Object> result = geometryLodCache.get(level, lod, code);
+
+            if (result == null) {
+                log.warn("[REGION-V1] 단순화 경계 {} 조회 결과 없음 - 코드: {}", level.getDesc(), code);
+                throw new ValidationException(Status.데이터없음, "해당 " + level.getDesc() + " 정보를 찾을 수 없습니다: " + code);
+            }
+
+            log.info("[REGION-V1] 단순화 경계 {} 조회 성공 - 코드: {}, LOD: {}", level.getDesc(), code, lod);
+            return result;
+
+        } catch (ValidationException e) {
+            log.warn("[REGION-V1] 단순화 경계 {} 조회 검증 실패: {}", level.getDesc(), e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("[REGION-V1] 단순화 경계 {} 조회 처리 오류", level.getDesc(), e);
+            throw new ValidationException(Status.실패, "단순화 경계 " + level.getDesc() + " 조회 중 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * 레벨별 코드 조회
+     */
+    private Map<String, Object> getByCode(RegionLevel level, String code) throws ValidationException {
+        return switch (level) {
+            case BLOCK -> getBlockByCode(code);
+            case ADMI -> getAdmiByCode(code);
+            case CTY -> getCtyByCode(code);
+            case MEGA -> getMegaByCode(code);
+        };
+    }
+
+    // ==================== 계층 API ====================
+
+    @Override
+    public Map<String, Object> getRegionHierarchyByPoint(double lat, double lng) throws ValidationException {
+        log.info("[REGION-V1] 좌표 기반 행정구역 계층 조회 서비스 - 위도: {}, 경도: {}", lat, lng);
+
+        try {
+            // 좌표 검증
+            validateCoordinates(lat, lng);
+
+            // 블록 기준 조회 (상위 행정구역은 코드 조인)
+            Map<String, Object> result = regionMapper.selectRegionHierarchyByPoint(lat, lng);
+
+            // 블록 경계가 없는 좌표는 행정동 기준으로 조회
+            if (result == null) {
+                log.debug("[REGION-V1] 블록 없음, 행정동 기준 계층 조회 - 위도: {}, 경도: {}", lat, lng);
+                result = regionMapper.selectAdmiByPoint(lat, lng);
+            }
+
+            if (result == null) {
+                log.warn("[REGION-V1] 좌표 기반 행정구역 계층 조회 결과 없음 - 위도: {}, 경도: {}", lat, lng);
+                return null; // 좌표에 해당하는 행정구역이 없을 수 있음
+            }
+
+            log.info("[REGION-V1] 좌표 기반 행정구역 계층 조회 성공 - 블록: {}, 행정동: {}",
+                    result.get("blkCd"), result.get("admiCd"));
+            return result;
+
+        } catch (ValidationException e) {
+            log.warn("[REGION-V1] 좌표 기반 행정구역 계층 조회 검증 실패: {}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("[REGION-V1] 좌표 기반 행정구역 계층 조회 처리 오류", e);
+            throw new ValidationException(Status.실패, "좌표 기반 행정구역 계층 조회 중 오류가 발생했습니다.");
+        }
+    }
+}
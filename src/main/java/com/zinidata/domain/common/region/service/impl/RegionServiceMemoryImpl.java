@@ -0,0 +1,351 @@
+package com.zinidata.domain.common.region.service.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import com.zinidata.common.enums.Status;
+import com.zinidata.common.exception.ValidationException;
+import com.zinidata.domain.common.region.config.RegionServiceConfig;
+import com.zinidata.domain.common.region.enums.RegionLevel;
+import com.zinidata.domain.common.region.index.RegionSpatialIndex;
+import com.zinidata.domain.common.region.service.RegionService;
+import com.zinidata.domain.common.region.vo.RegionPointVO;
+import com.zinidata.domain.common.region.vo.RegionPolygonVO;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인메모리 공간 인덱스 방식 지역 정보 서비스 구현체 💤 현재 미사용
+ *
+ * <p>좌표 기반 조회(Point in Polygon)를 {@link RegionSpatialIndex}의 STR-tree로 처리하여
+ * PostGIS 왕복 없이 응답합니다.</p>
+ * <p>코드/폴리곤/반경/인접 조회는 데이터베이스 구현체({@link RegionServiceConfig#DATABASE_SERVICE} 빈)에 위임합니다.</p>
+ *
+ * <h3>활성화 조건</h3>
+ * <ul>
+ *   <li>application.yml에 region.datasource: memory로 설정한 경우에만 활성화</li>
+ * </ul>
+ *
+ * <h3>특징</h3>
+ * <ul>
+ *   <li>✅ <strong>장점:</strong> 좌표 조회 시 DB 커넥션/네트워크 비용 없음</li>
+ *   <li>✅ <strong>장점:</strong> 캐시 적중률과 무관하게 모든 좌표에 대해 일정한 응답 속도</li>
+ *   <li>✅ <strong>장점:</strong> DB 조회 결과와 동일한 Map 구성 (API 응답 호환)</li>
+ *   <li>❌ <strong>단점:</strong> 경계 데이터 전체를 힙에 보관 (블록 레벨 메모리 사용량 큼)</li>
+ *   <li>❌ <strong>단점:</strong> 경계 데이터 변경 시 재적재 필요</li>
+ * </ul>
+ *
+ * <p>기동 직후 인덱스 적재가 끝나기 전까지는 데이터베이스 구현체로 조회합니다.</p>
+ *
+ * <p><strong>활성화 방법:</strong> application.yml에 region.datasource: memory 추가</p>
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "region.datasource", havingValue = "memory")
+public class RegionServiceMemoryImpl implements RegionService {
+
+    /** 다건 좌표 조회 최대 건수 */
+    private static final int MAX_BATCH_POINTS = 1000;
+
+    /** 다건 좌표 조회 결과 키 (selectAdmisByPoints와 동일) */
+    private static final String[] BATCH_RESULT_KEYS = {"megaCd", "megaNm", "ctyCd", "ctyNm", "admiCd", "admiNm"};
+
+    private final RegionSpatialIndex spatialIndex;
+    private final RegionServiceImpl databaseService;
+
+    public RegionServiceMemoryImpl(RegionSpatialIndex spatialIndex,
+            @Qualifier(RegionServiceConfig.DATABASE_SERVICE) RegionServiceImpl databaseService) {
+        this.spatialIndex = spatialIndex;
+        this.databaseService = databaseService;
+    }
+
+    // ==================== 블록 API ====================
+
+    @Override
+    public Map<String, Object> getBlockByCode(String blkCd) throws ValidationException {
+        return databaseService.getBlockByCode(blkCd);
+    }
+
+    @Override
+    public Map<String, Object> getBlockByPoint(double lat, double lng) throws ValidationException {
+        if (!spatialIndex.isReady(RegionLevel.BLOCK)) {
+            return databaseService.getBlockByPoint(lat, lng);
+        }
+        return findByPoint(RegionLevel.BLOCK, lat, lng);
+    }
+
+    @Override
+    public List<Map<String, Object>> getBlocksByPolygon(RegionPolygonVO polygon) throws ValidationException {
+        return databaseService.getBlocksByPolygon(polygon);
+    }
+
+    @Override
+    public List<Map<String, Object>> getBlocksByRadius(double lat, double lng, int radius, boolean exact) throws ValidationException {
+        return databaseService.getBlocksByRadius(lat, lng, radius, exact);
+    }
+
+    @Override
+    public List<Map<String, Object>> getNearestBlocks(double lat, double lng, int k, int maxRadius) throws ValidationException {
+        return databaseService.getNearestBlocks(lat, lng, k, maxRadius);
+    }
+
+    // ==================== 행정동 API ====================
+
+    @Override
+    public Map<String, Object> getAdmiByCode(String admiCd) throws ValidationException {
+        return databaseService.getAdmiByCode(admiCd);
+    }
+
+    @Override
+    public Map<String, Object> getAdmiByPoint(double lat, double lng) throws ValidationException {
+        if (!spatialIndex.isReady(RegionLevel.ADMI)) {
+            return databaseService.getAdmiByPoint(lat, lng);
+        }
+        return findByPoint(RegionLevel.ADMI, lat, lng);
+    }
+
+    @Override
+    public List<Map<String, Object>> getAdmisByPolygon(RegionPolygonVO polygon) throws ValidationException {
+        return databaseService.getAdmisByPolygon(polygon);
+    }
+
+    @Override
+    public List<Map<String, Object>> getAdmisByPoints(List<RegionPointVO> points) throws ValidationException {
+        if (!spatialIndex.isReady(RegionLevel.ADMI)) {
+            return databaseService.getAdmisByPoints(points);
+        }
+
+        log.info("[REGION-MEMORY] 다건 좌표 기반 행정동 조회 서비스 - 좌표 수: {}", points == null ? 0 : points.size());
+
+        try {
+            // 좌표 검증
+            validatePoints(points);
+
+            // 인덱스 조회 (입력 순서 유지)
+            List<Map<String, Object>> result = new ArrayList<>(points.size());
+            int matched = 0;
+            for (RegionPointVO point : points) {
+                Map<String, Object> item = new LinkedHashMap<>();
+                item.put("lat", point.getLat());
+                item.put("lng", point.getLng());
+
+                Map<String, Object> admi = spatialIndex.findAttributesByPoint(RegionLevel.ADMI, point.getLat(), point.getLng());
+                if (admi != null) {
+                    for (String key : BATCH_RESULT_KEYS) {
+                        item.put(key, admi.get(key));
+                    }
+                    matched++;
+                }
+                result.add(item);
+            }
+
+            log.info("[REGION-MEMORY] 다건 좌표 기반 행정동 조회 성공 - 좌표 수: {}, 매칭 수: {}", points.size(), matched);
+            return result;
+
+        } catch (ValidationException e) {
+            log.warn("[REGION-MEMORY] 다건 좌표 기반 행정동 조회 검증 실패: {}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("[REGION-MEMORY] 다건 좌표 기반 행정동 조회 처리 오류", e);
+            throw new ValidationException(Status.실패, "다건 좌표 기반 행정동 조회 중 오류가 발생했습니다.");
+        }
+    }
+
+    @Override
+    public List<Map<String, Object>> getAdjacentAdmis(String admiCd) throws ValidationException {
+        return databaseService.getAdjacentAdmis(admiCd);
+    }
+
+    @Override
+    public List<Map<String, Object>> getAdmiNeighborhood(String admiCd, int hops) throws ValidationException {
+        return databaseService.getAdmiNeighborhood(admiCd, hops);
+    }
+
+    // ==================== 시군구 API ====================
+
+    @Override
+    public Map<String, Object> getCtyByCode(String ctyCd) throws ValidationException {
+        return databaseService.getCtyByCode(ctyCd);
+    }
+
+    @Override
+    public Map<String, Object> getCtyByPoint(double lat, double lng) throws ValidationException {
+        if (!spatialIndex.isReady(RegionLevel.CTY)) {
+            return databaseService.getCtyByPoint(lat, lng);
+        }
+        return findByPoint(RegionLevel.CTY, lat, lng);
+    }
+
+    @Override
+    public List<Map<String, Object>> getCtysByPolygon(RegionPolygonVO polygon) throws ValidationException {
+        return databaseService.getCtysByPolygon(polygon);
+    }
+
+    // ==================== 광역시도 API ====================
+
+    @Override
+    public Map<String, Object> getMegaByCode(String megaCd) throws ValidationException {
+        return databaseService.getMegaByCode(megaCd);
+    }
+
+    @Override
+    public Map<String, Object> getMegaByPoint(double lat, double lng) throws ValidationException {
+        if (!spatialIndex.isReady(RegionLevel.MEGA)) {
+            return databaseService.getMegaByPoint(lat, lng);
+        }
+        return findByPoint(RegionLevel.MEGA, lat, lng);
+    }
+
+    @Override
+    public List<Map<String, Object>> getMegasByPolygon(RegionPolygonVO polygon) throws ValidationException {
+        return databaseService.getMegasByPolygon(polygon);
+    }
+
+    @Override
+    public List<Map<String, Object>> getMegaList() throws ValidationException {
+        return databaseService.getMegaList();
+    }
+
+    // ==================== 단순화 경계 API ====================
+
+    @Override
+    public Map<String, Object> getRegionByCode(RegionLevel level, String code, Integer zoom) throws ValidationException {
+        return databaseService.getRegionByCode(level, code, zoom);
+    }
+
+    // ==================== 계층 API ====================
+
+    @Override
+    public Map<String, Object> getRegionHierarchyByPoint(double lat, double lng) throws ValidationException {
+        if (!spatialIndex.isReady(RegionLevel.BLOCK) || !spatialIndex.isReady(RegionLevel.ADMI)) {
+            return databaseService.getRegionHierarchyByPoint(lat, lng);
+        }
+
+        log.info("[REGION-MEMORY] 좌표 기반 행정구역 계층 조회 서비스 - 위도: {}, 경도: {}", lat, lng);
+
+        try {
+            // 좌표 검증
+            validateCoordinates(lat, lng);
+
+            // 블록 기준 조회 후 행정동 코드로 상위 행정구역 도출
+            Map<String, Object> block = spatialIndex.findAttributesByPoint(RegionLevel.BLOCK, lat, lng);
+            Map<String, Object> admi = block == null
+                    ? null
+                    : spatialIndex.findByCode(RegionLevel.ADMI, (String) block.get("admiCd"));
+
+            // 블록 경계가 없거나 코드가 맞지 않는 경우 행정동 기준으로 조회
+            if (admi == null) {
+                admi = spatialIndex.findByPoint(RegionLevel.ADMI, lat, lng);
+            }
+
+            if (admi == null) {
+                log.warn("[REGION-MEMORY] 좌표 기반 행정구역 계층 조회 결과 없음 - 위도: {}, 경도: {}", lat, lng);
+                return null; // 좌표에 해당하는 행정구역이 없을 수 있음
+            }
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            if (block != null) {
+                result.put("blkCd", block.get("blkCd"));
+                result.put("blkNm", block.get("blkNm"));
+            }
+            result.putAll(admi);
+
+            log.info("[REGION-MEMORY] 좌표 기반 행정구역 계층 조회 성공 - 블록: {}, 행정동: {}",
+                    result.get("blkCd"), result.get("admiCd"));
+            return result;
+
+        } catch (ValidationException e) {
+            log.warn("[REGION-MEMORY] 좌표 기반 행정구역 계층 조회 검증 실패: {}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("[REGION-MEMORY] 좌표 기반 행정구역 계층 조회 처리 오류", e);
+            throw new ValidationException(Status.실패, "좌표 기반 행정구역 계층 조회 중 오류가 발생했습니다.");
+        }
+    }
+
+    // ==================== 인메모리 조회 ====================
+
+    /**
+     * 공간 인덱스 기반 좌표 조회
+     *
+     * <p>데이터베이스 구현체와 동일하게 해당 좌표의 행정구역이 없으면 null을 반환합니다.</p>
+     */
+    private Map<String, Object> findByPoint(RegionLevel level, double lat, double lng) throws ValidationException {
+        log.info("[REGION-MEMORY] 좌표 기반 {} 조회 서비스 - 위도: {}, 경도: {}", level.getDesc(), lat, lng);
+
+        try {
+            // 좌표 검증
+            validateCoordinates(lat, lng);
+
+            // 인덱스 조회
+            Map<String, Object> result = spatialIndex.findByPoint(level, lat, lng);
+
+            if (result == null) {
+                log.warn("[REGION-MEMORY] 좌표 기반 {} 조회 결과 없음 - 위도: {}, 경도: {}", level.getDesc(), lat, lng);
+                return null; // 좌표에 해당하는 행정구역이 없을 수 있음
+            }
+
+            log.info("[REGION-MEMORY] 좌표 기반 {} 조회 성공 - 코드: {}", level.getDesc(), result.get(level.getCodeKey()));
+            return result;
+
+        } catch (ValidationException e) {
+            log.warn("[REGION-MEMORY] 좌표 기반 {} 조회 검증 실패: {}", level.getDesc(), e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("[REGION-MEMORY] 좌표 기반 {} 조회 처리 오류", level.getDesc(), e);
+            throw new ValidationException(Status.실패, "좌표 기반 " + level.getDesc() + " 조회 중 오류가 발생했습니다.");
+        }
+    }
+
+    // ==================== 검증 메서드 ====================
+
+    /**
+     * 좌표 검증
+     */
+    private void validateCoordinates(double lat, double lng) throws ValidationException {
+        // 1. 위도 범위 검증 (-90 ~ 90)
+        if (lat < -90 || lat > 90) {
+            throw new ValidationException(Status.파라미터오류, "위도는 -90 ~ 90 범위여야 합니다.");
+        }
+
+        // 2. 경도 범위 검증 (-180 ~ 180)
+        if (lng < -180 || lng > 180) {
+            throw new ValidationException(Status.파라미터오류, "경도는 -180 ~ 180 범위여야 합니다.");
+        }
+
+        // 3. 한국 영역 검증 (선택적)
+        if (lat < 33 || lat > 39 || lng < 124 || lng > 132) {
+            log.warn("[REGION-MEMORY] 한국 영역 외부 좌표 - 위도: {}, 경도: {}", lat, lng);
+        }
+    }
+
+    /**
+     * 다건 좌표 검증
+     */
+    private void validatePoints(List<RegionPointVO> points) throws ValidationException {
+        if (points == null || points.isEmpty()) {
+            throw new ValidationException(Status.파라미터오류, "좌표 목록을 입력해주세요.");
+        }
+
+        if (points.size() > MAX_BATCH_POINTS) {
+            throw new ValidationException(Status.파라미터오류, "좌표는 최대 " + MAX_BATCH_POINTS + "건까지 조회할 수 있습니다.");
+        }
+
+        for (int i = 0; i < points.size(); i++) {
+            RegionPointVO point = points.get(i);
+            if (point == null || point.getLat() == null || point.getLng() == null) {
+                throw new ValidationException(Status.파라미터오류, "좌표 값이 없습니다. (순번: " + i + ")");
+            }
+            validateCoordinates(point.getLat(), point.getLng());
+        }
+    }
+}
@@ -1,17 +1,32 @@
 package com.zinidata.domain.common.region.service.impl;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import com.zinidata.common.cache.TwoTierCache;
 import com.zinidata.common.enums.Status;
 import com.zinidata.common.exception.ValidationException;
+import com.zinidata.domain.common.region.cache.RegionCacheCodec;
+import com.zinidata.domain.common.region.cache.RegionGeometryLodCache;
+import com.zinidata.domain.common.region.cache.RegionGeometryStore;
+import com.zinidata.domain.common.region.cache.RegionPointCache;
+import com.zinidata.domain.common.region.cache.RegionPolygonCache;
+import com.zinidata.domain.common.region.enums.GeometryLod;
+import com.zinidata.domain.common.region.enums.RegionLevel;
+import com.zinidata.domain.common.region.index.AdmiAdjacencyGraph;
+import com.zinidata.domain.common.region.index.BlockCentroidIndex;
 import com.zinidata.domain.common.region.mapper.RegionMapper;
 import com.zinidata.domain.common.region.service.RegionService;
+import com.zinidata.domain.common.region.snapshot.RegionSnapshotManager;
+import com.zinidata.domain.common.region.vo.RegionPointVO;
+import com.zinidata.domain.common.region.vo.RegionPolygonVO;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -40,14 +55,17 @@ import lombok.extern.slf4j.Slf4j;
  * <h3>캐시 전략</h3>
  * <ul>
  *   <li>행정구역 기본 정보: 7일 TTL (변경 빈도 낮음)</li>
- *   <li>좌표 기반 조회: 24시간 TTL (반복 조회 많음)</li>
+ *   <li>좌표 기반 조회: 24시간 TTL (반복 조회 많음), {@link RegionPointCache} Geohash 셀 키 + 결과 없음 캐시</li>
+ *   <li>폴리곤 영역 조회: {@link RegionPolygonCache} 고정 격자 타일 단위 캐시, 경계선이 지나는 부분만 DB 정밀 조회</li>
  *   <li>공간 분석 결과: 1시간 TTL (계산 비용 높음)</li>
  *   <li>Cache-Aside 패턴: Redis 조회 → 없으면 PostGIS 조회 후 캐시 저장</li>
+ *   <li>코드 조회/광역시도 목록: {@link TwoTierCache}로 노드 메모리 우선 조회 (Redis Pub/Sub 무효화)</li>
+ *   <li>모든 키에 경계 데이터 버전 토큰 포함 ({@link RegionSnapshotManager}) → 데이터 재적재 시 이전/신규 경계가 섞이지 않음</li>
  * </ul>
  * 
  * <h3>GIS 캐시 최적화</h3>
  * <ul>
- *   <li><strong>Geometry 압축:</strong> WKT → Binary 변환으로 저장 공간 절약</li>
+ *   <li><strong>Geometry 압축:</strong> {@link RegionCacheCodec} - 좌표 델타 varint + Deflate 이진 저장, 응답 직렬화 시점에 복원</li>
  *   <li><strong>공간 인덱스:</strong> 좌표 기반 Redis Hash 구조 활용</li>
  *   <li><strong>배치 캐싱:</strong> 인접 지역 정보 미리 로드</li>
  * </ul>
@@ -64,21 +82,38 @@ import lombok.extern.slf4j.Slf4j;
 public class RegionServiceRedisImpl implements RegionService {
 
     private final RegionMapper regionMapper;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final RegionGeometryLodCache geometryLodCache;
+    private final RegionGeometryStore geometryStore;
+    private final AdmiAdjacencyGraph adjacencyGraph;
+    private final BlockCentroidIndex blockCentroidIndex;
+    private final TwoTierCache twoTierCache;
+    private final RegionPointCache pointCache;
+    private final RegionCacheCodec regionCacheCodec;
+    private final RegionSnapshotManager snapshotManager;
+    private final RegionPolygonCache polygonCache;
     
     // Cache TTL 설정
     private static final long REGION_INFO_TTL = 7; // 7일 (행정구역 기본 정보)
-    private static final long COORDINATE_QUERY_TTL = 24; // 24시간 (좌표 기반 조회)
-    
-    // Cache Key 접두사
-    private static final String BLOCK_CODE_PREFIX = "region:block:code:";
-    private static final String BLOCK_POINT_PREFIX = "region:block:point:";
-    private static final String ADMI_CODE_PREFIX = "region:admi:code:";
-    private static final String ADMI_POINT_PREFIX = "region:admi:point:";
-    private static final String CTY_CODE_PREFIX = "region:cty:code:";
-    private static final String CTY_POINT_PREFIX = "region:cty:point:";
-    private static final String MEGA_CODE_PREFIX = "region:mega:code:";
-    private static final String MEGA_POINT_PREFIX = "region:mega:point:";
+    
+    // 다건 좌표 조회 최대 건수
+    private static final int MAX_BATCH_POINTS = 1000;
+    
+    // 인접 행정동 최대 확장 단계
+    private static final int MAX_HOPS = 5;
+    
+    // 최근접 블록 최대 조회 건수
+    private static final int MAX_NEAREST = 100;
+    
+    // Cache Key 접두사 (실제 키: region:{버전 토큰}:{접두사}{코드})
+    private static final String KEY_PREFIX = "region:";
+    private static final String BLOCK_CODE_PREFIX = "block:code:";
+    private static final String ADMI_CODE_PREFIX = "admi:code:";
+    private static final String CTY_CODE_PREFIX = "cty:code:";
+    private static final String MEGA_CODE_PREFIX = "mega:code:";
+    private static final String MEGA_LIST_KEY = "mega:list";
+    
+    // 좌표 격자 캐시 구분 (레벨별 조회는 RegionLevel 키 사용)
+    private static final String HIERARCHY_NAMESPACE = "hierarchy";
 
     // ==================== 블록 API ====================
     
@@ -91,9 +126,9 @@ public class RegionServiceRedisImpl implements RegionService {
             // 입력값 검증 (DB 구현체와 동일)
             validateBlockCode(blkCd);
             
-            // Redis 캐시 조회
-            String cacheKey = BLOCK_CODE_PREFIX + blkCd;
-            Map<String, Object> cachedResult = (Map<String, Object>) redisTemplate.opsForValue().get(cacheKey);
+            // 2단 캐시 조회 (노드 메모리 → Redis)
+            String cacheKey = cacheKey(BLOCK_CODE_PREFIX + blkCd);
+            Map<String, Object> cachedResult = twoTierCache.get(cacheKey, regionCacheCodec::decode);
             
             if (cachedResult != null) {
                 log.info("[REGION-REDIS] 블록 코드 캐시 히트 - 블록코드: {}", blkCd);
@@ -102,15 +137,15 @@ public class RegionServiceRedisImpl implements RegionService {
             
             // 캐시 미스 시 DB 조회
             log.info("[REGION-REDIS] 블록 코드 캐시 미스, DB 조회 - 블록코드: {}", blkCd);
-            Map<String, Object> result = regionMapper.selectBlockByCode(blkCd);
+            Map<String, Object> result = geometryStore.selectByCode(RegionLevel.BLOCK, blkCd);
             
             if (result == null) {
                 log.warn("[REGION-REDIS] 블록 조회 결과 없음 - 블록코드: {}", blkCd);
                 throw new ValidationException(Status.데이터없음, "해당 블록을 찾을 수 없습니다: " + blkCd);
             }
             
-            // Redis 캐시 저장
-            redisTemplate.opsForValue().set(cacheKey, result, REGION_INFO_TTL, TimeUnit.DAYS);
+            // 2단 캐시 저장 (Redis는 이진 코덱, 다른 노드 메모리 캐시는 무효화)
+            twoTierCache.put(cacheKey, result, regionCacheCodec.encode(result), REGION_INFO_TTL, TimeUnit.DAYS);
             log.info("[REGION-REDIS] 블록 코드 조회 성공 및 캐시 저장 - 블록코드: {}", blkCd);
             
             return result;
@@ -133,26 +168,30 @@ public class RegionServiceRedisImpl implements RegionService {
             // 입력값 검증 (DB 구현체와 동일)
             validateCoordinates(lat, lng);
             
-            // Redis 캐시 조회 (좌표를 소수점 4자리로 반올림하여 캐시 키 생성)
-            String cacheKey = BLOCK_POINT_PREFIX + String.format("%.4f:%.4f", lat, lng);
-            Map<String, Object> cachedResult = (Map<String, Object>) redisTemplate.opsForValue().get(cacheKey);
+            // 격자 캐시 조회 (Geohash 셀 → 좌표 순, 결과 없음도 캐시)
+            Object cached = pointCache.get(RegionLevel.BLOCK.getKey(), lat, lng);
             
-            if (cachedResult != null) {
+            if (pointCache.isNoResult(cached)) {
+                log.warn("[REGION-REDIS] 좌표 기반 블록 조회 결과 없음 (캐시) - 위도: {}, 경도: {}", lat, lng);
+                throw new ValidationException(Status.데이터없음, "해당 좌표의 블록을 찾을 수 없습니다");
+            }
+            if (cached != null) {
                 log.info("[REGION-REDIS] 좌표 기반 블록 캐시 히트 - 위도: {}, 경도: {}", lat, lng);
-                return cachedResult;
+                return (Map<String, Object>) cached;
             }
             
             // 캐시 미스 시 DB 조회
             log.info("[REGION-REDIS] 좌표 기반 블록 캐시 미스, DB 조회 - 위도: {}, 경도: {}", lat, lng);
             Map<String, Object> result = regionMapper.selectBlockByPoint(lat, lng);
             
+            // 격자 캐시 저장 (셀 포함 관계에 따라 셀/좌표 단위, 결과 없음은 짧은 TTL)
+            pointCache.put(RegionLevel.BLOCK.getKey(), RegionLevel.BLOCK, lat, lng, result);
+            
             if (result == null) {
                 log.warn("[REGION-REDIS] 좌표 기반 블록 조회 결과 없음 - 위도: {}, 경도: {}", lat, lng);
                 throw new ValidationException(Status.데이터없음, "해당 좌표의 블록을 찾을 수 없습니다");
             }
             
-            // Redis 캐시 저장
-            redisTemplate.opsForValue().set(cacheKey, result, COORDINATE_QUERY_TTL, TimeUnit.HOURS);
             log.info("[REGION-REDIS] 좌표 기반 블록 조회 성공 및 캐시 저장 - 위도: {}, 경도: {}", lat, lng);
             
             return result;
@@ -167,16 +206,15 @@ public class RegionServiceRedisImpl implements RegionService {
     }
     
     @Override
-    public List<Map<String, Object>> getBlocksByPolygon(String polygon) throws ValidationException {
-        log.info("[REGION-REDIS] 폴리곤 영역 블록 조회 서비스 - 폴리곤 크기: {}", polygon.length());
+    public List<Map<String, Object>> getBlocksByPolygon(RegionPolygonVO polygon) throws ValidationException {
+        log.info("[REGION-REDIS] 폴리곤 영역 블록 조회 서비스 - 꼭짓점 수: {}", polygon != null ? polygon.getVertexCount() : null);
         
         try {
             // 입력값 검증 (DB 구현체와 동일)
             validatePolygon(polygon);
             
-            // 폴리곤 쿼리는 캐시하지 않음 (가변성이 높고 캐시 효과 낮음)
-            // 직접 DB 조회
-            List<Map<String, Object>> result = regionMapper.selectBlocksByPolygon(convertGeoJsonToWkt(polygon));
+            // 격자 타일 캐시 + 경계 부분만 DB 정밀 조회
+            List<Map<String, Object>> result = queryByPolygon(RegionLevel.BLOCK, polygon, regionMapper::selectBlocksByPolygon);
             
             log.info("[REGION-REDIS] 폴리곤 영역 블록 조회 성공 - 조회건수: {}", result.size());
             return result;
@@ -191,8 +229,8 @@ public class RegionServiceRedisImpl implements RegionService {
     }
     
     @Override
-    public List<Map<String, Object>> getBlocksByRadius(double lat, double lng, int radius) throws ValidationException {
-        log.info("[REGION-REDIS] 반경 내 블록 조회 서비스 - 위도: {}, 경도: {}, 반경: {}m", lat, lng, radius);
+    public List<Map<String, Object>> getBlocksByRadius(double lat, double lng, int radius, boolean exact) throws ValidationException {
+        log.info("[REGION-REDIS] 반경 내 블록 조회 서비스 - 위도: {}, 경도: {}, 반경: {}m, 경계기준: {}", lat, lng, radius, exact);
         
         try {
             // 입력값 검증 (DB 구현체와 동일)
@@ -200,8 +238,10 @@ public class RegionServiceRedisImpl implements RegionService {
             validateRadius(radius);
             
             // 반경 쿼리는 캐시하지 않음 (가변성이 높고 캐시 효과 낮음)
-            // 직접 DB 조회
-            List<Map<String, Object>> result = regionMapper.selectBlocksByRadius(lat, lng, radius);
+            // 기본은 중심점 인덱스 조회, 경계 거리 기준일 때만 DB 조회
+            List<Map<String, Object>> result = exact
+                    ? regionMapper.selectBlocksByRadius(lat, lng, radius)
+                    : blockCentroidIndex.withinRadius(lat, lng, radius);
             
             log.info("[REGION-REDIS] 반경 내 블록 조회 성공 - 위도: {}, 경도: {}, 반경: {}m, 조회건수: {}", lat, lng, radius, result.size());
             return result;
@@ -215,6 +255,30 @@ public class RegionServiceRedisImpl implements RegionService {
         }
     }
 
+    @Override
+    public List<Map<String, Object>> getNearestBlocks(double lat, double lng, int k, int maxRadius) throws ValidationException {
+        log.info("[REGION-REDIS] 최근접 블록 조회 서비스 - 위도: {}, 경도: {}, 건수: {}, 최대반경: {}m", lat, lng, k, maxRadius);
+        
+        try {
+            // 입력값 검증 (DB 구현체와 동일)
+            validateCoordinates(lat, lng);
+            validateNearestCount(k);
+            validateRadius(maxRadius);
+            
+            List<Map<String, Object>> result = blockCentroidIndex.nearest(lat, lng, k, maxRadius);
+            
+            log.info("[REGION-REDIS] 최근접 블록 조회 성공 - 위도: {}, 경도: {}, 조회건수: {}", lat, lng, result.size());
+            return result;
+            
+        } catch (ValidationException e) {
+            log.error("[REGION-REDIS] 최근접 블록 조회 검증 실패 - 위도: {}, 경도: {}, 오류: {}", lat, lng, e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("[REGION-REDIS] 최근접 블록 조회 실패 - 위도: {}, 경도: {}, 오류: {}", lat, lng, e.getMessage(), e);
+            throw new ValidationException(Status.실패, "최근접 블록 조회 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
     // ==================== 행정동 API ====================
     
     @Override
@@ -226,9 +290,9 @@ public class RegionServiceRedisImpl implements RegionService {
             // 입력값 검증 (DB 구현체와 동일)
             validateAdmiCode(admiCd);
             
-            // Redis 캐시 조회
-            String cacheKey = ADMI_CODE_PREFIX + admiCd;
-            Map<String, Object> cachedResult = (Map<String, Object>) redisTemplate.opsForValue().get(cacheKey);
+            // 2단 캐시 조회 (노드 메모리 → Redis)
+            String cacheKey = cacheKey(ADMI_CODE_PREFIX + admiCd);
+            Map<String, Object> cachedResult = twoTierCache.get(cacheKey, regionCacheCodec::decode);
             
             if (cachedResult != null) {
                 log.info("[REGION-REDIS] 행정동 코드 캐시 히트 - 행정동코드: {}", admiCd);
@@ -237,15 +301,15 @@ public class RegionServiceRedisImpl implements RegionService {
             
             // 캐시 미스 시 DB 조회
             log.info("[REGION-REDIS] 행정동 코드 캐시 미스, DB 조회 - 행정동코드: {}", admiCd);
-            Map<String, Object> result = regionMapper.selectAdmiByCode(admiCd);
+            Map<String, Object> result = geometryStore.selectByCode(RegionLevel.ADMI, admiCd);
             
             if (result == null) {
                 log.warn("[REGION-REDIS] 행정동 조회 결과 없음 - 행정동코드: {}", admiCd);
                 throw new ValidationException(Status.데이터없음, "해당 행정동을 찾을 수 없습니다: " + admiCd);
             }
             
-            // Redis 캐시 저장
-            redisTemplate.opsForValue().set(cacheKey, result, REGION_INFO_TTL, TimeUnit.DAYS);
+            // 2단 캐시 저장 (Redis는 이진 코덱, 다른 노드 메모리 캐시는 무효화)
+            twoTierCache.put(cacheKey, result, regionCacheCodec.encode(result), REGION_INFO_TTL, TimeUnit.DAYS);
             log.info("[REGION-REDIS] 행정동 코드 조회 성공 및 캐시 저장 - 행정동코드: {}", admiCd);
             
             return result;
@@ -268,26 +332,30 @@ public class RegionServiceRedisImpl implements RegionService {
             // 입력값 검증 (DB 구현체와 동일)
             validateCoordinates(lat, lng);
             
-            // Redis 캐시 조회 (좌표를 소수점 4자리로 반올림하여 캐시 키 생성)
-            String cacheKey = ADMI_POINT_PREFIX + String.format("%.4f:%.4f", lat, lng);
-            Map<String, Object> cachedResult = (Map<String, Object>) redisTemplate.opsForValue().get(cacheKey);
+            // 격자 캐시 조회 (Geohash 셀 → 좌표 순, 결과 없음도 캐시)
+            Object cached = pointCache.get(RegionLevel.ADMI.getKey(), lat, lng);
             
-            if (cachedResult != null) {
+            if (pointCache.isNoResult(cached)) {
+                log.warn("[REGION-REDIS] 좌표 기반 행정동 조회 결과 없음 (캐시) - 위도: {}, 경도: {}", lat, lng);
+                throw new ValidationException(Status.데이터없음, "해당 좌표의 행정동을 찾을 수 없습니다");
+            }
+            if (cached != null) {
                 log.info("[REGION-REDIS] 좌표 기반 행정동 캐시 히트 - 위도: {}, 경도: {}", lat, lng);
-                return cachedResult;
+                return (Map<String, Object>) cached;
             }
             
             // 캐시 미스 시 DB 조회
             log.info("[REGION-REDIS] 좌표 기반 행정동 캐시 미스, DB 조회 - 위도: {}, 경도: {}", lat, lng);
             Map<String, Object> result = regionMapper.selectAdmiByPoint(lat, lng);
             
+            // 격자 캐시 저장 (셀 포함 관계에 따라 셀/좌표 단위, 결과 없음은 짧은 TTL)
+            pointCache.put(RegionLevel.ADMI.getKey(), RegionLevel.ADMI, lat, lng, result);
+            
             if (result == null) {
                 log.warn("[REGION-REDIS] 좌표 기반 행정동 조회 결과 없음 - 위도: {}, 경도: {}", lat, lng);
                 throw new ValidationException(Status.데이터없음, "해당 좌표의 행정동을 찾을 수 없습니다");
             }
             
-            // Redis 캐시 저장
-            redisTemplate.opsForValue().set(cacheKey, result, COORDINATE_QUERY_TTL, TimeUnit.HOURS);
             log.info("[REGION-REDIS] 좌표 기반 행정동 조회 성공 및 캐시 저장 - 위도: {}, 경도: {}", lat, lng);
             
             return result;
@@ -302,16 +370,15 @@ public class RegionServiceRedisImpl implements RegionService {
     }
     
     @Override
-    public List<Map<String, Object>> getAdmisByPolygon(String polygon) throws ValidationException {
-        log.info("[REGION-REDIS] 폴리곤 영역 행정동 조회 서비스 - 폴리곤 크기: {}", polygon.length());
+    public List<Map<String, Object>> getAdmisByPolygon(RegionPolygonVO polygon) throws ValidationException {
+        log.info("[REGION-REDIS] 폴리곤 영역 행정동 조회 서비스 - 꼭짓점 수: {}", polygon != null ? polygon.getVertexCount() : null);
         
         try {
             // 입력값 검증 (DB 구현체와 동일)
             validatePolygon(polygon);
             
-            // 폴리곤 쿼리는 캐시하지 않음 (가변성이 높고 캐시 효과 낮음)
-            // 직접 DB 조회
-            List<Map<String, Object>> result = regionMapper.selectAdmisByPolygon(convertGeoJsonToWkt(polygon));
+            // 격자 타일 캐시 + 경계 부분만 DB 정밀 조회
+            List<Map<String, Object>> result = queryByPolygon(RegionLevel.ADMI, polygon, regionMapper::selectAdmisByPolygon);
             
             log.info("[REGION-REDIS] 폴리곤 영역 행정동 조회 성공 - 조회건수: {}", result.size());
             return result;
@@ -325,27 +392,64 @@ public class RegionServiceRedisImpl implements RegionService {
         }
     }
     
+    @Override
+    public List<Map<String, Object>> getAdmisByPoints(List<RegionPointVO> points) throws ValidationException {
+        log.info("[REGION-REDIS] 다건 좌표 기반 행정동 조회 서비스 - 좌표 수: {}", points == null ? 0 : points.size());
+        
+        try {
+            // 입력값 검증
+            validatePoints(points);
+            
+            // 다건 좌표 쿼리는 캐시하지 않음 (좌표 조합별 재사용이 거의 없음)
+            // 한 번의 공간 조인으로 직접 DB 조회
+            List<Map<String, Object>> rows = regionMapper.selectAdmisByPoints(points);
+            List<Map<String, Object>> result = mergeByIndex(points, rows);
+            
+            log.info("[REGION-REDIS] 다건 좌표 기반 행정동 조회 성공 - 좌표 수: {}, 매칭 수: {}", points.size(), rows.size());
+            return result;
+            
+        } catch (ValidationException e) {
+            log.error("[REGION-REDIS] 다건 좌표 기반 행정동 조회 검증 실패 - 오류: {}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("[REGION-REDIS] 다건 좌표 기반 행정동 조회 실패 - 오류: {}", e.getMessage(), e);
+            throw new ValidationException(Status.실패, "다건 좌표 기반 행정동 조회 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+    
     @Override
     public List<Map<String, Object>> getAdjacentAdmis(String admiCd) throws ValidationException {
-        log.info("[REGION-REDIS] 인접 행정동 조회 서비스 - 행정동코드: {}", admiCd);
+        return getAdmiNeighborhood(admiCd, 1);
+    }
+    
+    @Override
+    public List<Map<String, Object>> getAdmiNeighborhood(String admiCd, int hops) throws ValidationException {
+        log.info("[REGION-REDIS] 인접 행정동 조회 서비스 - 기준 행정동: {}, 단계: {}", admiCd, hops);
         
         try {
-            // 입력값 검증 (DB 구현체와 동일)
+            // 입력값 검증
             validateAdmiCode(admiCd);
+            validateHops(hops);
             
-            // 인접 행정동 쿼리는 캐시하지 않음 (복잡한 공간 분석)
-            // 직접 DB 조회
-            List<Map<String, Object>> result = regionMapper.selectAdjacentAdmis(admiCd);
+            // 인접 그래프 조회 (메모리 / 그래프 적재 전에는 DB 조회)
+            List<Map<String, Object>> result = adjacencyGraph.isReady()
+                    ? adjacencyGraph.neighborhood(admiCd, hops)
+                    : regionMapper.selectAdmiNeighborhood(admiCd, hops);
             
-            log.info("[REGION-REDIS] 인접 행정동 조회 성공 - 행정동코드: {}, 조회건수: {}", admiCd, result.size());
+            if (result.isEmpty()) {
+                log.warn("[REGION-REDIS] 인접 행정동 조회 결과 없음 - 기준 행정동: {}", admiCd);
+                throw new ValidationException(Status.데이터없음, "해당 행정동을 찾을 수 없습니다: " + admiCd);
+            }
+            
+            log.info("[REGION-REDIS] 인접 행정동 조회 성공 - 기준 행정동: {}, 단계: {}, 조회건수: {}", admiCd, hops, result.size());
             return result;
             
         } catch (ValidationException e) {
-            log.error("[REGION-REDIS] 인접 행정동 조회 검증 실패 - 행정동코드: {}, 오류: {}", admiCd, e.getMessage());
+            log.error("[REGION-REDIS] 인접 행정동 조회 검증 실패: {}", e.getMessage());
             throw e;
         } catch (Exception e) {
-            log.error("[REGION-REDIS] 인접 행정동 조회 실패 - 행정동코드: {}, 오류: {}", admiCd, e.getMessage(), e);
-            throw new ValidationException(Status.실패, "인접 행정동 조회 중 오류가 발생했습니다: " + e.getMessage());
+            log.error("[REGION-REDIS] 인접 행정동 조회 처리 오류", e);
+            throw new ValidationException(Status.실패, "인접 행정동 조회 중 오류가 발생했습니다.");
         }
     }
 
@@ -360,9 +464,9 @@ public class RegionServiceRedisImpl implements RegionService {
             // 입력값 검증 (DB 구현체와 동일)
             validateCtyCode(ctyCd);
             
-            // Redis 캐시 조회
-            String cacheKey = CTY_CODE_PREFIX + ctyCd;
-            Map<String, Object> cachedResult = (Map<String, Object>) redisTemplate.opsForValue().get(cacheKey);
+            // 2단 캐시 조회 (노드 메모리 → Redis)
+            String cacheKey = cacheKey(CTY_CODE_PREFIX + ctyCd);
+            Map<String, Object> cachedResult = twoTierCache.get(cacheKey, regionCacheCodec::decode);
             
             if (cachedResult != null) {
                 log.info("[REGION-REDIS] 시도 코드 캐시 히트 - 시도코드: {}", ctyCd);
@@ -371,15 +475,15 @@ public class RegionServiceRedisImpl implements RegionService {
             
             // 캐시 미스 시 DB 조회
             log.info("[REGION-REDIS] 시도 코드 캐시 미스, DB 조회 - 시도코드: {}", ctyCd);
-            Map<String, Object> result = regionMapper.selectCtyByCode(ctyCd);
+            Map<String, Object> result = geometryStore.selectByCode(RegionLevel.CTY, ctyCd);
             
             if (result == null) {
                 log.warn("[REGION-REDIS] 시도 조회 결과 없음 - 시도코드: {}", ctyCd);
                 throw new ValidationException(Status.데이터없음, "해당 시도를 찾을 수 없습니다: " + ctyCd);
             }
             
-            // Redis 캐시 저장
-            redisTemplate.opsForValue().set(cacheKey, result, REGION_INFO_TTL, TimeUnit.DAYS);
+            // 2단 캐시 저장 (Redis는 이진 코덱, 다른 노드 메모리 캐시는 무효화)
+            twoTierCache.put(cacheKey, result, regionCacheCodec.encode(result), REGION_INFO_TTL, TimeUnit.DAYS);
             log.info("[REGION-REDIS] 시도 코드 조회 성공 및 캐시 저장 - 시도코드: {}", ctyCd);
             
             return result;
@@ -402,26 +506,30 @@ public class RegionServiceRedisImpl implements RegionService {
             // 입력값 검증 (DB 구현체와 동일)
             validateCoordinates(lat, lng);
             
-            // Redis 캐시 조회 (좌표를 소수점 4자리로 반올림하여 캐시 키 생성)
-            String cacheKey = CTY_POINT_PREFIX + String.format("%.4f:%.4f", lat, lng);
-            Map<String, Object> cachedResult = (Map<String, Object>) redisTemplate.opsForValue().get(cacheKey);
+            // 격자 캐시 조회 (Geohash 셀 → 좌표 순, 결과 없음도 캐시)
+            Object cached = pointCache.get(RegionLevel.CTY.getKey(), lat, lng);
             
-            if (cachedResult != null) {
+            if (pointCache.isNoResult(cached)) {
+                log.warn("[REGION-REDIS] 좌표 기반 시도 조회 결과 없음 (캐시) - 위도: {}, 경도: {}", lat, lng);
+                throw new ValidationException(Status.데이터없음, "해당 좌표의 시도를 찾을 수 없습니다");
+            }
+            if (cached != null) {
                 log.info("[REGION-REDIS] 좌표 기반 시도 캐시 히트 - 위도: {}, 경도: {}", lat, lng);
-                return cachedResult;
+                return (Map<String, Object>) cached;
             }
             
             // 캐시 미스 시 DB 조회
             log.info("[REGION-REDIS] 좌표 기반 시도 캐시 미스, DB 조회 - 위도: {}, 경도: {}", lat, lng);
             Map<String, Object> result = regionMapper.selectCtyByPoint(lat, lng);
             
+            // 격자 캐시 저장 (셀 포함 관계에 따라 셀/좌표 단위, 결과 없음은 짧은 TTL)
+            pointCache.put(RegionLevel.CTY.getKey(), RegionLevel.CTY, lat, lng, result);
+            
             if (result == null) {
                 log.warn("[REGION-REDIS] 좌표 기반 시도 조회 결과 없음 - 위도: {}, 경도: {}", lat, lng);
                 throw new ValidationException(Status.데이터없음, "해당 좌표의 시도를 찾을 수 없습니다");
             }
             
-            // Redis 캐시 저장
-            redisTemplate.opsForValue().set(cacheKey, result, COORDINATE_QUERY_TTL, TimeUnit.HOURS);
             log.info("[REGION-REDIS] 좌표 기반 시도 조회 성공 및 캐시 저장 - 위도: {}, 경도: {}", lat, lng);
             
             return result;
@@ -436,16 +544,15 @@ public class RegionServiceRedisImpl implements RegionService {
     }
     
     @Override
-    public List<Map<String, Object>> getCtysByPolygon(String polygon) throws ValidationException {
-        log.info("[REGION-REDIS] 폴리곤 영역 시도 조회 서비스 - 폴리곤 크기: {}", polygon.length());
+    public List<Map<String, Object>> getCtysByPolygon(RegionPolygonVO polygon) throws ValidationException {
+        log.info("[REGION-REDIS] 폴리곤 영역 시도 조회 서비스 - 꼭짓점 수: {}", polygon != null ? polygon.getVertexCount() : null);
         
         try {
             // 입력값 검증 (DB 구현체와 동일)
             validatePolygon(polygon);
             
-            // 폴리곤 쿼리는 캐시하지 않음 (가변성이 높고 캐시 효과 낮음)
-            // 직접 DB 조회
-            List<Map<String, Object>> result = regionMapper.selectCtysByPolygon(convertGeoJsonToWkt(polygon));
+            // 격자 타일 캐시 + 경계 부분만 DB 정밀 조회
+            List<Map<String, Object>> result = queryByPolygon(RegionLevel.CTY, polygon, regionMapper::selectCtysByPolygon);
             
             log.info("[REGION-REDIS] 폴리곤 영역 시도 조회 성공 - 조회건수: {}", result.size());
             return result;
@@ -470,9 +577,9 @@ public class RegionServiceRedisImpl implements RegionService {
             // 입력값 검증 (DB 구현체와 동일)
             validateMegaCode(megaCd);
             
-            // Redis 캐시 조회
-            String cacheKey = MEGA_CODE_PREFIX + megaCd;
-            Map<String, Object> cachedResult = (Map<String, Object>) redisTemplate.opsForValue().get(cacheKey);
+            // 2단 캐시 조회 (노드 메모리 → Redis)
+            String cacheKey = cacheKey(MEGA_CODE_PREFIX + megaCd);
+            Map<String, Object> cachedResult = twoTierCache.get(cacheKey, regionCacheCodec::decode);
             
             if (cachedResult != null) {
                 log.info("[REGION-REDIS] 광역권 코드 캐시 히트 - 광역권코드: {}", megaCd);
@@ -481,15 +588,15 @@ public class RegionServiceRedisImpl implements RegionService {
             
             // 캐시 미스 시 DB 조회
             log.info("[REGION-REDIS] 광역권 코드 캐시 미스, DB 조회 - 광역권코드: {}", megaCd);
-            Map<String, Object> result = regionMapper.selectMegaByCode(megaCd);
+            Map<String, Object> result = geometryStore.selectByCode(RegionLevel.MEGA, megaCd);
             
             if (result == null) {
                 log.warn("[REGION-REDIS] 광역권 조회 결과 없음 - 광역권코드: {}", megaCd);
                 throw new ValidationException(Status.데이터없음, "해당 광역권을 찾을 수 없습니다: " + megaCd);
             }
             
-            // Redis 캐시 저장
-            redisTemplate.opsForValue().set(cacheKey, result, REGION_INFO_TTL, TimeUnit.DAYS);
+            // 2단 캐시 저장 (Redis는 이진 코덱, 다른 노드 메모리 캐시는 무효화)
+            twoTierCache.put(cacheKey, result, regionCacheCodec.encode(result), REGION_INFO_TTL, TimeUnit.DAYS);
             log.info("[REGION-REDIS] 광역권 코드 조회 성공 및 캐시 저장 - 광역권코드: {}", megaCd);
             
             return result;
@@ -512,26 +619,30 @@ public class RegionServiceRedisImpl implements RegionService {
             // 입력값 검증 (DB 구현체와 동일)
             validateCoordinates(lat, lng);
             
-            // Redis 캐시 조회 (좌표를 소수점 4자리로 반올림하여 캐시 키 생성)
-            String cacheKey = MEGA_POINT_PREFIX + String.format("%.4f:%.4f", lat, lng);
-            Map<String, Object> cachedResult = (Map<String, Object>) redisTemplate.opsForValue().get(cacheKey);
+            // 격자 캐시 조회 (Geohash 셀 → 좌표 순, 결과 없음도 캐시)
+            Object cached = pointCache.get(RegionLevel.MEGA.getKey(), lat, lng);
             
-            if (cachedResult != null) {
+            if (pointCache.isNoResult(cached)) {
+                log.warn("[REGION-REDIS] 좌표 기반 광역권 조회 결과 없음 (캐시) - 위도: {}, 경도: {}", lat, lng);
+                throw new ValidationException(Status.데이터없음, "해당 좌표의 광역권을 찾을 수 없습니다");
+            }
+            if (cached != null) {
                 log.info("[REGION-REDIS] 좌표 기반 광역권 캐시 히트 - 위도: {}, 경도: {}", lat, lng);
-                return cachedResult;
+                return (Map<String, Object>) cached;
             }
             
             // 캐시 미스 시 DB 조회
             log.info("[REGION-REDIS] 좌표 기반 광역권 캐시 미스, DB 조회 - 위도: {}, 경도: {}", lat, lng);
             Map<String, Object> result = regionMapper.selectMegaByPoint(lat, lng);
             
+            // 격자 캐시 저장 (셀 포함 관계에 따라 셀/좌표 단위, 결과 없음은 짧은 TTL)
+            pointCache.put(RegionLevel.MEGA.getKey(), RegionLevel.MEGA, lat, lng, result);
+            
             if (result == null) {
                 log.warn("[REGION-REDIS] 좌표 기반 광역권 조회 결과 없음 - 위도: {}, 경도: {}", lat, lng);
                 throw new ValidationException(Status.데이터없음, "해당 좌표의 광역권을 찾을 수 없습니다");
             }
             
-            // Redis 캐시 저장
-            redisTemplate.opsForValue().set(cacheKey, result, COORDINATE_QUERY_TTL, TimeUnit.HOURS);
             log.info("[REGION-REDIS] 좌표 기반 광역권 조회 성공 및 캐시 저장 - 위도: {}, 경도: {}", lat, lng);
             
             return result;
@@ -546,16 +657,15 @@ public class RegionServiceRedisImpl implements RegionService {
     }
     
     @Override
-    public List<Map<String, Object>> getMegasByPolygon(String polygon) throws ValidationException {
-        log.info("[REGION-REDIS] 폴리곤 영역 광역권 조회 서비스 - 폴리곤 크기: {}", polygon.length());
+    public List<Map<String, Object>> getMegasByPolygon(RegionPolygonVO polygon) throws ValidationException {
+        log.info("[REGION-REDIS] 폴리곤 영역 광역권 조회 서비스 - 꼭짓점 수: {}", polygon != null ? polygon.getVertexCount() : null);
         
         try {
             // 입력값 검증 (DB 구현체와 동일)
             validatePolygon(polygon);
             
-            // 폴리곤 쿼리는 캐시하지 않음 (가변성이 높고 캐시 효과 낮음)
-            // 직접 DB 조회
-            List<Map<String, Object>> result = regionMapper.selectMegasByPolygon(convertGeoJsonToWkt(polygon));
+            // 격자 타일 캐시 + 경계 부분만 DB 정밀 조회
+            List<Map<String, Object>> result = queryByPolygon(RegionLevel.MEGA, polygon, regionMapper::selectMegasByPolygon);
             
             log.info("[REGION-REDIS] 폴리곤 영역 광역권 조회 성공 - 조회건수: {}", result.size());
             return result;
@@ -628,6 +738,13 @@ public class RegionServiceRedisImpl implements RegionService {
         }
     }
     
+    /**
+     * 경계 데이터 버전별 캐시 키 (버전 변경 시 이전 키는 TTL로 자연 만료)
+     */
+    private String cacheKey(String key) {
+        return KEY_PREFIX + snapshotManager.versionToken() + ":" + key;
+    }
+    
     /**
      * 좌표 검증
      */
@@ -647,17 +764,62 @@ public class RegionServiceRedisImpl implements RegionService {
     }
     
     /**
-     * 폴리곤 검증
+     * 레벨별 코드 검증
+     */
+    private void validateCode(RegionLevel level, String code) throws ValidationException {
+        switch (level) {
+            case BLOCK -> validateBlockCode(code);
+            case ADMI -> validateAdmiCode(code);
+            case CTY -> validateCtyCode(code);
+            case MEGA -> validateMegaCode(code);
+        }
+    }
+    
+    /**
+     * 줌 레벨 검증
+     */
+    private void validateZoom(Integer zoom) throws ValidationException {
+        if (zoom != null && (zoom < 0 || zoom > 22)) {
+            throw new ValidationException(Status.파라미터오류, "줌 레벨은 0 ~ 22 범위여야 합니다.");
+        }
+    }
+    
+    /**
+     * 인접 확장 단계 검증
+     */
+    private void validateHops(int hops) throws ValidationException {
+        if (hops < 1 || hops > MAX_HOPS) {
+            throw new ValidationException(Status.파라미터오류, "확장 단계는 1 ~ " + MAX_HOPS + " 범위여야 합니다.");
+        }
+    }
+    
+    /**
+     * 다건 좌표 검증
      */
-    private void validatePolygon(String polygon) throws ValidationException {
-        if (polygon == null || polygon.trim().isEmpty()) {
-            throw new ValidationException(Status.파라미터오류, "폴리곤 데이터는 필수입니다.");
+    private void validatePoints(List<RegionPointVO> points) throws ValidationException {
+        if (points == null || points.isEmpty()) {
+            throw new ValidationException(Status.파라미터오류, "좌표 목록을 입력해주세요.");
         }
-        if (polygon.length() > 100000) { // 100KB 제한
-            throw new ValidationException(Status.파라미터오류, "폴리곤 데이터가 너무 큽니다. (최대 100KB)");
+        
+        if (points.size() > MAX_BATCH_POINTS) {
+            throw new ValidationException(Status.파라미터오류, "좌표는 최대 " + MAX_BATCH_POINTS + "건까지 조회할 수 있습니다.");
         }
-        if (!polygon.trim().startsWith("{")) {
-            throw new ValidationException(Status.파라미터오류, "올바른 GeoJSON 형식이 아닙니다.");
+        
+        for (int i = 0; i < points.size(); i++) {
+            RegionPointVO point = points.get(i);
+            if (point == null || point.getLat() == null || point.getLng() == null) {
+                throw new ValidationException(Status.파라미터오류, "좌표 값이 없습니다. (순번: " + i + ")");
+            }
+            validateCoordinates(point.getLat(), point.getLng());
+        }
+    }
+    
+    /**
+     * 폴리곤 검증
+     */
+    private void validatePolygon(RegionPolygonVO polygon) throws ValidationException {
+        if (polygon == null) {
+            throw new ValidationException(Status.파라미터오류, "폴리곤 데이터를 입력해주세요.");
         }
     }
     
@@ -674,12 +836,40 @@ public class RegionServiceRedisImpl implements RegionService {
     }
     
     /**
-     * GeoJSON을 WKT로 변환 (간단한 구현)
+     * 최근접 조회 건수 검증
+     */
+    private void validateNearestCount(int k) throws ValidationException {
+        if (k <= 0 || k > MAX_NEAREST) {
+            throw new ValidationException(Status.파라미터오류, "조회 건수는 1~" + MAX_NEAREST + " 사이여야 합니다.");
+        }
+    }
+    
+    /**
+     * 입력 순서대로 다건 좌표 조회 결과 병합
+     */
+    private List<Map<String, Object>> mergeByIndex(List<RegionPointVO> points, List<Map<String, Object>> rows) {
+        List<Map<String, Object>> result = new ArrayList<>(points.size());
+        for (RegionPointVO point : points) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("lat", point.getLat());
+            item.put("lng", point.getLng());
+            result.add(item);
+        }
+        
+        for (Map<String, Object> row : rows) {
+            int idx = ((Number) row.remove("idx")).intValue();
+            result.get(idx).putAll(row);
+        }
+        return result;
+    }
+    
+    /**
+     * 폴리곤 영역 조회 (격자 타일 캐시 사용, 큰 폴리곤은 전체 정밀 조회)
      */
-    private String convertGeoJsonToWkt(String geoJson) {
-        // 실제 구현에서는 JTS나 GeoTools 라이브러리 사용 권장
-        // 여기서는 간단한 변환만 구현
-        return geoJson; // 임시 구현
+    private List<Map<String, Object>> queryByPolygon(RegionLevel level, RegionPolygonVO polygon,
+            Function<RegionPolygonVO, List<Map<String, Object>>> exactQuery) {
+        List<Map<String, Object>> result = polygonCache.query(level, polygon.getGeometry(), exactQuery);
+        return result != null ? result : exactQuery.apply(polygon);
     }
     
     /**
@@ -690,11 +880,11 @@ public class RegionServiceRedisImpl implements RegionService {
         log.info("[LOCATION-REDIS] 광역시도 목록 조회 (Redis 캐시)");
         
         try {
-            String cacheKey = "region:mega:list";
+            String cacheKey = cacheKey(MEGA_LIST_KEY);
             
-            // Redis에서 조회 시도
+            // 2단 캐시(노드 메모리 → Redis)에서 조회 시도
             @SuppressWarnings("unchecked")
-            List<Map<String, Object>> cachedResult = (List<Map<String, Object>>) redisTemplate.opsForValue().get(cacheKey);
+            List<Map<String, Object>> cachedResult = (List<Map<String, Object>>) twoTierCache.get(cacheKey);
             
             if (cachedResult != null) {
                 log.debug("[LOCATION-REDIS] 광역시도 목록 Redis 캐시 히트");
@@ -706,7 +896,7 @@ public class RegionServiceRedisImpl implements RegionService {
             List<Map<String, Object>> result = regionMapper.getMegaList();
             
             // Redis에 캐시 저장 (7일 TTL)
-            redisTemplate.opsForValue().set(cacheKey, result, REGION_INFO_TTL, TimeUnit.DAYS);
+            twoTierCache.put(cacheKey, result, REGION_INFO_TTL, TimeUnit.DAYS);
             
             log.info("[LOCATION-REDIS] 광역시도 목록 조회 완료: count={}", result.size());
             return result;
@@ -716,4 +906,107 @@ public class RegionServiceRedisImpl implements RegionService {
             throw new ValidationException(Status.실패, "광역시도 목록 조회 중 오류가 발생했습니다.");
         }
     }
+
+    // ==================== 단순화 경계 API ====================
+
+    @Override
+    public Map<String, Object> getRegionByCode(RegionLevel level, String code, Integer zoom) throws ValidationException {
+        GeometryLod lod = GeometryLod.fromZoom(zoom);
+        if (!geometryLodCache.supports(level, lod)) {
+            validateZoom(zoom);
+            return getByCode(level, code);
+        }
+
+        log.info("[REGION-REDIS] 단순화 경계 {} 조회 서비스 - 코드: {}, 줌: {}, LOD: {}", level.getDesc(), code, zoom, lod);
+
+        try {
+            // 입력값 검증
+            validateZoom(zoom);
+            validateCode(level, code);
+
+            // 단순화 경계 캐시 조회 (레이어 단위 최초 1회 생성)
+            Map<String, Object> result = geometryLodCache.get(level, lod, code);
+
+            if (result == null) {
+                log.warn("[REGION-REDIS] 단순화 경계 {} 조회 결과 없음 - 코드: {}", level.getDesc(), code);
+                throw new ValidationException(Status.데이터없음, "해당 " + level.getDesc() + " 정보를 찾을 수 없습니다: " + code);
+            }
+
+            log.info("[REGION-REDIS] 단순화 경계 {} 조회 성공 - 코드: {}, LOD: {}", level.getDesc(), code, lod);
+            return result;
+
+        } catch (ValidationException e) {
+            log.error("[REGION-REDIS] 단순화 경계 {} 조회 검증 실패: {}", level.getDesc(), e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("[REGION-REDIS] 단순화 경계 {} 조회 처리 오류", level.getDesc(), e);
+            throw new ValidationException(Status.실패, "단순화 경계 " + level.getDesc() + " 조회 중 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * 레벨별 코드 조회
+     */
+    private Map<String, Object> getByCode(RegionLevel level, String code) throws ValidationException {
+        return switch (level) {
+            case BLOCK -> getBlockByCode(code);
+            case ADMI -> getAdmiByCode(code);
+            case CTY -> getCtyByCode(code);
+            case MEGA -> getMegaByCode(code);
+        };
+    }
+
+    // ==================== 계층 API ====================
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> getRegionHierarchyByPoint(double lat, double lng) throws ValidationException {
+        log.info("[REGION-REDIS] 좌표 기반 행정구역 계층 조회 서비스 - 위도: {}, 경도: {}", lat, lng);
+
+        try {
+            // 입력값 검증 (DB 구현체와 동일)
+            validateCoordinates(lat, lng);
+
+            // 격자 캐시 조회 (Geohash 셀 → 좌표 순, 결과 없음도 캐시)
+            Object cached = pointCache.get(HIERARCHY_NAMESPACE, lat, lng);
+
+            if (pointCache.isNoResult(cached)) {
+                log.warn("[REGION-REDIS] 좌표 기반 행정구역 계층 조회 결과 없음 (캐시) - 위도: {}, 경도: {}", lat, lng);
+                throw new ValidationException(Status.데이터없음, "해당 좌표의 행정구역을 찾을 수 없습니다");
+            }
+            if (cached != null) {
+                log.info("[REGION-REDIS] 좌표 기반 행정구역 계층 캐시 히트 - 위도: {}, 경도: {}", lat, lng);
+                return (Map<String, Object>) cached;
+            }
+
+            // 캐시 미스 시 DB 조회 (블록 기준, 블록이 없으면 행정동 기준)
+            log.info("[REGION-REDIS] 좌표 기반 행정구역 계층 캐시 미스, DB 조회 - 위도: {}, 경도: {}", lat, lng);
+            Map<String, Object> result = regionMapper.selectRegionHierarchyByPoint(lat, lng);
+            RegionLevel coverLevel = RegionLevel.BLOCK;
+            if (result == null) {
+                result = regionMapper.selectAdmiByPoint(lat, lng);
+                // 행정동 대체 결과는 셀 안에 블록이 섞일 수 있어 좌표 단위로만 저장
+                coverLevel = result == null ? RegionLevel.ADMI : null;
+            }
+
+            // 격자 캐시 저장 (셀 포함 관계에 따라 셀/좌표 단위, 결과 없음은 짧은 TTL)
+            pointCache.put(HIERARCHY_NAMESPACE, coverLevel, lat, lng, result);
+
+            if (result == null) {
+                log.warn("[REGION-REDIS] 좌표 기반 행정구역 계층 조회 결과 없음 - 위도: {}, 경도: {}", lat, lng);
+                throw new ValidationException(Status.데이터없음, "해당 좌표의 행정구역을 찾을 수 없습니다");
+            }
+
+            log.info("[REGION-REDIS] 좌표 기반 행정구역 계층 조회 성공 및 캐시 저장 - 위도: {}, 경도: {}", lat, lng);
+
+            return result;
+
+        } catch (ValidationException e) {
+            log.error("[REGION-REDIS] 좌표 기반 행정구역 계층 조회 검증 실패 - 위도: {}, 경도: {}, 오류: {}", lat, lng, e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("[REGION-REDIS] 좌표 기반 행정구역 계층 조회 실패 - 위도: {}, 경도: {}, 오류: {}", lat, lng, e.getMessage(), e);
+            throw new ValidationException(Status.실패, "좌표 기반 행정구역 계층 조회 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
 }
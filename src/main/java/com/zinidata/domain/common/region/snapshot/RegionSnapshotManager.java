@@ -0,0 +1,170 @@
+package com.zinidata.domain.common.region.snapshot;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.zinidata.domain.common.dataversion.enums.DataGroup;
+import com.zinidata.domain.common.dataversion.service.DataVersionService;
+import com.zinidata.domain.common.dataversion.snapshot.SnapshotReloader;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 경계 데이터 버전 관리 및 스냅샷 무중단 교체
+ *
+ * <p>경계 데이터({@link DataGroup#REGION}) 버전을 주기적으로 확인하고, 버전이 바뀌면
+ * 인메모리 인덱스·파일 저장소 등 {@link RegionSnapshotParticipant} 전체를 새 버전으로 다시 만듭니다.</p>
+ *
+ * <h3>동작 방식</h3>
+ * <ul>
+ *   <li><strong>기동:</strong> 버전 확인 후 참여 컴포넌트를 순서대로 적재 (컴포넌트별 실패는 해당 컴포넌트의 대체 경로로 처리)</li>
+ *   <li><strong>재구성:</strong> {@link SnapshotReloader}가 전용 백그라운드 스레드에서 모든 스냅샷을 만든 뒤
+ *       버전이 그대로일 때만 한 번에 교체 (요청 스레드는 대기하지 않음)</li>
+ *   <li>하나라도 실패하거나 만드는 도중 적재가 시작·완료되면 전부 기존 스냅샷을 유지 → 이전/신규 경계가 섞이지 않음</li>
+ *   <li><strong>캐시 키:</strong> Redis·타일 캐시 키에 {@link #versionToken()}을 포함하여 버전 교체 시 이전 항목이 자연 만료</li>
+ *   <li><strong>버전 조회 실패:</strong> 캐시 키 버전 없이({@link #UNVERSIONED_TOKEN}) 동작하고 항목은 TTL로 만료,
+ *       버전 조회가 복구되면 다음 확인 주기에 스냅샷과 토큰을 함께 교체</li>
+ * </ul>
+ *
+ * <h3>설정</h3>
+ * <pre>
+ * region:
+ *   snapshot:
+ *     check-interval-ms: 600000   # 데이터 버전 확인 주기
+ * </pre>
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class RegionSnapshotManager {
+
+    private final DataVersionService dataVersionService;
+    private final List<RegionSnapshotParticipant> participants;
+    private final SnapshotReloader reloader;
+
+    /** 버전을 조회하지 못했을 때의 캐시 키 토큰 (캐시 항목은 TTL로만 만료) */
+    public static final String UNVERSIONED_TOKEN = "v0";
+
+    private volatile String versionToken;
+
+    public RegionSnapshotManager(DataVersionService dataVersionService, List<RegionSnapshotParticipant> participants) {
+        this.dataVersionService = dataVersionService;
+        this.participants = participants;
+        this.reloader = new SnapshotReloader("region-snapshot", "경계 데이터 스냅샷", dataVersionService,
+                this::prepare, DataGroup.REGION);
+    }
+
+    /**
+     * 애플리케이션 기동 완료 후 버전 확인 및 스냅샷 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onApplicationReady() {
+        try {
+            reloader.reloadNow();
+            log.info("[REGION-SNAPSHOT] 경계 데이터 스냅샷 준비 완료 - 버전: {} ({})", versionToken, reloader.version());
+        } catch (Exception e) {
+            log.error("[REGION-SNAPSHOT] 경계 데이터 스냅샷 적재 실패 - 다음 확인 주기에 적재합니다.", e);
+        }
+    }
+
+    /**
+     * 데이터 버전 확인 (기본 10분 주기)
+     *
+     * <p>버전이 바뀌었으면 재구성을 백그라운드 스레드에 맡기고 바로 반환합니다.</p>
+     */
+    @Scheduled(fixedDelayString = "${region.snapshot.check-interval-ms:600000}",
+            initialDelayString = "${region.snapshot.check-interval-ms:600000}")
+    public void checkVersion() {
+        reloader.checkVersion();
+    }
+
+    /**
+     * 캐시 키용 버전 토큰
+     *
+     * <p>기동 적재 전에 호출되면 마지막 적재 완료 버전으로 토큰을 만들고, 버전을 조회할 수 없으면
+     * {@link #UNVERSIONED_TOKEN}을 사용합니다. 요청 경로에서는 예외를 던지지 않습니다.</p>
+     *
+     * @return 짧은 버전 문자열 (예: v1k3x9qz)
+     */
+    public String versionToken() {
+        String token = versionToken;
+        if (token == null) {
+            synchronized (this) {
+                if (versionToken == null) {
+                    try {
+                        setVersion(dataVersionService.fetchCompleted(DataGroup.REGION));
+                    } catch (Exception e) {
+                        log.warn("[REGION-SNAPSHOT] 경계 데이터 버전 조회 실패 - 캐시 키 버전 없이 동작합니다. 오류: {}", e.getMessage());
+                        setVersion(SnapshotReloader.UNVERSIONED);
+                    }
+                }
+                token = versionToken;
+            }
+        }
+        return token;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reloader.shutdown();
+    }
+
+    // ==================== 내부 메서드 ====================
+
+    /**
+     * 모든 참여 컴포넌트의 새 스냅샷 생성
+     *
+     * <p>첫 적재에서는 컴포넌트별 실패를 건너뛰어 나머지를 적재하고(실패한 컴포넌트는 대체 경로로 조회),
+     * 이후 재구성에서는 하나라도 실패하면 전체를 취소합니다.</p>
+     */
+    private Runnable prepare(String version) throws Exception {
+        long startTime = System.currentTimeMillis();
+        boolean initial = reloader.version() == null;
+        List<Runnable> swaps = new ArrayList<>(participants.size());
+
+        for (RegionSnapshotParticipant participant : participants) {
+            long participantStart = System.currentTimeMillis();
+            try {
+                swaps.add(participant.prepare(version));
+                log.info("[REGION-SNAPSHOT] {} 준비 완료 - 소요시간: {}ms",
+                        participant.snapshotName(), System.currentTimeMillis() - participantStart);
+            } catch (Exception e) {
+                if (!initial) {
+                    log.error("[REGION-SNAPSHOT] {} 재구성 실패 - 기존 버전을 유지합니다.", participant.snapshotName());
+                    throw e;
+                }
+                log.error("[REGION-SNAPSHOT] {} 적재 실패 - 대체 경로로 조회합니다.", participant.snapshotName(), e);
+            }
+        }
+
+        log.info("[REGION-SNAPSHOT] 경계 데이터 스냅샷 준비 완료 - 소요시간: {}ms", System.currentTimeMillis() - startTime);
+        // 모든 스냅샷 준비 후 참조만 연속 교체
+        return () -> {
+            swaps.forEach(Runnable::run);
+            setVersion(version);
+        };
+    }
+
+    private void setVersion(String value) {
+        if (SnapshotReloader.UNVERSIONED.equals(value)) {
+            this.versionToken = UNVERSIONED_TOKEN;
+            return;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(value.getBytes(StandardCharsets.UTF_8));
+        this.versionToken = "v" + Long.toString(crc.getValue(), 36);
+    }
+}
@@ -0,0 +1,32 @@
+package com.zinidata.domain.common.region.snapshot;
+
+/**
+ * 경계 데이터 버전별 스냅샷 참여 컴포넌트
+ *
+ * <p>{@link RegionSnapshotManager}가 경계 데이터 버전 변경을 감지하면 모든 참여 컴포넌트의
+ * {@link #prepare(String)}로 새 스냅샷을 만든 뒤, 전부 성공했을 때만 반환된 교체 작업을 연속 실행합니다.</p>
+ *
+ * <ul>
+ *   <li>prepare: 백그라운드 스레드에서 호출, 조회 중인 기존 스냅샷에 영향을 주지 않아야 함</li>
+ *   <li>교체 작업: 참조 교체 등 I/O 없는 짧은 작업만 수행</li>
+ * </ul>
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+public interface RegionSnapshotParticipant {
+
+    /**
+     * 로그 표시용 이름
+     */
+    String snapshotName();
+
+    /**
+     * 새 버전 스냅샷 생성
+     *
+     * @param version 경계 데이터 버전
+     * @return 새 스냅샷으로 교체하는 작업
+     * @throws Exception 생성 실패 시 (기존 스냅샷 유지)
+     */
+    Runnable prepare(String version) throws Exception;
+}
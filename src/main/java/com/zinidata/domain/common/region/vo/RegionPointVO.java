@@ -0,0 +1,27 @@
+package com.zinidata.domain.common.region.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 좌표 VO
+ * 
+ * <p>다건 좌표 기반 행정구역 조회 요청 시 사용되는 VO입니다.</p>
+ * 
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RegionPointVO {
+
+    /** 위도 (WGS84) */
+    private Double lat;
+
+    /** 경도 (WGS84) */
+    private Double lng;
+}
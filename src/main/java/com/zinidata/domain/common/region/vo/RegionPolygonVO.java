@@ -0,0 +1,161 @@
+package com.zinidata.domain.common.region.vo;
+
+import java.io.InputStream;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.util.GeometryFixer;
+import org.locationtech.jts.io.WKBWriter;
+import org.locationtech.jts.io.WKTReader;
+import org.locationtech.jts.simplify.TopologyPreservingSimplifier;
+
+import com.zinidata.common.enums.Status;
+import com.zinidata.common.exception.ValidationException;
+import com.zinidata.domain.common.region.index.GeoJsonReader;
+
+import lombok.Getter;
+
+/**
+ * 폴리곤 영역 조회 입력 VO (전처리 완료)
+ *
+ * <p>GeoJSON(또는 WKT) 폴리곤을 한 번만 읽어 단순화·꼭짓점 상한·외접 사각형 계산을 마친 형태입니다.
+ * 매퍼에는 문자열 대신 WKB 바이트와 외접 사각형이 전달되어, DB는 텍스트 파싱 없이
+ * 사각형 인덱스 조건으로 후보를 먼저 거른 뒤 ST_Intersects를 수행합니다.</p>
+ *
+ * <h3>전처리</h3>
+ * <ul>
+ *   <li><strong>파싱:</strong> 스트리밍 파서로 좌표 배열을 바로 구성 ({@link GeoJsonReader})</li>
+ *   <li><strong>보정:</strong> 자기 교차 등 유효하지 않은 폴리곤은 GeometryFixer로 보정</li>
+ *   <li><strong>단순화:</strong> 약 0.1m 허용 오차로 중복·일직선 꼭짓점 제거,
+ *       {@link #MAX_VERTICES}를 넘으면 허용 오차를 키워가며 재단순화 (위상 유지)</li>
+ *   <li><strong>외접 사각형:</strong> minX, minY, maxX, maxY (매퍼 사전 필터)</li>
+ * </ul>
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Getter
+public class RegionPolygonVO {
+
+    /** 단순화 후 최대 꼭짓점 수 */
+    public static final int MAX_VERTICES = 2_000;
+
+    /** 기본 단순화 허용 오차 (도 단위, 약 0.1m) */
+    private static final double BASE_TOLERANCE = 0.000001;
+
+    /** 꼭짓점 상한을 맞추기 위한 최대 허용 오차 (도 단위, 약 1km) */
+    private static final double MAX_TOLERANCE = 0.01;
+
+    /** 전처리된 폴리곤 (SRID 4326) */
+    private final Geometry geometry;
+
+    /** 매퍼 전달용 WKB (2차원) */
+    private final byte[] wkb;
+
+    /** 외접 사각형 */
+    private final double minX;
+    private final double minY;
+    private final double maxX;
+    private final double maxY;
+
+    /** 원본 꼭짓점 수 (로그용) */
+    private final int inputVertices;
+
+    private RegionPolygonVO(Geometry geometry, int inputVertices) {
+        Envelope envelope = geometry.getEnvelopeInternal();
+        this.geometry = geometry;
+        this.wkb = new WKBWriter(2).write(geometry);
+        this.minX = envelope.getMinX();
+        this.minY = envelope.getMinY();
+        this.maxX = envelope.getMaxX();
+        this.maxY = envelope.getMaxY();
+        this.inputVertices = inputVertices;
+    }
+
+    /**
+     * 폴리곤 문자열 읽기 (GeoJSON 또는 WKT)
+     *
+     * @param polygon GeoJSON(Polygon, MultiPolygon, Feature) 또는 WKT(POLYGON, MULTIPOLYGON)
+     * @return 전처리된 폴리곤
+     * @throws ValidationException 형식이 올바르지 않은 경우
+     */
+    public static RegionPolygonVO fromText(String polygon) throws ValidationException {
+        if (polygon == null || polygon.isBlank()) {
+            throw new ValidationException(Status.파라미터오류, "폴리곤 데이터를 입력해주세요.");
+        }
+        try {
+            String trimmed = polygon.trim();
+            Geometry geometry = trimmed.startsWith("{")
+                    ? GeoJsonReader.readPolygon(trimmed)
+                    : new WKTReader(GeoJsonReader.geometryFactory()).read(trimmed);
+            return of(geometry);
+        } catch (ValidationException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ValidationException(Status.파라미터오류, "올바른 폴리곤 형식이 아닙니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 폴리곤 요청 본문 읽기 (GeoJSON 스트림)
+     *
+     * @param geoJson GeoJSON 입력 스트림
+     * @return 전처리된 폴리곤
+     * @throws ValidationException 형식이 올바르지 않은 경우
+     */
+    public static RegionPolygonVO fromStream(InputStream geoJson) throws ValidationException {
+        try {
+            return of(GeoJsonReader.readPolygon(geoJson));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException(Status.파라미터오류, "올바른 GeoJSON 폴리곤이 아닙니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Geometry 전처리 (보정 → 단순화 → 꼭짓점 상한)
+     *
+     * @param geometry Polygon 또는 MultiPolygon (SRID 4326 좌표)
+     * @return 전처리된 폴리곤
+     * @throws ValidationException 폴리곤이 아니거나 좌표 범위를 벗어난 경우
+     */
+    public static RegionPolygonVO of(Geometry geometry) throws ValidationException {
+        if (!(geometry instanceof Polygon) && !(geometry instanceof MultiPolygon)) {
+            throw new ValidationException(Status.파라미터오류, "Polygon 또는 MultiPolygon만 지원합니다.");
+        }
+        if (geometry.isEmpty()) {
+            throw new ValidationException(Status.파라미터오류, "빈 폴리곤입니다.");
+        }
+        Envelope envelope = geometry.getEnvelopeInternal();
+        if (envelope.getMinX() < -180 || envelope.getMaxX() > 180 || envelope.getMinY() < -90 || envelope.getMaxY() > 90) {
+            throw new ValidationException(Status.파라미터오류, "폴리곤 좌표가 WGS84 범위를 벗어났습니다.");
+        }
+
+        int inputVertices = geometry.getNumPoints();
+        Geometry valid = geometry.isValid() ? geometry : GeometryFixer.fix(geometry);
+
+        double tolerance = BASE_TOLERANCE;
+        Geometry simplified = TopologyPreservingSimplifier.simplify(valid, tolerance);
+        while (simplified.getNumPoints() > MAX_VERTICES && tolerance < MAX_TOLERANCE) {
+            tolerance *= 4;
+            simplified = TopologyPreservingSimplifier.simplify(valid, tolerance);
+        }
+        if (simplified.getNumPoints() > MAX_VERTICES) {
+            throw new ValidationException(Status.파라미터오류,
+                    "폴리곤이 너무 복잡합니다. (단순화 후 최대 " + MAX_VERTICES + "개 꼭짓점)");
+        }
+        if (simplified.isEmpty()) {
+            throw new ValidationException(Status.파라미터오류, "면적이 없는 폴리곤입니다.");
+        }
+        simplified.setSRID(4326);
+        return new RegionPolygonVO(simplified, inputVertices);
+    }
+
+    /**
+     * 꼭짓점 수 (전처리 후)
+     */
+    public int getVertexCount() {
+        return geometry.getNumPoints();
+    }
+}
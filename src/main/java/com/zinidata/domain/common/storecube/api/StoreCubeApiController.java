@@ -0,0 +1,120 @@
+package com.zinidata.domain.common.storecube.api;
+
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.zinidata.audit.annotation.AuditLog;
+import com.zinidata.audit.enums.AuditActionType;
+import com.zinidata.common.dto.ApiResponse;
+import com.zinidata.domain.common.storecube.service.StoreCubeService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 점포 수 큐브 API 컨트롤러
+ *
+ * <p>행정구역 × 업종 × 배치월 점포 수 추이와 하위 수준 순위를 인메모리 큐브에서 조회합니다.</p>
+ * <p>행정구역은 전국/광역시도/시군구/행정동, 업종은 전체/대/중/소분류 어느 수준이든 코드 길이로 지정합니다.</p>
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Tag(name = "[store-cube] 🟢 점포 수 통계", description = "행정구역 × 업종 × 배치월 점포 수 추이/순위 API")
+@Slf4j
+@RestController
+@RequestMapping("/api/common/store-cube")
+@RequiredArgsConstructor
+public class StoreCubeApiController {
+
+    private final StoreCubeService storeCubeService;
+
+    /**
+     * 적재된 배치월 목록 조회
+     *
+     * @return 배치월 목록 응답
+     */
+    @Operation(summary = "배치월 목록 조회", description = "점포 수 큐브에 적재된 배치월 목록(오름차순)과 최신 배치월을 조회합니다")
+    @AuditLog(actionType = AuditActionType.API_CALL, targetResource = "api:/common/store-cube/months")
+    @GetMapping("/months")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getMonths() throws Exception {
+
+        log.info("[STORE-CUBE] 배치월 목록 조회 요청");
+
+        Map<String, Object> result = storeCubeService.getMonths();
+        return ResponseEntity.ok(ApiResponse.success(result));
+    }
+
+    /**
+     * 점포 수 추이 조회
+     *
+     * @param regionCd 행정구역 코드 (선택)
+     * @param upjongCd 업종 코드 (선택)
+     * @param fromYm 시작 배치월 (선택)
+     * @param toYm 종료 배치월 (선택)
+     * @return 배치월별 점포 수 응답
+     */
+    @Operation(summary = "점포 수 추이 조회", description = "선택 행정구역 × 업종의 배치월별 점포 수를 조회합니다\n\n" +
+            "- regionCd: 2자리 광역시도, 5자리 시군구, 8자리 행정동 (생략 시 전국)\n" +
+            "- upjongCd: 1자리 대분류, 3자리 중분류, 6자리 소분류 (생략 시 전체 업종)")
+    @AuditLog(actionType = AuditActionType.API_CALL, targetResource = "api:/common/store-cube/trend")
+    @GetMapping("/trend")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getTrend(
+            @Parameter(description = "행정구역 코드 (2/5/8자리, 생략 시 전국)", example = "11680")
+            @RequestParam(required = false) String regionCd,
+            @Parameter(description = "업종 코드 (1/3/6자리, 생략 시 전체 업종)", example = "Q13")
+            @RequestParam(required = false) String upjongCd,
+            @Parameter(description = "시작 배치월 (YYYYMM)", example = "202401")
+            @RequestParam(required = false) String fromYm,
+            @Parameter(description = "종료 배치월 (YYYYMM)", example = "202412")
+            @RequestParam(required = false) String toYm) throws Exception {
+
+        log.info("[STORE-CUBE] 점포 수 추이 조회 요청 - 행정구역: {}, 업종: {}, 기간: {} ~ {}", regionCd, upjongCd, fromYm, toYm);
+
+        Map<String, Object> result = storeCubeService.getTrend(regionCd, upjongCd, fromYm, toYm);
+        return ResponseEntity.ok(ApiResponse.success(result));
+    }
+
+    /**
+     * 하위 수준 점포 수 순위 조회
+     *
+     * @param yyyymm 배치월 (선택)
+     * @param regionCd 행정구역 코드 (선택)
+     * @param upjongCd 업종 코드 (선택)
+     * @param groupBy 하위 분류 기준 (region / upjong)
+     * @param limit 최대 건수 (선택)
+     * @return 순위 응답
+     */
+    @Operation(summary = "점포 수 순위 조회", description = "선택 행정구역 × 업종을 한 단계 아래 수준으로 나눈 점포 수 순위를 조회합니다\n\n" +
+            "- groupBy=region: 전국 → 광역시도, 광역시도 → 시군구, 시군구 → 행정동\n" +
+            "- groupBy=upjong: 전체 → 대분류, 대분류 → 중분류, 중분류 → 소분류\n" +
+            "- 직전 배치월 대비 증감(changeCnt) 포함")
+    @AuditLog(actionType = AuditActionType.API_CALL, targetResource = "api:/common/store-cube/rollup")
+    @GetMapping("/rollup")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getRollup(
+            @Parameter(description = "배치월 (YYYYMM, 생략 시 최신 배치월)", example = "202412")
+            @RequestParam(required = false) String yyyymm,
+            @Parameter(description = "행정구역 코드 (2/5/8자리, 생략 시 전국)", example = "11")
+            @RequestParam(required = false) String regionCd,
+            @Parameter(description = "업종 코드 (1/3/6자리, 생략 시 전체 업종)", example = "Q")
+            @RequestParam(required = false) String upjongCd,
+            @Parameter(description = "하위 분류 기준 (region: 행정구역, upjong: 업종)", example = "region", required = true)
+            @RequestParam String groupBy,
+            @Parameter(description = "최대 건수 (1~5000)", example = "10")
+            @RequestParam(required = false) Integer limit) throws Exception {
+
+        log.info("[STORE-CUBE] 점포 수 순위 조회 요청 - 배치월: {}, 행정구역: {}, 업종: {}, 기준: {}, 건수: {}",
+                yyyymm, regionCd, upjongCd, groupBy, limit);
+
+        Map<String, Object> result = storeCubeService.getRollup(yyyymm, regionCd, upjongCd, groupBy, limit);
+        return ResponseEntity.ok(ApiResponse.success(result));
+    }
+}
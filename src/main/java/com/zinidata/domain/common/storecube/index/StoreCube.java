@@ -0,0 +1,199 @@
+package com.zinidata.domain.common.storecube.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.zinidata.domain.common.dataversion.enums.DataGroup;
+import com.zinidata.domain.common.dataversion.service.DataVersionService;
+import com.zinidata.domain.common.dataversion.snapshot.SnapshotReloader;
+import com.zinidata.domain.common.storecube.mapper.StoreCubeMapper;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 점포 수 큐브 적재기
+ *
+ * <p>TB_BATCH_LOG 최근 배치월의 TBSS_SUM_ADMI_HIS_V3 개인사업자(BUPIN_GB = '1') 점포 수를
+ * {@link StoreCubeSnapshot}으로 만들어 보관합니다.</p>
+ *
+ * <ul>
+ *   <li>데이터 버전: 행정구역({@link DataGroup#REGION}, vwadm_admi)·업종({@link DataGroup#UPJONG})·
+ *       배치월 점포 수({@link DataGroup#STORE_SUM}) 중 하나라도 바뀌면 재구성</li>
+ *   <li>배치월 단위 적재: 버전이 바뀌면 배치월별 지문(행 수, 점포 수 합)을 비교해 새로 생기거나 바뀐 달만 다시 읽음</li>
+ *   <li>행정구역·업종 계층이 바뀌면 축 위치가 달라지므로 모든 달을 다시 읽음</li>
+ *   <li>재구성은 {@link SnapshotReloader}가 백그라운드 스레드에서 수행하고 완성 후 통째로 교체
+ *       (조회 중인 스냅샷에는 영향 없음, 만드는 도중 적재가 시작·완료되면 결과를 버림)</li>
+ * </ul>
+ *
+ * <h3>설정</h3>
+ * <pre>
+ * store-cube:
+ *   max-months: 24                # 보관할 최근 배치월 수
+ *   check-interval-ms: 3600000    # 데이터 버전 확인 주기
+ * </pre>
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class StoreCube {
+
+    private final StoreCubeMapper storeCubeMapper;
+    private final int maxMonths;
+    private final SnapshotReloader reloader;
+
+    private volatile StoreCubeSnapshot snapshot;
+
+    public StoreCube(StoreCubeMapper storeCubeMapper, DataVersionService dataVersionService,
+            @Value("${store-cube.max-months:24}") int maxMonths) {
+        this.storeCubeMapper = storeCubeMapper;
+        this.maxMonths = maxMonths;
+        this.reloader = new SnapshotReloader("store-cube", "점포 수 큐브", dataVersionService,
+                this::prepare, DataGroup.REGION, DataGroup.UPJONG, DataGroup.STORE_SUM);
+    }
+
+    /**
+     * 애플리케이션 기동 완료 후 백그라운드 적재 (기동 지연 없음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        checkVersion();
+    }
+
+    /**
+     * 데이터 버전 확인 (기본 1시간 주기)
+     *
+     * <p>버전이 바뀌었으면 재구성을 백그라운드 스레드에 맡기고 바로 반환합니다.</p>
+     */
+    @Scheduled(fixedDelayString = "${store-cube.check-interval-ms:3600000}",
+            initialDelayString = "${store-cube.check-interval-ms:3600000}")
+    public void checkVersion() {
+        reloader.checkVersion();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reloader.shutdown();
+    }
+
+    /**
+     * 큐브 적재 여부
+     *
+     * @return 적재 완료 시 true
+     */
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * 현재 스냅샷 (한 요청 안에서는 같은 스냅샷을 사용)
+     *
+     * @return 스냅샷 (적재 전이면 null)
+     */
+    public StoreCubeSnapshot snapshot() {
+        return snapshot;
+    }
+
+    // ==================== 내부 메서드 ====================
+
+    /**
+     * 새 스냅샷 생성 (교체는 {@link SnapshotReloader}가 버전 확인 후 수행)
+     */
+    private Runnable prepare(String version) {
+        long startTime = System.currentTimeMillis();
+
+        StoreCubeSnapshot.Hierarchy regions = new StoreCubeSnapshot.Hierarchy(toRows(storeCubeMapper.selectCubeRegions(),
+                "megaCd", "megaNm", "ctyCd", "ctyNm", "admiCd", "admiNm"));
+        StoreCubeSnapshot.Hierarchy upjongs = new StoreCubeSnapshot.Hierarchy(toRows(storeCubeMapper.selectCubeUpjongs(),
+                "upjong1Cd", "upjong1Nm", "upjong2Cd", "upjong2Nm", "upjong3Cd", "upjong3Nm"));
+
+        // 계층(축 위치)이 그대로일 때만 기존 배치월 조각 재사용
+        StoreCubeSnapshot current = snapshot;
+        boolean reusable = current != null && regions.sameAs(current.regions()) && upjongs.sameAs(current.upjongs());
+
+        List<String> months = new ArrayList<>(storeCubeMapper.selectCubeMonths(maxMonths));
+        months.sort(null);
+        Map<String, String> fingerprints = new HashMap<>();
+        if (!months.isEmpty()) {
+            for (Map<String, Object> row : storeCubeMapper.selectCubeMonthFingerprints(months)) {
+                fingerprints.put(String.valueOf(row.get("yyyymm")), row.get("rowCount") + ":" + row.get("storeCnt"));
+            }
+        }
+
+        StoreCubeSnapshot.Slice[] slices = new StoreCubeSnapshot.Slice[months.size()];
+        int loaded = 0;
+        for (int m = 0; m < slices.length; m++) {
+            String yyyymm = months.get(m);
+            String fingerprint = fingerprints.getOrDefault(yyyymm, "0:0");
+            StoreCubeSnapshot.Slice previous = reusable ? current.slice(yyyymm) : null;
+            if (previous != null && previous.fingerprint.equals(fingerprint)) {
+                slices[m] = previous;
+            } else {
+                slices[m] = loadSlice(yyyymm, fingerprint, regions, upjongs);
+                loaded++;
+            }
+        }
+
+        StoreCubeSnapshot built = new StoreCubeSnapshot(version, regions, upjongs, months.toArray(new String[0]), slices);
+        log.info("[STORE-CUBE] 점포 수 큐브 생성 완료 - {}, 새로 읽은 배치월: {}, 소요시간: {}ms",
+                built.describe(), loaded, System.currentTimeMillis() - startTime);
+        return () -> this.snapshot = built;
+    }
+
+    /**
+     * 배치월 조각 적재 (계층에 없는 행정동·업종은 제외)
+     */
+    private StoreCubeSnapshot.Slice loadSlice(String yyyymm, String fingerprint,
+            StoreCubeSnapshot.Hierarchy regions, StoreCubeSnapshot.Hierarchy upjongs) {
+        int upjongCount = upjongs.leafCount();
+        long[][] packed = {new long[4096]};
+        int[] size = {0};
+        int[] skipped = {0};
+        storeCubeMapper.selectCubeMonthCells(yyyymm, context -> {
+            Map<String, Object> row = context.getResultObject();
+            Integer a = regions.leafIndex((String) row.get("admiCd"));
+            Integer u = upjongs.leafIndex((String) row.get("upjong3Cd"));
+            if (a == null || u == null || !(row.get("storeCnt") instanceof Number count)) {
+                skipped[0]++;
+                return;
+            }
+            if (count.longValue() <= 0) {
+                return;
+            }
+            if (size[0] == packed[0].length) {
+                packed[0] = Arrays.copyOf(packed[0], packed[0].length * 2);
+            }
+            long key = (long) a * upjongCount + u;
+            packed[0][size[0]++] = (key << 32) | (Math.toIntExact(count.longValue()) & 0xFFFFFFFFL);
+        });
+
+        if (skipped[0] > 0) {
+            log.warn("[STORE-CUBE] 계층에 없는 행정동/업종 점포 수 제외 - 배치월: {}, {}건", yyyymm, skipped[0]);
+        }
+        return new StoreCubeSnapshot.Slice(fingerprint, regions.leafCount(), upjongCount, packed[0], size[0]);
+    }
+
+    private static List<String[]> toRows(List<Map<String, Object>> rows, String... keys) {
+        List<String[]> result = new ArrayList<>(rows.size());
+        for (Map<String, Object> row : rows) {
+            String[] values = new String[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                Object value = row.get(keys[i]);
+                values[i] = value != null ? value.toString() : null;
+            }
+            result.add(values);
+        }
+        return result;
+    }
+}
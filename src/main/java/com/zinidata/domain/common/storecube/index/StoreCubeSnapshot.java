@@ -0,0 +1,435 @@
+package com.zinidata.domain.common.storecube.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.Getter;
+
+/**
+ * 행정구역 × 업종 × 월 점포 수 큐브 (불변, 열 지향 배열)
+ *
+ * <p>TBSS_SUM_ADMI_HIS_V3 점포 수를 배치월별 조각(slice)으로 보관하고, 어느 계층 수준의 조합이든
+ * 누적합(prefix sum) 차이로 합계를 구합니다. {@link StoreCube}가 만들어 통째로 교체합니다.</p>
+ *
+ * <h3>구조</h3>
+ * <ul>
+ *   <li>행정구역 축: 행정동을 (광역시도, 시군구, 행정동) 코드 순으로 나열 → 시군구·광역시도는 행정동 축의 연속 구간</li>
+ *   <li>업종 축: 소분류를 (대분류, 중분류, 소분류) 코드 순으로 나열 → 중분류·대분류는 소분류 축의 연속 구간</li>
+ *   <li>월 조각: 행정동별 압축 행(rowPtr / cols)과 (행정동, 소분류) 순서 누적합, 전국 소분류 누적합</li>
+ * </ul>
+ *
+ * <h3>합계 비용</h3>
+ * <ul>
+ *   <li>업종 전체: 행정구역 구간 양끝 누적합 차이 (O(1))</li>
+ *   <li>전국: 소분류 구간 양끝 누적합 차이 (O(1))</li>
+ *   <li>그 외: 구간 안 행정동마다 이분 탐색 2회 (O(행정동 수 × log 업종 수))</li>
+ * </ul>
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+public final class StoreCubeSnapshot {
+
+    /** 행정구역 수준 (상위 → 하위) */
+    public static final String[] REGION_LEVELS = {"mega", "cty", "admi"};
+
+    /** 업종 수준 (상위 → 하위) */
+    public static final String[] UPJONG_LEVELS = {"upjong1", "upjong2", "upjong3"};
+
+    @Getter
+    private final String version;
+
+    private final Hierarchy regions;
+    private final Hierarchy upjongs;
+    private final String[] months;
+    private final Map<String, Integer> monthIndex;
+    private final Slice[] slices;
+
+    StoreCubeSnapshot(String version, Hierarchy regions, Hierarchy upjongs, String[] months, Slice[] slices) {
+        this.version = version;
+        this.regions = regions;
+        this.upjongs = upjongs;
+        this.months = months;
+        this.slices = slices;
+        this.monthIndex = new HashMap<>(months.length * 2);
+        for (int i = 0; i < months.length; i++) {
+            monthIndex.put(months[i], i);
+        }
+    }
+
+    /**
+     * 적재된 배치월 (오름차순)
+     */
+    public List<String> months() {
+        return Collections.unmodifiableList(Arrays.asList(months));
+    }
+
+    /**
+     * 배치월 적재 여부
+     */
+    public boolean hasMonth(String yyyymm) {
+        return monthIndex.containsKey(yyyymm);
+    }
+
+    /**
+     * 직전 적재 배치월
+     *
+     * @return 직전 배치월 (첫 달이거나 없는 달이면 null)
+     */
+    public String previousMonth(String yyyymm) {
+        Integer m = monthIndex.get(yyyymm);
+        return m == null || m == 0 ? null : months[m - 1];
+    }
+
+    /**
+     * 행정구역 조회
+     *
+     * @param regionCd 광역시도/시군구/행정동 코드 (null이면 전국)
+     * @return 행정구역 (없는 코드면 null)
+     */
+    public Member region(String regionCd) {
+        return regions.member(regionCd);
+    }
+
+    /**
+     * 업종 조회
+     *
+     * @param upjongCd 대/중/소분류 코드 (null이면 전체 업종)
+     * @return 업종 (없는 코드면 null)
+     */
+    public Member upjong(String upjongCd) {
+        return upjongs.member(upjongCd);
+    }
+
+    /**
+     * 하위 행정구역 목록 (전국 → 광역시도, 광역시도 → 시군구, 시군구 → 행정동)
+     */
+    public List<Member> regionChildren(Member region) {
+        return regions.children(region);
+    }
+
+    /**
+     * 하위 업종 목록 (전체 → 대분류, 대분류 → 중분류, 중분류 → 소분류)
+     */
+    public List<Member> upjongChildren(Member upjong) {
+        return upjongs.children(upjong);
+    }
+
+    /**
+     * 점포 수 합계
+     *
+     * @param yyyymm 배치월
+     * @param region 행정구역
+     * @param upjong 업종
+     * @return 점포 수 (적재되지 않은 달이면 0)
+     */
+    public long storeCount(String yyyymm, Member region, Member upjong) {
+        Integer m = monthIndex.get(yyyymm);
+        return m == null ? 0 : slices[m].sum(region.start, region.end, upjong.start, upjong.end);
+    }
+
+    /**
+     * 구간 월별 점포 수 합계
+     *
+     * @param fromYm 시작 배치월 (null이면 처음부터)
+     * @param toYm 종료 배치월 (null이면 끝까지)
+     * @return 적재된 배치월별 점포 수 (months[i], counts[i] 순서로 대응)
+     */
+    public Series series(String fromYm, String toYm, Member region, Member upjong) {
+        List<String> ym = new ArrayList<>();
+        long[] counts = new long[months.length];
+        for (int m = 0; m < months.length; m++) {
+            if ((fromYm != null && months[m].compareTo(fromYm) < 0) || (toYm != null && months[m].compareTo(toYm) > 0)) {
+                continue;
+            }
+            counts[ym.size()] = slices[m].sum(region.start, region.end, upjong.start, upjong.end);
+            ym.add(months[m]);
+        }
+        return new Series(ym, Arrays.copyOf(counts, ym.size()));
+    }
+
+    /**
+     * 적재 통계 (행정동 수, 업종 수, 월별 값 수 합)
+     */
+    String describe() {
+        long cells = 0;
+        for (Slice slice : slices) {
+            cells += slice.cols.length;
+        }
+        return "행정동: " + regions.leafCount() + ", 업종: " + upjongs.leafCount()
+                + ", 배치월: " + months.length + ", 값: " + cells;
+    }
+
+    Slice slice(String yyyymm) {
+        Integer m = monthIndex.get(yyyymm);
+        return m == null ? null : slices[m];
+    }
+
+    Hierarchy regions() {
+        return regions;
+    }
+
+    Hierarchy upjongs() {
+        return upjongs;
+    }
+
+    /**
+     * 계층 구성원 (전국/전체 업종은 level = -1)
+     */
+    @Getter
+    public static final class Member {
+
+        private final int level;
+        private final String code;
+        private final String name;
+
+        /** 수준 내 인덱스 */
+        private final int index;
+
+        /** 최하위 축 구간 [start, end) */
+        private final int start;
+        private final int end;
+
+        Member(int level, String code, String name, int index, int start, int end) {
+            this.level = level;
+            this.code = code;
+            this.name = name;
+            this.index = index;
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    /**
+     * 월별 합계 결과
+     */
+    @Getter
+    public static final class Series {
+
+        private final List<String> months;
+        private final long[] counts;
+
+        Series(List<String> months, long[] counts) {
+            this.months = months;
+            this.counts = counts;
+        }
+    }
+
+    /**
+     * 3단계 계층 (최하위 축 연속 구간으로 상위 구성원 표현)
+     */
+    static final class Hierarchy {
+
+        final String[][] codes;
+        final String[][] names;
+
+        /** 수준별 최하위 축 시작 위치 (n + 1) */
+        final int[][] leafStart;
+
+        /** 수준별 하위 수준 시작 위치 (n + 1, 최하위 수준 제외) */
+        final int[][] childStart;
+
+        final Map<String, int[]> index;
+
+        /**
+         * 계층 생성
+         *
+         * @param rows (상위 코드, 상위명, 중간 코드, 중간명, 하위 코드, 하위명) - 상위·중간·하위 코드 순 정렬
+         */
+        Hierarchy(List<String[]> rows) {
+            int depth = 3;
+            List<List<String>> codeLists = new ArrayList<>();
+            List<List<String>> nameLists = new ArrayList<>();
+            List<List<Integer>> leafStarts = new ArrayList<>();
+            List<List<Integer>> childStarts = new ArrayList<>();
+            for (int level = 0; level < depth; level++) {
+                codeLists.add(new ArrayList<>());
+                nameLists.add(new ArrayList<>());
+                leafStarts.add(new ArrayList<>());
+                childStarts.add(new ArrayList<>());
+            }
+
+            for (int leaf = 0; leaf < rows.size(); leaf++) {
+                String[] row = rows.get(leaf);
+                boolean opened = false;
+                for (int level = 0; level < depth; level++) {
+                    List<String> levelCodes = codeLists.get(level);
+                    String code = row[level * 2];
+                    if (opened || levelCodes.isEmpty() || !levelCodes.get(levelCodes.size() - 1).equals(code)) {
+                        opened = true;
+                        levelCodes.add(code);
+                        nameLists.get(level).add(row[level * 2 + 1]);
+                        leafStarts.get(level).add(leaf);
+                        if (level + 1 < depth) {
+                            childStarts.get(level).add(codeLists.get(level + 1).size());
+                        }
+                    }
+                }
+            }
+
+            this.codes = new String[depth][];
+            this.names = new String[depth][];
+            this.leafStart = new int[depth][];
+            this.childStart = new int[depth][];
+            this.index = new HashMap<>(rows.size() * 3);
+            for (int level = 0; level < depth; level++) {
+                codes[level] = codeLists.get(level).toArray(new String[0]);
+                names[level] = nameLists.get(level).toArray(new String[0]);
+                leafStart[level] = close(leafStarts.get(level), rows.size());
+                childStart[level] = level + 1 < depth
+                        ? close(childStarts.get(level), codeLists.get(level + 1).size()) : null;
+                for (int i = 0; i < codes[level].length; i++) {
+                    index.putIfAbsent(codes[level][i], new int[] {level, i});
+                }
+            }
+        }
+
+        int leafCount() {
+            return codes[codes.length - 1].length;
+        }
+
+        /** 최하위 코드 → 축 위치 (없으면 null) */
+        Integer leafIndex(String code) {
+            int[] position = index.get(code);
+            return position == null || position[0] != codes.length - 1 ? null : position[1];
+        }
+
+        Member member(String code) {
+            if (code == null) {
+                return new Member(-1, null, null, -1, 0, leafCount());
+            }
+            int[] position = index.get(code);
+            return position == null ? null : member(position[0], position[1]);
+        }
+
+        List<Member> children(Member parent) {
+            int level = parent.level + 1;
+            if (level >= codes.length) {
+                return List.of();
+            }
+            int from = parent.level < 0 ? 0 : childStart[parent.level][parent.index];
+            int to = parent.level < 0 ? codes[0].length : childStart[parent.level][parent.index + 1];
+            List<Member> children = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                children.add(member(level, i));
+            }
+            return children;
+        }
+
+        boolean sameAs(Hierarchy other) {
+            return other != null && Arrays.deepEquals(codes, other.codes);
+        }
+
+        private Member member(int level, int i) {
+            return new Member(level, codes[level][i], names[level][i], i, leafStart[level][i], leafStart[level][i + 1]);
+        }
+
+        private static int[] close(List<Integer> starts, int end) {
+            int[] result = new int[starts.size() + 1];
+            for (int i = 0; i < starts.size(); i++) {
+                result[i] = starts.get(i);
+            }
+            result[starts.size()] = end;
+            return result;
+        }
+    }
+
+    /**
+     * 배치월 조각 (행정동별 압축 행 + 누적합)
+     */
+    static final class Slice {
+
+        /** 변경 확인용 지문 (행 수:점포 수 합) */
+        final String fingerprint;
+
+        final int upjongCount;
+
+        /** 행정동 a의 값 구간 = [rowPtr[a], rowPtr[a + 1]) */
+        final int[] rowPtr;
+
+        /** 값별 소분류 축 위치 (행 안에서 오름차순) */
+        final int[] cols;
+
+        /** prefix[k] = (행정동, 소분류) 순서로 k번째 값 앞까지의 점포 수 합 */
+        final int[] prefix;
+
+        /** 전국 소분류 누적합 (upjongCount + 1) */
+        final long[] upjongPrefix;
+
+        /**
+         * 조각 생성
+         *
+         * @param packed (행정동 위치 × 업종 수 + 소분류 위치) &lt;&lt; 32 | 점포 수
+         */
+        Slice(String fingerprint, int admiCount, int upjongCount, long[] packed, int size) {
+            this.fingerprint = fingerprint;
+            this.upjongCount = upjongCount;
+            Arrays.sort(packed, 0, size);
+
+            // 같은 칸 병합 (GROUP BY 결과라 보통 없음)
+            int n = 0;
+            for (int i = 0; i < size; i++) {
+                if (n > 0 && (packed[n - 1] >>> 32) == (packed[i] >>> 32)) {
+                    long merged = Math.addExact((int) packed[n - 1], (int) packed[i]);
+                    packed[n - 1] = (packed[i] >>> 32 << 32) | (Math.toIntExact(merged) & 0xFFFFFFFFL);
+                } else {
+                    packed[n++] = packed[i];
+                }
+            }
+
+            this.rowPtr = new int[admiCount + 1];
+            this.cols = new int[n];
+            this.prefix = new int[n + 1];
+            this.upjongPrefix = new long[upjongCount + 1];
+            for (int k = 0; k < n; k++) {
+                int key = (int) (packed[k] >>> 32);
+                int count = (int) packed[k];
+                rowPtr[key / upjongCount + 1]++;
+                cols[k] = key % upjongCount;
+                prefix[k + 1] = Math.addExact(prefix[k], count);
+                upjongPrefix[cols[k] + 1] += count;
+            }
+            for (int a = 0; a < admiCount; a++) {
+                rowPtr[a + 1] += rowPtr[a];
+            }
+            for (int u = 0; u < upjongCount; u++) {
+                upjongPrefix[u + 1] += upjongPrefix[u];
+            }
+        }
+
+        /**
+         * 행정동 구간 [a0, a1) × 소분류 구간 [u0, u1) 합계
+         */
+        long sum(int a0, int a1, int u0, int u1) {
+            if (u0 == 0 && u1 == upjongCount) {
+                return prefix[rowPtr[a1]] - prefix[rowPtr[a0]];
+            }
+            if (a0 == 0 && a1 == rowPtr.length - 1) {
+                return upjongPrefix[u1] - upjongPrefix[u0];
+            }
+            long sum = 0;
+            for (int a = a0; a < a1; a++) {
+                int lo = lowerBound(rowPtr[a], rowPtr[a + 1], u0);
+                int hi = lowerBound(lo, rowPtr[a + 1], u1);
+                sum += prefix[hi] - prefix[lo];
+            }
+            return sum;
+        }
+
+        private int lowerBound(int from, int to, int value) {
+            while (from < to) {
+                int mid = (from + to) >>> 1;
+                if (cols[mid] < value) {
+                    from = mid + 1;
+                } else {
+                    to = mid;
+                }
+            }
+            return from;
+        }
+    }
+}
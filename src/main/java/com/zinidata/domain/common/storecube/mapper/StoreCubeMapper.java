@@ -0,0 +1,60 @@
+package com.zinidata.domain.common.storecube.mapper;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
+
+/**
+ * 점포 수 큐브 매퍼 인터페이스
+ *
+ * <p>인메모리 점포 수 큐브(StoreCube) 적재용 조회를 담당합니다.</p>
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Mapper
+public interface StoreCubeMapper {
+
+    /**
+     * 행정구역 계층 조회 (광역시도, 시군구, 행정동 코드 순)
+     *
+     * @return 행정구역 목록 (megaCd, megaNm, ctyCd, ctyNm, admiCd, admiNm)
+     */
+    List<Map<String, Object>> selectCubeRegions();
+
+    /**
+     * 업종 계층 조회 (대분류, 중분류, 소분류 코드 순)
+     *
+     * @return 업종 목록 (upjong1Cd, upjong1Nm, upjong2Cd, upjong2Nm, upjong3Cd, upjong3Nm)
+     */
+    List<Map<String, Object>> selectCubeUpjongs();
+
+    /**
+     * 최근 배치월 조회
+     *
+     * @param maxMonths 최대 배치월 수
+     * @return 배치월(YYYYMM) 목록 (최근 순)
+     */
+    List<String> selectCubeMonths(@Param("maxMonths") int maxMonths);
+
+    /**
+     * 배치월별 지문 조회 (행 수, 점포 수 합)
+     *
+     * @param months 배치월 목록
+     * @return 배치월별 지문 (yyyymm, rowCount, storeCnt)
+     */
+    List<Map<String, Object>> selectCubeMonthFingerprints(@Param("months") List<String> months);
+
+    /**
+     * 배치월 행정동 × 소분류 점포 수 전체 조회 (개인사업자)
+     *
+     * <p>건수가 많아 List 대신 ResultHandler로 한 건씩 전달합니다.</p>
+     *
+     * @param yyyymm 배치월
+     * @param handler 행 처리기 (admiCd, upjong3Cd, storeCnt)
+     */
+    void selectCubeMonthCells(@Param("yyyymm") String yyyymm, ResultHandler<Map<String, Object>> handler);
+}
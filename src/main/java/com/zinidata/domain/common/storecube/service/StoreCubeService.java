@@ -0,0 +1,260 @@
+package com.zinidata.domain.common.storecube.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+
+import com.zinidata.common.enums.Status;
+import com.zinidata.common.exception.ValidationException;
+import com.zinidata.domain.common.storecube.index.StoreCube;
+import com.zinidata.domain.common.storecube.index.StoreCubeSnapshot;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 점포 수 큐브 서비스
+ *
+ * <p>행정구역(전국/광역시도/시군구/행정동) × 업종(전체/대/중/소분류) × 배치월 점포 수를
+ * {@link StoreCube} 인메모리 큐브에서 조회합니다. 화면별 집계 SQL 없이 추이와 순위를 계산합니다.</p>
+ *
+ * <ul>
+ *   <li>행정구역 코드: 2자리 광역시도, 5자리 시군구, 8자리 행정동 (생략 시 전국)</li>
+ *   <li>업종 코드: 1자리 대분류, 3자리 중분류, 6자리 소분류 (생략 시 전체 업종)</li>
+ *   <li>점포 수 기준: TBSS_SUM_ADMI_HIS_V3 개인사업자(BUPIN_GB = '1')</li>
+ * </ul>
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StoreCubeService {
+
+    private static final String GROUP_BY_REGION = "region";
+    private static final String GROUP_BY_UPJONG = "upjong";
+    private static final int MAX_LIMIT = 5000;
+
+    private final StoreCube storeCube;
+
+    /**
+     * 적재된 배치월 목록 조회
+     *
+     * @return 배치월 목록 (months: 오름차순, latestYm, totalCount)
+     * @throws ValidationException 큐브 적재 전
+     */
+    public Map<String, Object> getMonths() throws ValidationException {
+        StoreCubeSnapshot cube = requireCube();
+        List<String> months = cube.months();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("months", months);
+        result.put("latestYm", months.isEmpty() ? null : months.get(months.size() - 1));
+        result.put("totalCount", months.size());
+        return result;
+    }
+
+    /**
+     * 점포 수 추이 조회
+     *
+     * @param regionCd 행정구역 코드 (선택)
+     * @param upjongCd 업종 코드 (선택)
+     * @param fromYm 시작 배치월 (선택, YYYYMM)
+     * @param toYm 종료 배치월 (선택, YYYYMM)
+     * @return 추이 (region, upjong, series: [{yyyymm, storeCnt}])
+     * @throws ValidationException 검증 실패 또는 큐브 적재 전
+     */
+    public Map<String, Object> getTrend(String regionCd, String upjongCd, String fromYm, String toYm)
+            throws ValidationException {
+        try {
+            validateYm(fromYm, "시작 배치월");
+            validateYm(toYm, "종료 배치월");
+            if (fromYm != null && toYm != null && fromYm.compareTo(toYm) > 0) {
+                throw new ValidationException(Status.파라미터오류, "시작 배치월이 종료 배치월보다 늦습니다.");
+            }
+
+            StoreCubeSnapshot cube = requireCube();
+            StoreCubeSnapshot.Member region = resolveRegion(cube, regionCd);
+            StoreCubeSnapshot.Member upjong = resolveUpjong(cube, upjongCd);
+
+            StoreCubeSnapshot.Series series = cube.series(fromYm, toYm, region, upjong);
+            List<Map<String, Object>> points = new ArrayList<>(series.getMonths().size());
+            for (int i = 0; i < series.getMonths().size(); i++) {
+                Map<String, Object> point = new LinkedHashMap<>();
+                point.put("yyyymm", series.getMonths().get(i));
+                point.put("storeCnt", series.getCounts()[i]);
+                points.add(point);
+            }
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("region", memberInfo(region, StoreCubeSnapshot.REGION_LEVELS));
+            result.put("upjong", memberInfo(upjong, StoreCubeSnapshot.UPJONG_LEVELS));
+            result.put("series", points);
+            result.put("totalCount", points.size());
+
+            log.info("[STORE-CUBE] 점포 수 추이 조회 완료 - 행정구역: {}, 업종: {}, 배치월 수: {}",
+                    regionCd, upjongCd, points.size());
+            return result;
+
+        } catch (ValidationException e) {
+            log.warn("[STORE-CUBE] 점포 수 추이 조회 검증 실패: {}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("[STORE-CUBE] 점포 수 추이 조회 처리 오류 - 행정구역: {}, 업종: {}", regionCd, upjongCd, e);
+            throw new ValidationException(Status.실패, "점포 수 추이 조회 중 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * 하위 수준 점포 수 순위 조회 (롤업)
+     *
+     * <p>groupBy = region이면 선택 행정구역의 하위 행정구역별, upjong이면 선택 업종의 하위 업종별 점포 수를
+     * 점포 수 내림차순으로 반환합니다. 직전 배치월 대비 증감도 함께 계산합니다.</p>
+     *
+     * @param yyyymm 배치월 (선택, 생략 시 최신 배치월)
+     * @param regionCd 행정구역 코드 (선택)
+     * @param upjongCd 업종 코드 (선택)
+     * @param groupBy 하위 분류 기준 (region / upjong)
+     * @param limit 최대 건수 (선택)
+     * @return 순위 (yyyymm, prevYm, region, upjong, groupBy, groupLevel, totalStoreCnt, items)
+     * @throws ValidationException 검증 실패 또는 큐브 적재 전
+     */
+    public Map<String, Object> getRollup(String yyyymm, String regionCd, String upjongCd, String groupBy, Integer limit)
+            throws ValidationException {
+        try {
+            validateYm(yyyymm, "배치월");
+            if (!GROUP_BY_REGION.equals(groupBy) && !GROUP_BY_UPJONG.equals(groupBy)) {
+                throw new ValidationException(Status.파라미터오류, "groupBy는 region 또는 upjong만 가능합니다.");
+            }
+            if (limit != null && (limit < 1 || limit > MAX_LIMIT)) {
+                throw new ValidationException(Status.파라미터오류, "limit은 1~" + MAX_LIMIT + " 사이여야 합니다.");
+            }
+
+            StoreCubeSnapshot cube = requireCube();
+            String month = yyyymm != null ? yyyymm : latestMonth(cube);
+            if (!cube.hasMonth(month)) {
+                throw new ValidationException(Status.데이터없음, "적재되지 않은 배치월입니다: " + month);
+            }
+            String prevMonth = cube.previousMonth(month);
+
+            StoreCubeSnapshot.Member region = resolveRegion(cube, regionCd);
+            StoreCubeSnapshot.Member upjong = resolveUpjong(cube, upjongCd);
+            boolean byRegion = GROUP_BY_REGION.equals(groupBy);
+            List<StoreCubeSnapshot.Member> children = byRegion ? cube.regionChildren(region) : cube.upjongChildren(upjong);
+            if (children.isEmpty()) {
+                throw new ValidationException(Status.파라미터오류, byRegion
+                        ? "행정동은 하위 행정구역이 없습니다." : "소분류 업종은 하위 업종이 없습니다.");
+            }
+
+            List<Map<String, Object>> items = new ArrayList<>(children.size());
+            for (StoreCubeSnapshot.Member child : children) {
+                StoreCubeSnapshot.Member r = byRegion ? child : region;
+                StoreCubeSnapshot.Member u = byRegion ? upjong : child;
+                long storeCnt = cube.storeCount(month, r, u);
+                Long prevStoreCnt = prevMonth != null ? cube.storeCount(prevMonth, r, u) : null;
+
+                Map<String, Object> item = new LinkedHashMap<>();
+                item.put("code", child.getCode());
+                item.put("name", child.getName());
+                item.put("storeCnt", storeCnt);
+                item.put("prevStoreCnt", prevStoreCnt);
+                item.put("changeCnt", prevStoreCnt != null ? storeCnt - prevStoreCnt : null);
+                items.add(item);
+            }
+            items.sort(Comparator.comparingLong((Map<String, Object> item) -> (Long) item.get("storeCnt")).reversed()
+                    .thenComparing(item -> (String) item.get("code")));
+            for (int i = 0; i < items.size(); i++) {
+                items.get(i).put("rank", i + 1);
+            }
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("yyyymm", month);
+            result.put("prevYm", prevMonth);
+            result.put("region", memberInfo(region, StoreCubeSnapshot.REGION_LEVELS));
+            result.put("upjong", memberInfo(upjong, StoreCubeSnapshot.UPJONG_LEVELS));
+            result.put("groupBy", groupBy);
+            result.put("groupLevel", byRegion
+                    ? StoreCubeSnapshot.REGION_LEVELS[region.getLevel() + 1]
+                    : StoreCubeSnapshot.UPJONG_LEVELS[upjong.getLevel() + 1]);
+            result.put("totalStoreCnt", cube.storeCount(month, region, upjong));
+            result.put("totalCount", items.size());
+            result.put("items", limit != null && limit < items.size() ? items.subList(0, limit) : items);
+
+            log.info("[STORE-CUBE] 점포 수 순위 조회 완료 - 배치월: {}, 행정구역: {}, 업종: {}, 기준: {}, 건수: {}",
+                    month, regionCd, upjongCd, groupBy, items.size());
+            return result;
+
+        } catch (ValidationException e) {
+            log.warn("[STORE-CUBE] 점포 수 순위 조회 검증 실패: {}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("[STORE-CUBE] 점포 수 순위 조회 처리 오류 - 배치월: {}, 행정구역: {}, 업종: {}", yyyymm, regionCd, upjongCd, e);
+            throw new ValidationException(Status.실패, "점포 수 순위 조회 중 오류가 발생했습니다.");
+        }
+    }
+
+    // ==================== 내부 메서드 ====================
+
+    private StoreCubeSnapshot requireCube() throws ValidationException {
+        StoreCubeSnapshot cube = storeCube.snapshot();
+        if (cube == null) {
+            throw new ValidationException(Status.데이터없음, "점포 수 데이터를 준비 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+        return cube;
+    }
+
+    private String latestMonth(StoreCubeSnapshot cube) throws ValidationException {
+        List<String> months = cube.months();
+        if (months.isEmpty()) {
+            throw new ValidationException(Status.데이터없음, "적재된 배치월이 없습니다.");
+        }
+        return months.get(months.size() - 1);
+    }
+
+    private StoreCubeSnapshot.Member resolveRegion(StoreCubeSnapshot cube, String regionCd) throws ValidationException {
+        String code = blankToNull(regionCd);
+        if (code != null && code.length() != 2 && code.length() != 5 && code.length() != 8) {
+            throw new ValidationException(Status.파라미터오류, "행정구역 코드는 2자리(광역시도), 5자리(시군구), 8자리(행정동)여야 합니다.");
+        }
+        StoreCubeSnapshot.Member region = cube.region(code);
+        if (region == null) {
+            throw new ValidationException(Status.데이터없음, "행정구역을 찾을 수 없습니다: " + code);
+        }
+        return region;
+    }
+
+    private StoreCubeSnapshot.Member resolveUpjong(StoreCubeSnapshot cube, String upjongCd) throws ValidationException {
+        String code = blankToNull(upjongCd);
+        if (code != null && code.length() != 1 && code.length() != 3 && code.length() != 6) {
+            throw new ValidationException(Status.파라미터오류, "업종 코드는 1자리(대분류), 3자리(중분류), 6자리(소분류)여야 합니다.");
+        }
+        StoreCubeSnapshot.Member upjong = cube.upjong(code);
+        if (upjong == null) {
+            throw new ValidationException(Status.데이터없음, "업종을 찾을 수 없습니다: " + code);
+        }
+        return upjong;
+    }
+
+    private void validateYm(String yyyymm, String label) throws ValidationException {
+        if (yyyymm != null && !yyyymm.matches("\\d{6}")) {
+            throw new ValidationException(Status.파라미터오류, label + "은(는) YYYYMM 형식이어야 합니다.");
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.trim().isEmpty() ? null : value.trim();
+    }
+
+    private static Map<String, Object> memberInfo(StoreCubeSnapshot.Member member, String[] levels) {
+        Map<String, Object> info = new LinkedHashMap<>();
+        info.put("level", member.getLevel() < 0 ? "all" : levels[member.getLevel()]);
+        info.put("code", member.getCode());
+        info.put("name", member.getName());
+        return info;
+    }
+}
@@ -0,0 +1,523 @@
+package com.zinidata.domain.common.upjong.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntPredicate;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.zinidata.domain.common.dataversion.enums.DataGroup;
+import com.zinidata.domain.common.dataversion.service.DataVersionService;
+import com.zinidata.domain.common.dataversion.snapshot.SnapshotReloader;
+import com.zinidata.domain.common.upjong.mapper.UpjongMapper;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 분석업종 카탈로그 (불변, 코드 인덱스 배열)
+ *
+ * <p>tb_upjong1/2/3 전체를 한 번 읽어 레벨별 병렬 배열(코드/명칭/상위 인덱스)과 코드→인덱스 Map으로 보관하고,
+ * 업종 목록·계층구조·업종명 검색을 DB나 Redis 조회 없이 처리합니다.</p>
+ *
+ * <h3>구조</h3>
+ * <ul>
+ *   <li>대분류/중분류: 테이블 전체, 소분류: svc_yn = 'Y' (기존 목록 쿼리와 동일 기준)</li>
+ *   <li>배열 순서는 기존 쿼리의 ORDER BY 결과 그대로 사용 (DB 정렬 규칙 유지)</li>
+ *   <li>목록 응답과 전체 계층구조는 적재 시 불변 객체로 만들어 두고 그대로 반환</li>
+ *   <li>코드 필터 계층구조는 존재하는 코드에 한해 최초 조회 시 만들어 보관</li>
+ *   <li>업종명 검색은 함께 만든 {@link UpjongNameIndex}(2-gram 역색인, 초성 검색)로 처리</li>
+ * </ul>
+ *
+ * <p>업종 데이터 버전({@link DataGroup#UPJONG})을 주기적으로 확인하여 바뀌었을 때만 {@link SnapshotReloader}로
+ * 새 카탈로그를 만들어 교체합니다. 적재 전이거나 적재에 실패하면 {@link #isReady()}가 false이며
+ * 호출 측은 DB 조회로 대체합니다 (적재는 다음 확인 주기에 재시도).</p>
+ *
+ * <h3>설정</h3>
+ * <pre>
+ * upjong:
+ *   catalog:
+ *     check-interval-ms: 300000   # 업종 데이터 버전 확인 주기
+ * </pre>
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class UpjongCatalog {
+
+    private final UpjongMapper upjongMapper;
+    private final SnapshotReloader reloader;
+
+    private volatile Catalog catalog;
+
+    public UpjongCatalog(UpjongMapper upjongMapper, DataVersionService dataVersionService) {
+        this.upjongMapper = upjongMapper;
+        this.reloader = new SnapshotReloader("upjong-catalog", "업종 카탈로그", dataVersionService,
+                this::prepare, DataGroup.UPJONG);
+    }
+
+    /**
+     * 애플리케이션 기동 완료 후 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            reloader.reloadNow();
+        } catch (Exception e) {
+            log.error("[UPJONG-CATALOG] 업종 카탈로그 적재 실패 - DB 조회로 대체하고 다음 확인 주기에 다시 적재합니다.", e);
+        }
+    }
+
+    /**
+     * 업종 데이터 버전 확인 (기본 5분 주기)
+     *
+     * <p>버전이 바뀌었을 때만 백그라운드에서 새 카탈로그를 만들어 교체합니다. 조회 중인 기존 카탈로그에는 영향이 없습니다.</p>
+     */
+    @Scheduled(fixedDelayString = "${upjong.catalog.check-interval-ms:300000}",
+            initialDelayString = "${upjong.catalog.check-interval-ms:300000}")
+    public void checkVersion() {
+        reloader.checkVersion();
+    }
+
+    /**
+     * 카탈로그 재적재 (관리자용, 완성 후 교체)
+     */
+    public void reload() {
+        try {
+            reloader.reloadNow();
+        } catch (Exception e) {
+            throw new IllegalStateException("업종 카탈로그 적재에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 카탈로그 적재 여부
+     *
+     * @return 적재 완료 시 true
+     */
+    public boolean isReady() {
+        return catalog != null;
+    }
+
+    /**
+     * 현재 카탈로그 버전
+     *
+     * @return 업종 데이터 버전 문자열 (적재 전이면 null)
+     */
+    public String version() {
+        Catalog c = catalog;
+        return c != null ? c.version : null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reloader.shutdown();
+    }
+
+    /**
+     * 업종 목록 조회
+     *
+     * @param level 업종 레벨 (upjong1/upjong2/upjong3)
+     * @param upjongCode 상위 업종 코드 (null 또는 빈 문자열: 전체)
+     * @return 불변 업종 목록
+     */
+    public List<Map<String, Object>> list(String level, String upjongCode) {
+        Catalog c = catalog();
+        boolean all = upjongCode == null || upjongCode.isEmpty();
+        return switch (level.toLowerCase()) {
+            case "upjong1" -> c.list1;  // 대분류는 상위 코드 무시
+            case "upjong2" -> all ? c.list2 : c.list2ByUpjong1.getOrDefault(upjongCode, List.of());
+            case "upjong3" -> all ? c.list3 : c.list3ByUpjong2.getOrDefault(upjongCode, List.of());
+            default -> throw new IllegalArgumentException("지원하지 않는 업종 레벨입니다: " + level);
+        };
+    }
+
+    /**
+     * 업종 계층구조 조회
+     *
+     * @param upjongCode 업종 코드 (null: 전체, 1자리: 대분류, 3자리: 중분류, 6자리: 소분류)
+     * @return 계층구조 (filterType, filterCode, resultCount, hierarchy)
+     */
+    public Map<String, Object> hierarchy(String upjongCode) {
+        Catalog c = catalog();
+        if (upjongCode == null || upjongCode.trim().isEmpty()) {
+            return upjongCode == null ? c.fullHierarchy : c.buildHierarchy(upjongCode, "ALL", c.rows);
+        }
+
+        String filterType = switch (upjongCode.length()) {
+            case 1 -> "UPJONG1";     // 대분류
+            case 3 -> "UPJONG2";     // 중분류
+            case 6 -> "UPJONG3";     // 소분류
+            default -> throw new IllegalArgumentException("올바르지 않은 업종 코드 형식입니다: " + upjongCode);
+        };
+        if (!c.exists(upjongCode)) {
+            return c.buildHierarchy(upjongCode, filterType, new int[0]);
+        }
+        return c.hierarchyByCode.computeIfAbsent(upjongCode,
+                code -> c.buildHierarchy(code, filterType, c.rowsOf(code)));
+    }
+
+    /**
+     * 업종명 검색 ({@link UpjongNameIndex} 규칙: 부분 일치, 초성, 앞부분 일치 우선)
+     *
+     * @param keyword 검색어 (앞뒤 공백 제거된 값)
+     * @return 검색된 업종들의 계층구조 (keyword, totalCount, matchedCount, hierarchy / 중분류는 최상위 일치 순위 순)
+     */
+    public Map<String, Object> searchByName(String keyword) {
+        Catalog c = catalog();
+        UpjongNameIndex.Result match = c.nameIndex.search(keyword);
+        List<String> upjong2Cds = match.getUpjong2Codes();
+        if (upjong2Cds.isEmpty()) {
+            return Map.of(
+                "keyword", keyword,
+                "totalCount", 0,
+                "hierarchy", Map.of()
+            );
+        }
+
+        int[] rows = c.rowsOfUpjong2(upjong2Cds);
+        return Map.of(
+            "keyword", keyword,
+            "totalCount", rows.length,
+            "matchedCount", upjong2Cds.size(),
+            "hierarchy", c.buildSearchHierarchy(rows, match)
+        );
+    }
+
+    /**
+     * 업종명 검색 (계층구조 없이 일치 코드만)
+     *
+     * @param keyword 검색어 (앞뒤 공백 제거된 값)
+     * @return 순위순 중분류 코드 및 일치 소분류 코드
+     */
+    public UpjongNameIndex.Result searchNames(String keyword) {
+        return catalog().nameIndex.search(keyword);
+    }
+
+    /**
+     * 중분류 목록의 계층 행 조회
+     *
+     * @param upjong2Cds 중분류 코드 목록 (이 순서대로 나열, 중분류 안에서는 소분류 코드 순)
+     * @return 계층 행 (upjong1Cd, upjong1Nm, upjong2Cd, upjong2Nm, upjong3Cd, upjong3Nm / 호출 측에서 값 추가 가능)
+     */
+    public List<Map<String, Object>> hierarchyRows(List<String> upjong2Cds) {
+        Catalog c = catalog();
+        int[] selected = c.rowsOfUpjong2(upjong2Cds);
+        List<Map<String, Object>> result = new ArrayList<>(selected.length);
+        for (int i3 : selected) {
+            int i2 = c.parent3[i3];
+            int i1 = c.parent2[i2];
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("upjong1Cd", c.codes1[i1]);
+            row.put("upjong1Nm", c.names1[i1]);
+            row.put("upjong2Cd", c.codes2[i2]);
+            row.put("upjong2Nm", c.names2[i2]);
+            row.put("upjong3Cd", c.codes3[i3]);
+            row.put("upjong3Nm", c.names3[i3]);
+            result.add(row);
+        }
+        return result;
+    }
+
+    // ==================== 내부 메서드 ====================
+
+    /**
+     * 현재 카탈로그 (호출 측은 {@link #isReady()} 확인 후 사용)
+     */
+    private Catalog catalog() {
+        Catalog c = catalog;
+        if (c == null) {
+            throw new IllegalStateException("업종 카탈로그가 아직 적재되지 않았습니다.");
+        }
+        return c;
+    }
+
+    /**
+     * 새 카탈로그 생성 (교체는 {@link SnapshotReloader}가 버전 확인 후 수행)
+     */
+    private Runnable prepare(String version) {
+        long startTime = System.currentTimeMillis();
+        Catalog loaded = new Catalog(version, upjongMapper.selectUpjong1List(),
+                upjongMapper.selectUpjong2List(null), upjongMapper.selectUpjong3List(null));
+        log.info("[UPJONG-CATALOG] 업종 카탈로그 생성 완료 - 대분류: {}, 중분류: {}, 소분류: {}, 계층: {}, 소요시간: {}ms",
+                loaded.codes1.length, loaded.codes2.length, loaded.codes3.length, loaded.rows.length,
+                System.currentTimeMillis() - startTime);
+        return () -> this.catalog = loaded;
+    }
+
+    /**
+     * 카탈로그 스냅샷 (생성 후 변경 없음)
+     */
+    private static final class Catalog {
+
+        final String version;
+
+        // 대분류 (upjong1_cd 순)
+        final String[] codes1;
+        final String[] names1;
+        final Map<String, Integer> index1;
+        final int[][] children1;
+
+        // 중분류 (upjong1_cd, upjong2_cd 순)
+        final String[] codes2;
+        final String[] names2;
+        final int[] parent2;
+        final Map<String, Integer> index2;
+        final int[][] children2;
+
+        // 소분류 (upjong2_cd, upjong3_cd 순, svc_yn = 'Y')
+        final String[] codes3;
+        final String[] names3;
+        final String[] parentCodes3;
+        final int[] parent3;
+        final Map<String, Integer> index3;
+
+        /** 계층 행: 대분류-중분류-소분류가 모두 이어지는 소분류 인덱스 (대분류, 중분류, 소분류 코드 순) */
+        final int[] rows;
+
+        final List<Map<String, Object>> list1;
+        final List<Map<String, Object>> list2;
+        final List<Map<String, Object>> list3;
+        final Map<String, List<Map<String, Object>>> list2ByUpjong1;
+        final Map<String, List<Map<String, Object>>> list3ByUpjong2;
+
+        final Map<String, Object> fullHierarchy;
+        final Map<String, Map<String, Object>> hierarchyByCode = new ConcurrentHashMap<>();
+
+        final UpjongNameIndex nameIndex;
+
+        Catalog(String version, List<Map<String, Object>> rows1, List<Map<String, Object>> rows2,
+                List<Map<String, Object>> rows3) {
+            this.version = version;
+
+            // 대분류
+            int n1 = rows1.size();
+            codes1 = new String[n1];
+            names1 = new String[n1];
+            index1 = new HashMap<>(n1 * 2);
+            List<Map<String, Object>> items1 = new ArrayList<>(n1);
+            for (int i = 0; i < n1; i++) {
+                Map<String, Object> row = rows1.get(i);
+                codes1[i] = (String) row.get("upjong1Cd");
+                names1[i] = (String) row.get("upjong1Nm");
+                index1.put(codes1[i], i);
+                items1.add(item("upjong1Cd", codes1[i], "upjong1Nm", names1[i]));
+            }
+            list1 = Collections.unmodifiableList(items1);
+
+            // 중분류
+            int n2 = rows2.size();
+            codes2 = new String[n2];
+            names2 = new String[n2];
+            parent2 = new int[n2];
+            index2 = new HashMap<>(n2 * 2);
+            List<Map<String, Object>> items2 = new ArrayList<>(n2);
+            Map<String, List<Map<String, Object>>> items2ByParent = new LinkedHashMap<>();
+            List<List<Integer>> childList1 = newChildLists(n1);
+            for (int i = 0; i < n2; i++) {
+                Map<String, Object> row = rows2.get(i);
+                String upjong1Cd = (String) row.get("upjong1Cd");
+                codes2[i] = (String) row.get("upjong2Cd");
+                names2[i] = (String) row.get("upjong2Nm");
+                parent2[i] = index1.getOrDefault(upjong1Cd, -1);
+                index2.put(codes2[i], i);
+                if (parent2[i] >= 0) {
+                    childList1.get(parent2[i]).add(i);
+                }
+                Map<String, Object> item = item("upjong1Cd", upjong1Cd, "upjong2Cd", codes2[i], "upjong2Nm", names2[i]);
+                items2.add(item);
+                items2ByParent.computeIfAbsent(upjong1Cd, k -> new ArrayList<>()).add(item);
+            }
+            list2 = Collections.unmodifiableList(items2);
+            list2ByUpjong1 = freeze(items2ByParent);
+            children1 = toArrays(childList1);
+
+            // 소분류
+            int n3 = rows3.size();
+            codes3 = new String[n3];
+            names3 = new String[n3];
+            parentCodes3 = new String[n3];
+            parent3 = new int[n3];
+            index3 = new HashMap<>(n3 * 2);
+            List<Map<String, Object>> items3 = new ArrayList<>(n3);
+            Map<String, List<Map<String, Object>>> items3ByParent = new LinkedHashMap<>();
+            List<List<Integer>> childList2 = newChildLists(n2);
+            for (int i = 0; i < n3; i++) {
+                Map<String, Object> row = rows3.get(i);
+                parentCodes3[i] = (String) row.get("upjong2Cd");
+                codes3[i] = (String) row.get("upjong3Cd");
+                names3[i] = (String) row.get("upjong3Nm");
+                parent3[i] = index2.getOrDefault(parentCodes3[i], -1);
+                index3.put(codes3[i], i);
+                if (parent3[i] >= 0) {
+                    childList2.get(parent3[i]).add(i);
+                }
+                Map<String, Object> item = item("upjong2Cd", parentCodes3[i], "upjong3Cd", codes3[i], "upjong3Nm", names3[i]);
+                items3.add(item);
+                items3ByParent.computeIfAbsent(parentCodes3[i], k -> new ArrayList<>()).add(item);
+            }
+            list3 = Collections.unmodifiableList(items3);
+            list3ByUpjong2 = freeze(items3ByParent);
+            children2 = toArrays(childList2);
+
+            // 계층 행 (대분류 → 중분류 → 소분류 순회 = 기존 계층 쿼리 정렬 순서)
+            int[] buffer = new int[n3];
+            int count = 0;
+            for (int i1 = 0; i1 < n1; i1++) {
+                for (int i2 : children1[i1]) {
+                    for (int i3 : children2[i2]) {
+                        buffer[count++] = i3;
+                    }
+                }
+            }
+            this.rows = Arrays.copyOf(buffer, count);
+            this.fullHierarchy = buildHierarchy(null, "ALL", this.rows);
+            this.nameIndex = UpjongNameIndex.build(codes3, names3, parentCodes3);
+        }
+
+        boolean exists(String code) {
+            return switch (code.length()) {
+                case 1 -> index1.containsKey(code);
+                case 3 -> index2.containsKey(code);
+                default -> index3.containsKey(code);
+            };
+        }
+
+        /**
+         * 코드 길이에 따른 계층 행 필터 (1자리: 대분류, 3자리: 중분류, 6자리: 소분류)
+         */
+        int[] rowsOf(String code) {
+            return switch (code.length()) {
+                case 1 -> filterRows(i3 -> code.equals(codes1[parent2[parent3[i3]]]));
+                case 3 -> filterRows(i3 -> code.equals(codes2[parent3[i3]]));
+                default -> filterRows(i3 -> code.equals(codes3[i3]));
+            };
+        }
+
+        /**
+         * 중분류 목록 순서대로 계층 행 나열 (중분류 안에서는 소분류 코드 순)
+         */
+        int[] rowsOfUpjong2(List<String> upjong2Cds) {
+            int[] buffer = new int[rows.length];
+            int count = 0;
+            for (String upjong2Cd : upjong2Cds) {
+                Integer i2 = index2.get(upjong2Cd);
+                if (i2 == null || parent2[i2] < 0) {
+                    continue;
+                }
+                for (int i3 : children2[i2]) {
+                    buffer[count++] = i3;
+                }
+            }
+            return Arrays.copyOf(buffer, count);
+        }
+
+        /**
+         * 계층구조 응답 생성 (대분류명 → 중분류명 → 소분류 목록)
+         */
+        Map<String, Object> buildHierarchy(String upjongCode, String filterType, int[] selected) {
+            Map<String, Map<String, List<Map<String, Object>>>> hierarchy = new LinkedHashMap<>();
+            for (int i3 : selected) {
+                int i2 = parent3[i3];
+                hierarchy.computeIfAbsent(names1[parent2[i2]], k -> new LinkedHashMap<>())
+                        .computeIfAbsent(names2[i2], k -> new ArrayList<>())
+                        .add(item("code", codes3[i3], "name", names3[i3]));
+            }
+
+            Map<String, Map<String, List<Map<String, Object>>>> frozen = new LinkedHashMap<>();
+            hierarchy.forEach((upjong1Nm, children) -> frozen.put(upjong1Nm, freeze(children)));
+
+            return Map.of(
+                "filterType", filterType,
+                "filterCode", upjongCode != null ? upjongCode : "ALL",
+                "resultCount", selected.length,
+                "hierarchy", Collections.unmodifiableMap(frozen)
+            );
+        }
+
+        /**
+         * 검색 결과용 계층구조 생성 (코드 기준 트리, 검색어 일치 소분류 표시)
+         */
+        Map<String, Object> buildSearchHierarchy(int[] selected, UpjongNameIndex.Result match) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            for (int i3 : selected) {
+                int i2 = parent3[i3];
+                int i1 = parent2[i2];
+
+                @SuppressWarnings("unchecked")
+                Map<String, Object> upjong1 = (Map<String, Object>) result.computeIfAbsent(codes1[i1], k -> {
+                    Map<String, Object> map = new LinkedHashMap<>();
+                    map.put("code", codes1[i1]);
+                    map.put("name", names1[i1]);
+                    map.put("children", new LinkedHashMap<String, Object>());
+                    return map;
+                });
+
+                @SuppressWarnings("unchecked")
+                Map<String, Object> upjong1Children = (Map<String, Object>) upjong1.get("children");
+                @SuppressWarnings("unchecked")
+                Map<String, Object> upjong2 = (Map<String, Object>) upjong1Children.computeIfAbsent(codes2[i2], k -> {
+                    Map<String, Object> map = new LinkedHashMap<>();
+                    map.put("code", codes2[i2]);
+                    map.put("name", names2[i2]);
+                    map.put("children", new ArrayList<Map<String, Object>>());
+                    return map;
+                });
+
+                @SuppressWarnings("unchecked")
+                List<Map<String, Object>> upjong2Children = (List<Map<String, Object>>) upjong2.get("children");
+                Map<String, Object> upjong3 = new LinkedHashMap<>();
+                upjong3.put("code", codes3[i3]);
+                upjong3.put("name", names3[i3]);
+                upjong3.put("highlighted", match.matches(codes3[i3])); // 검색어 일치 여부
+                upjong2Children.add(upjong3);
+            }
+            return result;
+        }
+
+        private int[] filterRows(IntPredicate predicate) {
+            return Arrays.stream(rows).filter(predicate).toArray();
+        }
+
+        private static Map<String, Object> item(Object... keyValues) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            for (int i = 0; i < keyValues.length; i += 2) {
+                item.put((String) keyValues[i], keyValues[i + 1]);
+            }
+            return Collections.unmodifiableMap(item);
+        }
+
+        private static <T> Map<String, List<T>> freeze(Map<String, List<T>> source) {
+            Map<String, List<T>> frozen = new LinkedHashMap<>();
+            source.forEach((key, value) -> frozen.put(key, Collections.unmodifiableList(value)));
+            return Collections.unmodifiableMap(frozen);
+        }
+
+        private static List<List<Integer>> newChildLists(int size) {
+            List<List<Integer>> lists = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                lists.add(new ArrayList<>());
+            }
+            return lists;
+        }
+
+        private static int[][] toArrays(List<List<Integer>> lists) {
+            int[][] arrays = new int[lists.size()][];
+            for (int i = 0; i < arrays.length; i++) {
+                arrays[i] = lists.get(i).stream().mapToInt(Integer::intValue).toArray();
+            }
+            return arrays;
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.zinidata.domain.common.upjong.index;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.zinidata.domain.common.dataversion.enums.DataGroup;
+import com.zinidata.domain.common.dataversion.service.DataVersionService;
+import com.zinidata.domain.common.dataversion.snapshot.SnapshotReloader;
+import com.zinidata.domain.common.region.index.AdmiAdjacencyGraph;
+import com.zinidata.domain.common.upjong.mapper.UpjongMapper;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 최신 배치월 행정동 × 소분류 점포 수 인덱스 (불변, int 배열)
+ *
+ * <p>TBSS_SUM_ADMI_HIS_V3의 최신 배치월(TB_BATCH_LOG) 개인사업자(BUPIN_GB = '1') 점포 수를
+ * 행정동 × 소분류 밀집 행렬로 보관하고, 인접 행정동은 {@link AdmiAdjacencyGraph}(TB_ADMI_TOUCH)에서 가져와
+ * 기본/확장 점포 수와 분석 상태를 DB 조회 없이 계산합니다.</p>
+ *
+ * <h3>계산 기준</h3>
+ * <ul>
+ *   <li>기본 점포 수: 선택 행정동의 점포 수</li>
+ *   <li>확장 점포 수: 선택 행정동 + 직접 인접 행정동(STD_ADMI_CD → TCH_ADMI_CD) 점포 수 합</li>
+ *   <li>분석 상태: 기본 4개 이상 BASIC, 확장 4개 이상 EXPANDED, 그 외 NOT</li>
+ * </ul>
+ *
+ * <p>배치월 점포 수 데이터 버전({@link DataGroup#STORE_SUM})을 주기적으로 확인하고, 바뀌면
+ * {@link SnapshotReloader}가 백그라운드 스레드에서 새 행렬을 만든 뒤 교체합니다. 인접 행정동은 조회 시점의
+ * {@link AdmiAdjacencyGraph}를 사용하므로 경계 데이터 버전과는 무관합니다. 행렬 또는 인접 그래프의 첫 적재 전에는 {@link #isReady()}가 false이며 호출 측은 DB 조회로 대체합니다.</p>
+ *
+ * <h3>설정</h3>
+ * <pre>
+ * upjong:
+ *   expanded-store:
+ *     check-interval-ms: 3600000   # 배치월 데이터 버전 확인 주기
+ * </pre>
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class UpjongExpandedStoreIndex {
+
+    /** 기본/확장 분석 최소 점포 수 */
+    public static final int ANALYSIS_MIN_STORE_COUNT = 4;
+
+    public static final String STATUS_BASIC = "BASIC";
+    public static final String STATUS_EXPANDED = "EXPANDED";
+    public static final String STATUS_NOT = "NOT";
+
+    private final UpjongMapper upjongMapper;
+    private final AdmiAdjacencyGraph admiAdjacencyGraph;
+    private final SnapshotReloader reloader;
+
+    private volatile Matrix matrix;
+
+    public UpjongExpandedStoreIndex(UpjongMapper upjongMapper, AdmiAdjacencyGraph admiAdjacencyGraph,
+            DataVersionService dataVersionService) {
+        this.upjongMapper = upjongMapper;
+        this.admiAdjacencyGraph = admiAdjacencyGraph;
+        this.reloader = new SnapshotReloader("upjong-expanded-store", "배치월 점포 수 행렬", dataVersionService,
+                this::prepare, DataGroup.STORE_SUM);
+    }
+
+    /**
+     * 애플리케이션 기동 완료 후 백그라운드 적재 (기동 지연 없음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        checkVersion();
+    }
+
+    /**
+     * 배치월 데이터 버전 확인 (기본 1시간 주기)
+     *
+     * <p>버전이 바뀌었으면 재구성을 백그라운드 스레드에 맡기고 바로 반환합니다.</p>
+     */
+    @Scheduled(fixedDelayString = "${upjong.expanded-store.check-interval-ms:3600000}",
+            initialDelayString = "${upjong.expanded-store.check-interval-ms:3600000}")
+    public void checkVersion() {
+        reloader.checkVersion();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reloader.shutdown();
+    }
+
+    /**
+     * 행렬 및 인접 그래프 적재 여부
+     *
+     * @return 둘 다 적재 완료 시 true
+     */
+    public boolean isReady() {
+        return matrix != null && admiAdjacencyGraph.isReady();
+    }
+
+    /**
+     * 행정동 기준 점포 수 조회기
+     *
+     * <p>인접 행정동 행을 한 번만 찾아 두고, 소분류별 합계는 호출 시 배열 덧셈으로 계산합니다.</p>
+     *
+     * @param admiCd 행정동 코드 (8자리)
+     * @return 점포 수 조회기
+     */
+    public AdmiStoreCounts of(String admiCd) {
+        Matrix m = matrix;
+        int[] neighborRows = m.rowsOf(admiAdjacencyGraph.neighborCodes(admiCd, 1));
+        Integer baseRow = m.admiIndex.get(admiCd);
+        if (neighborRows.length == 0 && baseRow != null) {
+            // 경계 데이터에 없는 행정동은 인접 정보 없이 기준 행정동만 합산
+            neighborRows = new int[] {baseRow};
+        }
+        return new AdmiStoreCounts(m, baseRow != null ? baseRow : -1, neighborRows);
+    }
+
+    /**
+     * 한 행정동 기준 기본/확장 점포 수 (요청 단위로 생성, 스냅샷 고정)
+     */
+    public static final class AdmiStoreCounts {
+
+        private final Matrix matrix;
+        private final int baseRow;
+        private final int[] neighborRows;
+
+        private AdmiStoreCounts(Matrix matrix, int baseRow, int[] neighborRows) {
+            this.matrix = matrix;
+            this.baseRow = baseRow;
+            this.neighborRows = neighborRows;
+        }
+
+        /**
+         * 기본 점포 수 (선택 행정동)
+         */
+        public int basicStoreCnt(String upjong3Cd) {
+            Integer col = matrix.upjongIndex.get(upjong3Cd);
+            return col == null || baseRow < 0 ? 0 : matrix.counts[baseRow * matrix.width + col];
+        }
+
+        /**
+         * 확장 점포 수 (선택 행정동 + 인접 행정동)
+         */
+        public int expandedStoreCnt(String upjong3Cd) {
+            Integer col = matrix.upjongIndex.get(upjong3Cd);
+            if (col == null) {
+                return 0;
+            }
+            int sum = 0;
+            for (int row : neighborRows) {
+                sum += matrix.counts[row * matrix.width + col];
+            }
+            return sum;
+        }
+
+        /**
+         * 분석 상태 (BASIC / EXPANDED / NOT)
+         */
+        public String analysisStatus(int basicStoreCnt, int expandedStoreCnt) {
+            if (basicStoreCnt >= ANALYSIS_MIN_STORE_COUNT) {
+                return STATUS_BASIC;
+            }
+            return expandedStoreCnt >= ANALYSIS_MIN_STORE_COUNT ? STATUS_EXPANDED : STATUS_NOT;
+        }
+    }
+
+    // ==================== 내부 메서드 ====================
+
+    /**
+     * 새 행렬 생성 (교체는 {@link SnapshotReloader}가 버전 확인 후 수행)
+     */
+    private Runnable prepare(String version) {
+        long startTime = System.currentTimeMillis();
+        String batchYm = upjongMapper.selectLatestBatchYm();
+
+        // 집계 결과를 (행, 열, 건수) 배열로 모은 뒤 행·열 수가 정해지면 밀집 행렬로 옮김
+        Map<String, Integer> admiIndex = new HashMap<>();
+        Map<String, Integer> upjongIndex = new HashMap<>();
+        int[][] cells = {new int[1024], new int[1024], new int[1024]};
+        int[] size = {0};
+        if (batchYm != null) {
+            upjongMapper.selectAdmiStoreSums(batchYm, context -> {
+                Map<String, Object> row = context.getResultObject();
+                String admiCd = (String) row.get("admiCd");
+                String upjong3Cd = (String) row.get("upjong3Cd");
+                if (admiCd == null || upjong3Cd == null || !(row.get("storeCnt") instanceof Number count)) {
+                    return;
+                }
+                if (size[0] == cells[0].length) {
+                    for (int k = 0; k < cells.length; k++) {
+                        cells[k] = Arrays.copyOf(cells[k], cells[k].length * 2);
+                    }
+                }
+                cells[0][size[0]] = admiIndex.computeIfAbsent(admiCd, k -> admiIndex.size());
+                cells[1][size[0]] = upjongIndex.computeIfAbsent(upjong3Cd, k -> upjongIndex.size());
+                cells[2][size[0]] = count.intValue();
+                size[0]++;
+            });
+        }
+
+        int width = upjongIndex.size();
+        int[] counts = new int[admiIndex.size() * width];
+        for (int i = 0; i < size[0]; i++) {
+            counts[cells[0][i] * width + cells[1][i]] += cells[2][i];
+        }
+
+        Matrix built = new Matrix(admiIndex, upjongIndex, counts);
+        log.info("[UPJONG-EXPANDED] 점포 수 행렬 생성 완료 - 버전: {}, 배치월: {}, 행정동: {}, 업종: {}, 값: {}, 소요시간: {}ms",
+                version, batchYm, admiIndex.size(), width, size[0], System.currentTimeMillis() - startTime);
+        return () -> this.matrix = built;
+    }
+
+    /**
+     * 행렬 스냅샷 (생성 후 변경 없음)
+     */
+    private static final class Matrix {
+
+        final Map<String, Integer> admiIndex;
+        final Map<String, Integer> upjongIndex;
+        final int width;
+        final int[] counts;
+
+        Matrix(Map<String, Integer> admiIndex, Map<String, Integer> upjongIndex, int[] counts) {
+            this.admiIndex = admiIndex;
+            this.upjongIndex = upjongIndex;
+            this.width = upjongIndex.size();
+            this.counts = counts;
+        }
+
+        /**
+         * 행정동 코드 목록 → 점포가 있는 행 인덱스 (점포 없는 행정동은 합계에 영향 없으므로 제외)
+         */
+        int[] rowsOf(List<String> admiCds) {
+            int[] rows = new int[admiCds.size()];
+            int n = 0;
+            for (String admiCd : admiCds) {
+                Integer row = admiIndex.get(admiCd);
+                if (row != null) {
+                    rows[n++] = row;
+                }
+            }
+            return Arrays.copyOf(rows, n);
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package com.zinidata.domain.common.upjong.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import lombok.Getter;
+
+/**
+ * 소분류 업종명 검색 인덱스 (불변, 역색인)
+ *
+ * <p>소분류 업종명을 2-gram 역색인으로 보관하여 업종명 검색을 전체 스캔 없이 처리합니다.
+ * {@link UpjongCatalog} 스냅샷과 함께 만들어지고 함께 교체됩니다.</p>
+ *
+ * <h3>검색 규칙</h3>
+ * <ul>
+ *   <li>정규화: 영문 소문자화, 글자·숫자 외 문자(공백, /, (, · 등) 제거 → "한식백반"으로 "한식 백반" 검색 가능</li>
+ *   <li>초성 검색: 검색어에 자음(ㄱ~ㅎ)이 있으면 업종명 음절을 초성으로 바꾼 문자열과 비교 (예: ㅋㅍ → 커피, 커ㅍ → 커피)</li>
+ *   <li>후보 추출: 검색어 2-gram(1글자 검색어는 1-gram) 색인 목록의 교집합 후 실제 포함 여부 확인</li>
+ *   <li>순위: 전체 일치 &lt; 업종명 앞부분 일치 &lt; 단어 앞부분 일치 &lt; 중간 일치, 초성 일치는 음절 일치보다 뒤 (같은 순위는 짧은 업종명, 코드 순)</li>
+ * </ul>
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+public final class UpjongNameIndex {
+
+    private static final char HANGUL_BASE = 0xAC00;
+    private static final char HANGUL_LAST = 0xD7A3;
+    private static final int CHOSUNG_PERIOD = 21 * 28;
+    private static final char[] CHOSUNG = {
+        'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+        'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final int[] EMPTY = new int[0];
+
+    /** 순위 구간 (작을수록 앞) */
+    private static final int RANK_EXACT = 0;
+    private static final int RANK_PREFIX = 1;
+    private static final int RANK_WORD = 2;
+    private static final int RANK_INFIX = 3;
+    private static final int RANK_CHOSUNG = 10;
+
+    private final String[] codes;
+    private final String[] parentCodes;
+
+    /** 정규화된 업종명 */
+    private final String[] normalized;
+
+    /** 초성으로 바꾼 정규화 업종명 */
+    private final String[] projected;
+
+    /** 정규화 업종명 기준 단어 시작 위치 */
+    private final BitSet[] wordStarts;
+
+    /** n-gram → 업종 인덱스(오름차순) */
+    private final Map<Integer, int[]> postings;
+    private final Map<Integer, int[]> chosungPostings;
+
+    private UpjongNameIndex(String[] codes, String[] names, String[] parentCodes) {
+        int n = codes.length;
+        this.codes = codes;
+        this.parentCodes = parentCodes;
+        this.normalized = new String[n];
+        this.projected = new String[n];
+        this.wordStarts = new BitSet[n];
+
+        Map<Integer, List<Integer>> grams = new HashMap<>();
+        Map<Integer, List<Integer>> chosungGrams = new HashMap<>();
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < n; i++) {
+            wordStarts[i] = new BitSet();
+            normalized[i] = normalize(names[i], sb, wordStarts[i]);
+            projected[i] = project(normalized[i]);
+            addGrams(grams, normalized[i], i);
+            addGrams(chosungGrams, projected[i], i);
+        }
+        this.postings = freeze(grams);
+        this.chosungPostings = freeze(chosungGrams);
+    }
+
+    /**
+     * 인덱스 생성
+     *
+     * @param codes 소분류 코드
+     * @param names 소분류명
+     * @param parentCodes 중분류 코드
+     * @return 검색 인덱스
+     */
+    public static UpjongNameIndex build(String[] codes, String[] names, String[] parentCodes) {
+        return new UpjongNameIndex(codes, names, parentCodes);
+    }
+
+    /**
+     * 업종명 검색
+     *
+     * @param keyword 검색어
+     * @return 순위순 검색 결과 (일치 없으면 빈 결과)
+     */
+    public Result search(String keyword) {
+        String query = keyword == null ? "" : normalize(keyword, new StringBuilder(), null);
+        if (query.isEmpty()) {
+            return Result.EMPTY;
+        }
+
+        boolean chosung = hasChosung(query);
+        int[] candidates = candidates(chosung ? project(query) : query, chosung ? chosungPostings : postings);
+
+        List<long[]> ranked = new ArrayList<>();
+        for (int doc : candidates) {
+            int rank = chosung ? rankChosung(doc, query) : rankPlain(doc, query);
+            if (rank >= 0) {
+                ranked.add(new long[] {rank, normalized[doc].length(), doc});
+            }
+        }
+        ranked.sort((a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0])
+                : a[1] != b[1] ? Long.compare(a[1], b[1]) : Long.compare(a[2], b[2]));
+
+        Set<String> upjong2Codes = new LinkedHashSet<>();
+        Set<String> upjong3Codes = new HashSet<>(ranked.size() * 2);
+        for (long[] entry : ranked) {
+            int doc = (int) entry[2];
+            upjong2Codes.add(parentCodes[doc]);
+            upjong3Codes.add(codes[doc]);
+        }
+        return new Result(Collections.unmodifiableList(new ArrayList<>(upjong2Codes)),
+                Collections.unmodifiableSet(upjong3Codes));
+    }
+
+    /**
+     * 검색 결과
+     */
+    @Getter
+    public static final class Result {
+
+        static final Result EMPTY = new Result(List.of(), Set.of());
+
+        /** 일치 소분류가 속한 중분류 코드 (최상위 일치 순위 순, 중복 없음) */
+        private final List<String> upjong2Codes;
+
+        /** 일치 소분류 코드 */
+        private final Set<String> upjong3Codes;
+
+        private Result(List<String> upjong2Codes, Set<String> upjong3Codes) {
+            this.upjong2Codes = upjong2Codes;
+            this.upjong3Codes = upjong3Codes;
+        }
+
+        /**
+         * DB 검색 결과로 생성 (카탈로그 적재 전 대체 경로용)
+         *
+         * @param upjong2Codes 중분류 코드 (순위 순)
+         * @param upjong3Codes 일치 소분류 코드
+         * @return 검색 결과
+         */
+        public static Result of(List<String> upjong2Codes, Set<String> upjong3Codes) {
+            return new Result(List.copyOf(upjong2Codes), Set.copyOf(upjong3Codes));
+        }
+
+        public boolean isEmpty() {
+            return upjong3Codes.isEmpty();
+        }
+
+        public boolean matches(String upjong3Cd) {
+            return upjong3Codes.contains(upjong3Cd);
+        }
+    }
+
+    // ==================== 내부 메서드 ====================
+
+    private int[] candidates(String query, Map<Integer, int[]> index) {
+        if (query.length() == 1) {
+            return index.getOrDefault(gram(query.charAt(0)), EMPTY);
+        }
+
+        // 가장 짧은 목록부터 교집합
+        int gramCount = query.length() - 1;
+        int[][] lists = new int[gramCount][];
+        for (int i = 0; i < gramCount; i++) {
+            lists[i] = index.getOrDefault(gram(query.charAt(i), query.charAt(i + 1)), EMPTY);
+            if (lists[i].length == 0) {
+                return EMPTY;
+            }
+        }
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.length, b.length));
+
+        int[] result = lists[0];
+        for (int i = 1; i < gramCount && result.length > 0; i++) {
+            result = intersect(result, lists[i]);
+        }
+        return result;
+    }
+
+    private int rankPlain(int doc, String query) {
+        String name = normalized[doc];
+        int pos = name.indexOf(query);
+        return pos < 0 ? -1 : rankAt(doc, pos, query.length());
+    }
+
+    /**
+     * 초성 포함 검색어 비교 (자음은 초성과, 그 외 글자는 그대로 비교)
+     */
+    private int rankChosung(int doc, String query) {
+        String name = normalized[doc];
+        String initials = projected[doc];
+        int last = name.length() - query.length();
+        for (int pos = 0; pos <= last; pos++) {
+            boolean matched = true;
+            for (int j = 0; j < query.length() && matched; j++) {
+                char q = query.charAt(j);
+                matched = isChosung(q) ? initials.charAt(pos + j) == q : name.charAt(pos + j) == q;
+            }
+            if (matched) {
+                return RANK_CHOSUNG + rankAt(doc, pos, query.length());
+            }
+        }
+        return -1;
+    }
+
+    private int rankAt(int doc, int pos, int length) {
+        if (pos == 0) {
+            return length == normalized[doc].length() ? RANK_EXACT : RANK_PREFIX;
+        }
+        return wordStarts[doc].get(pos) ? RANK_WORD : RANK_INFIX;
+    }
+
+    /**
+     * 정규화 (소문자, 글자·숫자만 유지) 및 단어 시작 위치 기록
+     */
+    private static String normalize(String text, StringBuilder sb, BitSet wordStarts) {
+        sb.setLength(0);
+        if (text == null) {
+            return "";
+        }
+        boolean boundary = true;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isLetterOrDigit(c)) {
+                boundary = true;
+                continue;
+            }
+            if (boundary && wordStarts != null) {
+                wordStarts.set(sb.length());
+            }
+            boundary = false;
+            sb.append(Character.toLowerCase(c));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 한글 음절을 초성 자모로 변환 (그 외 글자는 그대로)
+     */
+    private static String project(String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            char c = chars[i];
+            if (c >= HANGUL_BASE && c <= HANGUL_LAST) {
+                chars[i] = CHOSUNG[(c - HANGUL_BASE) / CHOSUNG_PERIOD];
+            }
+        }
+        return new String(chars);
+    }
+
+    private static boolean hasChosung(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (isChosung(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isChosung(char c) {
+        return Arrays.binarySearch(CHOSUNG, c) >= 0;
+    }
+
+    private static void addGrams(Map<Integer, List<Integer>> grams, String text, int doc) {
+        Set<Integer> seen = new HashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            seen.add(gram(text.charAt(i)));
+            if (i + 1 < text.length()) {
+                seen.add(gram(text.charAt(i), text.charAt(i + 1)));
+            }
+        }
+        for (Integer key : seen) {
+            grams.computeIfAbsent(key, k -> new ArrayList<>()).add(doc);
+        }
+    }
+
+    /** 1-gram 키 (상위 16비트 0) */
+    private static int gram(char c) {
+        return c;
+    }
+
+    /** 2-gram 키 (첫 글자 + 1을 상위 16비트에 두어 1-gram과 구분) */
+    private static int gram(char first, char second) {
+        return ((first + 1) << 16) | second;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[k++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, k);
+    }
+
+    private static Map<Integer, int[]> freeze(Map<Integer, List<Integer>> grams) {
+        Map<Integer, int[]> frozen = new HashMap<>(grams.size() * 2);
+        // 문서 순서대로 추가했으므로 이미 오름차순
+        grams.forEach((key, docs) -> frozen.put(key, docs.stream().mapToInt(Integer::intValue).toArray()));
+        return frozen;
+    }
+}
@@ -0,0 +1,263 @@
+package com.zinidata.domain.common.upjong.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.zinidata.domain.common.dataversion.enums.DataGroup;
+import com.zinidata.domain.common.dataversion.service.DataVersionService;
+import com.zinidata.domain.common.dataversion.snapshot.SnapshotReloader;
+import com.zinidata.domain.common.upjong.mapper.UpjongMapper;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 행정동 × 소분류 업종 가맹점 수 행렬 (불변, int 배열)
+ *
+ * <p>tb_store의 영업 중(use_yn = 'Y') 가맹점 수를 행정동 × 소분류 업종 밀집 행렬로 보관하여,
+ * 행정동별 업종 가맹점 수 목록과 분석 가능 여부를 DB 집계 없이 처리합니다.</p>
+ *
+ * <h3>구조</h3>
+ * <ul>
+ *   <li>열: 대/중/소분류 모두 svc_yn = 'Y'인 소분류 (코드 순, 기존 집계 쿼리와 동일 기준)</li>
+ *   <li>행: 가맹점이 있는 행정동 (코드 → 행 인덱스 Map)</li>
+ *   <li>값: counts[행 * 열 수 + 열] = 가맹점 수 → 분석 가능 여부는 배열 한 칸, 행정동 목록은 행 한 줄 스캔</li>
+ * </ul>
+ *
+ * <p>가맹점·업종 데이터 버전({@link DataGroup#STORE}, {@link DataGroup#UPJONG})을 주기적으로 확인하고,
+ * 바뀌면 {@link SnapshotReloader}가 백그라운드 스레드에서 새 행렬을 만든 뒤 교체합니다. 첫 적재 전에는 {@link #isReady()}가 false이며 호출 측은 DB 조회로 대체합니다.</p>
+ *
+ * <h3>설정</h3>
+ * <pre>
+ * upjong:
+ *   store-matrix:
+ *     check-interval-ms: 600000   # 가맹점 데이터 버전 확인 주기
+ * </pre>
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class UpjongStoreMatrix {
+
+    /** 분석 가능 최소 가맹점 수 */
+    public static final int ANALYZABLE_MIN_STORE_COUNT = 3;
+
+    private final UpjongMapper upjongMapper;
+    private final SnapshotReloader reloader;
+
+    private volatile Matrix matrix;
+
+    public UpjongStoreMatrix(UpjongMapper upjongMapper, DataVersionService dataVersionService) {
+        this.upjongMapper = upjongMapper;
+        this.reloader = new SnapshotReloader("upjong-store-matrix", "가맹점 수 행렬", dataVersionService,
+                this::prepare, DataGroup.STORE, DataGroup.UPJONG);
+    }
+
+    /**
+     * 애플리케이션 기동 완료 후 백그라운드 적재 (기동 지연 없음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        checkVersion();
+    }
+
+    /**
+     * 가맹점 데이터 버전 확인 (기본 10분 주기)
+     *
+     * <p>버전이 바뀌었으면 재구성을 백그라운드 스레드에 맡기고 바로 반환합니다.</p>
+     */
+    @Scheduled(fixedDelayString = "${upjong.store-matrix.check-interval-ms:600000}",
+            initialDelayString = "${upjong.store-matrix.check-interval-ms:600000}")
+    public void checkVersion() {
+        reloader.checkVersion();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reloader.shutdown();
+    }
+
+    /**
+     * 행렬 적재 여부
+     *
+     * @return 적재 완료 시 true
+     */
+    public boolean isReady() {
+        return matrix != null;
+    }
+
+    /**
+     * 행정동별 업종 가맹점 수 목록
+     *
+     * @param admiCd 행정동 코드
+     * @return 가맹점이 있는 업종 목록 (가맹점 수 내림차순, 소분류 코드 순 / selectUpjongStoreCountByAdmi와 동일 형식)
+     */
+    public List<Map<String, Object>> storeCounts(String admiCd) {
+        return matrix.storeCounts(admiCd);
+    }
+
+    /**
+     * 행정동·소분류 가맹점 수
+     *
+     * @param admiCd 행정동 코드
+     * @param upjong3Cd 소분류 업종 코드
+     * @return 가맹점 수 (없으면 0)
+     */
+    public int storeCount(String admiCd, String upjong3Cd) {
+        return matrix.count(admiCd, upjong3Cd);
+    }
+
+    /**
+     * 분석 가능 여부 (가맹점 수 >= 3)
+     *
+     * @param admiCd 행정동 코드
+     * @param upjong3Cd 소분류 업종 코드
+     * @return 분석 가능하면 true
+     */
+    public boolean isAnalyzable(String admiCd, String upjong3Cd) {
+        return matrix.count(admiCd, upjong3Cd) >= ANALYZABLE_MIN_STORE_COUNT;
+    }
+
+    // ==================== 내부 메서드 ====================
+
+    /**
+     * 새 행렬 생성 (교체는 {@link SnapshotReloader}가 버전 확인 후 수행)
+     */
+    private Runnable prepare(String version) {
+        long startTime = System.currentTimeMillis();
+
+        List<Map<String, Object>> columns = upjongMapper.selectStoreMatrixUpjongs();
+        int width = columns.size();
+        Map<String, Integer> upjongIndex = new HashMap<>(width * 2);
+        for (int i = 0; i < width; i++) {
+            upjongIndex.put((String) columns.get(i).get("upjong3Cd"), i);
+        }
+
+        // 집계 결과를 (행, 열, 건수) 배열로 모은 뒤 행 수가 정해지면 밀집 행렬로 옮김
+        Map<String, Integer> admiIndex = new HashMap<>();
+        int[][] cells = {new int[1024], new int[1024], new int[1024]};
+        int[] size = {0};
+        upjongMapper.selectStoreCountMatrix(context -> {
+            Map<String, Object> row = context.getResultObject();
+            Integer col = upjongIndex.get((String) row.get("upjong3Cd"));
+            Object count = row.get("storeCount");
+            if (col == null || !(count instanceof Number number)) {
+                return;
+            }
+            if (size[0] == cells[0].length) {
+                for (int k = 0; k < cells.length; k++) {
+                    cells[k] = Arrays.copyOf(cells[k], cells[k].length * 2);
+                }
+            }
+            cells[0][size[0]] = admiIndex.computeIfAbsent((String) row.get("admiCd"), k -> admiIndex.size());
+            cells[1][size[0]] = col;
+            cells[2][size[0]] = number.intValue();
+            size[0]++;
+        });
+
+        int[] counts = new int[admiIndex.size() * width];
+        for (int i = 0; i < size[0]; i++) {
+            counts[cells[0][i] * width + cells[1][i]] = cells[2][i];
+        }
+
+        Matrix built = new Matrix(admiIndex, upjongIndex, columns, counts);
+        log.info("[UPJONG-MATRIX] 가맹점 수 행렬 생성 완료 - 버전: {}, 행정동: {}, 업종: {}, 값: {}, 소요시간: {}ms",
+                version, admiIndex.size(), width, size[0], System.currentTimeMillis() - startTime);
+        return () -> this.matrix = built;
+    }
+
+    /**
+     * 행렬 스냅샷 (생성 후 변경 없음)
+     */
+    private static final class Matrix {
+
+        final Map<String, Integer> admiIndex;
+        final Map<String, Integer> upjongIndex;
+        final int width;
+
+        // 열 정보 (소분류 코드 순)
+        final String[] upjong3Cds;
+        final String[] upjong3Nms;
+        final String[] upjong2Cds;
+        final String[] upjong2Nms;
+        final String[] upjong1Cds;
+        final String[] upjong1Nms;
+
+        final int[] counts;
+
+        Matrix(Map<String, Integer> admiIndex, Map<String, Integer> upjongIndex,
+                List<Map<String, Object>> columns, int[] counts) {
+            this.admiIndex = admiIndex;
+            this.upjongIndex = upjongIndex;
+            this.width = columns.size();
+            this.upjong3Cds = column(columns, "upjong3Cd");
+            this.upjong3Nms = column(columns, "upjong3Nm");
+            this.upjong2Cds = column(columns, "upjong2Cd");
+            this.upjong2Nms = column(columns, "upjong2Nm");
+            this.upjong1Cds = column(columns, "upjong1Cd");
+            this.upjong1Nms = column(columns, "upjong1Nm");
+            this.counts = counts;
+        }
+
+        int count(String admiCd, String upjong3Cd) {
+            Integer row = admiIndex.get(admiCd);
+            Integer col = upjongIndex.get(upjong3Cd);
+            return row == null || col == null ? 0 : counts[row * width + col];
+        }
+
+        List<Map<String, Object>> storeCounts(String admiCd) {
+            Integer row = admiIndex.get(admiCd);
+            if (row == null) {
+                return new ArrayList<>();
+            }
+
+            // 행 스캔: 0이 아닌 열 수집 후 가맹점 수 내림차순 (동률은 열 순서 = 소분류 코드 순)
+            int base = row * width;
+            long[] entries = new long[width];
+            int n = 0;
+            for (int col = 0; col < width; col++) {
+                int count = counts[base + col];
+                if (count > 0) {
+                    entries[n++] = ((long) (Integer.MAX_VALUE - count) << 32) | col;
+                }
+            }
+            Arrays.sort(entries, 0, n);
+
+            List<Map<String, Object>> result = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                int col = (int) entries[i];
+                long count = counts[base + col];
+                Map<String, Object> item = new LinkedHashMap<>();
+                item.put("upjong3Cd", upjong3Cds[col]);
+                item.put("upjong3Nm", upjong3Nms[col]);
+                item.put("upjong2Cd", upjong2Cds[col]);
+                item.put("upjong2Nm", upjong2Nms[col]);
+                item.put("upjong1Cd", upjong1Cds[col]);
+                item.put("upjong1Nm", upjong1Nms[col]);
+                item.put("storeCount", count);
+                item.put("analyzable", count >= ANALYZABLE_MIN_STORE_COUNT ? "Y" : "N");
+                result.add(item);
+            }
+            return result;
+        }
+
+        private static String[] column(List<Map<String, Object>> columns, String key) {
+            String[] values = new String[columns.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = (String) columns.get(i).get(key);
+            }
+            return values;
+        }
+    }
+}
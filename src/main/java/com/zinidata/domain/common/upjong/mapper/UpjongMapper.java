@@ -5,6 +5,7 @@ import java.util.Map;
 
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
 /**
  * 분석업종 매퍼 인터페이스
@@ -64,24 +65,59 @@ public interface UpjongMapper {
     List<Map<String, Object>> selectUpjongStoreCountByAdmi(@Param("admiCd") String admiCd);
     
     /**
-     * 업종명으로 업종 검색
+     * 업종명으로 업종 검색 (업종 카탈로그 적재 전 대체 경로)
      * 
      * @param upjong3Nm 소분류 업종명 (LIKE 검색)
-     * @return 검색된 업종들의 중분류 코드 목록
+     * @return 일치 소분류 목록 (upjong2Cd, upjong3Cd / 중분류, 소분류 코드 순)
      */
     List<Map<String, Object>> selectUpjongByName(@Param("upjong3Nm") String upjong3Nm);
     
     /**
-     * 특정 중분류 코드들의 전체 계층구조 조회
+     * 특정 중분류 코드들의 전체 계층구조 조회 (업종 카탈로그 적재 전 대체 경로)
      * 
      * @param upjong2Cds 중분류 코드 목록
      * @return 해당 중분류들의 전체 계층구조
      */
     List<Map<String, Object>> selectUpjongHierarchyByCodes(@Param("upjong2Cds") List<String> upjong2Cds);
+    
+    /**
+     * 가맹점 수 행렬 열(소분류 업종) 목록 조회
+     *
+     * @return 대/중/소분류 모두 서비스 중인 소분류 목록 (소분류 코드 순)
+     */
+    List<Map<String, Object>> selectStoreMatrixUpjongs();
+
+    /**
+     * 전체 행정동 × 소분류 업종 가맹점 수 조회
+     *
+     * <p>건수가 많아 List 대신 ResultHandler로 한 건씩 전달합니다.</p>
+     *
+     * @param handler 행 처리기 (admiCd, upjong3Cd, storeCount)
+     */
+    void selectStoreCountMatrix(ResultHandler<Map<String, Object>> handler);
+
+    /**
+     * 최신 배치월 조회
+     *
+     * @return 배치월(YYYYMM), 없으면 null
+     */
+    String selectLatestBatchYm();
+
+    /**
+     * 배치월 행정동 × 소분류 점포 수 전체 조회 (개인사업자)
+     *
+     * <p>건수가 많아 List 대신 ResultHandler로 한 건씩 전달합니다.</p>
+     *
+     * @param batchYm 배치월(YYYYMM)
+     * @param handler 행 처리기 (admiCd, upjong3Cd, storeCnt)
+     */
+    void selectAdmiStoreSums(@Param("batchYm") String batchYm, ResultHandler<Map<String, Object>> handler);
 
     /**
      * 특정 중분류 코드들의 전체 계층구조 조회 + 확장 점포수/분석가능 여부 포함
      *
+     * <p>인메모리 확장 점포 수 행렬({@code UpjongExpandedStoreIndex}) 적재 전에만 사용합니다.</p>
+     *
      * @param upjong2Cds 중분류 코드 목록
      * @param admiCd 행정동 코드(8자리)
      * @return 계층구조 + storeCnt/analyzable
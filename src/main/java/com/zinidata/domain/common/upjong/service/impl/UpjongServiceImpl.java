@@ -1,17 +1,24 @@
 package com.zinidata.domain.common.upjong.service.impl;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 import com.zinidata.common.enums.Status;
 import com.zinidata.common.exception.ValidationException;
+import com.zinidata.domain.common.upjong.index.UpjongCatalog;
+import com.zinidata.domain.common.upjong.index.UpjongExpandedStoreIndex;
+import com.zinidata.domain.common.upjong.index.UpjongNameIndex;
+import com.zinidata.domain.common.upjong.index.UpjongStoreMatrix;
 import com.zinidata.domain.common.upjong.mapper.UpjongMapper;
 import com.zinidata.domain.common.upjong.service.UpjongService;
 
@@ -21,7 +28,10 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * 데이터베이스 방식 분석업종 서비스 구현체 ⭐ 현재 사용 중
  * 
- * <p>MyBatis를 사용하여 데이터베이스에서 업종 정보를 조회합니다.</p>
+ * <p>MyBatis를 사용하여 데이터베이스에서 업종 정보를 조회합니다.
+ * 업종 목록·계층구조·업종명 검색은 {@link UpjongCatalog}, 행정동별 가맹점 수·분석 가능 여부는
+ * {@link UpjongStoreMatrix}, 업종 검색의 기본/확장 점포수는 {@link UpjongExpandedStoreIndex}(인메모리)에서 처리하고,
+ * 카탈로그·행렬 적재 전(또는 적재 실패 시)에만 DB에서 조회합니다.</p>
  * 
  * <h3>활성화 조건</h3>
  * <ul>
@@ -47,6 +57,9 @@ import lombok.extern.slf4j.Slf4j;
 public class UpjongServiceImpl implements UpjongService {
 
     private final UpjongMapper upjongMapper;
+    private final UpjongCatalog upjongCatalog;
+    private final UpjongStoreMatrix upjongStoreMatrix;
+    private final UpjongExpandedStoreIndex upjongExpandedStoreIndex;
 
     @Override
     public List<Map<String, Object>> getUpjongList(String level, String upjongCode) {
@@ -57,6 +70,11 @@ public class UpjongServiceImpl implements UpjongService {
             throw new ValidationException(Status.파라미터오류, "업종 레벨은 필수입니다.");
         }
         
+        // 인메모리 카탈로그에서 조회 (upjong2: 특정 대분류의 중분류들, upjong3: 특정 중분류의 소분류들)
+        if (upjongCatalog.isReady()) {
+            return upjongCatalog.list(level, upjongCode);
+        }
+        
         return switch (level.toLowerCase()) {
             case "upjong1" -> upjongMapper.selectUpjong1List();  // 대분류는 상위 코드 무시
             case "upjong2" -> upjongMapper.selectUpjong2List(upjongCode);  // 특정 대분류의 중분류들
@@ -69,10 +87,13 @@ public class UpjongServiceImpl implements UpjongService {
     public Map<String, Object> getUpjongHierarchy(String upjongCode) {
         log.debug("업종 계층구조 조회 - 필터: {}", upjongCode);
         
-        // 입력값 검증 및 업종 코드 분석
-        String filterType = analyzeUpjongCode(upjongCode);
+        // 인메모리 카탈로그에서 조회 (코드 형식 검증 포함)
+        if (upjongCatalog.isReady()) {
+            return upjongCatalog.hierarchy(upjongCode);
+        }
         
-        // 업종 코드에 따른 계층구조 데이터 조회
+        // 카탈로그 적재 전: DB 조회
+        String filterType = analyzeUpjongCode(upjongCode);
         List<Map<String, Object>> hierarchyData;
         if (upjongCode == null || upjongCode.trim().isEmpty()) {
             hierarchyData = upjongMapper.selectUpjongHierarchy();
@@ -80,14 +101,11 @@ public class UpjongServiceImpl implements UpjongService {
             hierarchyData = upjongMapper.selectUpjongHierarchyByCode(upjongCode);
         }
         
-        // 계층구조 Map 생성
-        Map<String, Map<String, List<Map<String, Object>>>> hierarchy = buildHierarchyStructure(hierarchyData);
-        
         return Map.of(
             "filterType", filterType,
             "filterCode", upjongCode != null ? upjongCode : "ALL",
             "resultCount", hierarchyData.size(),
-            "hierarchy", hierarchy
+            "hierarchy", buildHierarchyStructure(hierarchyData)
         );
     }
     
@@ -108,29 +126,19 @@ public class UpjongServiceImpl implements UpjongService {
     }
     
     /**
-     * 계층구조 데이터 구조화
+     * 계층구조 데이터 구조화 (대분류명 → 중분류명 → 소분류 목록)
      */
     private Map<String, Map<String, List<Map<String, Object>>>> buildHierarchyStructure(List<Map<String, Object>> hierarchyData) {
         Map<String, Map<String, List<Map<String, Object>>>> hierarchy = new LinkedHashMap<>();
         
         for (Map<String, Object> row : hierarchyData) {
-            String upjong1Nm = (String) row.get("upjong1Nm");
-            String upjong2Nm = (String) row.get("upjong2Nm");
-            String upjong3Cd = (String) row.get("upjong3Cd");
-            String upjong3Nm = (String) row.get("upjong3Nm");
-            
-            // 대분류 Map 생성 또는 가져오기
-            hierarchy.computeIfAbsent(upjong1Nm, k -> new LinkedHashMap<>());
-            
-            // 중분류 List 생성 또는 가져오기
-            hierarchy.get(upjong1Nm).computeIfAbsent(upjong2Nm, k -> new ArrayList<>());
-            
-            // 소분류 추가
             Map<String, Object> upjong3Info = new HashMap<>();
-            upjong3Info.put("code", upjong3Cd);
-            upjong3Info.put("name", upjong3Nm);
+            upjong3Info.put("code", row.get("upjong3Cd"));
+            upjong3Info.put("name", row.get("upjong3Nm"));
             
-            hierarchy.get(upjong1Nm).get(upjong2Nm).add(upjong3Info);
+            hierarchy.computeIfAbsent((String) row.get("upjong1Nm"), k -> new LinkedHashMap<>())
+                    .computeIfAbsent((String) row.get("upjong2Nm"), k -> new ArrayList<>())
+                    .add(upjong3Info);
         }
         
         return hierarchy;
@@ -144,7 +152,7 @@ public class UpjongServiceImpl implements UpjongService {
             throw new ValidationException(Status.파라미터오류, "행정동 코드는 필수입니다.");
         }
         
-        List<Map<String, Object>> storeCountList = upjongMapper.selectUpjongStoreCountByAdmi(admiCd);
+        List<Map<String, Object>> storeCountList = selectStoreCounts(admiCd);
         
         // 분석 가능한 업종만 필터링 (가맹점 수 >= 3)
         return storeCountList.stream()
@@ -160,7 +168,7 @@ public class UpjongServiceImpl implements UpjongService {
             throw new ValidationException(Status.파라미터오류, "행정동 코드는 필수입니다.");
         }
         
-        List<Map<String, Object>> storeCountList = upjongMapper.selectUpjongStoreCountByAdmi(admiCd);
+        List<Map<String, Object>> storeCountList = selectStoreCounts(admiCd);
         
         // 분석 가능한 업종 수 계산
         long analyzableCount = storeCountList.stream()
@@ -186,6 +194,11 @@ public class UpjongServiceImpl implements UpjongService {
             throw new ValidationException(Status.파라미터오류, "업종 코드는 필수입니다.");
         }
         
+        // 가맹점 수 행렬 적재 후에는 배열 한 칸 조회
+        if (upjongStoreMatrix.isReady()) {
+            return upjongStoreMatrix.isAnalyzable(admiCd, upjong3Cd);
+        }
+        
         List<Map<String, Object>> storeCountList = upjongMapper.selectUpjongStoreCountByAdmi(admiCd);
         
         // 해당 업종의 분석 가능 여부 확인
@@ -196,6 +209,16 @@ public class UpjongServiceImpl implements UpjongService {
                 .orElse(false);
     }
     
+    /**
+     * 행정동별 업종 가맹점 수 목록 (행렬 적재 전에는 DB 집계)
+     */
+    private List<Map<String, Object>> selectStoreCounts(String admiCd) {
+        if (upjongStoreMatrix.isReady()) {
+            return upjongStoreMatrix.storeCounts(admiCd);
+        }
+        return upjongMapper.selectUpjongStoreCountByAdmi(admiCd);
+    }
+    
     @Override
     public Map<String, Object> searchUpjongByName(String upjong3Nm) {
         log.debug("업종명 검색 - 검색어: {}", upjong3Nm);
@@ -204,12 +227,16 @@ public class UpjongServiceImpl implements UpjongService {
             throw new ValidationException(Status.파라미터오류, "검색어를 입력해주세요.");
         }
         
+        // 인메모리 카탈로그에서 검색 (소분류명 부분 일치 → 해당 중분류 전체 계층구조)
         String trimmedKeyword = upjong3Nm.trim();
+        if (upjongCatalog.isReady()) {
+            return upjongCatalog.searchByName(trimmedKeyword);
+        }
         
-        // 1. 검색된 업종들의 중분류 코드 목록 조회
-        List<Map<String, Object>> searchResults = upjongMapper.selectUpjongByName(trimmedKeyword);
-        
-        if (searchResults.isEmpty()) {
+        // 카탈로그 적재 전: DB 검색
+        UpjongNameIndex.Result match = searchNames(trimmedKeyword);
+        List<String> upjong2Cds = match.getUpjong2Codes();
+        if (upjong2Cds.isEmpty()) {
             return Map.of(
                 "keyword", trimmedKeyword,
                 "totalCount", 0,
@@ -217,72 +244,71 @@ public class UpjongServiceImpl implements UpjongService {
             );
         }
         
-        // 2. 중분류 코드 목록 추출
-        List<String> upjong2Cds = searchResults.stream()
-                .map(row -> (String) row.get("upjong2Cd"))
-                .distinct()
-                .collect(Collectors.toList());
-        
-        // 3. 해당 중분류들의 전체 계층구조 조회
         List<Map<String, Object>> hierarchyData = upjongMapper.selectUpjongHierarchyByCodes(upjong2Cds);
-        
-        // 4. 계층구조 생성
-        Map<String, Object> hierarchy = buildSearchHierarchy(hierarchyData, trimmedKeyword);
-        
         return Map.of(
             "keyword", trimmedKeyword,
             "totalCount", hierarchyData.size(),
-            "matchedCount", searchResults.size(),
-            "hierarchy", hierarchy
+            "matchedCount", upjong2Cds.size(),
+            "hierarchy", buildSearchHierarchy(hierarchyData, match)
         );
     }
     
     /**
-     * 검색 결과용 계층구조 생성
+     * 업종명 검색 (카탈로그 적재 전에는 DB 부분 일치 검색)
+     */
+    private UpjongNameIndex.Result searchNames(String keyword) {
+        if (upjongCatalog.isReady()) {
+            return upjongCatalog.searchNames(keyword);
+        }
+        
+        Set<String> upjong2Cds = new LinkedHashSet<>();
+        Set<String> upjong3Cds = new HashSet<>();
+        for (Map<String, Object> row : upjongMapper.selectUpjongByName(keyword)) {
+            upjong2Cds.add((String) row.get("upjong2Cd"));
+            upjong3Cds.add((String) row.get("upjong3Cd"));
+        }
+        return UpjongNameIndex.Result.of(new ArrayList<>(upjong2Cds), upjong3Cds);
+    }
+    
+    /**
+     * 검색 결과용 계층구조 생성 (카탈로그 적재 전 대체 경로, 코드 기준 트리)
      */
-    private Map<String, Object> buildSearchHierarchy(List<Map<String, Object>> data, String keyword) {
+    private Map<String, Object> buildSearchHierarchy(List<Map<String, Object>> rows, UpjongNameIndex.Result match) {
         Map<String, Object> result = new LinkedHashMap<>();
         
-        data.forEach(row -> {
+        for (Map<String, Object> row : rows) {
             String upjong1Cd = (String) row.get("upjong1Cd");
-            String upjong1Nm = (String) row.get("upjong1Nm");
             String upjong2Cd = (String) row.get("upjong2Cd");
-            String upjong2Nm = (String) row.get("upjong2Nm");
             String upjong3Cd = (String) row.get("upjong3Cd");
-            String upjong3Nm = (String) row.get("upjong3Nm");
             
-            // 대분류 생성
             @SuppressWarnings("unchecked")
             Map<String, Object> upjong1 = (Map<String, Object>) result.computeIfAbsent(upjong1Cd, k -> {
                 Map<String, Object> map = new LinkedHashMap<>();
                 map.put("code", upjong1Cd);
-                map.put("name", upjong1Nm);
+                map.put("name", row.get("upjong1Nm"));
                 map.put("children", new LinkedHashMap<String, Object>());
                 return map;
             });
             
-            // 중분류 생성
             @SuppressWarnings("unchecked")
             Map<String, Object> upjong1Children = (Map<String, Object>) upjong1.get("children");
             @SuppressWarnings("unchecked")
             Map<String, Object> upjong2 = (Map<String, Object>) upjong1Children.computeIfAbsent(upjong2Cd, k -> {
                 Map<String, Object> map = new LinkedHashMap<>();
                 map.put("code", upjong2Cd);
-                map.put("name", upjong2Nm);
+                map.put("name", row.get("upjong2Nm"));
                 map.put("children", new ArrayList<Map<String, Object>>());
                 return map;
             });
             
-            // 소분류 추가
             @SuppressWarnings("unchecked")
             List<Map<String, Object>> upjong2Children = (List<Map<String, Object>>) upjong2.get("children");
             Map<String, Object> upjong3 = new LinkedHashMap<>();
             upjong3.put("code", upjong3Cd);
-            upjong3.put("name", upjong3Nm);
-            upjong3.put("highlighted", upjong3Nm.contains(keyword)); // 검색어 포함 여부
-            
+            upjong3.put("name", row.get("upjong3Nm"));
+            upjong3.put("highlighted", match.matches(upjong3Cd)); // 검색어 일치 여부
             upjong2Children.add(upjong3);
-        });
+        }
         
         return result;
     }
@@ -308,9 +334,10 @@ public class UpjongServiceImpl implements UpjongService {
                 );
             }
 
-            // 1단계: 키워드로 일치하는 업종들 조회
-            List<Map<String, Object>> searchRows = upjongMapper.selectUpjongByName(trimmedKeyword);
-            if (searchRows == null || searchRows.isEmpty()) {
+            // 1단계: 키워드로 일치하는 업종들의 중분류 코드 조회 (업종명 인덱스, 최상위 일치 순위 순 / 적재 전에는 DB 검색)
+            UpjongNameIndex.Result match = searchNames(trimmedKeyword);
+            List<String> upjong2Cds = match.getUpjong2Codes();
+            if (upjong2Cds.isEmpty()) {
                 return Map.of(
                     "keyword", trimmedKeyword,
                     "totalCount", 0,
@@ -319,29 +346,22 @@ public class UpjongServiceImpl implements UpjongService {
                 );
             }
 
-            // 2단계: 검색된 업종들의 중분류 코드 수집 (중복 제거)
-            List<String> upjong2Cds = new ArrayList<>();
-            for (Map<String, Object> row : searchRows) {
-                Object cd = row.get("upjong2Cd");
-                if (cd instanceof String cdStr && !upjong2Cds.contains(cdStr)) {
-                    upjong2Cds.add(cdStr);
-                }
-            }
-            
             log.debug("[UPJONG-V1] 검색된 중분류 코드 수집 완료 - 코드수: {}", upjong2Cds.size());
 
-            // 3단계: 확장 점포수 및 분석가능 여부 포함하여 계층구조 조회
-            List<Map<String, Object>> rows = upjongMapper.selectUpjongHierarchyByCodesWithExpandedStore(
-                upjong2Cds, admiCd.substring(0, 8));
+            // 2단계: 확장 점포수 및 분석가능 여부 포함하여 계층구조 조회 (카탈로그·행렬 적재 전에는 DB 조회)
+            List<Map<String, Object>> rows = upjongExpandedStoreIndex.isReady() && upjongCatalog.isReady()
+                ? selectHierarchyRowsWithExpandedStore(upjong2Cds, admiCd.substring(0, 8))
+                : rankRows(upjongMapper.selectUpjongHierarchyByCodesWithExpandedStore(
+                    upjong2Cds, admiCd.substring(0, 8)), upjong2Cds);
 
-            // 4단계: DB 결과를 트리 구조로 변환 (점포수, 분석가능 여부, 하이라이트 포함)
-            Map<String, Object> hierarchy = buildSearchHierarchyWithStore(rows, trimmedKeyword);
+            // 3단계: 검색 순위 순 트리 구조로 변환 (점포수, 분석가능 여부, 하이라이트 포함)
+            Map<String, Object> hierarchy = buildSearchHierarchyWithStore(rows, match);
 
-            // 5단계: 최종 응답 데이터 구성
+            // 4단계: 최종 응답 데이터 구성
             Map<String, Object> finalResult = Map.of(
                 "keyword", trimmedKeyword,
                 "totalCount", rows != null ? rows.size() : 0,
-                "matchedCount", searchRows.size(),
+                "matchedCount", upjong2Cds.size(),
                 "hierarchy", hierarchy
             );
             
@@ -382,10 +402,43 @@ public class UpjongServiceImpl implements UpjongService {
         }
     }
     
+    /**
+     * 카탈로그 계층 행 + 인메모리 기본/확장 점포수 및 분석 상태 (검색 순위 순)
+     */
+    private List<Map<String, Object>> selectHierarchyRowsWithExpandedStore(List<String> upjong2Cds, String admiCd) {
+        List<Map<String, Object>> rows = upjongCatalog.hierarchyRows(upjong2Cds);
+        UpjongExpandedStoreIndex.AdmiStoreCounts storeCounts = upjongExpandedStoreIndex.of(admiCd);
+        for (Map<String, Object> row : rows) {
+            String upjong3Cd = (String) row.get("upjong3Cd");
+            int basicStoreCnt = storeCounts.basicStoreCnt(upjong3Cd);
+            int expandedStoreCnt = storeCounts.expandedStoreCnt(upjong3Cd);
+            row.put("basicStoreCnt", basicStoreCnt);
+            row.put("expandedStoreCnt", expandedStoreCnt);
+            row.put("analysisStatus", storeCounts.analysisStatus(basicStoreCnt, expandedStoreCnt));
+        }
+        return rows;
+    }
+
+    /**
+     * 계층 행을 검색 순위(중분류 순서)대로 정렬 (같은 중분류 안에서는 조회 순서 유지)
+     */
+    private List<Map<String, Object>> rankRows(List<Map<String, Object>> rows, List<String> upjong2Cds) {
+        if (rows == null) {
+            return List.of();
+        }
+        Map<String, Integer> rank = new HashMap<>(upjong2Cds.size() * 2);
+        for (int i = 0; i < upjong2Cds.size(); i++) {
+            rank.put(upjong2Cds.get(i), i);
+        }
+        List<Map<String, Object>> sorted = new ArrayList<>(rows);
+        sorted.sort(Comparator.comparingInt(row -> rank.getOrDefault((String) row.get("upjong2Cd"), Integer.MAX_VALUE)));
+        return sorted;
+    }
+
     /**
      * 검색 결과용 계층구조 생성 (확장 점포수 포함)
      */
-    private Map<String, Object> buildSearchHierarchyWithStore(List<Map<String, Object>> rows, String keyword) {
+    private Map<String, Object> buildSearchHierarchyWithStore(List<Map<String, Object>> rows, UpjongNameIndex.Result match) {
         Map<String, Object> hierarchy = new LinkedHashMap<>();
         
         for (Map<String, Object> row : rows) {
@@ -432,7 +485,7 @@ public class UpjongServiceImpl implements UpjongService {
             Map<String, Object> upjong3 = new LinkedHashMap<>();
             upjong3.put("code", upjong3Cd);
             upjong3.put("name", upjong3Nm);
-            upjong3.put("highlighted", upjong3Nm != null && !keyword.isEmpty() && upjong3Nm.contains(keyword));
+            upjong3.put("highlighted", match.matches(upjong3Cd));
             upjong3.put("basicStoreCnt", basicStoreCnt);
             upjong3.put("expandedStoreCnt", expandedStoreCnt);
             upjong3.put("analysisStatus", analysisStatus);
@@ -28,11 +28,12 @@ import java.util.Map;
  * 
  * <p>맵 조회 관련 API를 제공합니다.</p>
  * <p>block, admi, cty, mega 구분에 따른 맵 데이터를 조회합니다.</p>
+ * <p>cluster 구분은 줌 레벨(zoom)별로 미리 계산된 격자 클러스터를 반환합니다.</p>
  * 
  * @author ZiniData 개발팀
  * @since 1.0
  */
-@Tag(name = "[requests] 맵 조회", description = "요청 맵 조회 API - block, admi, cty, mega 구분별 조회")
+@Tag(name = "[requests] 맵 조회", description = "요청 맵 조회 API - block, admi, cty, mega, cluster 구분별 조회")
 @RestController
 @RequestMapping("/api/requests/map")
 @RequiredArgsConstructor
@@ -44,15 +45,15 @@ public class MapApiController {
     /**
      * 🟢 요청 맵 조회
      */
-    @Operation(summary = "🟢 요청 맵 조회", description = "요청 맵을 조회합니다. 구분(block, admi, cty, mega)에 따라 다른 데이터를 반환합니다.")
+    @Operation(summary = "🟢 요청 맵 조회", description = "요청 맵을 조회합니다. 구분(block, admi, cty, mega, cluster)에 따라 다른 데이터를 반환합니다. cluster는 zoom 값이 필요합니다.")
     @AuditLog(actionType = AuditActionType.API_CALL, targetResource = "api:/requests/map")
     @PostMapping
     public ResponseEntity<ApiResponse<Map<String, Object>>> getRequestMap(
             @RequestBody MapVO mapVO,
             HttpServletRequest request) {
         
-        log.info("[MAP_API] 요청 맵 조회 요청 - gubun: {}, minx: {}, miny: {}, maxx: {}, maxy: {}", 
-                mapVO.getGubun(), mapVO.getMinx(), mapVO.getMiny(), mapVO.getMaxx(), mapVO.getMaxy());
+        log.info("[MAP_API] 요청 맵 조회 요청 - gubun: {}, zoom: {}, minx: {}, miny: {}, maxx: {}, maxy: {}", 
+                mapVO.getGubun(), mapVO.getZoom(), mapVO.getMinx(), mapVO.getMiny(), mapVO.getMaxx(), mapVO.getMaxy());
         
         try {
             // 세션에서 memNo 가져오기
@@ -4,7 +4,7 @@ import com.zinidata.audit.annotation.AuditLog;
 import com.zinidata.audit.enums.AuditActionType;
 import com.zinidata.common.dto.ApiResponse;
 import com.zinidata.common.exception.ValidationException;
-import com.zinidata.common.util.AesCryptoUtil;
+import com.zinidata.common.util.SeqIdCodec;
 import com.zinidata.domain.requests.service.RequestService;
 import com.zinidata.domain.requests.vo.RequestFileVO;
 import com.zinidata.domain.requests.vo.RequestVO;
@@ -181,16 +181,23 @@ public class RequestsApiController {
         log.info("[REQUESTS_API] 파일 업로드 요청 - requestSeq: {}, executeSw: {}, fileCount: {}", 
                 requestSeq, executeSw, files != null ? files.size() : 0);
         
-        try {
-            // requestSeq 검증
-            if (requestSeq == null) {
-                log.warn("[REQUESTS_API] requestSeq가 없습니다.");
-                ApiResponse<List<RequestFileVO>> response = ApiResponse.badRequest("요청 번호(requestSeq)가 필요합니다.");
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
-            }
+        // requestSeq 검증
+        if (requestSeq == null) {
+            log.warn("[REQUESTS_API] requestSeq가 없습니다.");
+            ApiResponse<List<RequestFileVO>> response = ApiResponse.badRequest("요청 번호(requestSeq)가 필요합니다.");
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        }
 
-            requestSeq = AesCryptoUtil.decrypt(requestSeq);
-            
+        // 요청 번호 토큰 복호화 (잘못된 토큰은 파라미터 오류)
+        try {
+            requestSeq = String.valueOf(SeqIdCodec.decode(requestSeq));
+        } catch (IllegalArgumentException e) {
+            log.warn("[REQUESTS_API] requestSeq 복호화 실패 - requestSeq: {}, 오류: {}", requestSeq, e.getMessage());
+            ApiResponse<List<RequestFileVO>> response = ApiResponse.badRequest("유효하지 않은 요청 번호입니다.");
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        }
+        
+        try {
             // 세션에서 memNo 가져오기
             HttpSession session = request.getSession(false);
             if (session == null) {
@@ -299,10 +306,8 @@ public class RequestsApiController {
             }
 
             // 암호화된 seq 복호화
-            String decryptedSeq;
             try {
-                decryptedSeq = AesCryptoUtil.decrypt(requestVO.getEncryptedSeq());
-                requestVO.setSeq(Long.parseLong(decryptedSeq));
+                requestVO.setSeq(SeqIdCodec.decode(requestVO.getEncryptedSeq()));
             } catch (Exception e) {
                 log.error("[REQUESTS_API] seq 복호화 실패 - encryptedSeq: {}", requestVO.getEncryptedSeq(), e);
                 ApiResponse<Map<String, Object>> response = ApiResponse.badRequest("유효하지 않은 요청 번호입니다.");
@@ -360,10 +365,8 @@ public class RequestsApiController {
             }
 
             // 암호화된 seq 복호화
-            String decryptedSeq;
             try {
-                decryptedSeq = AesCryptoUtil.decrypt(requestVO.getEncryptedSeq());
-                requestVO.setSeq(Long.parseLong(decryptedSeq));
+                requestVO.setSeq(SeqIdCodec.decode(requestVO.getEncryptedSeq()));
             } catch (Exception e) {
                 log.error("[REQUESTS_API] seq 복호화 실패 - encryptedSeq: {}", requestVO.getEncryptedSeq(), e);
                 ApiResponse<Map<String, Object>> response = ApiResponse.badRequest("유효하지 않은 요청 번호입니다.");
@@ -488,10 +491,8 @@ public class RequestsApiController {
             }
 
             // 암호화된 seq 복호화
-            String decryptedSeq;
             try {
-                decryptedSeq = AesCryptoUtil.decrypt(requestVO.getEncryptedSeq());
-                requestVO.setSeq(Long.parseLong(decryptedSeq));
+                requestVO.setSeq(SeqIdCodec.decode(requestVO.getEncryptedSeq()));
             } catch (Exception e) {
                 log.error("[REQUESTS_API] seq 복호화 실패 - encryptedSeq: {}", requestVO.getEncryptedSeq(), e);
                 ApiResponse<Map<String, Object>> response = ApiResponse.badRequest("유효하지 않은 요청 번호입니다.");
@@ -796,10 +797,8 @@ public class RequestsApiController {
             }
 
             // 암호화된 seq 복호화
-            String decryptedSeq;
             try {
-                decryptedSeq = AesCryptoUtil.decrypt(requestVO.getEncryptedSeq());
-                requestVO.setSeq(Long.parseLong(decryptedSeq));
+                requestVO.setSeq(SeqIdCodec.decode(requestVO.getEncryptedSeq()));
             } catch (Exception e) {
                 log.error("[REQUESTS_API] seq 복호화 실패 - encryptedSeq: {}", requestVO.getEncryptedSeq(), e);
                 ApiResponse<Map<String, Object>> response = ApiResponse.badRequest("유효하지 않은 요청 번호입니다.");
@@ -864,10 +863,8 @@ public class RequestsApiController {
             }
 
             // 암호화된 seq 복호화
-            String decryptedSeq;
             try {
-                decryptedSeq = AesCryptoUtil.decrypt(requestVO.getEncryptedSeq());
-                requestVO.setSeq(Long.parseLong(decryptedSeq));
+                requestVO.setSeq(SeqIdCodec.decode(requestVO.getEncryptedSeq()));
             } catch (Exception e) {
                 log.error("[REQUESTS_API] seq 복호화 실패 - encryptedSeq: {}", requestVO.getEncryptedSeq(), e);
                 ApiResponse<Map<String, Object>> response = ApiResponse.badRequest("유효하지 않은 요청 번호입니다.");
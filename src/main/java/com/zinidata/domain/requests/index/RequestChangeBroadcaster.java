@@ -0,0 +1,133 @@
+package com.zinidata.domain.requests.index;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청건 변경 이벤트 전파 (Redis Pub/Sub)
+ *
+ * <p>{@link RequestChangeEvent}를 트랜잭션 커밋 후 자기 노드의 {@link RequestClusterIndex}에 바로 반영하고,
+ * Redis 채널로 발행하여 다른 노드의 인덱스도 함께 갱신합니다.</p>
+ *
+ * <ul>
+ *   <li>롤백된 트랜잭션의 이벤트는 반영·발행하지 않음 (AFTER_COMMIT)</li>
+ *   <li>자기 노드가 발행한 메시지는 무시 (노드 ID 비교)</li>
+ *   <li>메시지가 유실되어도 인덱스의 주기적 DB 대사({@code reconcile-interval-ms})에서 보정</li>
+ * </ul>
+ *
+ * <h3>설정</h3>
+ * <pre>
+ * request:
+ *   map:
+ *     index:
+ *       channel: "${spring.application.name}:request:change"
+ * </pre>
+ *
+ * @author ZiniData 개발팀
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class RequestChangeBroadcaster {
+
+    private static final String TYPE_OPENED = "O";
+    private static final String TYPE_CLOSED = "C";
+    private static final String SEPARATOR = "\n";
+
+    private final RequestClusterIndex requestClusterIndex;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisConnectionFactory connectionFactory;
+    private final String channel;
+
+    /** 노드 식별자 (자기 메시지 무시용) */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private RedisMessageListenerContainer listenerContainer;
+
+    public RequestChangeBroadcaster(
+            RequestClusterIndex requestClusterIndex,
+            StringRedisTemplate stringRedisTemplate,
+            RedisConnectionFactory connectionFactory,
+            @Value("${request.map.index.channel:request:change}") String channel) {
+        this.requestClusterIndex = requestClusterIndex;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.connectionFactory = connectionFactory;
+        this.channel = channel;
+    }
+
+    /**
+     * 변경 채널 구독 시작 (전용 리스너 컨테이너)
+     */
+    @PostConstruct
+    public void subscribe() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(this::onMessage, new ChannelTopic(channel));
+        container.afterPropertiesSet();
+        container.start();
+        this.listenerContainer = container;
+        log.info("[MAP] 요청건 변경 채널 구독 - 채널: {}, 노드: {}", channel, nodeId);
+    }
+
+    @PreDestroy
+    public void unsubscribe() throws Exception {
+        if (listenerContainer != null) {
+            listenerContainer.destroy();
+        }
+    }
+
+    /**
+     * 커밋된 변경 반영 및 전파
+     *
+     * @param event 요청건 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRequestChanged(RequestChangeEvent event) {
+        apply(event);
+        try {
+            String type = event.isOpen() ? TYPE_OPENED : TYPE_CLOSED;
+            stringRedisTemplate.convertAndSend(channel, nodeId + SEPARATOR + type + SEPARATOR + event.getSeq());
+        } catch (Exception e) {
+            // 발행 실패 시 다른 노드는 다음 DB 대사에서 보정됨
+            log.warn("[MAP] 요청건 변경 메시지 발행 실패 - {}, 오류: {}", event, e.getMessage());
+        }
+    }
+
+    // ==================== 내부 메서드 ====================
+
+    private void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        try {
+            long seq = Long.parseLong(parts[2]);
+            apply(TYPE_OPENED.equals(parts[1]) ? RequestChangeEvent.opened(seq) : RequestChangeEvent.closed(seq));
+            log.debug("[MAP] 요청건 변경 수신 - 유형: {}, seq: {}", parts[1], seq);
+        } catch (NumberFormatException e) {
+            log.warn("[MAP] 요청건 변경 메시지 형식 오류 - {}", parts[2]);
+        }
+    }
+
+    private void apply(RequestChangeEvent event) {
+        try {
+            requestClusterIndex.apply(event);
+        } catch (Exception e) {
+            log.warn("[MAP] 요청건 변경 인덱스 반영 실패 - {}, 오류: {}", event, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.zinidata.domain.requests.index;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 요청건 진행 상태 변경 이벤트
+ *
+ * <p>요청건이 진행 중(status='0') 집합에 들어가거나 빠질 때 {@code RequestService}가 발행합니다.
+ * 트랜잭션 커밋 후 {@link RequestChangeBroadcaster}가 자기 노드 인덱스에 반영하고 다른 노드에 전파합니다.</p>
+ *
+ * <ul>
+ *   <li><strong>OPENED:</strong> 등록, 수행 취소(수락 → 요청 상태 복귀) - 수신 노드가 DB에서 현재 행을 다시 읽어 반영</li>
+ *   <li><strong>CLOSED:</strong> 요청 취소(삭제), 수락, 완료 처리 - 인덱스에서 제거</li>
+ * </ul>
+ *
+ * @author ZiniData 개발팀
+ * @since 1.0
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class RequestChangeEvent {
+
+    private final long seq;
+
+    /** true: 진행 중 집합에 추가, false: 제거 */
+    private final boolean open;
+
+    public static RequestChangeEvent opened(long seq) {
+        return new RequestChangeEvent(seq, true);
+    }
+
+    public static RequestChangeEvent closed(long seq) {
+        return new RequestChangeEvent(seq, false);
+    }
+}
@@ -0,0 +1,662 @@
+package com.zinidata.domain.requests.index;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.zinidata.domain.requests.mapper.MapMapper;
+import com.zinidata.domain.requests.vo.MapVO;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 진행 중 요청건 인메모리 인덱스 (줌 레벨별 격자 클러스터)
+ *
+ * <p>진행 중(status='0')인 요청건 좌표를 메모리에 두고, 줌 레벨마다 화면 약 {@value #CLUSTER_PX}px 크기의
+ * 격자 클러스터(건수, 무게중심)를 유지합니다.
+ * 지도 이동 시에는 화면에 걸친 격자만 읽으므로 DB 왕복 없이 화면 크기에 비례하는 응답을 만듭니다.</p>
+ *
+ * <h3>동작 방식</h3>
+ * <ul>
+ *   <li>격자 크기: 경도 {@code CLUSTER_PX × 360 / (256 × 2^zoom)}, 위도는 한반도 중위도 기준으로 보정</li>
+ *   <li>클러스터 좌표는 격자 중심이 아닌 포함된 요청건의 평균 좌표 (마커가 실제 분포 위에 표시됨)</li>
+ *   <li>1건짜리 클러스터는 요청건 정보를 함께 반환 (개별 마커로 표시)</li>
+ *   <li>화면에 걸친 격자 수가 {@link #MAX_CLUSTERS}를 넘으면 한 단계씩 낮은 줌의 격자 사용 (응답 크기 상한)</li>
+ *   <li>영역 내 요청건 조회는 {@value #MEMBER_ZOOM} 줌 격자에 보관한 요청건 목록을 사용</li>
+ * </ul>
+ *
+ * <h3>갱신</h3>
+ * <ul>
+ *   <li><strong>증분:</strong> 등록/취소/수락/완료 시 {@link RequestChangeEvent}로 해당 요청건만 추가·제거 ({@link RequestChangeBroadcaster})</li>
+ *   <li><strong>대사:</strong> 기동 시와 주기적으로 DB 전체를 다시 읽어 교체, 누락된 이벤트로 어긋난 건수를 로그로 남김</li>
+ *   <li>재적재 중 들어온 변경은 따로 기록했다가 새 인덱스에 다시 반영한 뒤 교체 (변경 유실 방지)</li>
+ *   <li>조회는 읽기 잠금, 변경은 쓰기 잠금 (변경은 요청건 1건 단위라 잠금 구간이 짧음)</li>
+ * </ul>
+ *
+ * <h3>변경분 조회 (지도 이동)</h3>
+ * <ul>
+ *   <li>변경마다 데이터 버전을 올리고 최근 {@value #CHANGE_LOG_SIZE}건의 변경(이전/이후 요청건)을 보관</li>
+ *   <li>클라이언트가 직전 응답의 버전·영역·줌을 보내면, 새로 드러난 격자와 그 사이 변경된 격자만 반환하고
+ *       화면에서 벗어나거나 비게 된 격자는 removed로 알림</li>
+ *   <li>버전 토큰에 노드 기동 식별자를 포함하여, 다른 노드의 버전이거나 보관 범위를 벗어나면 전체 응답</li>
+ * </ul>
+ *
+ * <h3>설정</h3>
+ * <pre>
+ * request:
+ *   map:
+ *     index:
+ *       reconcile-interval-ms: 600000   # DB 전체 대사 주기
+ * </pre>
+ *
+ * @author ZiniData 개발팀
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RequestClusterIndex {
+
+    /** 격자를 유지하는 줌 범위 (네이버 지도 기준) */
+    public static final int MIN_ZOOM = 6;
+    public static final int MAX_ZOOM = 21;
+
+    /** 클러스터 격자 크기 (화면 픽셀) */
+    public static final int CLUSTER_PX = 60;
+
+    /** 한 번에 반환하는 최대 클러스터 수 */
+    public static final int MAX_CLUSTERS = 1_000;
+
+    /** 요청건 목록을 보관하는 격자 줌 레벨 (약 500m 격자) */
+    private static final int MEMBER_ZOOM = 14;
+
+    /** 변경분 조회를 위해 보관하는 최근 변경 건수 */
+    private static final int CHANGE_LOG_SIZE = 10_000;
+
+    /** 변경분 조회 시 허용하는 직전 영역 격자 수 (초과 시 전체 응답) */
+    private static final int MAX_PREV_CELLS = MAX_CLUSTERS * 4;
+
+    /** 위도 방향 격자 보정 (cos 36.5°, 한반도 중위도) */
+    private static final double LAT_SCALE = Math.cos(Math.toRadians(36.5));
+
+    private final MapMapper mapMapper;
+
+    private final AtomicBoolean loading = new AtomicBoolean(false);
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** 현재 인덱스 (lock 보호) */
+    private State state;
+
+    /** 재적재 중 들어온 변경 (seq → 반영할 요청건, 제거면 null / 재적재 중에만 존재, lock 보호) */
+    private Map<Long, RequestPoint> pending;
+
+    /** 노드 기동 식별자 (버전 토큰 접두사) */
+    private final String epoch = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+
+    /** 데이터 버전 (변경 1건마다 +1, lock 보호) */
+    private long version;
+
+    /** 최근 변경 기록 (lock 보호) */
+    private final ChangeLog changeLog = new ChangeLog(CHANGE_LOG_SIZE);
+
+    /**
+     * 애플리케이션 기동 완료 후 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    /**
+     * 주기적 DB 대사 (기본 10분)
+     */
+    @Scheduled(fixedDelayString = "${request.map.index.reconcile-interval-ms:600000}",
+            initialDelayString = "${request.map.index.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        reload();
+    }
+
+    /**
+     * 진행 중 요청건 전체 적재 후 인덱스 교체
+     */
+    public void reload() {
+        if (!loading.compareAndSet(false, true)) {
+            return;
+        }
+        long startTime = System.currentTimeMillis();
+        try {
+            withWriteLock(() -> pending = new HashMap<>());
+
+            State next = new State();
+            for (MapVO row : mapMapper.selectOpenRequestPoints()) {
+                RequestPoint point = RequestPoint.from(row);
+                if (point != null) {
+                    next.add(point);
+                }
+            }
+
+            int[] drift = new int[1];
+            withWriteLock(() -> {
+                pending.forEach((seq, point) -> next.put(seq, point));
+                if (state != null) {
+                    List<RequestPoint[]> changes = state.changes(next);
+                    changes.forEach(change -> changeLog.add(++version, change[0], change[1]));
+                    drift[0] = changes.size();
+                }
+                state = next;
+            });
+
+            if (drift[0] > 0) {
+                log.warn("[MAP] 요청 인덱스 대사 - 이벤트 누락 보정: {}건", drift[0]);
+            }
+            log.info("[MAP] 요청 인덱스 적재 완료 - 건수: {}, 소요시간: {}ms",
+                    next.size(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("[MAP] 요청 인덱스 적재 실패 - 기존 인덱스를 유지합니다.", e);
+        } finally {
+            withWriteLock(() -> pending = null);
+            loading.set(false);
+        }
+    }
+
+    /**
+     * 요청건 변경 반영
+     *
+     * <p>추가 이벤트는 DB에서 현재 행을 다시 읽으므로, 이벤트 순서가 바뀌거나 이미 종료된 건이어도
+     * 최종 상태로 수렴합니다.</p>
+     *
+     * @param event 요청건 변경 이벤트
+     */
+    public void apply(RequestChangeEvent event) {
+        RequestPoint point = null;
+        if (event.isOpen()) {
+            MapVO row = mapMapper.selectOpenRequestPoint(event.getSeq());
+            point = row == null ? null : RequestPoint.from(row);
+        }
+
+        RequestPoint resolved = point;
+        withWriteLock(() -> {
+            if (state != null) {
+                RequestPoint old = state.put(event.getSeq(), resolved);
+                if (old != null || resolved != null) {
+                    changeLog.add(++version, old, resolved);
+                }
+            }
+            if (pending != null) {
+                pending.put(event.getSeq(), resolved);
+            }
+        });
+        log.debug("[MAP] 요청 인덱스 변경 반영 - seq: {}, 진행 중: {}", event.getSeq(), resolved != null);
+    }
+
+    /**
+     * 인덱스 적재 완료 여부
+     */
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return state != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 화면 영역 클러스터 조회
+     *
+     * <p>직전 응답의 버전(sinceVersion), 줌(prevZoom), 영역(prevMinx ~ prevMaxy)이 함께 오고
+     * 변경 기록으로 따라잡을 수 있으면 변경분만 반환합니다. 그 외에는 전체를 반환합니다.</p>
+     *
+     * @param request 조회 영역(minx ~ maxy), 줌(zoom), 변경분 조회 조건
+     * @return 클러스터 목록과 영역 내 요청건
+     * @throws IllegalStateException 인덱스가 적재되지 않은 경우
+     */
+    public Viewport query(MapVO request) {
+        double minx = request.getMinx();
+        double miny = request.getMiny();
+        double maxx = request.getMaxx();
+        double maxy = request.getMaxy();
+
+        lock.readLock().lock();
+        try {
+            State current = requireState();
+            int level = Math.max(MIN_ZOOM, Math.min(MAX_ZOOM, request.getZoom()));
+            while (level > MIN_ZOOM && current.grid(level).range(minx, miny, maxx, maxy).count() > MAX_CLUSTERS) {
+                level--;
+            }
+            Grid grid = current.grid(level);
+            Range range = grid.range(minx, miny, maxx, maxy);
+            String token = epoch + "-" + version;
+            List<RequestPoint> points = current.points(minx, miny, maxx, maxy);
+
+            Range prev = prevRange(request, grid, level);
+            long since = prev == null ? -1 : parseVersion(request.getSinceVersion());
+            if (since < 0 || !changeLog.covers(since, version)) {
+                List<MapVO> clusters = new ArrayList<>();
+                for (Long key : grid.keys(range, null)) {
+                    clusters.add(grid.get(key).toMapVO(key, current.bySeq));
+                }
+                return new Viewport(level, token, true, clusters, List.of(), points);
+            }
+
+            // 변경된 격자 (현재 영역 또는 직전 영역에 걸친 것만)
+            Set<Long> changed = new LinkedHashSet<>();
+            changeLog.forEachSince(since, version, point -> {
+                long key = grid.keyOf(point);
+                if (range.contains(key) || prev.contains(key)) {
+                    changed.add(key);
+                }
+            });
+
+            // 새로 드러난 격자 + 변경된 격자 → 현재 값, 비었거나 화면에서 벗어난 격자 → removed
+            Set<Long> upserts = new LinkedHashSet<>(grid.keys(range, prev));
+            List<String> removed = new ArrayList<>();
+            for (Long key : changed) {
+                if (range.contains(key) && grid.get(key) != null) {
+                    upserts.add(key);
+                } else if (prev.contains(key)) {
+                    removed.add(String.valueOf(key));
+                }
+            }
+            for (Long key : grid.keys(prev, range)) {
+                if (!changed.contains(key)) {
+                    removed.add(String.valueOf(key));
+                }
+            }
+
+            List<MapVO> clusters = new ArrayList<>(upserts.size());
+            for (Long key : upserts) {
+                clusters.add(grid.get(key).toMapVO(key, current.bySeq));
+            }
+            return new Viewport(level, token, false, clusters, removed, points);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 화면 영역 내 요청건 조회
+     *
+     * @return 영역 내 요청건 (순서 없음)
+     * @throws IllegalStateException 인덱스가 적재되지 않은 경우
+     */
+    public List<RequestPoint> points(double minx, double miny, double maxx, double maxy) {
+        lock.readLock().lock();
+        try {
+            return requireState().points(minx, miny, maxx, maxy);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ==================== 내부 메서드 ====================
+
+    /**
+     * 직전 응답 영역 (변경분 조회 조건이 없거나 줌이 다르거나 너무 크면 null)
+     */
+    private static Range prevRange(MapVO request, Grid grid, int level) {
+        if (request.getSinceVersion() == null || request.getPrevZoom() == null || request.getPrevZoom() != level
+                || request.getPrevMinx() == null || request.getPrevMiny() == null
+                || request.getPrevMaxx() == null || request.getPrevMaxy() == null) {
+            return null;
+        }
+        Range prev = grid.range(request.getPrevMinx(), request.getPrevMiny(), request.getPrevMaxx(), request.getPrevMaxy());
+        return prev.count() > MAX_PREV_CELLS ? null : prev;
+    }
+
+    /**
+     * 버전 토큰 해석 (다른 노드/이전 기동의 토큰이거나 형식이 다르면 -1)
+     */
+    private long parseVersion(String token) {
+        if (token == null || !token.startsWith(epoch + "-")) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(token.substring(epoch.length() + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private State requireState() {
+        if (state == null) {
+            throw new IllegalStateException("요청 인덱스가 적재되지 않았습니다.");
+        }
+        return state;
+    }
+
+    private void withWriteLock(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ==================== 내부 클래스 ====================
+
+    /**
+     * 화면 영역 조회 결과
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Viewport {
+
+        /** 실제 사용한 격자 줌 레벨 */
+        private final int zoom;
+
+        /** 데이터 버전 토큰 (다음 변경분 조회 시 sinceVersion으로 전달) */
+        private final String version;
+
+        /** 전체 응답 여부 (false면 clusters/removed를 기존 마커에 반영) */
+        private final boolean full;
+
+        /** 클러스터 (clusterId, lng, lat, cnt, 1건이면 요청건 정보 포함) */
+        private final List<MapVO> clusters;
+
+        /** 제거할 클러스터 ID (변경분 응답) */
+        private final List<String> removed;
+
+        /** 영역 내 요청건 전체 */
+        private final List<RequestPoint> points;
+    }
+
+    /**
+     * 진행 중 요청건과 줌별 격자
+     */
+    private static final class State {
+
+        private final Map<Long, RequestPoint> bySeq = new HashMap<>();
+        private final Grid[] grids = new Grid[MAX_ZOOM - MIN_ZOOM + 1];
+
+        private State() {
+            for (int zoom = MIN_ZOOM; zoom <= MAX_ZOOM; zoom++) {
+                grids[zoom - MIN_ZOOM] = new Grid(zoom, zoom == MEMBER_ZOOM);
+            }
+        }
+
+        int size() {
+            return bySeq.size();
+        }
+
+        Grid grid(int zoom) {
+            return grids[zoom - MIN_ZOOM];
+        }
+
+        /**
+         * 요청건 교체 (point가 null이면 제거)
+         *
+         * @return 이전 요청건 (없으면 null)
+         */
+        RequestPoint put(long seq, RequestPoint point) {
+            RequestPoint old = bySeq.remove(seq);
+            if (old != null) {
+                for (Grid grid : grids) {
+                    grid.remove(old);
+                }
+            }
+            if (point != null) {
+                add(point);
+            }
+            return old;
+        }
+
+        void add(RequestPoint point) {
+            bySeq.put(point.getSeq(), point);
+            for (Grid grid : grids) {
+                grid.add(point);
+            }
+        }
+
+        List<RequestPoint> points(double minx, double miny, double maxx, double maxy) {
+            List<RequestPoint> result = new ArrayList<>();
+            Grid grid = grid(MEMBER_ZOOM);
+            for (Long key : grid.keys(grid.range(minx, miny, maxx, maxy), null)) {
+                for (RequestPoint point : grid.get(key).members) {
+                    if (point.getLng() >= minx && point.getLng() <= maxx
+                            && point.getLat() >= miny && point.getLat() <= maxy) {
+                        result.add(point);
+                    }
+                }
+            }
+            return result;
+        }
+
+        /**
+         * 두 인덱스 간 차이 (한쪽에만 있거나 내용이 다른 요청건의 [이전, 이후] 목록)
+         */
+        List<RequestPoint[]> changes(State next) {
+            List<RequestPoint[]> result = new ArrayList<>();
+            for (Map.Entry<Long, RequestPoint> entry : bySeq.entrySet()) {
+                RequestPoint point = next.bySeq.get(entry.getKey());
+                if (point == null || !point.sameAs(entry.getValue())) {
+                    result.add(new RequestPoint[] { entry.getValue(), point });
+                }
+            }
+            for (Map.Entry<Long, RequestPoint> entry : next.bySeq.entrySet()) {
+                if (!bySeq.containsKey(entry.getKey())) {
+                    result.add(new RequestPoint[] { null, entry.getValue() });
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 줌 레벨 하나의 격자 클러스터
+     */
+    private static final class Grid {
+
+        private final double cellX;
+        private final double cellY;
+        private final boolean keepMembers;
+        private final Map<Long, Cell> cells = new HashMap<>();
+
+        private Grid(int zoom, boolean keepMembers) {
+            this.cellX = CLUSTER_PX * 360.0 / (256.0 * (1L << zoom));
+            this.cellY = cellX * LAT_SCALE;
+            this.keepMembers = keepMembers;
+        }
+
+        void add(RequestPoint point) {
+            cells.computeIfAbsent(keyOf(point), k -> new Cell(keepMembers)).add(point);
+        }
+
+        void remove(RequestPoint point) {
+            long key = keyOf(point);
+            Cell cell = cells.get(key);
+            if (cell != null && cell.remove(point)) {
+                cells.remove(key);
+            }
+        }
+
+        Range range(double minx, double miny, double maxx, double maxy) {
+            return new Range(ix(minx), iy(miny), ix(maxx), iy(maxy));
+        }
+
+        Cell get(long key) {
+            return cells.get(key);
+        }
+
+        long keyOf(RequestPoint point) {
+            return key(ix(point.getLng()), iy(point.getLat()));
+        }
+
+        /**
+         * 영역 안(exclude 영역 밖)의 채워진 격자 키
+         *
+         * <p>영역 격자 수가 채워진 격자 수보다 적으면 영역 격자를 직접 조회하고, 아니면 채워진 격자를 필터링합니다.</p>
+         */
+        List<Long> keys(Range range, Range exclude) {
+            List<Long> result = new ArrayList<>();
+            if (range.count() <= cells.size()) {
+                for (int ix = range.minIx; ix <= range.maxIx; ix++) {
+                    for (int iy = range.minIy; iy <= range.maxIy; iy++) {
+                        long key = key(ix, iy);
+                        if ((exclude == null || !exclude.contains(key)) && cells.containsKey(key)) {
+                            result.add(key);
+                        }
+                    }
+                }
+            } else {
+                for (Long key : cells.keySet()) {
+                    if (range.contains(key) && (exclude == null || !exclude.contains(key))) {
+                        result.add(key);
+                    }
+                }
+            }
+            return result;
+        }
+
+        private int ix(double lng) {
+            return (int) Math.floor(lng / cellX);
+        }
+
+        private int iy(double lat) {
+            return (int) Math.floor(lat / cellY);
+        }
+
+        private static long key(int ix, int iy) {
+            return ((long) ix << 32) | (iy & 0xffffffffL);
+        }
+    }
+
+    /**
+     * 격자 한 칸의 집계 (건수, 좌표 합, 1건일 때 요청건 식별용 seq XOR, 요청건 목록은 {@value #MEMBER_ZOOM} 줌만 보관)
+     */
+    private static final class Cell {
+
+        private int count;
+        private double sumX;
+        private double sumY;
+        private long seqXor;
+        private final List<RequestPoint> members;
+
+        private Cell(boolean keepMembers) {
+            this.members = keepMembers ? new ArrayList<>() : null;
+        }
+
+        void add(RequestPoint point) {
+            count++;
+            sumX += point.getLng();
+            sumY += point.getLat();
+            seqXor ^= point.getSeq();
+            if (members != null) {
+                members.add(point);
+            }
+        }
+
+        /**
+         * @return 빈 칸이 되면 true
+         */
+        boolean remove(RequestPoint point) {
+            count--;
+            sumX -= point.getLng();
+            sumY -= point.getLat();
+            seqXor ^= point.getSeq();
+            if (members != null) {
+                members.remove(point);
+            }
+            return count <= 0;
+        }
+
+        MapVO toMapVO(long key, Map<Long, RequestPoint> bySeq) {
+            RequestPoint single = count == 1 ? bySeq.get(seqXor) : null;
+            MapVO vo = single != null ? single.toMapVO() : new MapVO();
+            if (single == null) {
+                vo.setLng(sumX / count);
+                vo.setLat(sumY / count);
+            }
+            vo.setCnt((long) count);
+            vo.setClusterId(String.valueOf(key));
+            return vo;
+        }
+    }
+
+    /**
+     * 격자 인덱스 범위 (양 끝 포함)
+     */
+    private static final class Range {
+
+        private final int minIx;
+        private final int minIy;
+        private final int maxIx;
+        private final int maxIy;
+
+        private Range(int minIx, int minIy, int maxIx, int maxIy) {
+            this.minIx = minIx;
+            this.minIy = minIy;
+            this.maxIx = maxIx;
+            this.maxIy = maxIy;
+        }
+
+        long count() {
+            return (long) (maxIx - minIx + 1) * (maxIy - minIy + 1);
+        }
+
+        boolean contains(long key) {
+            int ix = (int) (key >> 32);
+            int iy = (int) key;
+            return ix >= minIx && ix <= maxIx && iy >= minIy && iy <= maxIy;
+        }
+    }
+
+    /**
+     * 최근 변경 기록 (고정 크기 순환 버퍼, 버전은 1씩 연속 증가)
+     */
+    private static final class ChangeLog {
+
+        private final RequestPoint[] before;
+        private final RequestPoint[] after;
+        private int size;
+
+        private ChangeLog(int capacity) {
+            this.before = new RequestPoint[capacity];
+            this.after = new RequestPoint[capacity];
+        }
+
+        void add(long version, RequestPoint oldPoint, RequestPoint newPoint) {
+            int slot = (int) (version % before.length);
+            before[slot] = oldPoint;
+            after[slot] = newPoint;
+            size = Math.min(size + 1, before.length);
+        }
+
+        /**
+         * since 이후 변경이 모두 남아 있는지
+         */
+        boolean covers(long since, long current) {
+            return since <= current && current - since <= size;
+        }
+
+        /**
+         * since 이후 변경된 요청건의 이전/이후 값 순회 (null 제외)
+         */
+        void forEachSince(long since, long current, Consumer<RequestPoint> action) {
+            for (long v = since + 1; v <= current; v++) {
+                int slot = (int) (v % before.length);
+                if (before[slot] != null) {
+                    action.accept(before[slot]);
+                }
+                if (after[slot] != null) {
+                    action.accept(after[slot]);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.zinidata.domain.requests.index;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import com.zinidata.domain.requests.vo.MapVO;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 진행 중(status='0') 요청건 좌표 (인메모리 인덱스 항목)
+ *
+ * <p>지도 마커와 목록 표시에 필요한 컬럼만 보관하는 불변 객체입니다.
+ * 응답에는 {@link #toMapVO()}로 새 VO를 만들어 내려주므로 인덱스 항목이 변경되지 않습니다.</p>
+ *
+ * @author ZiniData 개발팀
+ * @since 1.0
+ */
+@Getter
+@RequiredArgsConstructor
+public class RequestPoint {
+
+    private final long seq;
+    private final String serviceGb;
+    private final String installNm;
+    private final String installAddr;
+    private final String payAmt;
+    private final LocalDateTime crtDt;
+
+    /** 경도 (center_x) */
+    private final double lng;
+
+    /** 위도 (center_y) */
+    private final double lat;
+
+    /**
+     * DB 조회 결과 변환
+     *
+     * @param vo selectOpenRequestPoints 결과
+     * @return 요청건 좌표 (좌표가 없으면 null)
+     */
+    public static RequestPoint from(MapVO vo) {
+        if (vo.getSeq() == null || vo.getLng() == null || vo.getLat() == null) {
+            return null;
+        }
+        return new RequestPoint(vo.getSeq(), vo.getServiceGb(), vo.getInstallNm(), vo.getInstallAddr(),
+                vo.getPayAmt(), vo.getCrtDt(), vo.getLng(), vo.getLat());
+    }
+
+    /**
+     * 표시 내용 비교 (좌표, 구분, 점포명, 주소, 금액)
+     *
+     * @param other 비교 대상
+     * @return 같으면 true
+     */
+    public boolean sameAs(RequestPoint other) {
+        return other != null && seq == other.seq && lng == other.lng && lat == other.lat
+                && Objects.equals(serviceGb, other.serviceGb) && Objects.equals(installNm, other.installNm)
+                && Objects.equals(installAddr, other.installAddr) && Objects.equals(payAmt, other.payAmt);
+    }
+
+    /**
+     * 응답용 VO 생성 (block 조회 결과와 동일한 필드 구성)
+     */
+    public MapVO toMapVO() {
+        return MapVO.builder()
+                .seq(seq)
+                .serviceGb(serviceGb)
+                .installNm(installNm)
+                .nm(installNm)
+                .installAddr(installAddr)
+                .payAmt(payAmt)
+                .status("0")
+                .crtDt(crtDt)
+                .lng(lng)
+                .lat(lat)
+                .centerX(lng)
+                .centerY(lat)
+                .build();
+    }
+}
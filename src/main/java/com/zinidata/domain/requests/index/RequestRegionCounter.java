@@ -0,0 +1,360 @@
+package com.zinidata.domain.requests.index;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.zinidata.domain.requests.mapper.MapMapper;
+import com.zinidata.domain.requests.vo.MapVO;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 지역별 진행 중 요청건 수 카운터 (Redis Hash)
+ *
+ * <p>행정동/시군구/광역시도 코드별 진행 중 요청건 수를 Redis Hash에 유지합니다.
+ * 요청 맵의 admi/cty/mega 조회는 화면에 걸친 지역 코드의 카운터만 읽으므로,
+ * 요청건 × 경계 공간 조인과 GROUP BY 없이 작은 키 조회로 건수 말풍선을 만듭니다.</p>
+ *
+ * <h3>동작 방식</h3>
+ * <ul>
+ *   <li><strong>증가:</strong> 등록, 수행 취소(요청 상태 복귀) 커밋 후 요청건이 속한 지역 코드를 조회해 +1</li>
+ *   <li><strong>감소:</strong> 요청 취소, 수락, 완료 커밋 후 증가 시 기록해 둔 지역 코드로 -1</li>
+ *   <li>seq별 지역 코드 기록과 카운터 증감을 Lua 스크립트로 한 번에 처리 (중복 이벤트에도 한 번만 반영)</li>
+ *   <li>카운터는 공유 Redis에 있으므로 이벤트를 처리한 노드만 갱신 (노드 간 전파 불필요)</li>
+ *   <li>기동 시와 주기적으로 DB 기준 전체 재계산 후 MULTI로 교체 (여러 노드 중 한 노드만 수행)</li>
+ *   <li>재계산 중에는 모든 노드의 증감 스크립트가 seq를 기록하고, 교체 후 기록된 seq만 DB 현재 상태로 다시 반영
+ *       (seq별 반영은 멱등이므로 교체로 덮어쓴 증감도 누락·중복 없이 복구)</li>
+ *   <li>키는 {@code {애플리케이션명:request:open}:*} - 애플리케이션별로 분리하고 해시 태그로 같은 슬롯에 배치</li>
+ *   <li>지역 목록(코드, 명칭, 중심 좌표, 외접 사각형)은 노드 메모리에 두고 화면 영역과 사각형 겹침으로 후보 선정</li>
+ * </ul>
+ *
+ * <h3>설정</h3>
+ * <pre>
+ * request:
+ *   map:
+ *     counter:
+ *       reconcile-interval-ms: 600000   # DB 기준 전체 재계산 주기
+ * </pre>
+ *
+ * @author ZiniData 개발팀
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class RequestRegionCounter {
+
+    /** 지역 레벨 (Lua 스크립트의 카운터 키 순서와 동일) */
+    public static final List<String> LEVELS = List.of("admi", "cty", "mega");
+
+    /**
+     * 재계산 중 변경 seq 기록 (KEYS: region, count:admi, count:cty, count:mega, rebuilding, journal)
+     */
+    private static final String JOURNAL_LUA =
+            "if redis.call('EXISTS', KEYS[5]) == 1 then redis.call('SADD', KEYS[6], ARGV[1]) end ";
+
+    /** 진행 중 집합에 추가: seq → 지역 코드 기록 후 카운터 +1 (이미 기록된 seq면 무시) */
+    private static final RedisScript<Long> OPEN_SCRIPT = new DefaultRedisScript<>(
+            JOURNAL_LUA
+            + "if redis.call('HSETNX', KEYS[1], ARGV[1], ARGV[2]) == 0 then return 0 end "
+            + "local i = 2 "
+            + "for code in string.gmatch(ARGV[2] .. ',', '([^,]*),') do "
+            + "  if code ~= '' then redis.call('HINCRBY', KEYS[i], code, 1) end "
+            + "  i = i + 1 "
+            + "end "
+            + "return 1", Long.class);
+
+    /** 진행 중 집합에서 제거: 기록된 지역 코드로 카운터 -1 후 기록 삭제 (기록이 없으면 무시) */
+    private static final RedisScript<Long> CLOSE_SCRIPT = new DefaultRedisScript<>(
+            JOURNAL_LUA
+            + "local codes = redis.call('HGET', KEYS[1], ARGV[1]) "
+            + "if not codes then return 0 end "
+            + "redis.call('HDEL', KEYS[1], ARGV[1]) "
+            + "local i = 2 "
+            + "for code in string.gmatch(codes .. ',', '([^,]*),') do "
+            + "  if code ~= '' and redis.call('HINCRBY', KEYS[i], code, -1) <= 0 then "
+            + "    redis.call('HDEL', KEYS[i], code) "
+            + "  end "
+            + "  i = i + 1 "
+            + "end "
+            + "return 1", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MapMapper mapMapper;
+    private final long reconcileIntervalMs;
+
+    /** 같은 슬롯에 두기 위한 해시 태그 포함 키 접두사 */
+    private final String keyPrefix;
+    private final String regionKey;
+    private final String builtKey;
+    private final String lockKey;
+    private final String rebuildingKey;
+    private final String journalKey;
+    private final List<String> scriptKeys;
+
+    /** 레벨별 지역 목록 (전체 교체, 읽기 전용) */
+    private volatile Map<String, List<MapVO>> regions;
+
+    /** 카운터 재계산이 한 번 이상 완료되었는지 */
+    private volatile boolean counted;
+
+    public RequestRegionCounter(
+            StringRedisTemplate stringRedisTemplate,
+            MapMapper mapMapper,
+            @Value("${request.map.counter.reconcile-interval-ms:600000}") long reconcileIntervalMs,
+            @Value("${spring.application.name}") String applicationName) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.mapMapper = mapMapper;
+        this.reconcileIntervalMs = reconcileIntervalMs;
+        this.keyPrefix = "{" + applicationName + ":request:open}:";
+        this.regionKey = keyPrefix + "region";
+        this.builtKey = keyPrefix + "built";
+        this.lockKey = keyPrefix + "rebuild-lock";
+        this.rebuildingKey = keyPrefix + "rebuilding";
+        this.journalKey = keyPrefix + "journal";
+        List<String> keys = new ArrayList<>();
+        keys.add(regionKey);
+        LEVELS.forEach(level -> keys.add(countKey(level)));
+        keys.add(rebuildingKey);
+        keys.add(journalKey);
+        this.scriptKeys = List.copyOf(keys);
+    }
+
+    /**
+     * 애플리케이션 기동 완료 후 지역 목록 적재 및 카운터 재계산
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reconcile();
+    }
+
+    /**
+     * 주기적 지역 목록 갱신 및 카운터 재계산 (기본 10분)
+     */
+    @Scheduled(fixedDelayString = "${request.map.counter.reconcile-interval-ms:600000}",
+            initialDelayString = "${request.map.counter.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        try {
+            loadRegions();
+            rebuild();
+        } catch (Exception e) {
+            log.error("[MAP] 지역별 요청건 카운터 재계산 실패", e);
+        }
+    }
+
+    /**
+     * 카운터 사용 가능 여부 (지역 목록 적재 및 카운터 재계산 완료)
+     */
+    public boolean isReady() {
+        return regions != null && counted;
+    }
+
+    /**
+     * 요청건 변경 반영 (커밋 후)
+     *
+     * @param event 요청건 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRequestChanged(RequestChangeEvent event) {
+        try {
+            if (event.isOpen()) {
+                MapVO row = mapMapper.selectOpenRequestRegion(event.getSeq());
+                if (row != null) {
+                    open(event.getSeq(), row);
+                }
+            } else {
+                close(event.getSeq());
+            }
+        } catch (Exception e) {
+            // 반영 실패 시 다음 재계산에서 보정됨
+            log.warn("[MAP] 지역별 요청건 카운터 반영 실패 - {}, 오류: {}", event, e.getMessage());
+        }
+    }
+
+    /**
+     * 화면 영역에 걸친 지역별 진행 중 요청건 수
+     *
+     * @param gubun 지역 레벨 (admi, cty, mega)
+     * @param minx 최소 경도
+     * @param miny 최소 위도
+     * @param maxx 최대 경도
+     * @param maxy 최대 위도
+     * @return 건수가 있는 지역 (cd, nm, centerX, centerY, lng, lat, cnt - requestMap admi/cty/mega 결과와 동일)
+     */
+    public List<MapVO> counts(String gubun, double minx, double miny, double maxx, double maxy) {
+        List<MapVO> candidates = new ArrayList<>();
+        for (MapVO region : regions.getOrDefault(gubun, List.of())) {
+            if (region.getMinx() <= maxx && region.getMaxx() >= minx
+                    && region.getMiny() <= maxy && region.getMaxy() >= miny) {
+                candidates.add(region);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Object> fields = new ArrayList<>(candidates.size());
+        candidates.forEach(region -> fields.add(region.getCd()));
+        List<Object> values = stringRedisTemplate.opsForHash().multiGet(countKey(gubun), fields);
+
+        List<MapVO> result = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            Object value = values == null ? null : values.get(i);
+            long cnt = value == null ? 0 : Long.parseLong(value.toString());
+            if (cnt > 0) {
+                MapVO region = candidates.get(i);
+                result.add(MapVO.builder()
+                        .cd(region.getCd())
+                        .nm(region.getNm())
+                        .centerX(region.getCenterX())
+                        .centerY(region.getCenterY())
+                        .lng(region.getCenterX())
+                        .lat(region.getCenterY())
+                        .cnt(cnt)
+                        .build());
+            }
+        }
+        return result;
+    }
+
+    // ==================== 내부 메서드 ====================
+
+    private void loadRegions() {
+        Map<String, List<MapVO>> loaded = new HashMap<>();
+        for (String level : LEVELS) {
+            loaded.put(level, List.copyOf(mapMapper.selectRegionEnvelopes(level)));
+        }
+        this.regions = loaded;
+    }
+
+    /**
+     * DB 기준 카운터 전체 재계산 (한 노드만 수행, 키 교체는 MULTI로 원자 처리)
+     *
+     * <p>재계산 표시 키가 있는 동안 모든 노드의 증감이 seq를 기록하고, 교체 후 기록된 seq를 DB 현재 상태로
+     * 다시 반영하여 교체가 덮어쓴 증감을 복구합니다.</p>
+     */
+    void rebuild() {
+        Duration lockTtl = Duration.ofMillis(Math.max(reconcileIntervalMs / 2, 1_000));
+        Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(lockKey, "1", lockTtl);
+        if (!Boolean.TRUE.equals(acquired)) {
+            // 다른 노드가 재계산 중이거나 이번 주기에 이미 재계산함
+            counted = Boolean.TRUE.equals(stringRedisTemplate.hasKey(builtKey));
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        stringRedisTemplate.delete(journalKey);
+        stringRedisTemplate.opsForValue().set(rebuildingKey, "1", lockTtl);
+
+        Map<String, String> seqCodes = new HashMap<>();
+        List<Map<String, String>> counts = new ArrayList<>();
+        LEVELS.forEach(level -> counts.add(new HashMap<>()));
+
+        for (MapVO row : mapMapper.selectOpenRequestRegions()) {
+            seqCodes.put(String.valueOf(row.getSeq()), codes(row));
+            String[] codes = { row.getAdmiCd(), row.getCtyCd(), row.getMegaCd() };
+            for (int i = 0; i < codes.length; i++) {
+                if (codes[i] != null) {
+                    counts.get(i).merge(codes[i], "1", (a, b) -> String.valueOf(Long.parseLong(a) + 1));
+                }
+            }
+        }
+
+        stringRedisTemplate.execute(new SessionCallback<List<Object>>() {
+            @Override
+            @SuppressWarnings({ "unchecked", "rawtypes" })
+            public List<Object> execute(RedisOperations operations) throws DataAccessException {
+                operations.multi();
+                replaceHash(operations, regionKey, seqCodes);
+                for (int i = 0; i < LEVELS.size(); i++) {
+                    replaceHash(operations, countKey(LEVELS.get(i)), counts.get(i));
+                }
+                operations.opsForValue().set(builtKey, String.valueOf(System.currentTimeMillis()));
+                return operations.exec();
+            }
+        });
+
+        // 표시 키 삭제 후의 증감은 교체된 카운터에 바로 반영되므로, 그 전까지 기록된 seq만 다시 반영
+        stringRedisTemplate.delete(rebuildingKey);
+        int replayed = replayJournal();
+        counted = true;
+
+        log.info("[MAP] 지역별 요청건 카운터 재계산 완료 - 요청건: {}, 행정동: {}, 시군구: {}, 광역시도: {}, 재반영: {}, 소요시간: {}ms",
+                seqCodes.size(), counts.get(0).size(), counts.get(1).size(), counts.get(2).size(),
+                replayed, System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 재계산 중 기록된 seq를 DB 현재 상태로 다시 반영 (진행 중이면 추가, 아니면 제거 - seq별 멱등)
+     *
+     * @return 다시 반영한 seq 수
+     */
+    private int replayJournal() {
+        Set<String> seqs = stringRedisTemplate.opsForSet().members(journalKey);
+        stringRedisTemplate.delete(journalKey);
+        if (seqs == null) {
+            return 0;
+        }
+
+        for (String seq : seqs) {
+            long value = Long.parseLong(seq);
+            MapVO row = mapMapper.selectOpenRequestRegion(value);
+            if (row != null) {
+                open(value, row);
+            } else {
+                close(value);
+            }
+        }
+        return seqs.size();
+    }
+
+    private void open(long seq, MapVO row) {
+        stringRedisTemplate.execute(OPEN_SCRIPT, scriptKeys, String.valueOf(seq), codes(row));
+    }
+
+    private void close(long seq) {
+        stringRedisTemplate.execute(CLOSE_SCRIPT, scriptKeys, String.valueOf(seq));
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static void replaceHash(RedisOperations operations, String key, Map<String, String> values) {
+        operations.delete(key);
+        if (!values.isEmpty()) {
+            operations.opsForHash().putAll(key, values);
+        }
+    }
+
+    /**
+     * 지역 코드 기록 값 (admi,cty,mega 순, 없는 레벨은 빈 값)
+     */
+    private static String codes(MapVO row) {
+        return String.join(",", Arrays.asList(
+                nullToEmpty(row.getAdmiCd()), nullToEmpty(row.getCtyCd()), nullToEmpty(row.getMegaCd())));
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private String countKey(String level) {
+        return keyPrefix + "count:" + level;
+    }
+}
@@ -2,6 +2,7 @@ package com.zinidata.domain.requests.mapper;
 
 import com.zinidata.domain.requests.vo.MapVO;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
 
@@ -28,5 +29,43 @@ public interface MapMapper {
      * 요청 맵 조회 (지역 단위 요청건 목록)
      */
     List<MapVO> requestMapAdmi(MapVO mapVO);
+
+    /**
+     * 진행 중 요청건 좌표 전체 조회 (클러스터 인덱스 적재용)
+     *
+     * @return seq, serviceGb, installNm, installAddr, payAmt, status, crtDt, lng, lat
+     */
+    List<MapVO> selectOpenRequestPoints();
+
+    /**
+     * 진행 중 요청건 좌표 단건 조회 (요청 인덱스 변경 반영용)
+     *
+     * @param seq 요청 번호
+     * @return 요청건 좌표 (진행 중이 아니거나 좌표가 없으면 null)
+     */
+    MapVO selectOpenRequestPoint(@Param("seq") long seq);
+
+    /**
+     * 진행 중 요청건의 소속 지역 코드 전체 조회 (지역별 카운터 재계산용)
+     *
+     * @return seq, admiCd, ctyCd, megaCd
+     */
+    List<MapVO> selectOpenRequestRegions();
+
+    /**
+     * 진행 중 요청건의 소속 지역 코드 단건 조회 (지역별 카운터 증가용)
+     *
+     * @param seq 요청 번호
+     * @return seq, admiCd, ctyCd, megaCd (진행 중이 아니면 null)
+     */
+    MapVO selectOpenRequestRegion(@Param("seq") long seq);
+
+    /**
+     * 지역 목록 조회 (코드, 명칭, 중심 좌표, 외접 사각형)
+     *
+     * @param gubun 지역 레벨 (admi, cty, mega)
+     * @return cd, nm, centerX, centerY, minx, miny, maxx, maxy
+     */
+    List<MapVO> selectRegionEnvelopes(@Param("gubun") String gubun);
 }
 
@@ -1,12 +1,17 @@
 package com.zinidata.domain.requests.service;
 
-import com.zinidata.common.util.AesCryptoUtil;
+import com.zinidata.common.util.SeqIdCodec;
+import com.zinidata.domain.requests.index.RequestClusterIndex;
+import com.zinidata.domain.requests.index.RequestPoint;
+import com.zinidata.domain.requests.index.RequestRegionCounter;
 import com.zinidata.domain.requests.mapper.MapMapper;
 import com.zinidata.domain.requests.vo.MapVO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -24,7 +29,15 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class MapService {
     
+    /** cluster 구분 시 목록(list)으로 내려주는 최대 요청건 수 (화면 중심에서 가까운 순) */
+    private static final int MAX_CLUSTER_LIST = 300;
+
+    /** ST_DistanceSphere와 동일한 지구 반지름 (m) */
+    private static final double EARTH_RADIUS = 6370986.0;
+    
     private final MapMapper mapMapper;
+    private final RequestClusterIndex requestClusterIndex;
+    private final RequestRegionCounter requestRegionCounter;
     
     /**
      * 요청 맵 조회
@@ -39,9 +52,9 @@ public class MapService {
         try {
             // 구분 검증
             if (mapVO.getGubun() == null || (!mapVO.getGubun().equals("block") && !mapVO.getGubun().equals("admi") && 
-                    !mapVO.getGubun().equals("cty") && !mapVO.getGubun().equals("mega"))) {
+                    !mapVO.getGubun().equals("cty") && !mapVO.getGubun().equals("mega") && !mapVO.getGubun().equals("cluster"))) {
                 log.warn("[MAP] 잘못된 구분 값: {}", mapVO.getGubun());
-                throw new IllegalArgumentException("구분 값은 block, admi, cty, mega 중 하나여야 합니다.");
+                throw new IllegalArgumentException("구분 값은 block, admi, cty, mega, cluster 중 하나여야 합니다.");
             }
             
             // 좌표 검증
@@ -51,6 +64,27 @@ public class MapService {
                 throw new IllegalArgumentException("좌표 값은 필수입니다.");
             }
             
+            if (mapVO.getGubun().equals("cluster")) {
+                if (mapVO.getZoom() == null) {
+                    log.warn("[MAP] 줌 레벨 값이 없습니다.");
+                    throw new IllegalArgumentException("cluster 구분은 줌 레벨(zoom) 값이 필수입니다.");
+                }
+                if (requestClusterIndex.isReady()) {
+                    return getClusterMap(mapVO);
+                }
+                // 인덱스 적재 전에는 block 조회로 대체 (full/clusterId 없는 응답 - 화면에서 개별 마커로 표시)
+                log.warn("[MAP] 요청 클러스터 인덱스 적재 전 - block 조회로 대체합니다.");
+                mapVO.setGubun("block");
+            }
+            
+            if (mapVO.getGubun().equals("block") && requestClusterIndex.isReady()) {
+                return getBlockMap(mapVO);
+            }
+            
+            if (!mapVO.getGubun().equals("block") && requestRegionCounter.isReady() && requestClusterIndex.isReady()) {
+                return getRegionCountMap(mapVO);
+            }
+            
             List<MapVO> result = mapMapper.requestMap(mapVO);
             List<MapVO> list = null;
             if(!mapVO.getGubun().equals("block")){
@@ -58,13 +92,13 @@ public class MapService {
 
                 for(MapVO vo : list){
                     if (vo.getSeq() != null) {
-                        vo.setEncryptedSeq(AesCryptoUtil.encrypt(String.valueOf(vo.getSeq())));
+                        vo.setEncryptedSeq(SeqIdCodec.encode(vo.getSeq()));
                     }
                 }
             }else{
                 for(MapVO vo : result){
                     if (vo.getSeq() != null) {
-                        vo.setEncryptedSeq(AesCryptoUtil.encrypt(String.valueOf(vo.getSeq())));
+                        vo.setEncryptedSeq(SeqIdCodec.encode(vo.getSeq()));
                     }
                 }
             }
@@ -78,10 +112,127 @@ public class MapService {
             log.info("[MAP] 요청 맵 조회 완료 - 조회 건수: {}", result != null ? result.size() : 0);
             return map;
             
+        } catch (IllegalArgumentException e) {
+            throw e;
         } catch (Exception e) {
             log.error("[MAP] 요청 맵 조회 중 오류 발생", e);
             throw new RuntimeException("요청 맵 조회 중 오류가 발생했습니다.", e);
         }
     }
+
+    /**
+     * 클러스터 맵 조회 (인메모리 격자 클러스터)
+     *
+     * <ul>
+     *   <li>result: 클러스터 목록 (clusterId, lng, lat, cnt, 1건이면 요청건 정보 포함)</li>
+     *   <li>count: 영역 내 전체 요청건 수</li>
+     *   <li>list: 영역 내 요청건 중 화면 중심에서 가까운 {@value #MAX_CLUSTER_LIST}건 (distance 포함)</li>
+     *   <li>version, zoom: 다음 조회 시 sinceVersion, prevZoom으로 전달하면 변경분만 반환</li>
+     *   <li>full: false면 result는 추가·변경된 클러스터만, removed는 제거할 clusterId 목록</li>
+     * </ul>
+     */
+    private Map<String, Object> getClusterMap(MapVO mapVO) {
+        RequestClusterIndex.Viewport viewport = requestClusterIndex.query(mapVO);
+
+        List<MapVO> list = toListItems(mapVO, viewport.getPoints());
+        list.sort(Comparator.comparingLong(MapVO::getDistance));
+        if (list.size() > MAX_CLUSTER_LIST) {
+            list = new ArrayList<>(list.subList(0, MAX_CLUSTER_LIST));
+        }
+
+        for (MapVO vo : list) {
+            vo.setEncryptedSeq(SeqIdCodec.encode(vo.getSeq()));
+        }
+        for (MapVO vo : viewport.getClusters()) {
+            if (vo.getSeq() != null) {
+                vo.setEncryptedSeq(SeqIdCodec.encode(vo.getSeq()));
+            }
+        }
+
+        Map<String, Object> map = new HashMap<>();
+        map.put("result", viewport.getClusters());
+        map.put("count", viewport.getPoints().size());
+        map.put("list", list);
+        map.put("zoom", viewport.getZoom());
+        map.put("version", viewport.getVersion());
+        map.put("full", viewport.isFull());
+        map.put("removed", viewport.getRemoved());
+
+        log.info("[MAP] 요청 클러스터 맵 조회 완료 - 줌: {}, 전체: {}, 클러스터: {}건, 제거: {}건, 요청건: {}건",
+                viewport.getZoom(), viewport.isFull(), viewport.getClusters().size(), viewport.getRemoved().size(),
+                viewport.getPoints().size());
+        return map;
+    }
+
+    /**
+     * block 맵 조회 (인메모리 요청 인덱스, requestMap block 쿼리와 동일한 결과 구성)
+     */
+    private Map<String, Object> getBlockMap(MapVO mapVO) {
+        List<MapVO> result = toListItems(mapVO, requestClusterIndex.points(
+                mapVO.getMinx(), mapVO.getMiny(), mapVO.getMaxx(), mapVO.getMaxy()));
+        for (MapVO vo : result) {
+            vo.setEncryptedSeq(SeqIdCodec.encode(vo.getSeq()));
+        }
+
+        Map<String, Object> map = new HashMap<>();
+        map.put("result", result);
+        map.put("count", result.size());
+        map.put("list", null);
+
+        log.info("[MAP] 요청 맵 조회 완료 (인메모리) - 조회 건수: {}", result.size());
+        return map;
+    }
+
+    /**
+     * 지역 단위 맵 조회 (지역별 카운터 + 인메모리 요청 인덱스)
+     *
+     * <ul>
+     *   <li>result: 화면에 걸친 지역별 진행 중 요청건 수 (Redis 카운터)</li>
+     *   <li>list: 화면 영역 내 요청건 (인메모리 인덱스, distance 포함)</li>
+     * </ul>
+     */
+    private Map<String, Object> getRegionCountMap(MapVO mapVO) {
+        List<MapVO> result = requestRegionCounter.counts(mapVO.getGubun(),
+                mapVO.getMinx(), mapVO.getMiny(), mapVO.getMaxx(), mapVO.getMaxy());
+        List<MapVO> list = toListItems(mapVO, requestClusterIndex.points(
+                mapVO.getMinx(), mapVO.getMiny(), mapVO.getMaxx(), mapVO.getMaxy()));
+        for (MapVO vo : list) {
+            vo.setEncryptedSeq(SeqIdCodec.encode(vo.getSeq()));
+        }
+
+        Map<String, Object> map = new HashMap<>();
+        map.put("result", result);
+        map.put("count", result.size());
+        map.put("list", list);
+
+        log.info("[MAP] 요청 맵 조회 완료 (지역 카운터) - 지역: {}건, 요청건: {}건", result.size(), list.size());
+        return map;
+    }
+
+    /**
+     * 요청건 → 응답 VO (화면 중심까지의 거리 포함)
+     */
+    private static List<MapVO> toListItems(MapVO mapVO, List<RequestPoint> points) {
+        double centerX = (mapVO.getMinx() + mapVO.getMaxx()) / 2;
+        double centerY = (mapVO.getMiny() + mapVO.getMaxy()) / 2;
+        List<MapVO> list = new ArrayList<>(points.size());
+        for (RequestPoint point : points) {
+            MapVO vo = point.toMapVO();
+            vo.setDistance(Math.round(distance(centerX, centerY, point.getLng(), point.getLat())));
+            list.add(vo);
+        }
+        return list;
+    }
+
+    /**
+     * 구면 거리 (m, ST_DistanceSphere와 동일한 하버사인 공식)
+     */
+    private static double distance(double lng1, double lat1, double lng2, double lat2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS * Math.asin(Math.sqrt(a));
+    }
 }
 
@@ -3,10 +3,12 @@ package com.zinidata.domain.requests.service;
 import com.zinidata.common.enums.Status;
 import com.zinidata.common.exception.ValidationException;
 import com.zinidata.common.util.AesCryptoUtil;
+import com.zinidata.common.util.SeqIdCodec;
 import com.zinidata.common.util.ImageResizeUtil;
 import com.zinidata.domain.common.auth.mapper.AuthMapper;
 import com.zinidata.domain.common.auth.vo.MemberVO;
 import com.zinidata.domain.common.sms.service.UnifiedSmsService;
+import com.zinidata.domain.requests.index.RequestChangeEvent;
 import com.zinidata.domain.requests.mapper.RequestMapper;
 import com.zinidata.domain.requests.vo.RequestFileVO;
 import com.zinidata.domain.requests.vo.RequestVO;
@@ -14,6 +16,7 @@ import com.zinidata.domain.requests.vo.RequestVO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -48,6 +51,7 @@ public class RequestService {
     private final RequestMapper requestMapper;
     private final UnifiedSmsService unifiedSmsService;
     private final AuthMapper authMapper;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Value("${app.code:NBZM}")
     private String appCode;
@@ -83,7 +87,7 @@ public class RequestService {
             
             // seq 설정
             requestVo.setSeq(seq);
-            requestVo.setEncryptedSeq(AesCryptoUtil.encrypt(String.valueOf(seq)));
+            requestVo.setEncryptedSeq(SeqIdCodec.encode(seq));
             requestVo.setCrtId(requestVo.getMemNo());
             requestVo.setCrtName(AesCryptoUtil.encrypt(requestVo.getCrtName()));
 
@@ -112,6 +116,8 @@ public class RequestService {
             int result = requestMapper.insertRequest(requestVo);
             
             if (result > 0) {
+                // 요청 인덱스 반영 (커밋 후)
+                eventPublisher.publishEvent(RequestChangeEvent.opened(seq));
                 if(requestVo.getServiceGb().equals("0")) {
                     log.info("[REQUEST] 신규 설치 요청 등록 성공 - requestNo: {}", requestVo.getRequestNo());
                     requestVo.setSuccess(true);
@@ -311,7 +317,7 @@ public class RequestService {
                 }
                 // seq 암호화하여 응답에 포함
                 if (requestVo.getSeq() != null) {
-                    requestVo.setEncryptedSeq(AesCryptoUtil.encrypt(String.valueOf(requestVo.getSeq())));
+                    requestVo.setEncryptedSeq(SeqIdCodec.encode(requestVo.getSeq()));
                 }
             }
             
@@ -394,11 +400,11 @@ public class RequestService {
         
         try {
             // 요청 정보 조회
-            Long decryptedSeq = Long.parseLong(AesCryptoUtil.decrypt(requestVO.getEncryptedSeq()));
+            long decryptedSeq = SeqIdCodec.decode(requestVO.getEncryptedSeq());
             RequestVO requestDetail = requestMapper.selectRequestHistoryDetail(decryptedSeq);
             
             if (requestDetail == null) {
-                log.warn("[REQUEST] 요청 상세 내역이 존재하지 않습니다 - seq: {}", AesCryptoUtil.decrypt(requestVO.getEncryptedSeq()));
+                log.warn("[REQUEST] 요청 상세 내역이 존재하지 않습니다 - seq: {}", decryptedSeq);
                 throw new RuntimeException("요청 내역을 찾을 수 없습니다.");
             }
             
@@ -411,10 +417,10 @@ public class RequestService {
             requestDetail.setAccountNumber(requestDetail.getAccountNumber() != null ? AesCryptoUtil.decrypt(requestDetail.getAccountNumber()) : null);
             
             // 파일 정보 조회
-            List<RequestFileVO> fileList = requestMapper.selectRequestFilesBySeq(Long.parseLong(AesCryptoUtil.decrypt(requestVO.getEncryptedSeq())), requestDetail.getExecSeq());
+            List<RequestFileVO> fileList = requestMapper.selectRequestFilesBySeq(decryptedSeq, requestDetail.getExecSeq());
             
             // seq 암호화하여 응답에 포함
-            String encryptedSeq = AesCryptoUtil.encrypt(String.valueOf(Long.parseLong(AesCryptoUtil.decrypt(requestVO.getEncryptedSeq()))));
+            String encryptedSeq = SeqIdCodec.encode(decryptedSeq);
             requestDetail.setEncryptedSeq(encryptedSeq);
             
             // 결과 구성
@@ -428,7 +434,7 @@ public class RequestService {
             return result;
             
         } catch (Exception e) {
-            log.error("[REQUEST] 요청 상세 내역 조회 중 오류 발생 - seq: {}", AesCryptoUtil.decrypt(requestVO.getEncryptedSeq()), e);
+            log.error("[REQUEST] 요청 상세 내역 조회 중 오류 발생 - encryptedSeq: {}", requestVO.getEncryptedSeq(), e);
             throw new RuntimeException("요청 상세 내역 조회 중 오류가 발생했습니다.", e);
         }
     }
@@ -514,6 +520,8 @@ public class RequestService {
                     requestVO.setSuccess(false);
                     throw new RuntimeException("수행 내역 삭제에 실패했습니다.");
                 }
+                // 요청 상태로 돌아왔으므로 요청 인덱스에 다시 추가 (커밋 후)
+                eventPublisher.publishEvent(RequestChangeEvent.opened(requestVO.getSeq()));
             }else{
                 // 요청 삭제 처리
                 result = requestMapper.cancelRequest(requestVO);
@@ -522,6 +530,8 @@ public class RequestService {
                     requestVO.setSuccess(false);
                     throw new RuntimeException("요청 삭제에 실패했습니다.");
                 }
+                // 요청 인덱스에서 제거 (커밋 후)
+                eventPublisher.publishEvent(RequestChangeEvent.closed(requestVO.getSeq()));
             }
             
             if (result > 0) {
@@ -589,7 +599,7 @@ public class RequestService {
 
                 // seq 암호화하여 응답에 포함
                 if (requestVo.getSeq() != null) {
-                    String encryptedSeq = AesCryptoUtil.encrypt(String.valueOf(requestVo.getSeq()));
+                    String encryptedSeq = SeqIdCodec.encode(requestVo.getSeq());
                     requestVo.setEncryptedSeq(encryptedSeq);
                 }
             }
@@ -656,6 +666,8 @@ public class RequestService {
                 requestVO.setSuccess(false);
                 throw new RuntimeException("요청 상태 변경에 실패했습니다.");
             }
+            // 요청 인덱스에서 제거 (커밋 후)
+            eventPublisher.publishEvent(RequestChangeEvent.closed(requestVO.getSeq()));
             
             // 2. execute 등록
             Long execSeq = requestMapper.getRequestSeq();
@@ -792,7 +804,7 @@ public class RequestService {
             if (requestVO.getAccountHolder() != null) {
                 requestVO.setAccountHolder(AesCryptoUtil.decrypt(requestVO.getAccountHolder()));
             }
-            requestVO.setEncryptedExecSeq(AesCryptoUtil.encrypt(String.valueOf(requestVO.getExecSeq())));
+            requestVO.setEncryptedExecSeq(SeqIdCodec.encode(requestVO.getExecSeq()));
 
             requestVO.setSuccess(true);
             log.info("[REQUEST] 완료 증빙 등록 완료 - seq: {}, execSeq: {}", requestVO.getSeq(), requestVO.getExecSeq());
@@ -868,6 +880,8 @@ public class RequestService {
                 requestVO.setSuccess(false);
                 throw new RuntimeException("요청 상태 변경에 실패했습니다.");
             }
+            // 요청 인덱스에서 제거 (커밋 후)
+            eventPublisher.publishEvent(RequestChangeEvent.closed(requestVO.getSeq()));
             
             // 완료 처리된 요청 정보 조회
             RequestVO doneRequest = requestMapper.selectRequestHistoryDetail(requestVO.getSeq());
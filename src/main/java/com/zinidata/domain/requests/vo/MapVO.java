@@ -11,7 +11,7 @@ import java.time.LocalDateTime;
  * 맵 조회 결과 VO
  * 
  * <p>요청 맵 조회 시 사용되는 VO입니다.</p>
- * <p>block, admi, cty, mega 구분에 따라 다른 데이터를 반환합니다.</p>
+ * <p>block, admi, cty, mega, cluster 구분에 따라 다른 데이터를 반환합니다.</p>
  * 
  * @author ZiniData 개발팀
  * @since 1.0
@@ -24,9 +24,24 @@ public class MapVO {
     
     // ==================== 요청 파라미터 ====================
     
-    /** 구분 (block, admi, cty, mega) */
+    /** 구분 (block, admi, cty, mega, cluster) */
     private String gubun;
     
+    /** 지도 줌 레벨 (cluster 구분 시 필수) */
+    private Integer zoom;
+    
+    /** 직전 응답의 데이터 버전 (cluster 변경분 조회, 없으면 전체 조회) */
+    private String sinceVersion;
+    
+    /** 직전 응답의 격자 줌 레벨 */
+    private Integer prevZoom;
+    
+    /** 직전 조회 영역 */
+    private Double prevMinx;
+    private Double prevMiny;
+    private Double prevMaxx;
+    private Double prevMaxy;
+    
     /** 최소 X 좌표 */
     private Double minx;
     
@@ -60,6 +75,9 @@ public class MapVO {
     /** 개수 */
     private Long cnt;
     
+    /** 클러스터 ID (cluster 구분 시 격자 키, 변경분 반영용) */
+    private String clusterId;
+    
     // ==================== block 구분 시 사용 (tbnvps_service_request 전체 컬럼) ====================
     
     /** 시퀀스 번호 */
@@ -88,4 +106,15 @@ public class MapVO {
 
     private long distance;
     
+    // ==================== 지역별 요청건 카운터 집계용 ====================
+    
+    /** 요청건이 속한 행정동 코드 */
+    private String admiCd;
+    
+    /** 요청건이 속한 시군구 코드 */
+    private String ctyCd;
+    
+    /** 요청건이 속한 광역시도 코드 */
+    private String megaCd;
+    
 }
@@ -442,7 +442,7 @@ $(document).ready(function() {
                 this.clearCurrentPolygon();
                 
                 // GeoJSON 파싱
-                const feature = JSON.parse(admiData.feature);
+                const feature = typeof admiData.feature === 'string' ? JSON.parse(admiData.feature) : admiData.feature;
                 const geometry = feature.geometry;
                 
                 if (geometry.type === 'MultiPolygon') {
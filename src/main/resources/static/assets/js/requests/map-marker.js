@@ -1,5 +1,15 @@
 let requestList;
 
+// 격자 클러스터 변경분 조회 상태 (직전 응답 버전/줌/영역과 현재 표시 중인 클러스터)
+const clusterState = {
+    version: null,
+    zoom: null,
+    bounds: null,
+    items: new Map(),
+    inFlight: false,
+    queued: false
+};
+
 $(function(){
 });
 
@@ -9,14 +19,37 @@ const callRequestMapApi = () => {
 
      // 현재 지도 경계 가져오기
      const bounds = Zinidata.map.map.getBounds();
+     // 상세(block) 줌에서는 서버 격자 클러스터 사용
+     const zoomGubun = Zinidata.map.getZoomGubun();
      const param = {
          minx: bounds._min.x,
          miny: bounds._min.y,
          maxx: bounds._max.x,
          maxy: bounds._max.y,
-         gubun: Zinidata.map.getZoomGubun()
+         gubun: zoomGubun === "block" ? "cluster" : zoomGubun,
+         zoom: Zinidata.map.map.getZoom()
      };
 
+    if(zoomGubun === "block"){
+        // 응답 순서가 바뀌면 변경분이 어긋나므로 한 번에 하나만 요청하고, 그 사이 이동은 마지막 한 번만 다시 요청
+        if(clusterState.inFlight){
+            clusterState.queued = true;
+            return;
+        }
+        if(clusterState.version){
+            param.sinceVersion = clusterState.version;
+            param.prevZoom = clusterState.zoom;
+            param.prevMinx = clusterState.bounds.minx;
+            param.prevMiny = clusterState.bounds.miny;
+            param.prevMaxx = clusterState.bounds.maxx;
+            param.prevMaxy = clusterState.bounds.maxy;
+        }
+        clusterState.inFlight = true;
+    }else{
+        clusterState.version = null;
+        clusterState.items.clear();
+    }
+
     Zinidata.api({
         url: '/api/requests/map',
         method: 'POST',
@@ -24,23 +57,66 @@ const callRequestMapApi = () => {
         success: function(response) {
             console.log('[MAP] 지도 요청 탐색 호출 성공:', response);
 
-            if(Zinidata.map.getZoomGubun() === "block"){
-                requestMarker(response.data.result);
+            if(zoomGubun === "block" && !isClusterResponse(response.data)){
+                // 서버 클러스터 인덱스 적재 전 block 조회 대체 응답: 개별 마커로 표시하고 다음 조회는 전체 조회
+                clusterState.version = null;
+                clusterState.items.clear();
+                requestMarker(response.data.result || []);
+                requestList = response.data.result || [];
+            }else if(zoomGubun === "block"){
+                applyClusterResponse(response.data, param);
+                requestClusterMarker(Array.from(clusterState.items.values()));
+                requestList = response.data.list || [];
             }else{
                 requestAdmiMarker(response.data.result);
-            }
 
-            // 전역 변수에 넣기. 정렬을 위해
-            requestList = response.data.list;
-            if(commonUtil.isEmpty(response.data.list)){
-                requestList = response.data.result;
+                // 전역 변수에 넣기. 정렬을 위해
+                requestList = response.data.list;
+                if(commonUtil.isEmpty(response.data.list)){
+                    requestList = response.data.result;
+                }
             }
             // 목록 출력
             listRender(requestList);
+        },
+        error: function() {
+            // 실패 시 다음 조회는 전체 조회
+            clusterState.version = null;
+        }
+    }).always(function(){
+        if(zoomGubun !== "block"){
+            return;
+        }
+        clusterState.inFlight = false;
+        if(clusterState.queued){
+            clusterState.queued = false;
+            callRequestMapApi();
         }
     });
 }
 
+// 격자 클러스터 응답 여부 (클러스터 응답은 항상 full 값을 포함, block 대체 응답은 미포함)
+const isClusterResponse = (data) => {
+    return data != null && typeof data.full === "boolean";
+}
+
+// 격자 클러스터 응답 반영 (전체 응답이면 교체, 변경분이면 추가·변경·제거만 반영)
+const applyClusterResponse = (data, param) => {
+    if(data.full !== false){
+        clusterState.items.clear();
+    }
+    (data.removed || []).forEach(function(id){
+        clusterState.items.delete(id);
+    });
+    (data.result || []).forEach(function(val){
+        clusterState.items.set(val.clusterId, val);
+    });
+
+    clusterState.version = data.version || null;
+    clusterState.zoom = data.zoom;
+    clusterState.bounds = { minx: param.minx, miny: param.miny, maxx: param.maxx, maxy: param.maxy };
+}
+
 // 상세 마커 정보
 const requestMarker = (data) => {
     console.log('[MAP] 지도 요청 block 탐색 호출 성공:', data);
@@ -70,6 +146,48 @@ const requestMarker = (data) => {
     });
 }
 
+// 격자 클러스터 마커 정보 (1건은 상세 마커, 2건 이상은 건수 마커)
+const requestClusterMarker = (data) => {
+    console.log('[MAP] 지도 요청 cluster 탐색 호출 성공:', data);
+
+    let contentHtml = [];
+
+    data.forEach(function(val){
+        let html = '';
+        if(val.cnt > 1){
+            html += '<div class="clusteringMarker" data-lng="' + val.lng+'" data-lat="' + val.lat+ '">';
+            html += '<p class="count">' +val.cnt+ '</p>';
+            html += '</div>';
+        }else{
+            let classGb = "installMarker";
+            let nmGb = "신규";
+            if(val.serviceGb === "1"){
+                classGb = "asMarker";
+                nmGb = "A/S"
+            }
+            html += '<div class="mapMarker ' +classGb+ '" data-lng="' + val.lng+'" data-lat="' + val.lat+ '" data-seq="' + val.encryptedSeq+ '">';
+            html += '<p><span>' +nmGb+ '</span>' +val.nm+ '</p>';
+            html += '</div>';
+        }
+
+        contentHtml.push(html);
+    });
+
+    Zinidata.map.markerList(data, contentHtml);
+
+    $('.mapMarker').on('pointerup',function(){
+        $('.mapMarker').removeClass('active');
+        $(this).toggleClass('active');
+        requestDetail($(this).data('seq'));
+    });
+
+    $('.clusteringMarker').on('pointerup',function(){
+        let lng = $(this).data('lng');
+        let lat = $(this).data('lat');
+        mapMove(lng, lat, Zinidata.map.map.getZoom() + 2);
+    });
+}
+
 // 지역단위 클러스터링 마커 정보
 const requestAdmiMarker = (data) => {
     console.log('[MAP] 지도 요청 Admi 탐색 호출 성공:', data);
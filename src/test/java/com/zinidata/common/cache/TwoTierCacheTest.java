@@ -0,0 +1,128 @@
+package com.zinidata.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+/**
+ * 2단 캐시 무효화 테스트
+ *
+ * <p>조회 미스 후 적재는 메시지를 발행하지 않고, 삭제만 다른 노드의 L1을 지우는지 확인합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+class TwoTierCacheTest {
+
+    private static final String CHANNEL = "test:cache:invalidate";
+    private static final String KEY = "region:v1:admi:11010530";
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private RedisTemplate<String, byte[]> byteArrayRedisTemplate;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisConnectionFactory connectionFactory;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    private ValueOperations<String, byte[]> byteValueOperations;
+
+    private TwoTierCache cache;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(byteArrayRedisTemplate.opsForValue()).thenReturn(byteValueOperations);
+        cache = new TwoTierCache(redisTemplate, byteArrayRedisTemplate, stringRedisTemplate, connectionFactory,
+                "maximumSize=100", CHANNEL);
+    }
+
+    @Test
+    void put_fillsBothTiers_withoutPublishing() {
+        cache.put(KEY, "청운효자동", 30, TimeUnit.DAYS);
+        cache.put(KEY + ":bin", "사직동", new byte[] {1}, 30, TimeUnit.DAYS);
+
+        verify(valueOperations).set(KEY, "청운효자동", 30, TimeUnit.DAYS);
+        verify(byteValueOperations).set(eq(KEY + ":bin"), eq(new byte[] {1}), eq(30L), eq(TimeUnit.DAYS));
+        assertThat(cache.get(KEY)).isEqualTo("청운효자동");
+        verify(stringRedisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    void get_l2Hit_populatesL1_withoutPublishing() {
+        when(valueOperations.get(KEY)).thenReturn("청운효자동");
+
+        assertThat(cache.get(KEY)).isEqualTo("청운효자동");
+        assertThat(cache.get(KEY)).isEqualTo("청운효자동");
+
+        verify(valueOperations, times(1)).get(KEY);
+        verify(stringRedisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    void evict_deletesBothTiers_andPublishes() {
+        cache.put(KEY, "청운효자동", 30, TimeUnit.DAYS);
+
+        cache.evict(KEY);
+
+        verify(redisTemplate).delete(KEY);
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate).convertAndSend(eq(CHANNEL), payload.capture());
+        assertThat(payload.getValue()).endsWith("\nK\n" + KEY);
+        assertThat(cache.get(KEY)).isNull();
+    }
+
+    @Test
+    void onMessage_fromOtherNode_invalidatesL1() {
+        cache.put(KEY, "청운효자동", 30, TimeUnit.DAYS);
+
+        cache.onMessage(message("other-node\nK\n" + KEY), null);
+
+        when(valueOperations.get(KEY)).thenReturn("변경된 값");
+        assertThat(cache.get(KEY)).isEqualTo("변경된 값");
+    }
+
+    @Test
+    void onMessage_fromSelf_isIgnored() {
+        cache.put(KEY, "청운효자동", 30, TimeUnit.DAYS);
+        cache.evict(KEY);
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate).convertAndSend(eq(CHANNEL), payload.capture());
+
+        cache.put(KEY, "사직동", 30, TimeUnit.DAYS);
+        cache.onMessage(message(payload.getValue()), null);
+
+        assertThat(cache.get(KEY)).isEqualTo("사직동");
+        verify(valueOperations, never()).get(KEY);
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
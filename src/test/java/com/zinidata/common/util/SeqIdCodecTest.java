@@ -0,0 +1,60 @@
+package com.zinidata.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 요청 번호 토큰 인코딩/디코딩 왕복 테스트
+ */
+class SeqIdCodecTest {
+
+    @BeforeEach
+    void setUp() {
+        SeqIdCodec codec = new SeqIdCodec();
+        codec.setKey("seq-id-codec-test-key");
+        codec.setLegacyAes(false);
+    }
+
+    @Test
+    void encodeDecode_roundTrips() {
+        long[] seqs = {0L, 1L, 2L, 61L, 62L, 12_345L, 987_654_321L, Integer.MAX_VALUE, Long.MAX_VALUE};
+
+        for (long seq : seqs) {
+            String token = SeqIdCodec.encode(seq);
+
+            assertThat(token).hasSize(11).matches("[0-9A-Za-z]+");
+            assertThat(SeqIdCodec.decode(token)).isEqualTo(seq);
+        }
+    }
+
+    @Test
+    void encode_distinctSeqs_produceDistinctTokens() {
+        Set<String> tokens = new HashSet<>();
+        for (long seq = 1; seq <= 1_000; seq++) {
+            tokens.add(SeqIdCodec.encode(seq));
+        }
+
+        assertThat(tokens).hasSize(1_000);
+    }
+
+    @Test
+    void encode_nullSeq_returnsNull() {
+        assertThat(SeqIdCodec.encode((Long) null)).isNull();
+    }
+
+    @Test
+    void decode_malformedToken_throwsIllegalArgument() {
+        assertThatThrownBy(() -> SeqIdCodec.decode(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SeqIdCodec.decode("")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SeqIdCodec.decode("abc-def_ghi")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SeqIdCodec.decode("zzzzzzzzzzz")).isInstanceOf(IllegalArgumentException.class);
+        // 기존 AES 토큰 비허용 시 길이가 다른 토큰은 거부
+        assertThatThrownBy(() -> SeqIdCodec.decode("short")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
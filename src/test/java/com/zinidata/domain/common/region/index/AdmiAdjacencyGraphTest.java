@@ -0,0 +1,126 @@
+package com.zinidata.domain.common.region.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.zinidata.domain.common.region.mapper.RegionMapper;
+
+/**
+ * 행정동 인접 그래프 k-단계 탐색 테스트
+ *
+ * <pre>
+ * 11010530 → 11010540 → 11010560 → 11010570
+ *          → 11010550 → 11010560
+ * </pre>
+ */
+@ExtendWith(MockitoExtension.class)
+class AdmiAdjacencyGraphTest {
+
+    @Mock
+    private RegionMapper regionMapper;
+
+    private AdmiAdjacencyGraph graph;
+
+    @BeforeEach
+    void setUp() {
+        graph = new AdmiAdjacencyGraph(regionMapper);
+    }
+
+    @Test
+    void notLoaded_isNotReady() {
+        assertThat(graph.isReady()).isFalse();
+        assertThatThrownBy(() -> graph.neighborCodes("11010530", 1)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void neighborCodes_ordersByHopThenCode() {
+        load();
+
+        assertThat(graph.isReady()).isTrue();
+        assertThat(graph.neighborCodes("11010530", 1)).containsExactly("11010530", "11010540", "11010550");
+        assertThat(graph.neighborCodes("11010530", 2)).containsExactly("11010530", "11010540", "11010550", "11010560");
+        assertThat(graph.neighborCodes("11010530", 3))
+                .containsExactly("11010530", "11010540", "11010550", "11010560", "11010570");
+    }
+
+    @Test
+    void neighborCodes_followsEdgeDirection() {
+        load();
+
+        // 간선은 STD_ADMI_CD → TCH_ADMI_CD 방향만 따라감
+        assertThat(graph.neighborCodes("11010570", 3)).containsExactly("11010570");
+    }
+
+    @Test
+    void neighborCodes_unknownCode_returnsEmpty() {
+        load();
+
+        assertThat(graph.neighborCodes("99999999", 2)).isEmpty();
+        assertThat(graph.contains("99999999")).isFalse();
+    }
+
+    @Test
+    void neighborhood_recordsHopAndBase() {
+        load();
+
+        List<Map<String, Object>> result = graph.neighborhood("11010530", 2);
+
+        assertThat(result).extracting(m -> m.get("admiCd"))
+                .containsExactly("11010530", "11010540", "11010550", "11010560");
+        assertThat(result).extracting(m -> m.get("hop")).containsExactly(0, 1, 1, 2);
+        assertThat(result).extracting(m -> m.get("isBase")).containsExactly(true, false, false, false);
+        assertThat(result.get(0)).containsEntry("admiNm", "청운효자동").containsEntry("centerX", 126.97);
+        assertThat(result.get(1)).containsEntry("centerX", null);
+    }
+
+    @Test
+    void repeatedQueries_doNotShareState() {
+        load();
+
+        assertThat(graph.neighborhood("11010540", 1)).extracting(m -> m.get("hop")).containsExactly(0, 1);
+        assertThat(graph.neighborhood("11010530", 1)).extracting(m -> m.get("hop")).containsExactly(0, 1, 1);
+    }
+
+    private void load() {
+        when(regionMapper.selectAdmiGraphNodes()).thenReturn(List.of(
+                node("11010530", "청운효자동", 126.97),
+                node("11010540", "사직동", null),
+                node("11010550", "삼청동", 126.98),
+                node("11010560", "부암동", 126.96),
+                node("11010570", "평창동", 126.97)));
+        when(regionMapper.selectAdmiTouchEdges()).thenReturn(List.of(
+                edge("11010530", "11010550"),
+                edge("11010530", "11010540"),
+                edge("11010530", "11010540"),   // 중복 간선
+                edge("11010540", "11010560"),
+                edge("11010550", "11010560"),
+                edge("11010560", "11010570"),
+                edge("11010530", "99999999"))); // 노드에 없는 행정동
+        graph.prepare("test").run();
+    }
+
+    private static Map<String, Object> node(String admiCd, String admiNm, Double centerX) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("admiCd", admiCd);
+        row.put("admiNm", admiNm);
+        row.put("ctyCd", admiCd.substring(0, 5));
+        row.put("centerX", centerX);
+        row.put("centerY", centerX != null ? 37.58 : null);
+        return row;
+    }
+
+    private static Map<String, Object> edge(String stdAdmiCd, String tchAdmiCd) {
+        return Map.of("stdAdmiCd", stdAdmiCd, "tchAdmiCd", tchAdmiCd);
+    }
+}
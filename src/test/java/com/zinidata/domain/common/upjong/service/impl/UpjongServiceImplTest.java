@@ -0,0 +1,134 @@
+package com.zinidata.domain.common.upjong.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.zinidata.domain.common.upjong.index.UpjongCatalog;
+import com.zinidata.domain.common.upjong.index.UpjongExpandedStoreIndex;
+import com.zinidata.domain.common.upjong.index.UpjongStoreMatrix;
+import com.zinidata.domain.common.upjong.mapper.UpjongMapper;
+
+/**
+ * 업종 서비스 카탈로그 대체 경로 테스트
+ *
+ * <p>카탈로그 적재 전에는 예외 없이 UpjongMapper 조회로 응답하고,
+ * 적재 후에는 DB를 거치지 않고 카탈로그에서 응답하는지 확인합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+class UpjongServiceImplTest {
+
+    @Mock
+    private UpjongMapper upjongMapper;
+
+    @Mock
+    private UpjongCatalog upjongCatalog;
+
+    @Mock
+    private UpjongStoreMatrix upjongStoreMatrix;
+
+    @Mock
+    private UpjongExpandedStoreIndex upjongExpandedStoreIndex;
+
+    private UpjongServiceImpl upjongService;
+
+    @BeforeEach
+    void setUp() {
+        upjongService = new UpjongServiceImpl(upjongMapper, upjongCatalog, upjongStoreMatrix, upjongExpandedStoreIndex);
+    }
+
+    @Test
+    void getUpjongList_catalogNotReady_queriesDatabase() {
+        List<Map<String, Object>> rows = List.of(Map.of("upjong2Cd", "I21", "upjong2Nm", "음식점업"));
+        when(upjongCatalog.isReady()).thenReturn(false);
+        when(upjongMapper.selectUpjong2List("I")).thenReturn(rows);
+
+        assertThat(upjongService.getUpjongList("upjong2", "I")).isEqualTo(rows);
+        verify(upjongCatalog, never()).list(anyString(), anyString());
+    }
+
+    @Test
+    void getUpjongList_catalogReady_skipsDatabase() {
+        List<Map<String, Object>> rows = List.of(Map.of("upjong1Cd", "I", "upjong1Nm", "숙박 및 음식점업"));
+        when(upjongCatalog.isReady()).thenReturn(true);
+        when(upjongCatalog.list("upjong1", null)).thenReturn(rows);
+
+        assertThat(upjongService.getUpjongList("upjong1", null)).isEqualTo(rows);
+        verify(upjongMapper, never()).selectUpjong1List();
+    }
+
+    @Test
+    void getUpjongHierarchy_catalogNotReady_buildsFromDatabase() {
+        when(upjongCatalog.isReady()).thenReturn(false);
+        when(upjongMapper.selectUpjongHierarchyByCode("I21")).thenReturn(List.of(
+                hierarchyRow("I21", "음식점업", "I21001", "한식"),
+                hierarchyRow("I21", "음식점업", "I21002", "중식")));
+
+        Map<String, Object> result = upjongService.getUpjongHierarchy("I21");
+
+        assertThat(result).containsEntry("filterType", "UPJONG2")
+                .containsEntry("filterCode", "I21")
+                .containsEntry("resultCount", 2);
+        @SuppressWarnings("unchecked")
+        Map<String, Map<String, List<Map<String, Object>>>> hierarchy =
+                (Map<String, Map<String, List<Map<String, Object>>>>) result.get("hierarchy");
+        assertThat(hierarchy.get("숙박 및 음식점업").get("음식점업")).hasSize(2);
+    }
+
+    @Test
+    void searchUpjongByName_catalogNotReady_highlightsDatabaseMatches() {
+        when(upjongCatalog.isReady()).thenReturn(false);
+        when(upjongMapper.selectUpjongByName("한식")).thenReturn(List.of(
+                Map.of("upjong2Cd", "I21", "upjong3Cd", "I21001")));
+        when(upjongMapper.selectUpjongHierarchyByCodes(List.of("I21"))).thenReturn(List.of(
+                hierarchyRow("I21", "음식점업", "I21001", "한식"),
+                hierarchyRow("I21", "음식점업", "I21002", "중식")));
+
+        Map<String, Object> result = upjongService.searchUpjongByName(" 한식 ");
+
+        assertThat(result).containsEntry("keyword", "한식")
+                .containsEntry("totalCount", 2)
+                .containsEntry("matchedCount", 1);
+        @SuppressWarnings("unchecked")
+        Map<String, Object> upjong1 = (Map<String, Object>) ((Map<String, Object>) result.get("hierarchy")).get("I");
+        @SuppressWarnings("unchecked")
+        Map<String, Object> upjong2 = (Map<String, Object>) ((Map<String, Object>) upjong1.get("children")).get("I21");
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> upjong3List = (List<Map<String, Object>>) upjong2.get("children");
+        assertThat(upjong3List).extracting(m -> m.get("highlighted")).containsExactly(true, false);
+        verify(upjongCatalog, never()).searchByName(anyString());
+    }
+
+    @Test
+    void searchUpjongByName_catalogNotReady_noMatch_returnsEmpty() {
+        when(upjongCatalog.isReady()).thenReturn(false);
+        when(upjongMapper.selectUpjongByName("없는업종")).thenReturn(List.of());
+
+        Map<String, Object> result = upjongService.searchUpjongByName("없는업종");
+
+        assertThat(result).containsEntry("totalCount", 0);
+        verify(upjongMapper, never()).selectUpjongHierarchyByCodes(any());
+    }
+
+    private static Map<String, Object> hierarchyRow(String upjong2Cd, String upjong2Nm, String upjong3Cd, String upjong3Nm) {
+        return Map.of(
+                "upjong1Cd", "I",
+                "upjong1Nm", "숙박 및 음식점업",
+                "upjong2Cd", upjong2Cd,
+                "upjong2Nm", upjong2Nm,
+                "upjong3Cd", upjong3Cd,
+                "upjong3Nm", upjong3Nm);
+    }
+}
@@ -0,0 +1,158 @@
+package com.zinidata.domain.requests.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.zinidata.domain.requests.mapper.MapMapper;
+import com.zinidata.domain.requests.vo.MapVO;
+
+/**
+ * 지역별 요청건 카운터 seq별 멱등성 테스트 (Redis 컨테이너, Lua 스크립트 실제 실행)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RequestRegionCounterTest {
+
+    private static final String APP = "counter-test";
+    private static final String ADMI_KEY = "{" + APP + ":request:open}:count:admi";
+    private static final String CTY_KEY = "{" + APP + ":request:open}:count:cty";
+    private static final String REGION_KEY = "{" + APP + ":request:open}:region";
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+            new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private MapMapper mapMapper;
+    private RequestRegionCounter counter;
+
+    /** DB의 진행 중 요청건 (seq → 지역) */
+    private final Map<Long, MapVO> openRequests = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+
+        openRequests.clear();
+        mapMapper = mock(MapMapper.class);
+        when(mapMapper.selectOpenRequestRegion(anyLong()))
+                .thenAnswer(invocation -> openRequests.get(invocation.getArgument(0, Long.class)));
+        when(mapMapper.selectOpenRequestRegions()).thenAnswer(invocation -> new ArrayList<>(openRequests.values()));
+        counter = new RequestRegionCounter(redisTemplate, mapMapper, 600_000, APP);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void openTwice_countsOnce() {
+        commitOpen(1L, "11010530");
+
+        counter.onRequestChanged(RequestChangeEvent.opened(1L));
+        counter.onRequestChanged(RequestChangeEvent.opened(1L));
+
+        assertThat(count(ADMI_KEY, "11010530")).isEqualTo("1");
+        assertThat(count(CTY_KEY, "11010")).isEqualTo("1");
+    }
+
+    @Test
+    void closeTwice_decrementsOnce() {
+        commitOpen(1L, "11010530");
+        commitOpen(2L, "11010530");
+        counter.onRequestChanged(RequestChangeEvent.opened(1L));
+        counter.onRequestChanged(RequestChangeEvent.opened(2L));
+
+        openRequests.remove(1L);
+        counter.onRequestChanged(RequestChangeEvent.closed(1L));
+        counter.onRequestChanged(RequestChangeEvent.closed(1L));
+
+        assertThat(count(ADMI_KEY, "11010530")).isEqualTo("1");
+        assertThat(redisTemplate.opsForHash().hasKey(REGION_KEY, "1")).isFalse();
+    }
+
+    @Test
+    void closeUnknownSeq_isIgnored() {
+        counter.onRequestChanged(RequestChangeEvent.closed(9L));
+
+        assertThat(redisTemplate.opsForHash().entries(ADMI_KEY)).isEmpty();
+    }
+
+    @Test
+    void rebuild_replaysChangesCommittedDuringRebuild() {
+        commitOpen(1L, "11010530");
+        commitOpen(2L, "11010530");
+        when(mapMapper.selectOpenRequestRegions()).thenAnswer(invocation -> {
+            // DB 스냅샷은 seq 1, 2가 진행 중인 시점
+            List<MapVO> snapshot = new ArrayList<>(openRequests.values());
+            // 스냅샷을 읽은 뒤 교체 전에 seq 3 등록과 seq 1 수락이 커밋되고 이벤트가 먼저 반영됨
+            commitOpen(3L, "11010540");
+            counter.onRequestChanged(RequestChangeEvent.opened(3L));
+            openRequests.remove(1L);
+            counter.onRequestChanged(RequestChangeEvent.closed(1L));
+            return snapshot;
+        });
+
+        counter.rebuild();
+
+        // 교체가 덮어쓴 seq 3 추가와 seq 1 제거가 재반영됨
+        assertThat(count(ADMI_KEY, "11010530")).isEqualTo("1");
+        assertThat(count(ADMI_KEY, "11010540")).isEqualTo("1");
+        assertThat(count(CTY_KEY, "11010")).isEqualTo("2");
+        assertThat(redisTemplate.opsForHash().keys(REGION_KEY)).containsExactlyInAnyOrder("2", "3");
+    }
+
+    @Test
+    void afterRebuild_eventsApplyDirectly() {
+        commitOpen(1L, "11010530");
+        counter.rebuild();
+
+        // 재계산에 이미 포함된 seq의 중복 이벤트
+        counter.onRequestChanged(RequestChangeEvent.opened(1L));
+
+        assertThat(count(ADMI_KEY, "11010530")).isEqualTo("1");
+        assertThat(redisTemplate.hasKey("{" + APP + ":request:open}:journal")).isFalse();
+    }
+
+    private String count(String key, String code) {
+        Object value = redisTemplate.opsForHash().get(key, code);
+        return value == null ? null : value.toString();
+    }
+
+    private void commitOpen(long seq, String admiCd) {
+        openRequests.put(seq, MapVO.builder()
+                .seq(seq)
+                .admiCd(admiCd)
+                .ctyCd(admiCd.substring(0, 5))
+                .megaCd(admiCd.substring(0, 2))
+                .build());
+    }
+}